@@ -0,0 +1,83 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import freemarker.template.Configuration;
+import freemarker.template.TemplateExceptionHandler;
+import no.api.freemarker.java8.Java8ObjectWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the throughput of rendering the mail templates. Run it with
+ *
+ * <pre>mvn -P benchmark test-compile exec:java</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class MailBuilderBenchmark {
+
+    private MailBuilder mailBuilder;
+    private Map<String, Object> model;
+
+    @Setup
+    public void setUp() {
+
+        final Configuration configuration = new Configuration(Configuration.VERSION_2_3_28);
+        configuration.setClassForTemplateLoading(MailBuilder.class, "/org/synyx/urlaubsverwaltung/core/mail/");
+        configuration.setDefaultEncoding("UTF-8");
+        configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+        configuration.setObjectWrapper(new Java8ObjectWrapper(Configuration.VERSION_2_3_28));
+
+        mailBuilder = new MailBuilder(configuration);
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@firma.test");
+        person.setId(1);
+
+        final Application application = new Application();
+        application.setId(42);
+        application.setPerson(person);
+        application.setApplicationDate(LocalDate.of(2020, 3, 1));
+
+        model = new HashMap<>();
+        model.put("recipient", person);
+        model.put("application", application);
+        model.put("baseLinkURL", "https://urlaubsverwaltung.firma.test/");
+    }
+
+    @Benchmark
+    public String renderRemind() {
+
+        return mailBuilder.buildMailBody("remind", model, Locale.GERMAN);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder()
+            .include(MailBuilderBenchmark.class.getSimpleName())
+            .timeUnit(TimeUnit.SECONDS)
+            .build()).run();
+    }
+}
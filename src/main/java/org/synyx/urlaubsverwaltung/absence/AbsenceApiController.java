@@ -12,11 +12,11 @@ import org.springframework.web.bind.annotation.RestController;
 import org.synyx.urlaubsverwaltung.api.ResponseWrapper;
 import org.synyx.urlaubsverwaltung.api.RestApiDateFormat;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
-import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationPeriod;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
-import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNotePeriod;
 import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.util.DateUtil;
 
@@ -27,7 +27,6 @@ import java.util.List;
 import java.util.Optional;
 
 import static java.lang.Integer.parseInt;
-import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
@@ -117,16 +116,10 @@ public class AbsenceApiController {
 
         List<DayAbsence> absences = new ArrayList<>();
 
-        List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPerson(start, end,
-            person)
-            .stream()
-            .filter(application ->
-                application.hasStatus(WAITING)
-                    || application.hasStatus(TEMPORARY_ALLOWED)
-                    || application.hasStatus(ALLOWED))
-            .collect(toList());
+        List<ApplicationPeriod> applications = applicationService.getPeriodsForACertainPeriodAndPersonAndStates(start,
+            end, person, List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED));
 
-        for (Application application : applications) {
+        for (ApplicationPeriod application : applications) {
             LocalDate startDate = application.getStartDate();
             LocalDate endDate = application.getEndDate();
 
@@ -150,12 +143,9 @@ public class AbsenceApiController {
 
         List<DayAbsence> absences = new ArrayList<>();
 
-        List<SickNote> sickNotes = sickNoteService.getByPersonAndPeriod(person, start, end)
-            .stream()
-            .filter(SickNote::isActive)
-            .collect(toList());
+        List<SickNotePeriod> sickNotes = sickNoteService.getActiveSickNotePeriods(person, start, end);
 
-        for (SickNote sickNote : sickNotes) {
+        for (SickNotePeriod sickNote : sickNotes) {
             LocalDate startDate = sickNote.getStartDate();
             LocalDate endDate = sickNote.getEndDate();
 
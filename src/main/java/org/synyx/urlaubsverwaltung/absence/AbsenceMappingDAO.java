@@ -1,9 +1,23 @@
 package org.synyx.urlaubsverwaltung.absence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 
 interface AbsenceMappingDAO extends CrudRepository<AbsenceMapping, Integer> {
 
     AbsenceMapping findAbsenceMappingByAbsenceIdAndAbsenceType(Integer id, AbsenceType absenceType);
+
+    List<AbsenceMapping> findByAbsenceTypeAndAbsenceIdIn(AbsenceType absenceType, Collection<Integer> ids);
+
+    List<AbsenceMapping> findByEventIdIn(Collection<String> eventIds);
+
+    /**
+     * Returns the next page of all mappings ordered by id, starting after the id of the last mapping of the previous
+     * page.
+     */
+    List<AbsenceMapping> findByIdGreaterThanOrderById(Integer afterId, Pageable pageable);
 }
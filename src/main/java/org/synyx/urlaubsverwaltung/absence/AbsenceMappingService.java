@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.absence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -33,4 +35,30 @@ public interface AbsenceMappingService {
      * @return mapping between absence and event
      */
     Optional<AbsenceMapping> getAbsenceByIdAndType(Integer id, AbsenceType absenceType);
+
+    /**
+     * Returns the absence mappings of the given applications for leave or sick notes.
+     *
+     * @param ids         of applications for leave or of sick notes
+     * @param absenceType type of the absences
+     * @return the mappings of the absences that have one
+     */
+    List<AbsenceMapping> getAbsencesByIdsAndType(Collection<Integer> ids, AbsenceType absenceType);
+
+    /**
+     * Returns the absence mappings of the given calendar events.
+     *
+     * @param eventIds ids of the events in the calendar
+     * @return the mappings of the events that have one
+     */
+    List<AbsenceMapping> getAbsencesByEventIds(Collection<String> eventIds);
+
+    /**
+     * Returns the next absence mappings ordered by id, to iterate over all mappings.
+     *
+     * @param afterId id of the last mapping of the previous call, 0 for the first call
+     * @param limit   maximum number of returned mappings
+     * @return the mappings following the given id
+     */
+    List<AbsenceMapping> getAbsenceMappings(Integer afterId, int limit);
 }
@@ -1,8 +1,11 @@
 package org.synyx.urlaubsverwaltung.absence;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -33,4 +36,25 @@ public class AbsenceMappingServiceImpl implements AbsenceMappingService {
     public Optional<AbsenceMapping> getAbsenceByIdAndType(Integer id, AbsenceType absenceType) {
         return Optional.ofNullable(absenceMappingDAO.findAbsenceMappingByAbsenceIdAndAbsenceType(id, absenceType));
     }
+
+    @Override
+    public List<AbsenceMapping> getAbsencesByIdsAndType(Collection<Integer> ids, AbsenceType absenceType) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return absenceMappingDAO.findByAbsenceTypeAndAbsenceIdIn(absenceType, ids);
+    }
+
+    @Override
+    public List<AbsenceMapping> getAbsencesByEventIds(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return absenceMappingDAO.findByEventIdIn(eventIds);
+    }
+
+    @Override
+    public List<AbsenceMapping> getAbsenceMappings(Integer afterId, int limit) {
+        return absenceMappingDAO.findByIdGreaterThanOrderById(afterId, PageRequest.of(0, limit));
+    }
 }
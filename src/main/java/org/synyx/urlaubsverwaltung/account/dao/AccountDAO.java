@@ -5,6 +5,8 @@ import org.springframework.data.repository.CrudRepository;
 import org.synyx.urlaubsverwaltung.account.domain.Account;
 import org.synyx.urlaubsverwaltung.person.Person;
 
+import java.util.List;
+
 
 /**
  * Repository for {@link org.synyx.urlaubsverwaltung.account.domain.Account} entities.
@@ -13,4 +15,7 @@ public interface AccountDAO extends CrudRepository<Account, Integer> {
 
     @Query("select x from Account x where YEAR(x.validFrom) = ?1 and x.person = ?2")
     Account getHolidaysAccountByYearAndPerson(int year, Person person);
+
+    @Query("select x from Account x where YEAR(x.validFrom) = ?1 and x.person in ?2")
+    List<Account> getHolidaysAccountsByYearAndPersons(int year, List<Person> persons);
 }
@@ -6,8 +6,11 @@ import org.synyx.urlaubsverwaltung.account.dao.AccountDAO;
 import org.synyx.urlaubsverwaltung.account.domain.Account;
 import org.synyx.urlaubsverwaltung.person.Person;
 
+import java.util.List;
 import java.util.Optional;
 
+import static java.util.Collections.emptyList;
+
 
 /**
  * Implementation of {@link AccountService}.
@@ -30,6 +33,17 @@ public class AccountServiceImpl implements AccountService {
     }
 
 
+    @Override
+    public List<Account> getHolidaysAccounts(int year, List<Person> persons) {
+
+        if (persons.isEmpty()) {
+            return emptyList();
+        }
+
+        return accountDAO.getHolidaysAccountsByYearAndPersons(year, persons);
+    }
+
+
     @Override
     public Account save(Account account) {
 
@@ -3,11 +3,14 @@ package org.synyx.urlaubsverwaltung.account.service;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.synyx.urlaubsverwaltung.account.domain.Account;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -18,6 +21,7 @@ import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.time.ZoneOffset.UTC;
+import static javax.persistence.FlushModeType.COMMIT;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_OFFICE;
 
@@ -34,15 +38,20 @@ public class TurnOfTheYearAccountUpdaterService {
     private final AccountService accountService;
     private final AccountInteractionService accountInteractionService;
     private final MailService mailService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
 
     @Autowired
     public TurnOfTheYearAccountUpdaterService(PersonService personService, AccountService accountService,
-                                              AccountInteractionService accountInteractionService, MailService mailService) {
+                                              AccountInteractionService accountInteractionService, MailService mailService,
+                                              PlatformTransactionManager transactionManager, EntityManager entityManager) {
 
         this.personService = personService;
         this.accountService = accountService;
         this.accountInteractionService = accountInteractionService;
         this.mailService = mailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
     }
 
     void updateAccountsForNextPeriod() {
@@ -55,7 +64,24 @@ public class TurnOfTheYearAccountUpdaterService {
         // get all persons
         final List<Person> persons = personService.getActivePersons();
 
-        // get all their accounts and calculate the remaining vacation days for the new year
+        // all accounts are updated within one transaction, so the changes are written in batches. The accounts of a
+        // person are looked up for every person, with the default flush mode every lookup would flush the pending
+        // inserts of the previous person one by one. The accounts of different persons are independent, so the
+        // changes are flushed at commit only.
+        final List<Account> updatedAccounts = transactionTemplate.execute(status -> {
+            entityManager.setFlushMode(COMMIT);
+            return updateAccounts(persons, year);
+        });
+
+        LOG.info("Successfully updated holidays accounts: {} / {}", updatedAccounts.size(), persons.size());
+        sendSuccessfullyUpdatedAccountsNotification(updatedAccounts);
+    }
+
+    /**
+     * Gets the accounts of the given persons and calculates the remaining vacation days for the given year.
+     */
+    private List<Account> updateAccounts(List<Person> persons, int year) {
+
         final List<Account> updatedAccounts = new ArrayList<>();
         for (Person person : persons) {
             LOG.info("Updating account of person with id {}", person.getId());
@@ -73,8 +99,7 @@ public class TurnOfTheYearAccountUpdaterService {
             }
         }
 
-        LOG.info("Successfully updated holidays accounts: {} / {}", updatedAccounts.size(), persons.size());
-        sendSuccessfullyUpdatedAccountsNotification(updatedAccounts);
+        return updatedAccounts;
     }
 
     /**
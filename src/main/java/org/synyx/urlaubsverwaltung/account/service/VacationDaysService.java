@@ -54,6 +54,61 @@ public class VacationDaysService {
 
         VacationDaysLeft vacationDaysLeft = getVacationDaysLeft(account, Optional.empty());
 
+        return getTotalLeftVacationDays(account, vacationDaysLeft);
+    }
+
+
+    /**
+     * Calculates the total number of days that are left to be used for applying for leave like
+     * {@link #calculateTotalLeftVacationDays(Account)}, but based on already fetched applications for leave instead of
+     * querying them for the given account.
+     *
+     * @param account            {@link org.synyx.urlaubsverwaltung.account.domain.Account}
+     * @param applicationsOfYear applications for leave of the person of the account, must contain at least all
+     *                           applications for leave overlapping the year of the account
+     * @return total number of left vacation days
+     */
+    public BigDecimal calculateTotalLeftVacationDays(Account account, List<Application> applicationsOfYear) {
+
+        final int year = account.getYear();
+
+        BigDecimal daysBeforeApril = getUsedDaysBetweenTwoMilestones(applicationsOfYear, account.getPerson(),
+            DateUtil.getFirstDayOfMonth(year, Month.JANUARY.getValue()), DateUtil.getLastDayOfMonth(year, Month.MARCH.getValue()));
+        BigDecimal daysAfterApril = getUsedDaysBetweenTwoMilestones(applicationsOfYear, account.getPerson(),
+            DateUtil.getFirstDayOfMonth(year, Month.APRIL.getValue()), DateUtil.getLastDayOfMonth(year, Month.DECEMBER.getValue()));
+
+        return calculateTotalLeftVacationDays(account, daysBeforeApril, daysAfterApril);
+    }
+
+
+    /**
+     * Calculates the total number of days that are left to be used for applying for leave like
+     * {@link #calculateTotalLeftVacationDays(Account)}, but based on already known used vacation days, e.g. taken from
+     * the pre-aggregated statistics.
+     *
+     * @param account             {@link org.synyx.urlaubsverwaltung.account.domain.Account}
+     * @param usedDaysBeforeApril used days of waiting and allowed holidays between January and March
+     * @param usedDaysAfterApril  used days of waiting and allowed holidays between April and December
+     * @return total number of left vacation days
+     */
+    public BigDecimal calculateTotalLeftVacationDays(Account account, BigDecimal usedDaysBeforeApril,
+                                                     BigDecimal usedDaysAfterApril) {
+
+        VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
+            .withAnnualVacation(account.getVacationDays())
+            .withRemainingVacation(account.getRemainingVacationDays())
+            .notExpiring(account.getRemainingVacationDaysNotExpiring())
+            .forUsedDaysBeforeApril(usedDaysBeforeApril)
+            .forUsedDaysAfterApril(usedDaysAfterApril)
+            .withVacationDaysUsedNextYear(BigDecimal.ZERO)
+            .get();
+
+        return getTotalLeftVacationDays(account, vacationDaysLeft);
+    }
+
+
+    private BigDecimal getTotalLeftVacationDays(Account account, VacationDaysLeft vacationDaysLeft) {
+
         // it's before April - the left remaining vacation days must be used
         if (nowService.currentYear() == account.getYear() && DateUtil.isBeforeApril(nowService.now(), account.getYear())) {
             return vacationDaysLeft.getVacationDays().add(vacationDaysLeft.getRemainingVacationDays());
@@ -143,6 +198,24 @@ public class VacationDaysService {
         List<Application> allApplicationsForLeave = applicationService.getApplicationsForACertainPeriodAndPerson(
             firstMilestone, lastMilestone, person);
 
+        return sumUsedDays(allApplicationsForLeave, person, firstMilestone, lastMilestone);
+    }
+
+
+    private BigDecimal getUsedDaysBetweenTwoMilestones(List<Application> applicationsOfYear, Person person,
+                                                       LocalDate firstMilestone, LocalDate lastMilestone) {
+
+        List<Application> applicationsBetweenMilestones = applicationsOfYear.stream()
+            .filter(input -> !input.getStartDate().isAfter(lastMilestone) && !input.getEndDate().isBefore(firstMilestone))
+            .collect(Collectors.toList());
+
+        return sumUsedDays(applicationsBetweenMilestones, person, firstMilestone, lastMilestone);
+    }
+
+
+    private BigDecimal sumUsedDays(List<Application> allApplicationsForLeave, Person person,
+                                   LocalDate firstMilestone, LocalDate lastMilestone) {
+
         // filter them since only waiting and allowed applications for leave of type holiday are relevant
         List<Application> applicationsForLeave = allApplicationsForLeave.stream()
             .filter(input ->
@@ -1,19 +1,39 @@
 package org.synyx.urlaubsverwaltung.api;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
 /**
  * REST-API Wrapper class. Exists for historical reasons. It simulates a @ModelAttribute("response").
+ *
+ * <p>For paged lists the wrapper contains the cursor of the next page, it is omitted on the last page and if the list
+ * is not paged.</p>
  */
 public class ResponseWrapper<T> {
 
     private final T response;
+    private final String next;
 
     public ResponseWrapper(T response) {
 
+        this(response, null);
+    }
+
+    public ResponseWrapper(T response, String next) {
+
         this.response = response;
+        this.next = next;
     }
 
     public T getResponse() {
 
         return response;
     }
+
+    @JsonInclude(NON_NULL)
+    public String getNext() {
+
+        return next;
+    }
 }
@@ -1,10 +1,14 @@
 package org.synyx.urlaubsverwaltung.application.dao;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationPeriod;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationSummary;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.math.BigDecimal;
@@ -14,44 +18,139 @@ import java.util.List;
 
 /**
  * Repository for {@link Application} entities.
+ *
+ * <p>The period queries check for an overlap with {@code startDate <= end and endDate >= start}, which can be served by
+ * the indexes starting with the person or status followed by the start date.</p>
+ *
+ * <p>The paged queries are ordered by {@code (startDate, id)} and continue after the start date and id of the last
+ * application of the previous page, the limit is given by the {@link Pageable}.</p>
  */
 public interface ApplicationDAO extends CrudRepository<Application, Integer> {
 
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
     @Query("select x from Application x where x.status = ?1")
     List<Application> getApplicationsForACertainState(ApplicationStatus status);
 
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
     List<Application> findByStatusIn(List<ApplicationStatus> statuses);
 
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
     List<Application> findByStatusInAndPersonIn(List<ApplicationStatus> statuses, List<Person> persons);
 
+    @Query(
+        "select new org.synyx.urlaubsverwaltung.application.domain.ApplicationSummary("
+            + "x.id, x.person.id, x.person.firstName, x.person.lastName, x.person.email, x.vacationType, "
+            + "x.startDate, x.startTime, x.endDate, x.endTime, x.dayLength, x.hours, x.status) "
+            + "from Application x where x.status in ?1 order by x.startDate"
+    )
+    List<ApplicationSummary> findSummariesByStatusIn(List<ApplicationStatus> statuses);
 
+    @Query(
+        "select x.id as id, x.startDate as startDate, x.endDate as endDate, x.dayLength as dayLength, x.status as status "
+            + "from Application x where x.person = ?3 and x.status in ?4 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate"
+    )
+    List<ApplicationPeriod> findPeriodsByPersonAndStatusIn(LocalDate startDate, LocalDate endDate, Person person,
+                                                           List<ApplicationStatus> statuses);
+
+
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
     @Query(
         "select x from Application x "
-            + "where x.status = ?3 and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) "
-            + "or (x.startDate < ?1 and x.endDate > ?2)) "
+            + "where x.status = ?3 and x.startDate <= ?2 and x.endDate >= ?1 "
             + "order by x.startDate"
     )
     List<Application> getApplicationsForACertainTimeAndState(LocalDate startDate, LocalDate endDate, ApplicationStatus status);
 
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from Application x "
+            + "where x.status = ?3 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate, x.id"
+    )
+    List<Application> getApplicationsForACertainTimeAndState(LocalDate startDate, LocalDate endDate, ApplicationStatus status,
+                                                             Pageable pageable);
+
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from Application x "
+            + "where x.status = ?3 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "and (x.startDate > ?4 or (x.startDate = ?4 and x.id > ?5)) "
+            + "order by x.startDate, x.id"
+    )
+    List<Application> getApplicationsForACertainTimeAndStateAfter(LocalDate startDate, LocalDate endDate,
+                                                                  ApplicationStatus status, LocalDate afterStartDate,
+                                                                  Integer afterId, Pageable pageable);
+
 
     @Query(
         "select x from Application x "
-            + "where x.person = ?3 and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) "
-            + "or (x.startDate < ?1 and x.endDate > ?2)) "
+            + "where x.person = ?3 and x.startDate <= ?2 and x.endDate >= ?1 "
             + "order by x.startDate"
     )
     List<Application> getApplicationsForACertainTimeAndPerson(LocalDate startDate, LocalDate endDate, Person person);
 
 
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
     @Query(
         "select x from Application x "
-            + "where x.person = ?3 and x.status = ?4 and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) "
-            + "or (x.startDate < ?1 and x.endDate > ?2)) "
+            + "where x.person in ?3 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate"
+    )
+    List<Application> getApplicationsForACertainTimeAndPersons(LocalDate startDate, LocalDate endDate, List<Person> persons);
+
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from Application x "
+            + "where x.person in ?3 and x.status in ?4 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate, x.id"
+    )
+    List<Application> getApplicationsForACertainTimeAndPersonsAndStates(LocalDate startDate, LocalDate endDate,
+                                                                        List<Person> persons,
+                                                                        List<ApplicationStatus> statuses,
+                                                                        Pageable pageable);
+
+    @EntityGraph(Application.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from Application x "
+            + "where x.person in ?3 and x.status in ?4 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "and (x.startDate > ?5 or (x.startDate = ?5 and x.id > ?6)) "
+            + "order by x.startDate, x.id"
+    )
+    List<Application> getApplicationsForACertainTimeAndPersonsAndStatesAfter(LocalDate startDate, LocalDate endDate,
+                                                                             List<Person> persons,
+                                                                             List<ApplicationStatus> statuses,
+                                                                             LocalDate afterStartDate, Integer afterId,
+                                                                             Pageable pageable);
+
+
+    @Query(
+        "select x from Application x "
+            + "where x.person = ?3 and x.status = ?4 and x.startDate <= ?2 and x.endDate >= ?1 "
             + "order by x.startDate"
     )
     List<Application> getApplicationsForACertainTimeAndPersonAndState(LocalDate startDate, LocalDate endDate, Person person,
                                                                       ApplicationStatus status);
 
+    @Query(
+        "select x from Application x "
+            + "where x.person = ?3 and x.status = ?4 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate, x.id"
+    )
+    List<Application> getApplicationsForACertainTimeAndPersonAndState(LocalDate startDate, LocalDate endDate, Person person,
+                                                                      ApplicationStatus status, Pageable pageable);
+
+    @Query(
+        "select x from Application x "
+            + "where x.person = ?3 and x.status = ?4 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "and (x.startDate > ?5 or (x.startDate = ?5 and x.id > ?6)) "
+            + "order by x.startDate, x.id"
+    )
+    List<Application> getApplicationsForACertainTimeAndPersonAndStateAfter(LocalDate startDate, LocalDate endDate,
+                                                                           Person person, ApplicationStatus status,
+                                                                           LocalDate afterStartDate, Integer afterId,
+                                                                           Pageable pageable);
+
 
     @Query(
         "SELECT SUM(application.hours) FROM Application application WHERE application.person = :person "
@@ -59,4 +158,14 @@ public interface ApplicationDAO extends CrudRepository<Application, Integer> {
             + "AND (application.status = 'WAITING' OR application.status = 'ALLOWED')"
     )
     BigDecimal calculateTotalOvertimeOfPerson(@Param("person") Person person);
+
+
+    @Query(
+        "SELECT application.person.id AS personId, SUM(application.hours) AS hours FROM Application application "
+            + "WHERE application.person IN :persons "
+            + "AND application.vacationType.category = 'OVERTIME' "
+            + "AND (application.status = 'WAITING' OR application.status = 'ALLOWED') "
+            + "GROUP BY application.person.id"
+    )
+    List<OvertimeReductionOfPerson> calculateTotalOvertimeOfPersons(@Param("persons") List<Person> persons);
 }
@@ -0,0 +1,15 @@
+package org.synyx.urlaubsverwaltung.application.dao;
+
+import org.springframework.data.repository.Repository;
+import org.synyx.urlaubsverwaltung.application.domain.ArchivedApplicationComment;
+
+import java.util.List;
+
+
+/**
+ * Read only repository for {@link ArchivedApplicationComment} entities.
+ */
+public interface ArchivedApplicationCommentDAO extends Repository<ArchivedApplicationComment, Integer> {
+
+    List<ArchivedApplicationComment> findByApplicationIdOrderById(Integer applicationId);
+}
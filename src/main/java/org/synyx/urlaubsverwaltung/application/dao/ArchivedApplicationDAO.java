@@ -0,0 +1,69 @@
+package org.synyx.urlaubsverwaltung.application.dao;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.ArchivedApplication;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Read only repository for {@link ArchivedApplication} entities, the period queries are the same as the ones of
+ * {@link ApplicationDAO}.
+ */
+public interface ArchivedApplicationDAO extends Repository<ArchivedApplication, Integer> {
+
+    @EntityGraph(ArchivedApplication.GRAPH_WITH_PERSONS)
+    Optional<ArchivedApplication> findById(Integer id);
+
+    @EntityGraph(ArchivedApplication.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from ArchivedApplication x "
+            + "where x.person = ?3 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate"
+    )
+    List<ArchivedApplication> getApplicationsForACertainTimeAndPerson(LocalDate startDate, LocalDate endDate,
+                                                                      Person person);
+
+    @EntityGraph(ArchivedApplication.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from ArchivedApplication x "
+            + "where x.person in ?3 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate"
+    )
+    List<ArchivedApplication> getApplicationsForACertainTimeAndPersons(LocalDate startDate, LocalDate endDate,
+                                                                       List<Person> persons);
+
+    @EntityGraph(ArchivedApplication.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from ArchivedApplication x "
+            + "where x.person in ?3 and x.status in ?4 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate"
+    )
+    List<ArchivedApplication> getApplicationsForACertainTimeAndPersonsAndStates(LocalDate startDate, LocalDate endDate,
+                                                                                List<Person> persons,
+                                                                                List<ApplicationStatus> statuses);
+
+    @EntityGraph(ArchivedApplication.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from ArchivedApplication x "
+            + "where x.status = ?3 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate"
+    )
+    List<ArchivedApplication> getApplicationsForACertainTimeAndState(LocalDate startDate, LocalDate endDate,
+                                                                     ApplicationStatus status);
+
+    @EntityGraph(ArchivedApplication.GRAPH_WITH_PERSONS)
+    @Query(
+        "select x from ArchivedApplication x "
+            + "where x.person = ?3 and x.status = ?4 and x.startDate <= ?2 and x.endDate >= ?1 "
+            + "order by x.startDate"
+    )
+    List<ArchivedApplication> getApplicationsForACertainTimeAndPersonAndState(LocalDate startDate, LocalDate endDate,
+                                                                              Person person, ApplicationStatus status);
+}
@@ -0,0 +1,14 @@
+package org.synyx.urlaubsverwaltung.application.dao;
+
+import java.math.BigDecimal;
+
+
+/**
+ * Projection of the summed up overtime reduction hours of a single person.
+ */
+public interface OvertimeReductionOfPerson {
+
+    Integer getPersonId();
+
+    BigDecimal getHours();
+}
@@ -1,8 +1,18 @@
 package org.synyx.urlaubsverwaltung.application.dao;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.synyx.urlaubsverwaltung.application.domain.VacationType;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 
 public interface VacationTypeDAO extends JpaRepository<VacationType, Integer> {
+
+    @Override
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<VacationType> findAll();
 }
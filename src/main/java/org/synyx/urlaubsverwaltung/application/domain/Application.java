@@ -10,6 +10,9 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.Transient;
 import java.math.BigDecimal;
 import java.sql.Time;
 import java.time.LocalDate;
@@ -22,10 +25,27 @@ import static java.time.ZoneOffset.UTC;
  * This class describes an application for leave.
  */
 @Entity
+@NamedEntityGraph(
+    name = Application.GRAPH_WITH_PERSONS,
+    attributeNodes = {
+        @NamedAttributeNode("person"),
+        @NamedAttributeNode("applier"),
+        @NamedAttributeNode("boss"),
+        @NamedAttributeNode("canceller"),
+        @NamedAttributeNode("holidayReplacement"),
+        @NamedAttributeNode("vacationType")
+    }
+)
 public class Application extends AbstractPersistable<Integer> {
 
     private static final long serialVersionUID = 1234589209309L;
 
+    /**
+     * Entity graph loading the persons and the vacation type together with the application, used by the queries
+     * returning lists of applications.
+     */
+    public static final String GRAPH_WITH_PERSONS = "Application.withPersons";
+
     /**
      * Person that will be on vacation if this application for leave is allowed.
      */
@@ -148,6 +168,12 @@ public class Application extends AbstractPersistable<Integer> {
      */
     private BigDecimal hours;
 
+    /**
+     * Flag if the application for leave has been read from the archive, archived applications can not be changed.
+     */
+    @Transient
+    private boolean archived;
+
     @Override
     public void setId(Integer id) { // NOSONAR - make it public instead of protected
 
@@ -435,6 +461,18 @@ public class Application extends AbstractPersistable<Integer> {
         this.hours = hours;
     }
 
+
+    public boolean isArchived() {
+
+        return archived;
+    }
+
+
+    void setArchived(boolean archived) {
+
+        this.archived = archived;
+    }
+
     @Override
     public String toString() {
         return "Application{" +
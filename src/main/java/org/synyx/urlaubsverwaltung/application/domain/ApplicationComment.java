@@ -7,6 +7,7 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.ManyToOne;
+import java.time.LocalDate;
 
 
 /**
@@ -34,6 +35,13 @@ public class ApplicationComment extends AbstractComment {
         super.setPerson(person);
     }
 
+
+    public ApplicationComment(Person person, LocalDate date) {
+
+        super(date);
+        super.setPerson(person);
+    }
+
     public Application getApplication() {
 
         return application;
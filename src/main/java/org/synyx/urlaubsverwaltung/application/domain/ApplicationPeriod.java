@@ -0,0 +1,23 @@
+package org.synyx.urlaubsverwaltung.application.domain;
+
+import org.synyx.urlaubsverwaltung.period.DayLength;
+
+import java.time.LocalDate;
+
+
+/**
+ * Projection of the period of an {@link Application}, used to list absences without loading the applications and
+ * their persons.
+ */
+public interface ApplicationPeriod {
+
+    Integer getId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    DayLength getDayLength();
+
+    ApplicationStatus getStatus();
+}
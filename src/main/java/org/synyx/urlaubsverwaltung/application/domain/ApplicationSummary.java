@@ -0,0 +1,146 @@
+package org.synyx.urlaubsverwaltung.application.domain;
+
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.PersonSummary;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import static java.time.ZoneOffset.UTC;
+
+
+/**
+ * Read only projection of an {@link Application} with the attributes needed to list applications for leave. The
+ * person is loaded as {@link PersonSummary} instead of the entity with its permissions and notifications, the other
+ * referenced persons are not loaded at all.
+ */
+public class ApplicationSummary {
+
+    private final Integer id;
+    private final PersonSummary person;
+    private final VacationType vacationType;
+    private final LocalDate startDate;
+    private final Time startTime;
+    private final LocalDate endDate;
+    private final Time endTime;
+    private final DayLength dayLength;
+    private final BigDecimal hours;
+    private final ApplicationStatus status;
+
+    public ApplicationSummary(Integer id, Integer personId, String personFirstName, String personLastName,
+                              String personEmail, VacationType vacationType, LocalDate startDate, Time startTime,
+                              LocalDate endDate, Time endTime, DayLength dayLength, BigDecimal hours,
+                              ApplicationStatus status) {
+
+        this.id = id;
+        this.person = new PersonSummary(personId, personFirstName, personLastName, personEmail);
+        this.vacationType = vacationType;
+        this.startDate = startDate;
+        this.startTime = startTime;
+        this.endDate = endDate;
+        this.endTime = endTime;
+        this.dayLength = dayLength;
+        this.hours = hours;
+        this.status = status;
+    }
+
+    protected ApplicationSummary(ApplicationSummary applicationSummary) {
+
+        this.id = applicationSummary.id;
+        this.person = applicationSummary.person;
+        this.vacationType = applicationSummary.vacationType;
+        this.startDate = applicationSummary.startDate;
+        this.startTime = applicationSummary.startTime;
+        this.endDate = applicationSummary.endDate;
+        this.endTime = applicationSummary.endTime;
+        this.dayLength = applicationSummary.dayLength;
+        this.hours = applicationSummary.hours;
+        this.status = applicationSummary.status;
+    }
+
+    public Integer getId() {
+
+        return id;
+    }
+
+    public PersonSummary getPerson() {
+
+        return person;
+    }
+
+    public VacationType getVacationType() {
+
+        return vacationType;
+    }
+
+    public LocalDate getStartDate() {
+
+        return startDate;
+    }
+
+    public Time getStartTime() {
+
+        return startTime;
+    }
+
+    public LocalDate getEndDate() {
+
+        return endDate;
+    }
+
+    public Time getEndTime() {
+
+        return endTime;
+    }
+
+    public DayLength getDayLength() {
+
+        return dayLength;
+    }
+
+    public BigDecimal getHours() {
+
+        return hours;
+    }
+
+    public ApplicationStatus getStatus() {
+
+        return status;
+    }
+
+    /**
+     * Get start of application for leave as date with time.
+     *
+     * @return start date with time or {@code null} if start date or start time is missing
+     */
+    public ZonedDateTime getStartDateWithTime() {
+
+        if (startDate != null && startTime != null) {
+            return ZonedDateTime.of(startDate, startTime.toLocalTime(), UTC);
+        }
+
+        return null;
+    }
+
+    /**
+     * Get end of application for leave as date with time.
+     *
+     * @return end date with time or {@code null} if end date or end time is missing
+     */
+    public ZonedDateTime getEndDateWithTime() {
+
+        if (endDate != null && endTime != null) {
+            return ZonedDateTime.of(endDate, endTime.toLocalTime(), UTC);
+        }
+
+        return null;
+    }
+
+    @Override
+    public String toString() {
+
+        return "ApplicationSummary{id=" + id + ", status=" + status + '}';
+    }
+}
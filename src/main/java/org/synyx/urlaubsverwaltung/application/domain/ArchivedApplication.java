@@ -0,0 +1,137 @@
+package org.synyx.urlaubsverwaltung.application.domain;
+
+import org.hibernate.annotations.Immutable;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.time.LocalDate;
+
+
+/**
+ * Application for leave that has been moved to the archive, because it has been rejected, cancelled or revoked long
+ * ago. Archived applications can not be changed, they are only read as {@link Application} for historical years.
+ */
+@Entity
+@Immutable
+@Table(name = "Application_Archive")
+@NamedEntityGraph(
+    name = ArchivedApplication.GRAPH_WITH_PERSONS,
+    attributeNodes = {
+        @NamedAttributeNode("person"),
+        @NamedAttributeNode("applier"),
+        @NamedAttributeNode("boss"),
+        @NamedAttributeNode("canceller"),
+        @NamedAttributeNode("holidayReplacement"),
+        @NamedAttributeNode("vacationType")
+    }
+)
+public class ArchivedApplication {
+
+    public static final String GRAPH_WITH_PERSONS = "ArchivedApplication.withPersons";
+
+    @Id
+    private Integer id;
+
+    @ManyToOne
+    private Person person;
+
+    @ManyToOne
+    private Person applier;
+
+    @ManyToOne
+    private Person boss;
+
+    @ManyToOne
+    private Person canceller;
+
+    private boolean twoStageApproval;
+
+    private LocalDate startDate;
+
+    private Time startTime;
+
+    private LocalDate endDate;
+
+    private Time endTime;
+
+    @ManyToOne
+    private VacationType vacationType;
+
+    @Enumerated(EnumType.STRING)
+    private DayLength dayLength;
+
+    private String reason;
+
+    @ManyToOne
+    @JoinColumn(name = "rep_id")
+    private Person holidayReplacement;
+
+    private String address;
+
+    private LocalDate applicationDate;
+
+    private LocalDate cancelDate;
+
+    private LocalDate editedDate;
+
+    private LocalDate remindDate;
+
+    @Enumerated(EnumType.STRING)
+    private ApplicationStatus status;
+
+    private boolean teamInformed;
+
+    private BigDecimal hours;
+
+    ArchivedApplication() {
+
+        // needed for Hibernate
+    }
+
+    public Integer getId() {
+
+        return id;
+    }
+
+
+    public Application toApplication() {
+
+        final Application application = new Application();
+        application.setId(id);
+        application.setPerson(person);
+        application.setApplier(applier);
+        application.setBoss(boss);
+        application.setCanceller(canceller);
+        application.setTwoStageApproval(twoStageApproval);
+        application.setStartDate(startDate);
+        application.setStartTime(startTime);
+        application.setEndDate(endDate);
+        application.setEndTime(endTime);
+        application.setVacationType(vacationType);
+        application.setDayLength(dayLength);
+        application.setReason(reason);
+        application.setHolidayReplacement(holidayReplacement);
+        application.setAddress(address);
+        application.setApplicationDate(applicationDate);
+        application.setCancelDate(cancelDate);
+        application.setEditedDate(editedDate);
+        application.setRemindDate(remindDate);
+        application.setStatus(status);
+        application.setTeamInformed(teamInformed);
+        application.setHours(hours);
+        application.setArchived(true);
+
+        return application;
+    }
+}
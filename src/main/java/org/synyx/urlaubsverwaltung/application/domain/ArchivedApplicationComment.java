@@ -0,0 +1,54 @@
+package org.synyx.urlaubsverwaltung.application.domain;
+
+import org.hibernate.annotations.Immutable;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+
+/**
+ * Comment of an {@link ArchivedApplication}, it is read as {@link ApplicationComment} of the archived application.
+ */
+@Entity
+@Immutable
+@Table(name = "ApplicationComment_Archive")
+public class ArchivedApplicationComment {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "application_id")
+    private Integer applicationId;
+
+    @ManyToOne
+    private Person person;
+
+    private LocalDate date;
+
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    private ApplicationAction action;
+
+    ArchivedApplicationComment() {
+
+        // needed for Hibernate
+    }
+
+    public ApplicationComment toApplicationComment(Application application) {
+
+        final ApplicationComment comment = new ApplicationComment(person, date);
+        comment.setApplication(application);
+        comment.setText(text);
+        comment.setAction(action);
+
+        return comment;
+    }
+}
@@ -3,7 +3,9 @@ package org.synyx.urlaubsverwaltung.application.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 import org.synyx.urlaubsverwaltung.application.dao.ApplicationCommentDAO;
+import org.synyx.urlaubsverwaltung.application.dao.ArchivedApplicationCommentDAO;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationAction;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationComment;
@@ -12,6 +14,8 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import java.util.List;
 import java.util.Optional;
 
+import static java.util.stream.Collectors.toList;
+
 
 /**
  * Implementation of interface {@link ApplicationCommentService}.
@@ -21,17 +25,21 @@ import java.util.Optional;
 class ApplicationCommentServiceImpl implements ApplicationCommentService {
 
     private final ApplicationCommentDAO commentDAO;
+    private final ArchivedApplicationCommentDAO archivedCommentDAO;
 
     @Autowired
-    ApplicationCommentServiceImpl(ApplicationCommentDAO commentDAO) {
+    ApplicationCommentServiceImpl(ApplicationCommentDAO commentDAO, ArchivedApplicationCommentDAO archivedCommentDAO) {
 
         this.commentDAO = commentDAO;
+        this.archivedCommentDAO = archivedCommentDAO;
     }
 
     @Override
     public ApplicationComment create(Application application, ApplicationAction action, Optional<String> text,
                                      Person author) {
 
+        Assert.state(!application.isArchived(), "Archived application for leave can not be commented.");
+
         final ApplicationComment comment = new ApplicationComment(author);
 
         comment.setAction(action);
@@ -46,6 +54,15 @@ class ApplicationCommentServiceImpl implements ApplicationCommentService {
     @Override
     public List<ApplicationComment> getCommentsByApplication(Application application) {
 
-        return commentDAO.getCommentsByApplication(application);
+        final List<ApplicationComment> comments = commentDAO.getCommentsByApplication(application);
+
+        // every application has got at least one comment, only the comments of archived applications are missing
+        if (!comments.isEmpty() || application.getId() == null) {
+            return comments;
+        }
+
+        return archivedCommentDAO.findByApplicationIdOrderById(application.getId()).stream()
+            .map(archivedComment -> archivedComment.toApplicationComment(application))
+            .collect(toList());
     }
 }
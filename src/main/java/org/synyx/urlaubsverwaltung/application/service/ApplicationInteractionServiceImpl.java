@@ -11,17 +11,11 @@ import org.synyx.urlaubsverwaltung.application.domain.ApplicationComment;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.application.service.exception.ImpatientAboutApplicationForLeaveProcessException;
 import org.synyx.urlaubsverwaltung.application.service.exception.RemindAlreadySentException;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncService;
-import org.synyx.urlaubsverwaltung.absence.Absence;
-import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
-import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
-import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncQueue;
 import org.synyx.urlaubsverwaltung.absence.AbsenceType;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
-import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -50,27 +44,22 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
     private final AccountInteractionService accountInteractionService;
     private final ApplicationCommentService commentService;
     private final ApplicationMailService applicationMailService;
-    private final CalendarSyncService calendarSyncService;
-    private final AbsenceMappingService absenceMappingService;
-    private final SettingsService settingsService;
+    private final CalendarSyncQueue calendarSyncQueue;
     private final DepartmentService departmentService;
 
     @Autowired
     public ApplicationInteractionServiceImpl(ApplicationService applicationService,
                                              ApplicationCommentService commentService,
                                              AccountInteractionService accountInteractionService,
-                                             ApplicationMailService applicationMailService, CalendarSyncService calendarSyncService,
-                                             AbsenceMappingService absenceMappingService,
-                                             SettingsService settingsService,
+                                             ApplicationMailService applicationMailService,
+                                             CalendarSyncQueue calendarSyncQueue,
                                              DepartmentService departmentService) {
 
         this.applicationService = applicationService;
         this.commentService = commentService;
         this.accountInteractionService = accountInteractionService;
         this.applicationMailService = applicationMailService;
-        this.calendarSyncService = calendarSyncService;
-        this.absenceMappingService = absenceMappingService;
-        this.settingsService = settingsService;
+        this.calendarSyncQueue = calendarSyncQueue;
         this.departmentService = departmentService;
     }
 
@@ -113,13 +102,8 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
         // update remaining vacation days (if there is already a holidays account for next year)
         accountInteractionService.updateRemainingVacationDays(savedApplication.getStartDate().getYear(), person);
 
-        CalendarSettings calendarSettings = settingsService.getSettings().getCalendarSettings();
-        AbsenceTimeConfiguration timeConfiguration = new AbsenceTimeConfiguration(calendarSettings);
-
-        Optional<String> eventId = calendarSyncService.addAbsence(new Absence(savedApplication.getPerson(),
-            savedApplication.getPeriod(), timeConfiguration));
-
-        eventId.ifPresent(s -> absenceMappingService.create(savedApplication.getId(), AbsenceType.VACATION, s));
+        calendarSyncQueue.addAbsence(savedApplication.getId(), AbsenceType.VACATION, savedApplication.getPerson(),
+            savedApplication.getPeriod());
 
         return savedApplication;
     }
@@ -236,13 +220,7 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
         applicationMailService.sendRejectedNotification(savedApplication, createdComment);
 
-        Optional<AbsenceMapping> absenceMapping = absenceMappingService.getAbsenceByIdAndType(savedApplication.getId(),
-            AbsenceType.VACATION);
-
-        if (absenceMapping.isPresent()) {
-            calendarSyncService.deleteAbsence(absenceMapping.get().getEventId());
-            absenceMappingService.delete(absenceMapping.get());
-        }
+        calendarSyncQueue.deleteAbsence(savedApplication.getId(), AbsenceType.VACATION);
 
         return application;
     }
@@ -265,13 +243,7 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
         accountInteractionService.updateRemainingVacationDays(application.getStartDate().getYear(), person);
 
-        Optional<AbsenceMapping> absenceMapping = absenceMappingService.getAbsenceByIdAndType(application.getId(),
-            AbsenceType.VACATION);
-
-        if (absenceMapping.isPresent()) {
-            calendarSyncService.deleteAbsence(absenceMapping.get().getEventId());
-            absenceMappingService.delete(absenceMapping.get());
-        }
+        calendarSyncQueue.deleteAbsence(application.getId(), AbsenceType.VACATION);
 
         return application;
     }
@@ -214,7 +214,7 @@ class ApplicationMailService {
         model.put("departmentVacations", applicationsForLeave);
 
         final List<Person> recipients = applicationRecipientService.getRecipientsForAllowAndRemind(application);
-        mailService.sendMailToEach(recipients, "subject.application.applied.boss", "new_applications", model, application.getPerson().getNiceName());
+        mailService.sendDigestibleMailToEach(recipients, "subject.application.applied.boss", "new_applications", model, application.getPerson().getNiceName());
     }
 
 
@@ -249,7 +249,7 @@ class ApplicationMailService {
 
         // Inform second stage authorities that there is an application for leave that must be allowed
         final List<Person> recipients = applicationRecipientService.getRecipientsForTemporaryAllow(application);
-        mailService.sendMailToEach(recipients, "subject.application.temporaryAllowed.secondStage", "temporary_allowed_second_stage_authority", modelSecondStage);
+        mailService.sendDigestibleMailToEach(recipients, "subject.application.temporaryAllowed.secondStage", "temporary_allowed_second_stage_authority", modelSecondStage);
     }
 
 
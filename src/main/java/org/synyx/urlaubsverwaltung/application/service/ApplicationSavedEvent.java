@@ -0,0 +1,18 @@
+package org.synyx.urlaubsverwaltung.application.service;
+
+import org.springframework.context.ApplicationEvent;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+
+public class ApplicationSavedEvent extends ApplicationEvent {
+
+    private final transient Application application;
+
+    public ApplicationSavedEvent(Object source, Application application) {
+        super(source);
+        this.application = application;
+    }
+
+    public Application getApplication() {
+        return application;
+    }
+}
@@ -1,12 +1,17 @@
 package org.synyx.urlaubsverwaltung.application.service;
 
 import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationPeriod;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationSummary;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -56,6 +61,18 @@ public interface ApplicationService {
                                                                 Person person);
 
 
+    /**
+     * Gets all {@link Application}s with vacation time between startDate x and endDate y for the given persons.
+     *
+     * @param startDate {@link LocalDate}
+     * @param endDate   {@link LocalDate}
+     * @param persons   {@link Person}s
+     * @return all {@link Application}s of the given persons with vacation time between startDate x and endDate y
+     */
+    List<Application> getApplicationsForACertainPeriodAndPersons(LocalDate startDate, LocalDate endDate,
+                                                                 List<Person> persons);
+
+
     /**
      * Gets all {@link Application}s with vacation time between startDate x and endDate y for the given state.
      *
@@ -68,6 +85,22 @@ public interface ApplicationService {
                                                                ApplicationStatus status);
 
 
+    /**
+     * Gets one page of the {@link Application}s with vacation time between startDate x and endDate y for the given
+     * state, ordered by start date and id.
+     *
+     * @param startDate   {@link LocalDate}
+     * @param endDate     {@link LocalDate}
+     * @param status      {@link ApplicationStatus}
+     * @param pageRequest {@link KeysetPageRequest}
+     * @return the requested page of {@link Application}s with the given state and vacation time between startDate x
+     * and endDate y
+     */
+    KeysetPage<Application> getApplicationsForACertainPeriodAndState(LocalDate startDate, LocalDate endDate,
+                                                                     ApplicationStatus status,
+                                                                     KeysetPageRequest pageRequest);
+
+
     /**
      * Gets all {@link Application}s with vacation time between startDate x and endDate y for the given person and
      * state.
@@ -83,6 +116,41 @@ public interface ApplicationService {
                                                                         Person person, ApplicationStatus status);
 
 
+    /**
+     * Gets one page of the {@link Application}s of the given person with vacation time between startDate x and endDate
+     * y and with a certain state, ordered by start date and id.
+     *
+     * @param startDate   {@link LocalDate}
+     * @param endDate     {@link LocalDate}
+     * @param person      {@link Person}
+     * @param status      {@link ApplicationStatus}
+     * @param pageRequest {@link KeysetPageRequest}
+     * @return the requested page of {@link Application}s of the given person with vacation time between startDate x
+     * and endDate y and with a certain state
+     */
+    KeysetPage<Application> getApplicationsForACertainPeriodAndPersonAndState(LocalDate startDate, LocalDate endDate,
+                                                                              Person person, ApplicationStatus status,
+                                                                              KeysetPageRequest pageRequest);
+
+
+    /**
+     * Gets one page of the {@link Application}s of the given persons with vacation time between startDate x and
+     * endDate y and with one of the given states, ordered by start date and id.
+     *
+     * @param startDate   {@link LocalDate}
+     * @param endDate     {@link LocalDate}
+     * @param persons     {@link Person}s
+     * @param statuses    {@link ApplicationStatus}es
+     * @param pageRequest {@link KeysetPageRequest}
+     * @return the requested page of {@link Application}s of the given persons with vacation time between startDate x
+     * and endDate y and with one of the given states
+     */
+    KeysetPage<Application> getApplicationsForACertainPeriodAndPersonsAndStates(LocalDate startDate, LocalDate endDate,
+                                                                                List<Person> persons,
+                                                                                List<ApplicationStatus> statuses,
+                                                                                KeysetPageRequest pageRequest);
+
+
     /**
      * Get all {@link Application} with specific states
      *
@@ -97,6 +165,28 @@ public interface ApplicationService {
      */
     List<Application> getForStatesAndPerson(List<ApplicationStatus> statuses, List<Person> persons);
 
+    /**
+     * Get a summary of all {@link Application}s with specific states ordered by start date, used to list the
+     * applications without loading the referenced persons.
+     *
+     * @param statuses of the applications
+     * @return the summaries of the applications with the given states
+     */
+    List<ApplicationSummary> getSummariesForStates(List<ApplicationStatus> statuses);
+
+    /**
+     * Get the periods of all {@link Application}s of the given person with specific states and vacation time between
+     * startDate x and endDate y, ordered by start date.
+     *
+     * @param startDate {@link LocalDate}
+     * @param endDate   {@link LocalDate}
+     * @param person    {@link Person}
+     * @param statuses  of the applications
+     * @return the periods of the matching applications
+     */
+    List<ApplicationPeriod> getPeriodsForACertainPeriodAndPersonAndStates(LocalDate startDate, LocalDate endDate,
+                                                                          Person person, List<ApplicationStatus> statuses);
+
 
     /**
      * Get the total hours of overtime reduction for a certain person.
@@ -105,4 +195,13 @@ public interface ApplicationService {
      * @return the total overtime reduction of a person, never {@code null}
      */
     BigDecimal getTotalOvertimeReductionOfPerson(Person person);
+
+
+    /**
+     * Get the total hours of overtime reduction for each of the given persons, fetched with a single query.
+     *
+     * @param persons to get the total hours of overtime reduction for
+     * @return the total overtime reduction per person, persons without overtime reduction are missing
+     */
+    Map<Person, BigDecimal> getTotalOvertimeReductionOfPersons(List<Person> persons);
 }
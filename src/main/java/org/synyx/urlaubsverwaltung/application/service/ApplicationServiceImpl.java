@@ -1,44 +1,83 @@
 package org.synyx.urlaubsverwaltung.application.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.synyx.urlaubsverwaltung.application.dao.ApplicationDAO;
+import org.synyx.urlaubsverwaltung.application.dao.ArchivedApplicationDAO;
+import org.synyx.urlaubsverwaltung.application.dao.OvertimeReductionOfPerson;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationPeriod;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationSummary;
+import org.synyx.urlaubsverwaltung.application.domain.ArchivedApplication;
+import org.synyx.urlaubsverwaltung.archive.ArchiveService;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 
 /**
  * Implementation of interface {@link ApplicationService}.
+ *
+ * <p>The applications for leave of periods that may contain archived applications are read from the archive too, see
+ * {@link ArchiveService}. The archive is not read for statuses that are never archived, and the applications read
+ * from the archive can not be saved anymore.</p>
  */
 @Service
 class ApplicationServiceImpl implements ApplicationService {
 
+    private static final List<ApplicationStatus> ALL_STATUSES = List.of(ApplicationStatus.values());
+
     private final ApplicationDAO applicationDAO;
+    private final ArchivedApplicationDAO archivedApplicationDAO;
+    private final ArchiveService archiveService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    ApplicationServiceImpl(ApplicationDAO applicationDAO) {
+    ApplicationServiceImpl(ApplicationDAO applicationDAO, ArchivedApplicationDAO archivedApplicationDAO,
+                           ArchiveService archiveService, ApplicationEventPublisher applicationEventPublisher) {
 
         this.applicationDAO = applicationDAO;
+        this.archivedApplicationDAO = archivedApplicationDAO;
+        this.archiveService = archiveService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
     public Optional<Application> getApplicationById(Integer id) {
 
-        return applicationDAO.findById(id);
+        return applicationDAO.findById(id)
+            .or(() -> archivedApplicationDAO.findById(id).map(ArchivedApplication::toApplication));
     }
 
 
     @Override
     public Application save(Application application) {
 
-        return applicationDAO.save(application);
+        Assert.state(!application.isArchived(), "Archived application for leave can not be changed.");
+
+        final Application savedApplication = applicationDAO.save(application);
+        applicationEventPublisher.publishEvent(new ApplicationSavedEvent(this, savedApplication));
+
+        return savedApplication;
     }
 
 
@@ -53,7 +92,27 @@ class ApplicationServiceImpl implements ApplicationService {
     public List<Application> getApplicationsForACertainPeriodAndPerson(LocalDate startDate, LocalDate endDate,
                                                                        Person person) {
 
-        return applicationDAO.getApplicationsForACertainTimeAndPerson(startDate, endDate, person);
+        final List<Application> applications =
+            applicationDAO.getApplicationsForACertainTimeAndPerson(startDate, endDate, person);
+
+        return withArchived(startDate, ALL_STATUSES, applications,
+            () -> archivedApplicationDAO.getApplicationsForACertainTimeAndPerson(startDate, endDate, person));
+    }
+
+
+    @Override
+    public List<Application> getApplicationsForACertainPeriodAndPersons(LocalDate startDate, LocalDate endDate,
+                                                                        List<Person> persons) {
+
+        if (persons.isEmpty()) {
+            return emptyList();
+        }
+
+        final List<Application> applications =
+            applicationDAO.getApplicationsForACertainTimeAndPersons(startDate, endDate, persons);
+
+        return withArchived(startDate, ALL_STATUSES, applications,
+            () -> archivedApplicationDAO.getApplicationsForACertainTimeAndPersons(startDate, endDate, persons));
     }
 
 
@@ -61,7 +120,27 @@ class ApplicationServiceImpl implements ApplicationService {
     public List<Application> getApplicationsForACertainPeriodAndState(LocalDate startDate, LocalDate endDate,
                                                                       ApplicationStatus status) {
 
-        return applicationDAO.getApplicationsForACertainTimeAndState(startDate, endDate, status);
+        final List<Application> applications =
+            applicationDAO.getApplicationsForACertainTimeAndState(startDate, endDate, status);
+
+        return withArchived(startDate, List.of(status), applications,
+            () -> archivedApplicationDAO.getApplicationsForACertainTimeAndState(startDate, endDate, status));
+    }
+
+
+    @Override
+    public KeysetPage<Application> getApplicationsForACertainPeriodAndState(LocalDate startDate, LocalDate endDate,
+                                                                            ApplicationStatus status,
+                                                                            KeysetPageRequest pageRequest) {
+
+        final List<Application> applications = pageRequest.getAfter()
+            .map(after -> applicationDAO.getApplicationsForACertainTimeAndStateAfter(startDate, endDate, status,
+                after.getDateKey(), after.getId(), pageRequest.toPageable()))
+            .orElseGet(() -> applicationDAO.getApplicationsForACertainTimeAndState(startDate, endDate, status,
+                pageRequest.toPageable()));
+
+        return toPage(startDate, List.of(status), applications, pageRequest,
+            () -> archivedApplicationDAO.getApplicationsForACertainTimeAndState(startDate, endDate, status));
     }
 
 
@@ -69,7 +148,50 @@ class ApplicationServiceImpl implements ApplicationService {
     public List<Application> getApplicationsForACertainPeriodAndPersonAndState(LocalDate startDate,
                                                                                LocalDate endDate, Person person, ApplicationStatus status) {
 
-        return applicationDAO.getApplicationsForACertainTimeAndPersonAndState(startDate, endDate, person, status);
+        final List<Application> applications =
+            applicationDAO.getApplicationsForACertainTimeAndPersonAndState(startDate, endDate, person, status);
+
+        return withArchived(startDate, List.of(status), applications, () ->
+            archivedApplicationDAO.getApplicationsForACertainTimeAndPersonAndState(startDate, endDate, person, status));
+    }
+
+
+    @Override
+    public KeysetPage<Application> getApplicationsForACertainPeriodAndPersonAndState(LocalDate startDate,
+                                                                                     LocalDate endDate, Person person,
+                                                                                     ApplicationStatus status,
+                                                                                     KeysetPageRequest pageRequest) {
+
+        final List<Application> applications = pageRequest.getAfter()
+            .map(after -> applicationDAO.getApplicationsForACertainTimeAndPersonAndStateAfter(startDate, endDate,
+                person, status, after.getDateKey(), after.getId(), pageRequest.toPageable()))
+            .orElseGet(() -> applicationDAO.getApplicationsForACertainTimeAndPersonAndState(startDate, endDate, person,
+                status, pageRequest.toPageable()));
+
+        return toPage(startDate, List.of(status), applications, pageRequest, () ->
+            archivedApplicationDAO.getApplicationsForACertainTimeAndPersonAndState(startDate, endDate, person, status));
+    }
+
+    @Override
+    public KeysetPage<Application> getApplicationsForACertainPeriodAndPersonsAndStates(LocalDate startDate,
+                                                                                       LocalDate endDate,
+                                                                                       List<Person> persons,
+                                                                                       List<ApplicationStatus> statuses,
+                                                                                       KeysetPageRequest pageRequest) {
+
+        if (persons.isEmpty() || statuses.isEmpty()) {
+            return KeysetPage.empty();
+        }
+
+        final List<Application> applications = pageRequest.getAfter()
+            .map(after -> applicationDAO.getApplicationsForACertainTimeAndPersonsAndStatesAfter(startDate, endDate,
+                persons, statuses, after.getDateKey(), after.getId(), pageRequest.toPageable()))
+            .orElseGet(() -> applicationDAO.getApplicationsForACertainTimeAndPersonsAndStates(startDate, endDate,
+                persons, statuses, pageRequest.toPageable()));
+
+        return toPage(startDate, statuses, applications, pageRequest, () ->
+            archivedApplicationDAO.getApplicationsForACertainTimeAndPersonsAndStates(startDate, endDate, persons,
+                statuses));
     }
 
     @Override
@@ -85,6 +207,21 @@ class ApplicationServiceImpl implements ApplicationService {
     }
 
 
+    @Override
+    public List<ApplicationSummary> getSummariesForStates(List<ApplicationStatus> statuses) {
+
+        return applicationDAO.findSummariesByStatusIn(statuses);
+    }
+
+
+    @Override
+    public List<ApplicationPeriod> getPeriodsForACertainPeriodAndPersonAndStates(LocalDate startDate, LocalDate endDate,
+                                                                                 Person person, List<ApplicationStatus> statuses) {
+
+        return applicationDAO.findPeriodsByPersonAndStatusIn(startDate, endDate, person, statuses);
+    }
+
+
     @Override
     public BigDecimal getTotalOvertimeReductionOfPerson(Person person) {
 
@@ -93,4 +230,75 @@ class ApplicationServiceImpl implements ApplicationService {
         return Optional.ofNullable(applicationDAO.calculateTotalOvertimeOfPerson(person))
             .orElse(BigDecimal.ZERO);
     }
+
+
+    @Override
+    public Map<Person, BigDecimal> getTotalOvertimeReductionOfPersons(List<Person> persons) {
+
+        final Map<Person, BigDecimal> overtimeReductionOfPersons = new HashMap<>();
+        if (persons.isEmpty()) {
+            return overtimeReductionOfPersons;
+        }
+
+        final Map<Integer, Person> personsById = persons.stream()
+            .collect(toMap(Person::getId, Function.identity(), (first, second) -> first));
+        for (OvertimeReductionOfPerson overtimeReduction : applicationDAO.calculateTotalOvertimeOfPersons(persons)) {
+            if (overtimeReduction.getHours() != null) {
+                overtimeReductionOfPersons.put(personsById.get(overtimeReduction.getPersonId()), overtimeReduction.getHours());
+            }
+        }
+
+        return overtimeReductionOfPersons;
+    }
+
+    /**
+     * Adds the archived applications if the period starting at the given date may contain archived applications with
+     * one of the given statuses, the result is ordered by the start date like the applications read from the database.
+     */
+    private List<Application> withArchived(LocalDate startDate, List<ApplicationStatus> statuses,
+                                           List<Application> applications,
+                                           Supplier<List<ArchivedApplication>> archivedApplications) {
+
+        if (!mayContainArchived(startDate, statuses)) {
+            return applications;
+        }
+
+        final List<ArchivedApplication> archived = archivedApplications.get();
+        if (archived.isEmpty()) {
+            return applications;
+        }
+
+        return Stream.concat(applications.stream(), archived.stream().map(ArchivedApplication::toApplication))
+            .sorted(comparing(Application::getStartDate))
+            .collect(toList());
+    }
+
+    /**
+     * Creates the page of the given applications read after the cursor of the page request. The archived applications
+     * are merged into the page if the period may contain archived applications with one of the given statuses.
+     */
+    private KeysetPage<Application> toPage(LocalDate startDate, List<ApplicationStatus> statuses,
+                                           List<Application> applications, KeysetPageRequest pageRequest,
+                                           Supplier<List<ArchivedApplication>> archivedApplications) {
+
+        if (!mayContainArchived(startDate, statuses)) {
+            return KeysetPage.of(applications, pageRequest, ApplicationServiceImpl::toCursor);
+        }
+
+        final List<Application> allApplications = Stream.concat(applications.stream(),
+            archivedApplications.get().stream().map(ArchivedApplication::toApplication))
+            .collect(toList());
+
+        return KeysetPage.fromList(allApplications, pageRequest, ApplicationServiceImpl::toCursor);
+    }
+
+    private boolean mayContainArchived(LocalDate startDate, List<ApplicationStatus> statuses) {
+
+        return archiveService.isArchivedPeriod(startDate) && statuses.stream().anyMatch(ArchiveService::isArchivedStatus);
+    }
+
+    private static KeysetCursor toCursor(Application application) {
+
+        return KeysetCursor.of(application.getStartDate(), application.getId());
+    }
 }
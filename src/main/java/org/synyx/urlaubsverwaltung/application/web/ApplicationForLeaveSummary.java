@@ -0,0 +1,40 @@
+package org.synyx.urlaubsverwaltung.application.web;
+
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationSummary;
+import org.synyx.urlaubsverwaltung.period.WeekDay;
+
+import java.math.BigDecimal;
+
+
+/**
+ * Represents an extended {@link ApplicationSummary} with information about the number of work days, used to list
+ * applications for leave.
+ */
+public class ApplicationForLeaveSummary extends ApplicationSummary {
+
+    private final BigDecimal workDays;
+
+    public ApplicationForLeaveSummary(ApplicationSummary applicationSummary, BigDecimal workDays) {
+
+        super(applicationSummary);
+
+        this.workDays = workDays;
+    }
+
+    public BigDecimal getWorkDays() {
+
+        return workDays;
+    }
+
+
+    public WeekDay getWeekDayOfStartDate() {
+
+        return WeekDay.getByDayOfWeek(getStartDate().getDayOfWeek().getValue());
+    }
+
+
+    public WeekDay getWeekDayOfEndDate() {
+
+        return WeekDay.getByDayOfWeek(getEndDate().getDayOfWeek().getValue());
+    }
+}
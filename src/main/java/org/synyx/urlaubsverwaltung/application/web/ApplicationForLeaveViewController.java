@@ -6,25 +6,26 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.synyx.urlaubsverwaltung.application.domain.Application;
-import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationSummary;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.security.SecurityRules;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCalculator;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
@@ -61,14 +62,14 @@ public class ApplicationForLeaveViewController {
     @GetMapping("/application")
     public String showWaiting(Model model) {
 
-        List<ApplicationForLeave> applicationsForLeave = getAllRelevantApplicationsForLeave();
+        List<ApplicationForLeaveSummary> applicationsForLeave = getAllRelevantApplicationsForLeave();
         model.addAttribute("applications", applicationsForLeave);
 
         return "application/app_list";
     }
 
 
-    private List<ApplicationForLeave> getAllRelevantApplicationsForLeave() {
+    private List<ApplicationForLeaveSummary> getAllRelevantApplicationsForLeave() {
 
         Person user = personService.getSignedInUser();
 
@@ -82,7 +83,7 @@ public class ApplicationForLeaveViewController {
             return getApplicationsForLeaveForBossOrOffice();
         }
 
-        List<ApplicationForLeave> applicationsForLeave = new ArrayList<>();
+        List<ApplicationForLeaveSummary> applicationsForLeave = new ArrayList<>();
         if (isSecondStage) {
             // Department head can see waiting and temporary allowed applications for leave of certain department(s)
             applicationsForLeave.addAll(getApplicationsForLeaveForSecondStageAuthority(user));
@@ -93,7 +94,7 @@ public class ApplicationForLeaveViewController {
             applicationsForLeave.addAll(getApplicationsForLeaveForDepartmentHead(user));
         }
 
-        return applicationsForLeave.stream().filter(distinctByKey(ApplicationForLeave::getId)).collect(toList());
+        return applicationsForLeave.stream().filter(distinctByKey(ApplicationForLeaveSummary::getId)).collect(toList());
     }
 
     private static <T> Predicate<T> distinctByKey(Function<? super T, ?> keyExtractor) {
@@ -103,62 +104,70 @@ public class ApplicationForLeaveViewController {
     }
 
 
-    private List<ApplicationForLeave> getApplicationsForLeaveForBossOrOffice() {
+    private List<ApplicationForLeaveSummary> getApplicationsForLeaveForBossOrOffice() {
 
-        List<Application> applications = getApplicationsByStates(WAITING, TEMPORARY_ALLOWED);
+        List<ApplicationSummary> applications = applicationService.getSummariesForStates(List.of(WAITING, TEMPORARY_ALLOWED));
 
-        return applications.stream()
-            .map(application -> new ApplicationForLeave(application, calendarService))
-            .sorted(dateComparator())
-            .collect(toList());
+        return toApplicationsForLeave(applications);
     }
 
-    private List<ApplicationForLeave> getApplicationsForLeaveForDepartmentHead(Person head) {
+    private List<ApplicationForLeaveSummary> getApplicationsForLeaveForDepartmentHead(Person head) {
 
-        List<Application> waitingApplications = getApplicationsByStates(WAITING);
-        List<Person> members = departmentService.getManagedMembersOfDepartmentHead(head);
+        List<ApplicationSummary> waitingApplications = applicationService.getSummariesForStates(List.of(WAITING));
+        // applications of second stage authorities are decided by the second stage, regardless of whether active
+        Set<Integer> memberIds = getIds(departmentService.getManagedMembersOfDepartmentHead(head).stream()
+            .filter(member -> !member.hasRole(SECOND_STAGE_AUTHORITY))
+            .collect(toList()));
 
-        return waitingApplications.stream()
-            .filter(includeApplicationsOf(members))
+        return toApplicationsForLeave(waitingApplications.stream()
+            .filter(includeApplicationsOf(memberIds))
             .filter(withoutOwnApplications(head))
-            .filter(withoutSecondStageAuthorityApplications())
-            .map(application -> new ApplicationForLeave(application, calendarService))
-            .sorted(dateComparator())
-            .collect(toList());
+            .collect(toList()));
     }
 
-    private List<ApplicationForLeave> getApplicationsForLeaveForSecondStageAuthority(Person secondStage) {
+    private List<ApplicationForLeaveSummary> getApplicationsForLeaveForSecondStageAuthority(Person secondStage) {
 
-        List<Application> applications = getApplicationsByStates(WAITING, TEMPORARY_ALLOWED);
-        List<Person> members = departmentService.getManagedMembersForSecondStageAuthority(secondStage);
+        List<ApplicationSummary> applications = applicationService.getSummariesForStates(List.of(WAITING, TEMPORARY_ALLOWED));
+        Set<Integer> memberIds = getIds(departmentService.getManagedMembersForSecondStageAuthority(secondStage));
 
-        return applications.stream()
-            .filter(includeApplicationsOf(members))
+        return toApplicationsForLeave(applications.stream()
+            .filter(includeApplicationsOf(memberIds))
             .filter(withoutOwnApplications(secondStage))
-            .map(application -> new ApplicationForLeave(application, calendarService))
-            .sorted(dateComparator())
-            .collect(toList());
+            .collect(toList()));
     }
 
-    private Predicate<Application> withoutOwnApplications(Person head) {
-        return application -> !application.getPerson().equals(head);
+    /**
+     * Calculates the work days of the given applications with the working times of all their persons fetched at
+     * once.
+     */
+    private List<ApplicationForLeaveSummary> toApplicationsForLeave(List<ApplicationSummary> applications) {
+
+        final Set<Integer> personIds = applications.stream()
+            .map(application -> application.getPerson().getId())
+            .collect(toSet());
+        final WorkDaysCalculator workDaysCalculator = calendarService.getWorkDaysCalculator(personIds);
+
+        return applications.stream()
+            .map(application -> new ApplicationForLeaveSummary(application, workDaysCalculator.getWorkDays(
+                application.getDayLength(), application.getStartDate(), application.getEndDate(),
+                application.getPerson().getId())))
+            .sorted(dateComparator())
+            .collect(toList());
     }
 
-    private Predicate<Application> withoutSecondStageAuthorityApplications() {
-        return application -> !application.getPerson().getPermissions().contains(SECOND_STAGE_AUTHORITY);
+    private Predicate<ApplicationSummary> withoutOwnApplications(Person head) {
+        return application -> !application.getPerson().getId().equals(head.getId());
     }
 
-    private Predicate<Application> includeApplicationsOf(List<Person> members) {
-        return application -> members.contains(application.getPerson());
+    private Predicate<ApplicationSummary> includeApplicationsOf(Set<Integer> memberIds) {
+        return application -> memberIds.contains(application.getPerson().getId());
     }
 
-    private Comparator<ApplicationForLeave> dateComparator() {
-        return Comparator.comparing(Application::getStartDate);
+    private Comparator<ApplicationForLeaveSummary> dateComparator() {
+        return Comparator.comparing(ApplicationSummary::getStartDate);
     }
 
-    private List<Application> getApplicationsByStates(ApplicationStatus... state) {
-        return stream(state)
-            .flatMap(applicationStatus -> applicationService.getApplicationsForACertainState(applicationStatus).stream())
-            .collect(toList());
+    private static Set<Integer> getIds(List<Person> persons) {
+        return persons.stream().map(Person::getId).collect(toSet());
     }
 }
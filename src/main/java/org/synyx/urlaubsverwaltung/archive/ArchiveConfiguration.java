@@ -0,0 +1,27 @@
+package org.synyx.urlaubsverwaltung.archive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@ConditionalOnProperty(value = "uv.archive.enabled", havingValue = "true")
+public class ArchiveConfiguration implements SchedulingConfigurer {
+
+    private final ArchiveProperties archiveProperties;
+    private final ArchiveService archiveService;
+
+    @Autowired
+    public ArchiveConfiguration(ArchiveProperties archiveProperties, ArchiveService archiveService) {
+
+        this.archiveProperties = archiveProperties;
+        this.archiveService = archiveService;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addCronTask(archiveService::archive, archiveProperties.getCron());
+    }
+}
@@ -0,0 +1,92 @@
+package org.synyx.urlaubsverwaltung.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import org.synyx.urlaubsverwaltung.validation.CronExpression;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.archive")
+@Validated
+public class ArchiveProperties {
+
+    /**
+     * Moves the rejected, cancelled and revoked applications for leave and the cancelled and converted sick notes of
+     * past years into the archive tables. Records that are already archived are read from the archive in any case.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Archive the records by default every sunday at 04:00 am
+     */
+    @CronExpression
+    private String cron = "0 0 4 * * SUN";
+
+    /**
+     * Number of past years whose records are kept in the tables additionally to the current year. Increasing the
+     * number later on does not move records back from the archive.
+     */
+    @NotNull
+    @Min(1)
+    @Max(100)
+    private Integer yearsToKeep = 2;
+
+    /**
+     * Number of records moved within one transaction.
+     */
+    @NotNull
+    @Min(1)
+    @Max(10000)
+    private Integer batchSize = 500;
+
+    /**
+     * Pause between two batches, so the archiving does not slow down the application.
+     */
+    @NotNull
+    private Duration pause = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public Integer getYearsToKeep() {
+        return yearsToKeep;
+    }
+
+    public void setYearsToKeep(Integer yearsToKeep) {
+        this.yearsToKeep = yearsToKeep;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPause() {
+        return pause;
+    }
+
+    public void setPause(Duration pause) {
+        this.pause = pause;
+    }
+}
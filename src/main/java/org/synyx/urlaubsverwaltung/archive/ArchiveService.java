@@ -0,0 +1,184 @@
+package org.synyx.urlaubsverwaltung.archive;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.CANCELLED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.REJECTED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.REVOKED;
+import static org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus.CONVERTED_TO_VACATION;
+
+
+/**
+ * Moves the applications for leave and sick notes that can not be changed anymore, together with their comments, from
+ * the tables read by the period and status queries into the archive tables.
+ *
+ * <p>A record is archived if it is in a final state and ended before the first day of the oldest year that is kept,
+ * see {@link #getArchivedBefore()}. The services read the archive additionally if a period starting before that day
+ * is requested.</p>
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final List<ApplicationStatus> ARCHIVED_APPLICATION_STATUSES = List.of(REJECTED, CANCELLED, REVOKED);
+    private static final List<SickNoteStatus> ARCHIVED_SICK_NOTE_STATUSES =
+        List.of(SickNoteStatus.CANCELLED, CONVERTED_TO_VACATION);
+
+    private static final ArchivedTable APPLICATIONS = new ArchivedTable("Application", "ApplicationComment",
+        "application_id", statusNames(ARCHIVED_APPLICATION_STATUSES));
+    private static final ArchivedTable SICK_NOTES = new ArchivedTable("SickNote", "SickNoteComment",
+        "sickNote_id", statusNames(ARCHIVED_SICK_NOTE_STATUSES));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties archiveProperties;
+    private final Clock clock;
+
+    @Autowired
+    public ArchiveService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          ArchiveProperties archiveProperties, Clock clock) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveProperties = archiveProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the first day of the oldest year that is kept, the final records that ended before this day are
+     * archived.
+     */
+    public LocalDate getArchivedBefore() {
+
+        final int oldestKeptYear = LocalDate.now(clock).getYear() - archiveProperties.getYearsToKeep();
+
+        return LocalDate.of(oldestKeptYear, 1, 1);
+    }
+
+    /**
+     * Returns whether archived records may overlap the period starting at the given date, then the archive has to be
+     * read additionally.
+     */
+    public boolean isArchivedPeriod(LocalDate startDate) {
+
+        return startDate.isBefore(getArchivedBefore());
+    }
+
+    /**
+     * Returns whether applications for leave with the given status are archived, the archive does not have to be read
+     * for the other ones.
+     */
+    public static boolean isArchivedStatus(ApplicationStatus status) {
+
+        return ARCHIVED_APPLICATION_STATUSES.contains(status);
+    }
+
+    /**
+     * Moves the final applications for leave and sick notes to the archive. The records are moved in batches of
+     * {@link ArchiveProperties#getBatchSize()} records, each within its own transaction.
+     */
+    public void archive() {
+
+        final LocalDate archivedBefore = getArchivedBefore();
+
+        LOG.info("Archiving applications for leave and sick notes that ended before {}", archivedBefore);
+
+        final int archivedApplications = archive(APPLICATIONS, archivedBefore);
+        final int archivedSickNotes = archive(SICK_NOTES, archivedBefore);
+
+        LOG.info("Archived {} applications for leave and {} sick notes", archivedApplications, archivedSickNotes);
+    }
+
+    private int archive(ArchivedTable table, LocalDate archivedBefore) {
+
+        int archivedRecords = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+
+            final Integer movedRecords = transactionTemplate.execute(status -> moveBatch(table, archivedBefore));
+            archivedRecords += movedRecords;
+
+            if (movedRecords < archiveProperties.getBatchSize()) {
+                break;
+            }
+
+            pause();
+        }
+
+        return archivedRecords;
+    }
+
+    private int moveBatch(ArchivedTable table, LocalDate archivedBefore) {
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("statuses", table.finalStatuses)
+            .addValue("archivedBefore", archivedBefore)
+            .addValue("limit", archiveProperties.getBatchSize());
+
+        final List<Integer> ids = jdbcTemplate.queryForList("SELECT id FROM " + table.name
+            + " WHERE status IN (:statuses) AND endDate < :archivedBefore ORDER BY id LIMIT :limit FOR UPDATE",
+            parameters, Integer.class);
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        final MapSqlParameterSource idParameters = new MapSqlParameterSource("ids", ids);
+
+        jdbcTemplate.update("INSERT INTO " + table.name + "_Archive SELECT * FROM " + table.name
+            + " WHERE id IN (:ids)", idParameters);
+        jdbcTemplate.update("INSERT INTO " + table.commentName + "_Archive SELECT * FROM " + table.commentName
+            + " WHERE " + table.commentForeignKey + " IN (:ids)", idParameters);
+        jdbcTemplate.update("DELETE FROM " + table.commentName + " WHERE " + table.commentForeignKey + " IN (:ids)",
+            idParameters);
+        jdbcTemplate.update("DELETE FROM " + table.name + " WHERE id IN (:ids)", idParameters);
+
+        return ids.size();
+    }
+
+    private void pause() {
+
+        try {
+            Thread.sleep(archiveProperties.getPause().toMillis());
+        } catch (InterruptedException e) {
+            LOG.warn("Archiving has been interrupted");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<String> statusNames(List<? extends Enum<?>> statuses) {
+
+        return statuses.stream().map(Enum::name).collect(toList());
+    }
+
+    private static final class ArchivedTable {
+
+        private final String name;
+        private final String commentName;
+        private final String commentForeignKey;
+        private final List<String> finalStatuses;
+
+        private ArchivedTable(String name, String commentName, String commentForeignKey, List<String> finalStatuses) {
+            this.name = name;
+            this.commentName = commentName;
+            this.commentForeignKey = commentForeignKey;
+            this.finalStatuses = finalStatuses;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.availability.api;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.math.BigDecimal;
@@ -33,7 +34,8 @@ public class AvailabilityService {
      * @param person    to receive the availability information
      * @return a {@link AvailabilityListDto availability list} of the requested person
      */
-    AvailabilityListDto getPersonsAvailabilities(LocalDate startDate, LocalDate endDate, Person person) {
+    @Transactional(readOnly = true)
+    public AvailabilityListDto getPersonsAvailabilities(LocalDate startDate, LocalDate endDate, Person person) {
 
         List<DayAvailability> availabilities = new ArrayList<>();
 
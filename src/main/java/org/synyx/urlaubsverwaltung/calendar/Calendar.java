@@ -15,7 +15,7 @@ abstract class Calendar {
     private static final int SECRET_LENGTH = 32;
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "sequence_per_entity")
     private Long id;
 
     @Length(min = SECRET_LENGTH, max = SECRET_LENGTH)
@@ -10,7 +10,7 @@ import javax.persistence.Inheritance;
 abstract class CalendarAccessible {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "sequence_per_entity")
     private Long id;
 
     private boolean isAccessible = false;
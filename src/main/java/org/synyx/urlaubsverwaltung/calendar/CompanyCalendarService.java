@@ -54,7 +54,8 @@ class CompanyCalendarService {
         return Optional.ofNullable(companyCalendarRepository.findByPerson(person));
     }
 
-    String getCalendarForAll(Integer personId, String secret, Locale locale) {
+    @Transactional(readOnly = true)
+    public String getCalendarForAll(Integer personId, String secret, Locale locale) {
 
         if (StringUtils.isBlank(secret)) {
             throw new IllegalArgumentException("secret must not be empty.");
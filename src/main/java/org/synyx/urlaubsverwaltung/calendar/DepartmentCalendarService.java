@@ -70,7 +70,8 @@ class DepartmentCalendarService {
         return Optional.ofNullable(departmentCalendarRepository.findByDepartmentAndPerson(department, person));
     }
 
-    String getCalendarForDepartment(Integer departmentId, Integer personId, String secret, Locale locale) {
+    @Transactional(readOnly = true)
+    public String getCalendarForDepartment(Integer departmentId, Integer personId, String secret, Locale locale) {
 
         if (StringUtils.isBlank(secret)) {
             throw new IllegalArgumentException("secret must not be empty.");
@@ -54,7 +54,8 @@ class PersonCalendarService {
         return Optional.ofNullable(personCalendarRepository.findByPerson(person));
     }
 
-    String getCalendarForPerson(Integer personId, String secret, Locale locale) {
+    @Transactional(readOnly = true)
+    public String getCalendarForPerson(Integer personId, String secret, Locale locale) {
 
         if (StringUtils.isBlank(secret)) {
             throw new IllegalArgumentException("secret must not be empty.");
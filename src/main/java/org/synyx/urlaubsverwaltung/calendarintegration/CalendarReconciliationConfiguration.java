@@ -0,0 +1,29 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@ConditionalOnProperty(value = "uv.calendar.reconciliation.enabled", havingValue = "true")
+public class CalendarReconciliationConfiguration implements SchedulingConfigurer {
+
+    private final CalendarReconciliationProperties calendarReconciliationProperties;
+    private final CalendarReconciliationService calendarReconciliationService;
+
+    @Autowired
+    CalendarReconciliationConfiguration(CalendarReconciliationProperties calendarReconciliationProperties,
+                                        CalendarReconciliationService calendarReconciliationService) {
+
+        this.calendarReconciliationProperties = calendarReconciliationProperties;
+        this.calendarReconciliationService = calendarReconciliationService;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addFixedDelayTask(calendarReconciliationService::reconcile,
+            calendarReconciliationProperties.getInterval().toMillis());
+    }
+}
@@ -0,0 +1,179 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
+
+/**
+ * Operations that bring the events of a period in line with the open absences of this period, computed by comparing
+ * the events listed from the calendar with the open absences and their {@link AbsenceMapping}s:
+ *
+ * <ul>
+ * <li>missing: open absences without mapping, their events have to be added</li>
+ * <li>changed: events that do not show their absence anymore, they have to be updated</li>
+ * <li>lost: mapped events that are not in the calendar anymore, they have to be updated or added again</li>
+ * <li>orphaned: events whose absences are not open anymore, they have to be deleted with their mappings</li>
+ * <li>unknown: events without mapping, they are only counted as they may not have been created by the application
+ * or their mapping is created right now</li>
+ * </ul>
+ *
+ * <p>Absences with pending jobs in the {@link CalendarSyncQueue} are left out, as they will be synced anyway.</p>
+ */
+final class CalendarReconciliationPlan {
+
+    private final List<OpenAbsence> missing = new ArrayList<>();
+    private final Map<String, OpenAbsence> changed = new LinkedHashMap<>();
+    private final Map<String, OpenAbsence> lost = new LinkedHashMap<>();
+    private final Map<String, List<AbsenceMapping>> orphaned = new LinkedHashMap<>();
+    private final List<CalendarEvent> unknown = new ArrayList<>();
+
+    private CalendarReconciliationPlan() {
+    }
+
+    /**
+     * @param openAbsences             open absences of the period
+     * @param mappings                 mappings of the open absences of the period
+     * @param events                   events of the calendar in the period
+     * @param eventMappings            mappings of the events of the calendar
+     * @param currentAbsence           returns the current open absence of a mapping, empty if it is not open anymore
+     * @param pendingAbsences          keys of the absences with pending jobs
+     * @param absenceTimeConfiguration to compare the events with the absences
+     * @return the operations to reconcile the calendar
+     */
+    static CalendarReconciliationPlan compute(List<OpenAbsence> openAbsences, List<AbsenceMapping> mappings,
+                                              List<CalendarEvent> events, List<AbsenceMapping> eventMappings,
+                                              Function<AbsenceMapping, Optional<OpenAbsence>> currentAbsence,
+                                              Set<String> pendingAbsences,
+                                              AbsenceTimeConfiguration absenceTimeConfiguration) {
+
+        final CalendarReconciliationPlan plan = new CalendarReconciliationPlan();
+
+        final Map<String, CalendarEvent> eventsById = events.stream()
+            .collect(toMap(CalendarEvent::getId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        final Map<String, AbsenceMapping> mappingsByAbsence = mappings.stream()
+            .collect(toMap(CalendarReconciliationPlan::keyOf, Function.identity(), (first, second) -> first));
+
+        final Set<String> absencesOfPeriod = new HashSet<>();
+        final Set<String> eventsOfPeriod = new HashSet<>();
+
+        for (OpenAbsence openAbsence : openAbsences) {
+            absencesOfPeriod.add(openAbsence.getKey());
+
+            if (pendingAbsences.contains(openAbsence.getKey())) {
+                continue;
+            }
+
+            final AbsenceMapping mapping = mappingsByAbsence.get(openAbsence.getKey());
+            if (mapping == null) {
+                plan.missing.add(openAbsence);
+                continue;
+            }
+
+            eventsOfPeriod.add(mapping.getEventId());
+
+            final CalendarEvent event = eventsById.get(mapping.getEventId());
+            if (event == null) {
+                plan.lost.put(mapping.getEventId(), openAbsence);
+            } else if (!event.matches(openAbsence.toAbsence(absenceTimeConfiguration))) {
+                plan.changed.put(mapping.getEventId(), openAbsence);
+            }
+        }
+
+        final Map<String, List<AbsenceMapping>> mappingsByEvent = eventMappings.stream()
+            .collect(groupingBy(AbsenceMapping::getEventId));
+
+        for (CalendarEvent event : eventsById.values()) {
+
+            if (eventsOfPeriod.contains(event.getId())) {
+                continue;
+            }
+
+            final List<AbsenceMapping> mappingsOfEvent = mappingsByEvent.getOrDefault(event.getId(), List.of());
+            if (mappingsOfEvent.isEmpty()) {
+                plan.unknown.add(event);
+                continue;
+            }
+
+            final List<AbsenceMapping> orphanedMappings = new ArrayList<>();
+            boolean shown = false;
+
+            for (AbsenceMapping mapping : mappingsOfEvent) {
+
+                // absences of the period with pending jobs are synced by the queue, the others are checked here
+                if (absencesOfPeriod.contains(keyOf(mapping)) || pendingAbsences.contains(keyOf(mapping))) {
+                    shown = true;
+                    continue;
+                }
+
+                // the absence has been moved out of the period or is not open anymore
+                final Optional<OpenAbsence> openAbsence = currentAbsence.apply(mapping);
+                if (openAbsence.isEmpty()) {
+                    orphanedMappings.add(mapping);
+                } else {
+                    shown = true;
+                    if (!event.matches(openAbsence.get().toAbsence(absenceTimeConfiguration))) {
+                        plan.changed.put(event.getId(), openAbsence.get());
+                    }
+                }
+            }
+
+            // the event is only deleted if it does not show any open absence
+            if (!shown) {
+                plan.orphaned.put(event.getId(), orphanedMappings);
+            }
+        }
+
+        return plan;
+    }
+
+    List<OpenAbsence> getMissing() {
+        return Collections.unmodifiableList(missing);
+    }
+
+    /**
+     * @return the absences of the changed events by the ids of the events
+     */
+    Map<String, OpenAbsence> getChanged() {
+        return Collections.unmodifiableMap(changed);
+    }
+
+    /**
+     * @return the absences of the lost events by the ids of the events
+     */
+    Map<String, OpenAbsence> getLost() {
+        return Collections.unmodifiableMap(lost);
+    }
+
+    /**
+     * @return the mappings of the orphaned events by the ids of the events
+     */
+    Map<String, List<AbsenceMapping>> getOrphaned() {
+        return Collections.unmodifiableMap(orphaned);
+    }
+
+    List<CalendarEvent> getUnknown() {
+        return Collections.unmodifiableList(unknown);
+    }
+
+    boolean isEmpty() {
+        return missing.isEmpty() && changed.isEmpty() && lost.isEmpty() && orphaned.isEmpty();
+    }
+
+    private static String keyOf(AbsenceMapping mapping) {
+        return OpenAbsence.key(mapping.getAbsenceId(), mapping.getAbsenceType());
+    }
+}
@@ -0,0 +1,103 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.calendar.reconciliation")
+@Validated
+public class CalendarReconciliationProperties {
+
+    /**
+     * Compares the events of the calendar with the open absences window by window and repairs the differences, e.g.
+     * events that have been changed or deleted in the calendar.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Delay between the reconciliation of two windows.
+     */
+    @NotNull
+    private Duration interval = Duration.ofMinutes(10);
+
+    /**
+     * Number of days reconciled at once.
+     */
+    @NotNull
+    @Min(1)
+    @Max(366)
+    private Integer windowDays = 14;
+
+    /**
+     * Number of past days that are reconciled.
+     */
+    @NotNull
+    @Min(0)
+    private Integer daysInPast = 30;
+
+    /**
+     * Number of future days that are reconciled.
+     */
+    @NotNull
+    @Min(0)
+    private Integer daysInFuture = 365;
+
+    /**
+     * Repairs the differences, if disabled they are only logged and counted.
+     */
+    private boolean repair = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Integer getWindowDays() {
+        return windowDays;
+    }
+
+    public void setWindowDays(Integer windowDays) {
+        this.windowDays = windowDays;
+    }
+
+    public Integer getDaysInPast() {
+        return daysInPast;
+    }
+
+    public void setDaysInPast(Integer daysInPast) {
+        this.daysInPast = daysInPast;
+    }
+
+    public Integer getDaysInFuture() {
+        return daysInFuture;
+    }
+
+    public void setDaysInFuture(Integer daysInFuture) {
+        this.daysInFuture = daysInFuture;
+    }
+
+    public boolean isRepair() {
+        return repair;
+    }
+
+    public void setRepair(boolean repair) {
+        this.repair = repair;
+    }
+}
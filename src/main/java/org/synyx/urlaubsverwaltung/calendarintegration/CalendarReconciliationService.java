@@ -0,0 +1,303 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.absence.AbsenceType;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarBatchResult;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.noop.NoopCalendarSyncProvider;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.SICKNOTE;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.VACATION;
+
+
+/**
+ * Reconciles the events of the calendar with the open absences and their {@link AbsenceMapping}s, e.g. if events have
+ * been changed or deleted in the calendar or jobs of the {@link CalendarSyncQueue} were given up.
+ *
+ * <p>Every call reconciles the next window of {@link CalendarReconciliationProperties#getWindowDays()} days, so the
+ * configured period from the past to the future is walked through incrementally and the calendar is only asked for
+ * the events of one window at once. The differences are computed as {@link CalendarReconciliationPlan} and repaired
+ * with batch requests to the calendar.</p>
+ *
+ * <p>The differences are exported as {@code uv.calendar.reconciliation.drift} tagged with their type, the failed
+ * reconciliations and repairs as {@code uv.calendar.reconciliation.failures}.</p>
+ */
+@Service
+public class CalendarReconciliationService {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final OpenAbsenceService openAbsenceService;
+    private final AbsenceMappingService absenceMappingService;
+    private final CalendarSyncService calendarSyncService;
+    private final CalendarService calendarService;
+    private final CalendarSyncQueue calendarSyncQueue;
+    private final SettingsService settingsService;
+    private final CalendarReconciliationProperties calendarReconciliationProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final Counter missingCounter;
+    private final Counter changedCounter;
+    private final Counter lostCounter;
+    private final Counter orphanedCounter;
+    private final Counter unknownCounter;
+    private final Counter failureCounter;
+
+    private LocalDate nextWindowStart;
+
+    @Autowired
+    CalendarReconciliationService(OpenAbsenceService openAbsenceService, AbsenceMappingService absenceMappingService,
+                                  CalendarSyncService calendarSyncService, CalendarService calendarService,
+                                  CalendarSyncQueue calendarSyncQueue, SettingsService settingsService,
+                                  CalendarReconciliationProperties calendarReconciliationProperties,
+                                  PlatformTransactionManager transactionManager, Clock clock,
+                                  MeterRegistry meterRegistry) {
+
+        this.openAbsenceService = openAbsenceService;
+        this.absenceMappingService = absenceMappingService;
+        this.calendarSyncService = calendarSyncService;
+        this.calendarService = calendarService;
+        this.calendarSyncQueue = calendarSyncQueue;
+        this.settingsService = settingsService;
+        this.calendarReconciliationProperties = calendarReconciliationProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+
+        this.missingCounter = meterRegistry.counter("uv.calendar.reconciliation.drift", "type", "missing");
+        this.changedCounter = meterRegistry.counter("uv.calendar.reconciliation.drift", "type", "changed");
+        this.lostCounter = meterRegistry.counter("uv.calendar.reconciliation.drift", "type", "lost");
+        this.orphanedCounter = meterRegistry.counter("uv.calendar.reconciliation.drift", "type", "orphaned");
+        this.unknownCounter = meterRegistry.counter("uv.calendar.reconciliation.drift", "type", "unknown");
+        this.failureCounter = meterRegistry.counter("uv.calendar.reconciliation.failures");
+    }
+
+    /**
+     * Reconciles the next window of the configured period, nothing is done if no calendar is configured.
+     */
+    public synchronized void reconcile() {
+
+        if (calendarService.getCalendarProvider() instanceof NoopCalendarSyncProvider) {
+            LOG.debug("No calendar configured, nothing to reconcile");
+            return;
+        }
+
+        final LocalDate today = LocalDate.now(clock);
+        final LocalDate firstDay = today.minusDays(calendarReconciliationProperties.getDaysInPast());
+        final LocalDate lastDay = today.plusDays(calendarReconciliationProperties.getDaysInFuture());
+
+        final LocalDate from = nextWindowStart == null || nextWindowStart.isBefore(firstDay)
+            || nextWindowStart.isAfter(lastDay) ? firstDay : nextWindowStart;
+        final LocalDate windowEnd = from.plusDays(calendarReconciliationProperties.getWindowDays() - 1L);
+        final LocalDate to = windowEnd.isBefore(lastDay) ? windowEnd : lastDay;
+
+        nextWindowStart = to.isBefore(lastDay) ? to.plusDays(1) : firstDay;
+
+        reconcile(from, to);
+    }
+
+    /**
+     * Reconciles the events of the given days with the open absences.
+     *
+     * @param from first day
+     * @param to   last day
+     * @return the differences that have been found, {@code null} if the events could not be read
+     */
+    CalendarReconciliationPlan reconcile(LocalDate from, LocalDate to) {
+
+        final List<OpenAbsence> openAbsences = openAbsenceService.getOpenAbsences(from, to);
+
+        final List<CalendarEvent> events;
+        try {
+            events = calendarSyncService.getEvents(from, to);
+        } catch (CalendarSyncException ex) {
+            LOG.warn("Could not read the events from {} to {} for the calendar reconciliation: {}", from, to,
+                ex.getMessage());
+            failureCounter.increment();
+            return null;
+        }
+
+        // read before the mappings, so the mappings of jobs that are done in the meantime are already there
+        final Set<String> pendingAbsences = calendarSyncQueue.getAbsencesWithPendingJobs();
+
+        final List<AbsenceMapping> mappings = new ArrayList<>();
+        mappings.addAll(absenceMappingService.getAbsencesByIdsAndType(idsOf(openAbsences, VACATION), VACATION));
+        mappings.addAll(absenceMappingService.getAbsencesByIdsAndType(idsOf(openAbsences, SICKNOTE), SICKNOTE));
+
+        final List<AbsenceMapping> eventMappings =
+            absenceMappingService.getAbsencesByEventIds(events.stream().map(CalendarEvent::getId).collect(toList()));
+
+        final AbsenceTimeConfiguration absenceTimeConfiguration =
+            new AbsenceTimeConfiguration(settingsService.getSettings().getCalendarSettings());
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(openAbsences, mappings, events,
+            eventMappings,
+            mapping -> openAbsenceService.getOpenAbsence(mapping.getAbsenceId(), mapping.getAbsenceType()),
+            pendingAbsences, absenceTimeConfiguration);
+
+        missingCounter.increment(plan.getMissing().size());
+        changedCounter.increment(plan.getChanged().size());
+        lostCounter.increment(plan.getLost().size());
+        orphanedCounter.increment(plan.getOrphaned().size());
+        unknownCounter.increment(plan.getUnknown().size());
+
+        if (plan.isEmpty()) {
+            LOG.debug("Calendar is in sync from {} to {}, {} unknown events", from, to, plan.getUnknown().size());
+            return plan;
+        }
+
+        LOG.info("Calendar differs from {} to {}: {} missing, {} changed, {} lost, {} orphaned and {} unknown events",
+            from, to, plan.getMissing().size(), plan.getChanged().size(), plan.getLost().size(),
+            plan.getOrphaned().size(), plan.getUnknown().size());
+
+        if (calendarReconciliationProperties.isRepair()) {
+            deleteOrphanedEvents(plan.getOrphaned());
+            updateChangedEvents(plan.getChanged(), absenceTimeConfiguration);
+            restoreLostEvents(plan.getLost(), absenceTimeConfiguration);
+            addMissingEvents(plan.getMissing(), absenceTimeConfiguration);
+        }
+
+        return plan;
+    }
+
+    private void deleteOrphanedEvents(Map<String, List<AbsenceMapping>> orphaned) {
+
+        if (orphaned.isEmpty()) {
+            return;
+        }
+
+        final CalendarBatchResult<String> deleted = calendarSyncService.deleteAbsences(orphaned.keySet());
+
+        transactionTemplate.execute(status -> {
+            deleted.getSucceeded().keySet()
+                .forEach(eventId -> orphaned.get(eventId).forEach(absenceMappingService::delete));
+            return null;
+        });
+
+        failed(deleted, "Orphaned event could not be deleted");
+    }
+
+    private void updateChangedEvents(Map<String, OpenAbsence> changed,
+                                     AbsenceTimeConfiguration absenceTimeConfiguration) {
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        final CalendarBatchResult<String> updated =
+            calendarSyncService.updateAbsences(toAbsences(changed, absenceTimeConfiguration));
+
+        failed(updated, "Changed event could not be updated");
+    }
+
+    /**
+     * The events of the period are listed by day, so a lost event may just have been moved out of the period in the
+     * calendar: it is updated first and only added again with a new mapping if the update fails.
+     */
+    private void restoreLostEvents(Map<String, OpenAbsence> lost, AbsenceTimeConfiguration absenceTimeConfiguration) {
+
+        if (lost.isEmpty()) {
+            return;
+        }
+
+        final CalendarBatchResult<String> updated =
+            calendarSyncService.updateAbsences(toAbsences(lost, absenceTimeConfiguration));
+
+        final List<OpenAbsence> absencesToAdd = updated.getFailures().keySet().stream()
+            .map(lost::get)
+            .collect(toList());
+
+        if (absencesToAdd.isEmpty()) {
+            return;
+        }
+
+        final Map<Absence, OpenAbsence> absences = new LinkedHashMap<>();
+        absencesToAdd.forEach(openAbsence -> absences.put(openAbsence.toAbsence(absenceTimeConfiguration), openAbsence));
+
+        final CalendarBatchResult<Absence> added = calendarSyncService.addAbsences(new ArrayList<>(absences.keySet()));
+
+        transactionTemplate.execute(status -> {
+            added.getSucceeded().forEach((absence, eventId) -> {
+                final OpenAbsence openAbsence = absences.get(absence);
+                absenceMappingService.getAbsenceByIdAndType(openAbsence.getId(), openAbsence.getType())
+                    .ifPresent(absenceMappingService::delete);
+                if (eventId != null) {
+                    absenceMappingService.create(openAbsence.getId(), openAbsence.getType(), eventId);
+                }
+            });
+            return null;
+        });
+
+        failed(added, "Lost event could not be added again");
+    }
+
+    private void addMissingEvents(List<OpenAbsence> missing, AbsenceTimeConfiguration absenceTimeConfiguration) {
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        final Map<Absence, OpenAbsence> absences = new LinkedHashMap<>();
+        missing.forEach(openAbsence -> absences.put(openAbsence.toAbsence(absenceTimeConfiguration), openAbsence));
+
+        final CalendarBatchResult<Absence> added = calendarSyncService.addAbsences(new ArrayList<>(absences.keySet()));
+
+        transactionTemplate.execute(status -> {
+            added.getSucceeded().forEach((absence, eventId) -> {
+                if (eventId != null) {
+                    final OpenAbsence openAbsence = absences.get(absence);
+                    absenceMappingService.create(openAbsence.getId(), openAbsence.getType(), eventId);
+                }
+            });
+            return null;
+        });
+
+        failed(added, "Missing event could not be added");
+    }
+
+    private <K> void failed(CalendarBatchResult<K> batchResult, String message) {
+
+        batchResult.getFailures().forEach((item, exception) ->
+            LOG.warn("Calendar reconciliation: {}: {}", message, exception.getMessage()));
+        failureCounter.increment(batchResult.getFailures().size());
+    }
+
+    private static Map<String, Absence> toAbsences(Map<String, OpenAbsence> openAbsences,
+                                                   AbsenceTimeConfiguration absenceTimeConfiguration) {
+
+        final Map<String, Absence> absences = new LinkedHashMap<>();
+        openAbsences.forEach((eventId, openAbsence) ->
+            absences.put(eventId, openAbsence.toAbsence(absenceTimeConfiguration)));
+
+        return absences;
+    }
+
+    private static List<Integer> idsOf(List<OpenAbsence> openAbsences, AbsenceType absenceType) {
+        return openAbsences.stream()
+            .filter(openAbsence -> openAbsence.getType() == absenceType)
+            .map(OpenAbsence::getId)
+            .collect(toList());
+    }
+}
@@ -0,0 +1,28 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@ConditionalOnProperty(value = "uv.calendar.resync.enabled", havingValue = "true")
+public class CalendarResyncConfiguration implements SchedulingConfigurer {
+
+    private final CalendarResyncProperties calendarResyncProperties;
+    private final CalendarResyncService calendarResyncService;
+
+    @Autowired
+    CalendarResyncConfiguration(CalendarResyncProperties calendarResyncProperties,
+                                CalendarResyncService calendarResyncService) {
+
+        this.calendarResyncProperties = calendarResyncProperties;
+        this.calendarResyncService = calendarResyncService;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addCronTask(calendarResyncService::resync, calendarResyncProperties.getCron());
+    }
+}
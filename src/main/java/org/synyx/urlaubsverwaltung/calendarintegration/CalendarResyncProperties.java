@@ -0,0 +1,76 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import org.synyx.urlaubsverwaltung.validation.CronExpression;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.calendar.resync")
+@Validated
+public class CalendarResyncProperties {
+
+    /**
+     * Resyncs all open absences with the calendar, e.g. to repair the calendar after an outage. Absences without
+     * event are added, the events of the other absences are updated and the events of absences that are not open
+     * anymore are deleted.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Resync the absences by default every sunday at 02:00 am
+     */
+    @CronExpression
+    private String cron = "0 0 2 * * SUN";
+
+    /**
+     * Number of absences synced with one batch request to the calendar.
+     */
+    @NotNull
+    @Min(1)
+    @Max(1000)
+    private Integer batchSize = 50;
+
+    /**
+     * Pause between two batches, so the resync does not exceed the rate limits of the calendar.
+     */
+    @NotNull
+    private Duration pause = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPause() {
+        return pause;
+    }
+
+    public void setPause(Duration pause) {
+        this.pause = pause;
+    }
+}
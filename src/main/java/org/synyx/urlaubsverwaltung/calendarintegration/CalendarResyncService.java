@@ -0,0 +1,297 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.collections4.ListUtils;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.absence.AbsenceType;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarBatchResult;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.noop.NoopCalendarSyncProvider;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.SICKNOTE;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.VACATION;
+
+
+/**
+ * Resyncs all open absences with the calendar and repairs the {@link AbsenceMapping}s, e.g. after the calendar was not
+ * available for a longer time or jobs of the {@link CalendarSyncQueue} were given up.
+ *
+ * <p>The open applications for leave and sick notes are synced in batches of
+ * {@link CalendarResyncProperties#getBatchSize()} absences with a pause in between: absences without mapping are added
+ * to the calendar, the events of the mapped absences are updated. Afterwards the events of mappings whose absence is
+ * not open anymore are deleted. Absences with pending jobs in the queue are left to the {@link CalendarSyncWorker}.</p>
+ *
+ * <p>The progress is logged after every batch and exported as {@code uv.calendar.resync.total} and
+ * {@code uv.calendar.resync.processed}, the synced events as {@code uv.calendar.resync.events} and the failures as
+ * {@code uv.calendar.resync.failures}.</p>
+ */
+@Service
+public class CalendarResyncService {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final OpenAbsenceService openAbsenceService;
+    private final AbsenceMappingService absenceMappingService;
+    private final CalendarSyncService calendarSyncService;
+    private final CalendarService calendarService;
+    private final CalendarSyncQueue calendarSyncQueue;
+    private final SettingsService settingsService;
+    private final CalendarResyncProperties calendarResyncProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final Counter addedCounter;
+    private final Counter updatedCounter;
+    private final Counter deletedCounter;
+    private final Counter failureCounter;
+
+    @Autowired
+    CalendarResyncService(OpenAbsenceService openAbsenceService, AbsenceMappingService absenceMappingService,
+                          CalendarSyncService calendarSyncService, CalendarService calendarService,
+                          CalendarSyncQueue calendarSyncQueue, SettingsService settingsService,
+                          CalendarResyncProperties calendarResyncProperties,
+                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+
+        this.openAbsenceService = openAbsenceService;
+        this.absenceMappingService = absenceMappingService;
+        this.calendarSyncService = calendarSyncService;
+        this.calendarService = calendarService;
+        this.calendarSyncQueue = calendarSyncQueue;
+        this.settingsService = settingsService;
+        this.calendarResyncProperties = calendarResyncProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("uv.calendar.resync.total", total, AtomicInteger::get)
+            .description("Open absences of the running or last calendar resync")
+            .register(meterRegistry);
+        Gauge.builder("uv.calendar.resync.processed", processed, AtomicInteger::get)
+            .description("Open absences processed by the running or last calendar resync")
+            .register(meterRegistry);
+        this.addedCounter = meterRegistry.counter("uv.calendar.resync.events", "operation", "added");
+        this.updatedCounter = meterRegistry.counter("uv.calendar.resync.events", "operation", "updated");
+        this.deletedCounter = meterRegistry.counter("uv.calendar.resync.events", "operation", "deleted");
+        this.failureCounter = meterRegistry.counter("uv.calendar.resync.failures");
+    }
+
+    /**
+     * Resyncs all open absences with the calendar, nothing is done if a resync is already running or no calendar is
+     * configured.
+     */
+    public void resync() {
+
+        if (calendarService.getCalendarProvider() instanceof NoopCalendarSyncProvider) {
+            LOG.debug("No calendar configured, nothing to resync");
+            return;
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            LOG.info("Calendar resync is already running");
+            return;
+        }
+
+        try {
+            resyncOpenAbsences();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void resyncOpenAbsences() {
+
+        final List<OpenAbsence> vacations = openAbsenceService.getOpenApplications();
+        final List<OpenAbsence> sickNotes = openAbsenceService.getOpenSickNotes();
+
+        total.set(vacations.size() + sickNotes.size());
+        processed.set(0);
+
+        LOG.info("Resyncing {} open applications for leave and {} open sick notes with the calendar",
+            vacations.size(), sickNotes.size());
+
+        final Set<String> openAbsences = new HashSet<>();
+        vacations.forEach(absence -> openAbsences.add(absence.getKey()));
+        sickNotes.forEach(absence -> openAbsences.add(absence.getKey()));
+
+        final ResyncResult result = new ResyncResult();
+        resync(vacations, VACATION, result);
+        resync(sickNotes, SICKNOTE, result);
+        deleteOrphanedEvents(openAbsences, result);
+
+        LOG.info("Calendar resync finished: {} events added, {} updated, {} deleted, {} failures", result.added,
+            result.updated, result.deleted, result.failures);
+    }
+
+    private void resync(List<OpenAbsence> absences, AbsenceType absenceType, ResyncResult result) {
+
+        for (List<OpenAbsence> batch : ListUtils.partition(absences, calendarResyncProperties.getBatchSize())) {
+
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            resyncBatch(batch, absenceType, result);
+
+            LOG.info("Calendar resync: {} of {} absences processed", processed.addAndGet(batch.size()), total.get());
+
+            pause();
+        }
+    }
+
+    private void resyncBatch(List<OpenAbsence> batch, AbsenceType absenceType, ResyncResult result) {
+
+        final Set<String> pendingAbsences = calendarSyncQueue.getAbsencesWithPendingJobs();
+        final List<OpenAbsence> absences = batch.stream()
+            .filter(absence -> !pendingAbsences.contains(absence.getKey()))
+            .collect(toList());
+
+        final List<Integer> absenceIds = absences.stream().map(OpenAbsence::getId).collect(toList());
+        final Map<Integer, String> eventIds = absenceMappingService.getAbsencesByIdsAndType(absenceIds, absenceType)
+            .stream()
+            .collect(toMap(AbsenceMapping::getAbsenceId, AbsenceMapping::getEventId, (first, second) -> first));
+
+        final AbsenceTimeConfiguration absenceTimeConfiguration =
+            new AbsenceTimeConfiguration(settingsService.getSettings().getCalendarSettings());
+
+        final Map<Absence, Integer> absencesToAdd = new LinkedHashMap<>();
+        final Map<String, Absence> absencesToUpdate = new LinkedHashMap<>();
+        for (OpenAbsence openAbsence : absences) {
+            final Absence absence = openAbsence.toAbsence(absenceTimeConfiguration);
+            final String eventId = eventIds.get(openAbsence.getId());
+
+            if (eventId == null) {
+                absencesToAdd.put(absence, openAbsence.getId());
+            } else {
+                absencesToUpdate.put(eventId, absence);
+            }
+        }
+
+        if (!absencesToAdd.isEmpty()) {
+            final CalendarBatchResult<Absence> added =
+                calendarSyncService.addAbsences(new ArrayList<>(absencesToAdd.keySet()));
+
+            transactionTemplate.execute(status -> {
+                added.getSucceeded().forEach((absence, eventId) -> {
+                    if (eventId != null) {
+                        absenceMappingService.create(absencesToAdd.get(absence), absenceType, eventId);
+                    }
+                });
+                return null;
+            });
+
+            result.added += added.getSucceeded().size();
+            addedCounter.increment(added.getSucceeded().size());
+            failed(added, absenceType + " event could not be added");
+            result.failures += added.getFailures().size();
+        }
+
+        if (!absencesToUpdate.isEmpty()) {
+            final CalendarBatchResult<String> updated = calendarSyncService.updateAbsences(absencesToUpdate);
+
+            result.updated += updated.getSucceeded().size();
+            updatedCounter.increment(updated.getSucceeded().size());
+            failed(updated, absenceType + " event could not be updated");
+            result.failures += updated.getFailures().size();
+        }
+    }
+
+    /**
+     * Deletes the events and mappings of absences that are not open anymore, e.g. if the job deleting the event was
+     * given up.
+     */
+    private void deleteOrphanedEvents(Set<String> openAbsences, ResyncResult result) {
+
+        final int batchSize = calendarResyncProperties.getBatchSize();
+
+        Integer afterId = 0;
+        List<AbsenceMapping> mappings;
+
+        do {
+            mappings = absenceMappingService.getAbsenceMappings(afterId, batchSize);
+            if (mappings.isEmpty()) {
+                return;
+            }
+            afterId = mappings.get(mappings.size() - 1).getId();
+
+            final Set<String> pendingAbsences = calendarSyncQueue.getAbsencesWithPendingJobs();
+            final Map<String, List<AbsenceMapping>> orphanedMappings = mappings.stream()
+                .filter(mapping -> !openAbsences.contains(keyOf(mapping)))
+                .filter(mapping -> !pendingAbsences.contains(keyOf(mapping)))
+                // the absence may have been applied for since the resync has started
+                .filter(mapping -> openAbsenceService.getOpenAbsence(mapping.getAbsenceId(), mapping.getAbsenceType())
+                    .isEmpty())
+                .collect(groupingBy(AbsenceMapping::getEventId, LinkedHashMap::new, toList()));
+
+            if (!orphanedMappings.isEmpty()) {
+                final CalendarBatchResult<String> deleted =
+                    calendarSyncService.deleteAbsences(orphanedMappings.keySet());
+
+                transactionTemplate.execute(status -> {
+                    deleted.getSucceeded().keySet()
+                        .forEach(eventId -> orphanedMappings.get(eventId).forEach(absenceMappingService::delete));
+                    return null;
+                });
+
+                result.deleted += deleted.getSucceeded().size();
+                deletedCounter.increment(deleted.getSucceeded().size());
+                failed(deleted, "Orphaned event could not be deleted");
+                result.failures += deleted.getFailures().size();
+
+                pause();
+            }
+        } while (mappings.size() == batchSize && !Thread.currentThread().isInterrupted());
+    }
+
+    private <K> void failed(CalendarBatchResult<K> batchResult, String message) {
+
+        batchResult.getFailures().forEach((item, exception) ->
+            LOG.warn("Calendar resync: {}: {}", message, exception.getMessage()));
+        failureCounter.increment(batchResult.getFailures().size());
+    }
+
+    private void pause() {
+
+        try {
+            Thread.sleep(calendarResyncProperties.getPause().toMillis());
+        } catch (InterruptedException e) {
+            LOG.warn("Calendar resync has been interrupted");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String keyOf(AbsenceMapping mapping) {
+        return OpenAbsence.key(mapping.getAbsenceId(), mapping.getAbsenceType());
+    }
+
+    private static final class ResyncResult {
+
+        private int added;
+        private int updated;
+        private int deleted;
+        private int failures;
+    }
+}
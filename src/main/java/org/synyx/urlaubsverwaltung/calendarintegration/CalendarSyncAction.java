@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+/**
+ * Change of an absence that is synced with the calendar by a {@link CalendarSyncJob}.
+ */
+enum CalendarSyncAction {
+
+    ADD,
+    UPDATE,
+    DELETE
+}
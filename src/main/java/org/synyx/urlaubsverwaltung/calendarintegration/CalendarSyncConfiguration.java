@@ -0,0 +1,27 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@ConditionalOnProperty(value = "uv.calendar.sync.dispatch-enabled", havingValue = "true", matchIfMissing = true)
+public class CalendarSyncConfiguration implements SchedulingConfigurer {
+
+    private final CalendarSyncProperties calendarSyncProperties;
+    private final CalendarSyncWorker calendarSyncWorker;
+
+    @Autowired
+    CalendarSyncConfiguration(CalendarSyncProperties calendarSyncProperties, CalendarSyncWorker calendarSyncWorker) {
+
+        this.calendarSyncProperties = calendarSyncProperties;
+        this.calendarSyncWorker = calendarSyncWorker;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addFixedDelayTask(calendarSyncWorker::dispatch, calendarSyncProperties.getDispatchInterval().toMillis());
+    }
+}
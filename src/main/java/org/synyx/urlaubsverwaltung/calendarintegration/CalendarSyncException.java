@@ -0,0 +1,32 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+/**
+ * Exception thrown by a calendar provider if an absence could not be synced with the calendar. The sync is retried by
+ * the {@link CalendarSyncWorker}.
+ */
+public class CalendarSyncException extends RuntimeException {
+
+    private final String calendarName;
+
+    public CalendarSyncException(String calendarName, String message, Throwable cause) {
+
+        super(message, cause);
+
+        this.calendarName = calendarName;
+    }
+
+    public CalendarSyncException(String calendarName, String message) {
+
+        super(message);
+
+        this.calendarName = calendarName;
+    }
+
+    /**
+     * @return name or id of the calendar that could not be synced
+     */
+    public String getCalendarName() {
+
+        return calendarName;
+    }
+}
@@ -0,0 +1,153 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.data.jpa.domain.AbstractPersistable;
+import org.synyx.urlaubsverwaltung.absence.AbsenceType;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.ManyToOne;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncJobStatus.PENDING;
+
+
+/**
+ * Change of an absence that waits in the queue to be synced with the calendar by the {@link CalendarSyncWorker}.
+ *
+ * <p>The absence is identified by its id and type like in the {@link org.synyx.urlaubsverwaltung.absence.AbsenceMapping},
+ * the event of the calendar is looked up when the job is executed. The target absence is only set if the event is
+ * moved to another absence, e.g. if a sick note is converted to vacation.</p>
+ */
+@Entity
+class CalendarSyncJob extends AbstractPersistable<Integer> {
+
+    private Integer absenceId;
+
+    @Enumerated(EnumType.STRING)
+    private AbsenceType absenceType;
+
+    private Integer targetAbsenceId;
+
+    @Enumerated(EnumType.STRING)
+    private AbsenceType targetAbsenceType;
+
+    @Enumerated(EnumType.STRING)
+    private CalendarSyncAction action;
+
+    @ManyToOne
+    private Person person;
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    private DayLength dayLength;
+
+    @Enumerated(EnumType.STRING)
+    private CalendarSyncJobStatus status;
+
+    private int attempts;
+    private String lastError;
+    private Instant createdAt;
+    private Instant nextAttemptAt;
+
+    CalendarSyncJob() {
+        /* OK */
+    }
+
+    CalendarSyncJob(Integer absenceId, AbsenceType absenceType, CalendarSyncAction action, Instant createdAt) {
+        this.absenceId = absenceId;
+        this.absenceType = absenceType;
+        this.action = action;
+        this.status = PENDING;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    CalendarSyncJob(Integer absenceId, AbsenceType absenceType, CalendarSyncAction action, Person person,
+                    Period period, Instant createdAt) {
+        this(absenceId, absenceType, action, createdAt);
+        this.person = person;
+        this.startDate = period.getStartDate();
+        this.endDate = period.getEndDate();
+        this.dayLength = period.getDayLength();
+    }
+
+    Integer getAbsenceId() {
+        return absenceId;
+    }
+
+    AbsenceType getAbsenceType() {
+        return absenceType;
+    }
+
+    Integer getTargetAbsenceId() {
+        return targetAbsenceId;
+    }
+
+    AbsenceType getTargetAbsenceType() {
+        return targetAbsenceType;
+    }
+
+    void setTarget(Integer targetAbsenceId, AbsenceType targetAbsenceType) {
+        this.targetAbsenceId = targetAbsenceId;
+        this.targetAbsenceType = targetAbsenceType;
+    }
+
+    boolean hasTarget() {
+        return targetAbsenceId != null;
+    }
+
+    CalendarSyncAction getAction() {
+        return action;
+    }
+
+    Person getPerson() {
+        return person;
+    }
+
+    Period getPeriod() {
+        return new Period(startDate, endDate, dayLength);
+    }
+
+    CalendarSyncJobStatus getStatus() {
+        return status;
+    }
+
+    void setStatus(CalendarSyncJobStatus status) {
+        this.status = status;
+    }
+
+    int getAttempts() {
+        return attempts;
+    }
+
+    void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    String getLastError() {
+        return lastError;
+    }
+
+    void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,39 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.synyx.urlaubsverwaltung.absence.AbsenceType;
+
+import javax.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+
+interface CalendarSyncJobDAO extends JpaRepository<CalendarSyncJob, Integer> {
+
+    /**
+     * Returns the jobs to be executed now, oldest first. The jobs are not locked, every job is locked separately with
+     * {@link #findByIdAndStatus(Integer, CalendarSyncJobStatus)} before it is executed.
+     */
+    List<CalendarSyncJob> findByStatusAndNextAttemptAtLessThanEqualOrderById(CalendarSyncJobStatus status, Instant now,
+                                                                              Pageable pageable);
+
+    /**
+     * Returns the job if it still has the given status. The job is locked until the end of the transaction, so several
+     * workers or instances of the application do not execute the same job twice.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CalendarSyncJob> findByIdAndStatus(Integer id, CalendarSyncJobStatus status);
+
+    /**
+     * Tells if an older job of the same absence has to be executed first.
+     */
+    boolean existsByAbsenceIdAndAbsenceTypeAndStatusAndIdLessThan(Integer absenceId, AbsenceType absenceType,
+                                                                   CalendarSyncJobStatus status, Integer id);
+
+    long countByStatus(CalendarSyncJobStatus status);
+
+    List<CalendarSyncJob> findByStatus(CalendarSyncJobStatus status);
+}
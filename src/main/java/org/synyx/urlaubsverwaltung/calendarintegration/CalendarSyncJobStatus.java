@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+/**
+ * State of a job in the calendar sync queue. Finished jobs are removed from the queue.
+ */
+enum CalendarSyncJobStatus {
+
+    /**
+     * The job waits to be executed or to be retried.
+     */
+    PENDING,
+
+    /**
+     * The job failed too often, it is kept for the administrator but not retried anymore.
+     */
+    FAILED
+}
@@ -0,0 +1,121 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.calendar.sync")
+@Validated
+public class CalendarSyncProperties {
+
+    /**
+     * Executes the jobs of the calendar sync queue in the background. Without the worker the jobs stay in the queue.
+     */
+    private boolean dispatchEnabled = true;
+
+    /**
+     * Delay between two runs of the worker that executes the jobs of the calendar sync queue.
+     */
+    @NotNull
+    private Duration dispatchInterval = Duration.ofSeconds(5);
+
+    /**
+     * Number of threads syncing with the calendar concurrently, the jobs of one absence are always executed in order.
+     * 1 executes all jobs sequentially.
+     */
+    @NotNull
+    @Min(1)
+    @Max(32)
+    private Integer workers = 4;
+
+    /**
+     * Number of jobs read from the queue per run of the worker.
+     */
+    @NotNull
+    @Min(1)
+    @Max(1000)
+    private Integer batchSize = 50;
+
+    /**
+     * Number of attempts to execute a job, afterwards the job is marked as failed, kept in the queue and the
+     * administrator is informed by mail.
+     */
+    @NotNull
+    @Min(1)
+    @Max(100)
+    private Integer maxAttempts = 8;
+
+    /**
+     * Delay before the first retry of a job that failed, the delay is doubled with every further attempt.
+     */
+    @NotNull
+    private Duration retryDelay = Duration.ofMinutes(1);
+
+    /**
+     * Maximum delay between two attempts to execute a job.
+     */
+    @NotNull
+    private Duration maxRetryDelay = Duration.ofHours(6);
+
+    public boolean isDispatchEnabled() {
+        return dispatchEnabled;
+    }
+
+    public void setDispatchEnabled(boolean dispatchEnabled) {
+        this.dispatchEnabled = dispatchEnabled;
+    }
+
+    public Duration getDispatchInterval() {
+        return dispatchInterval;
+    }
+
+    public void setDispatchInterval(Duration dispatchInterval) {
+        this.dispatchInterval = dispatchInterval;
+    }
+
+    public Integer getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(Integer workers) {
+        this.workers = workers;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public void setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public Duration getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    public void setMaxRetryDelay(Duration maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+    }
+}
@@ -0,0 +1,122 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.absence.AbsenceType;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.DELETE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.UPDATE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncJobStatus.PENDING;
+
+
+/**
+ * Queues the changes of absences that are synced with the calendar by the {@link CalendarSyncWorker}, so the request
+ * that changes the absence does not wait for the calendar. The jobs are saved within the transaction of the caller,
+ * i.e. they are only executed if the change of the absence is committed.
+ *
+ * <p>The jobs of the same absence are executed in the order they were queued.</p>
+ */
+@Service
+@Transactional
+public class CalendarSyncQueue {
+
+    private final CalendarSyncJobDAO calendarSyncJobDAO;
+    private final Clock clock;
+
+    @Autowired
+    CalendarSyncQueue(CalendarSyncJobDAO calendarSyncJobDAO, Clock clock) {
+
+        this.calendarSyncJobDAO = calendarSyncJobDAO;
+        this.clock = clock;
+    }
+
+    /**
+     * Adds the absence to the calendar and maps it to the created event.
+     *
+     * @param absenceId   id of the application for leave or sick note
+     * @param absenceType type of the absence
+     * @param person      the absent person
+     * @param period      the period of the absence
+     */
+    public void addAbsence(Integer absenceId, AbsenceType absenceType, Person person, Period period) {
+
+        calendarSyncJobDAO.save(new CalendarSyncJob(absenceId, absenceType, ADD, person, period, now()));
+    }
+
+    /**
+     * Updates the event of the absence, nothing is done if the absence has no event.
+     *
+     * @param absenceId   id of the application for leave or sick note
+     * @param absenceType type of the absence
+     * @param person      the absent person
+     * @param period      the changed period of the absence
+     */
+    public void updateAbsence(Integer absenceId, AbsenceType absenceType, Person person, Period period) {
+
+        calendarSyncJobDAO.save(new CalendarSyncJob(absenceId, absenceType, UPDATE, person, period, now()));
+    }
+
+    /**
+     * Moves the event of the absence to the target absence and updates it with the target's period, e.g. if a sick
+     * note is converted to vacation. Nothing is done if the absence has no event.
+     *
+     * @param absenceId         id of the absence the event belongs to
+     * @param absenceType       type of the absence the event belongs to
+     * @param targetAbsenceId   id of the absence the event is moved to
+     * @param targetAbsenceType type of the absence the event is moved to
+     * @param person            the absent person
+     * @param period            the period of the target absence
+     */
+    public void moveAbsence(Integer absenceId, AbsenceType absenceType, Integer targetAbsenceId,
+                            AbsenceType targetAbsenceType, Person person, Period period) {
+
+        final CalendarSyncJob job = new CalendarSyncJob(absenceId, absenceType, UPDATE, person, period, now());
+        job.setTarget(targetAbsenceId, targetAbsenceType);
+
+        calendarSyncJobDAO.save(job);
+    }
+
+    /**
+     * Deletes the event of the absence and its mapping, nothing is done if the absence has no event.
+     *
+     * @param absenceId   id of the application for leave or sick note
+     * @param absenceType type of the absence
+     */
+    public void deleteAbsence(Integer absenceId, AbsenceType absenceType) {
+
+        calendarSyncJobDAO.save(new CalendarSyncJob(absenceId, absenceType, DELETE, now()));
+    }
+
+    /**
+     * Returns the keys of the absences with pending jobs, including the targets of moved events, see
+     * {@link OpenAbsence#key(Integer, AbsenceType)}. These absences are left to the {@link CalendarSyncWorker} by the
+     * services that sync absences themselves.
+     */
+    Set<String> getAbsencesWithPendingJobs() {
+
+        final Set<String> pendingAbsences = new HashSet<>();
+
+        for (CalendarSyncJob job : calendarSyncJobDAO.findByStatus(PENDING)) {
+            pendingAbsences.add(OpenAbsence.key(job.getAbsenceId(), job.getAbsenceType()));
+            if (job.hasTarget()) {
+                pendingAbsences.add(OpenAbsence.key(job.getTargetAbsenceId(), job.getTargetAbsenceType()));
+            }
+        }
+
+        return pendingAbsences;
+    }
+
+    private Instant now() {
+
+        return Instant.now(clock);
+    }
+}
@@ -1,12 +1,19 @@
 package org.synyx.urlaubsverwaltung.calendarintegration;
 
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarBatchResult;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
 /**
- * Sync absences with all activated and configured calendar providers.
+ * Sync absences with all activated and configured calendar providers. The absences are synced immediately, changes of
+ * absences are queued with the {@link CalendarSyncQueue} instead.
  */
 public interface CalendarSyncService {
 
@@ -14,7 +21,8 @@ public interface CalendarSyncService {
      * Add a person's absence to calendar.
      *
      * @param absence represents the absence of a person
-     * @return id of added absence event, may be empty if an error occurred during the calendar sync
+     * @return id of added absence event, may be empty if no calendar is synced
+     * @throws CalendarSyncException if the absence could not be added
      */
     Optional<String> addAbsence(Absence absence);
 
@@ -24,6 +32,7 @@ public interface CalendarSyncService {
      *
      * @param absence represents the updated absence
      * @param eventId id of event to be updated
+     * @throws CalendarSyncException if the event could not be updated
      */
     void update(Absence absence, String eventId);
 
@@ -32,10 +41,50 @@ public interface CalendarSyncService {
      * Deletes a person's absence in calendar.
      *
      * @param eventId id of absence event, which should be deleted.
+     * @throws CalendarSyncException if the event could not be deleted
      */
     void deleteAbsence(String eventId);
 
 
+    /**
+     * Adds the absences to calendar, with batch requests if the calendar provider supports them.
+     *
+     * @param absences to be added
+     * @return the ids of the added events or the failures, by absence
+     */
+    CalendarBatchResult<Absence> addAbsences(List<Absence> absences);
+
+
+    /**
+     * Updates the events with the content of their absences, with batch requests if the calendar provider supports
+     * them.
+     *
+     * @param absencesByEventId the updated absences by the id of their event
+     * @return the updated events or the failures, by event id
+     */
+    CalendarBatchResult<String> updateAbsences(Map<String, Absence> absencesByEventId);
+
+
+    /**
+     * Deletes the events, with batch requests if the calendar provider supports them.
+     *
+     * @param eventIds ids of the events to be deleted
+     * @return the deleted events or the failures, by event id
+     */
+    CalendarBatchResult<String> deleteAbsences(Collection<String> eventIds);
+
+
+    /**
+     * Returns the events of the calendar overlapping the given days.
+     *
+     * @param from first day
+     * @param to   last day
+     * @return the events of the calendar
+     * @throws CalendarSyncException if the events could not be read
+     */
+    List<CalendarEvent> getEvents(LocalDate from, LocalDate to);
+
+
     /**
      * Check the settings for calendar sync. (only if sync is active)
      */
@@ -4,9 +4,15 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarBatchResult;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
 import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -55,6 +61,37 @@ public class CalendarSyncServiceImpl implements CalendarSyncService {
         calendarService.getCalendarProvider().delete(eventId, calendarSettings);
     }
 
+
+    @Override
+    public CalendarBatchResult<Absence> addAbsences(List<Absence> absences) {
+        CalendarSettings calendarSettings = this.settingsService.getSettings().getCalendarSettings();
+
+        return calendarService.getCalendarProvider().addAll(absences, calendarSettings);
+    }
+
+
+    @Override
+    public CalendarBatchResult<String> updateAbsences(Map<String, Absence> absencesByEventId) {
+        CalendarSettings calendarSettings = this.settingsService.getSettings().getCalendarSettings();
+
+        return calendarService.getCalendarProvider().updateAll(absencesByEventId, calendarSettings);
+    }
+
+
+    @Override
+    public CalendarBatchResult<String> deleteAbsences(Collection<String> eventIds) {
+        CalendarSettings calendarSettings = this.settingsService.getSettings().getCalendarSettings();
+
+        return calendarService.getCalendarProvider().deleteAll(eventIds, calendarSettings);
+    }
+
+    @Override
+    public List<CalendarEvent> getEvents(LocalDate from, LocalDate to) {
+        CalendarSettings calendarSettings = this.settingsService.getSettings().getCalendarSettings();
+
+        return calendarService.getCalendarProvider().getEvents(from, to, calendarSettings);
+    }
+
     @Override
     public void checkCalendarSyncSettings() {
         CalendarSettings calendarSettings = this.settingsService.getSettings().getCalendarSettings();
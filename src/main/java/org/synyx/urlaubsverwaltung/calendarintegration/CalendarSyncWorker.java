@@ -0,0 +1,325 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.lang.Boolean.TRUE;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncJobStatus.FAILED;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncJobStatus.PENDING;
+
+
+/**
+ * Executes the jobs queued in the {@link CalendarSyncQueue} and keeps the
+ * {@link org.synyx.urlaubsverwaltung.absence.AbsenceMapping} of the synced absences up to date.
+ *
+ * <p>The jobs are grouped by absence, the groups are executed concurrently by {@link CalendarSyncProperties#getWorkers()}
+ * threads and the jobs of a group in the order they were queued. Every job is executed within its own transaction. A
+ * job that failed is retried with an exponential backoff and blocks the later jobs of its absence, after
+ * {@link CalendarSyncProperties#getMaxAttempts()} it is marked as failed and the administrator is informed.</p>
+ *
+ * <p>The size of the queue and the time between queueing and executing a job are exported as
+ * {@code uv.calendar.sync.pending}, {@code uv.calendar.sync.failed} and {@code uv.calendar.sync.latency}.</p>
+ */
+@Service
+public class CalendarSyncWorker implements DisposableBean {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final CalendarSyncJobDAO calendarSyncJobDAO;
+    private final CalendarSyncService calendarSyncService;
+    private final AbsenceMappingService absenceMappingService;
+    private final SettingsService settingsService;
+    private final CalendarMailService calendarMailService;
+    private final CalendarSyncProperties calendarSyncProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final ExecutorService executorService;
+
+    private final Map<CalendarSyncAction, Timer> latencyTimers = new EnumMap<>(CalendarSyncAction.class);
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+
+    @Autowired
+    CalendarSyncWorker(CalendarSyncJobDAO calendarSyncJobDAO, CalendarSyncService calendarSyncService,
+                       AbsenceMappingService absenceMappingService, SettingsService settingsService,
+                       CalendarMailService calendarMailService, CalendarSyncProperties calendarSyncProperties,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Clock clock) {
+
+        this.calendarSyncJobDAO = calendarSyncJobDAO;
+        this.calendarSyncService = calendarSyncService;
+        this.absenceMappingService = absenceMappingService;
+        this.settingsService = settingsService;
+        this.calendarMailService = calendarMailService;
+        this.calendarSyncProperties = calendarSyncProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+
+        final int workers = calendarSyncProperties.getWorkers();
+        this.executorService = workers > 1
+            ? newFixedThreadPool(workers, new CustomizableThreadFactory("uv-calendar-sync-"))
+            : null;
+
+        for (CalendarSyncAction action : CalendarSyncAction.values()) {
+            latencyTimers.put(action, Timer.builder("uv.calendar.sync.latency")
+                .description("Time between queueing and executing a calendar sync job")
+                .tag("action", action.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        this.retryCounter = meterRegistry.counter("uv.calendar.sync.retries");
+        this.failureCounter = meterRegistry.counter("uv.calendar.sync.failures");
+
+        Gauge.builder("uv.calendar.sync.pending", calendarSyncJobDAO, dao -> dao.countByStatus(PENDING))
+            .description("Calendar sync jobs waiting to be executed")
+            .register(meterRegistry);
+        Gauge.builder("uv.calendar.sync.failed", calendarSyncJobDAO, dao -> dao.countByStatus(FAILED))
+            .description("Calendar sync jobs that failed and are not retried anymore")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Executes all jobs that are due, batch by batch.
+     */
+    public void dispatch() {
+
+        List<CalendarSyncJob> jobs;
+        int executed;
+
+        do {
+            jobs = transactionTemplate.execute(status ->
+                calendarSyncJobDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING, Instant.now(clock),
+                    PageRequest.of(0, calendarSyncProperties.getBatchSize())));
+
+            executed = jobs == null || jobs.isEmpty() ? 0 : executeAll(jobs);
+        } while (executed > 0 && jobs.size() == calendarSyncProperties.getBatchSize()
+            && !Thread.currentThread().isInterrupted());
+    }
+
+    @Override
+    public void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Groups the jobs by absence and executes the groups concurrently, returns the number of executed jobs.
+     */
+    private int executeAll(List<CalendarSyncJob> jobs) {
+
+        final Map<String, List<Integer>> jobIdsByAbsence = new LinkedHashMap<>();
+        for (CalendarSyncJob job : jobs) {
+            jobIdsByAbsence.computeIfAbsent(job.getAbsenceType() + "#" + job.getAbsenceId(), key -> new ArrayList<>())
+                .add(job.getId());
+        }
+
+        if (executorService == null || jobIdsByAbsence.size() == 1) {
+            return jobIdsByAbsence.values().stream().mapToInt(this::executeInOrder).sum();
+        }
+
+        final List<Callable<Integer>> tasks = new ArrayList<>();
+        jobIdsByAbsence.values().forEach(jobIds -> tasks.add(() -> executeInOrder(jobIds)));
+
+        int executed = 0;
+        try {
+            for (Future<Integer> result : executorService.invokeAll(tasks)) {
+                executed += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.error("Could not execute calendar sync jobs", e.getCause());
+        }
+
+        return executed;
+    }
+
+    /**
+     * Executes the jobs of one absence in order, stops at the first job that could not be executed.
+     */
+    private int executeInOrder(List<Integer> jobIds) {
+
+        int executed = 0;
+
+        for (Integer jobId : jobIds) {
+            if (!TRUE.equals(transactionTemplate.execute(status -> execute(jobId)))) {
+                break;
+            }
+            executed++;
+        }
+
+        return executed;
+    }
+
+    private boolean execute(Integer jobId) {
+
+        final Optional<CalendarSyncJob> lockedJob = calendarSyncJobDAO.findByIdAndStatus(jobId, PENDING);
+        if (lockedJob.isEmpty()) {
+            // executed by another instance in the meantime
+            return false;
+        }
+
+        final CalendarSyncJob job = lockedJob.get();
+        final Instant now = Instant.now(clock);
+        if (job.getNextAttemptAt().isAfter(now) || calendarSyncJobDAO.existsByAbsenceIdAndAbsenceTypeAndStatusAndIdLessThan(
+            job.getAbsenceId(), job.getAbsenceType(), PENDING, job.getId())) {
+            return false;
+        }
+
+        try {
+            sync(job);
+        } catch (RuntimeException exception) {
+            failed(job, exception);
+            return false;
+        }
+
+        calendarSyncJobDAO.delete(job);
+        latencyTimers.get(job.getAction()).record(Duration.between(job.getCreatedAt(), now));
+
+        return true;
+    }
+
+    private void sync(CalendarSyncJob job) {
+
+        switch (job.getAction()) {
+            case ADD:
+                calendarSyncService.addAbsence(toAbsence(job))
+                    .ifPresent(eventId -> absenceMappingService.create(job.getAbsenceId(), job.getAbsenceType(), eventId));
+                break;
+
+            case UPDATE:
+                getAbsenceMapping(job).ifPresent(absenceMapping -> {
+                    calendarSyncService.update(toAbsence(job), absenceMapping.getEventId());
+
+                    if (job.hasTarget()) {
+                        absenceMappingService.delete(absenceMapping);
+                        absenceMappingService.create(job.getTargetAbsenceId(), job.getTargetAbsenceType(),
+                            absenceMapping.getEventId());
+                    }
+                });
+                break;
+
+            case DELETE:
+                getAbsenceMapping(job).ifPresent(absenceMapping -> {
+                    calendarSyncService.deleteAbsence(absenceMapping.getEventId());
+                    absenceMappingService.delete(absenceMapping);
+                });
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unknown calendar sync action " + job.getAction());
+        }
+    }
+
+    private void failed(CalendarSyncJob job, RuntimeException exception) {
+
+        final int attempts = job.getAttempts() + 1;
+        job.setAttempts(attempts);
+        job.setLastError(abbreviate(exception.getMessage(), MAX_ERROR_LENGTH));
+
+        if (attempts >= calendarSyncProperties.getMaxAttempts()) {
+            job.setStatus(FAILED);
+            failureCounter.increment();
+            LOG.error("Calendar sync of {} {} ({}) failed {} times, giving up", job.getAbsenceType(),
+                job.getAbsenceId(), job.getAction(), attempts, exception);
+            sendErrorNotification(job, exception);
+        } else {
+            job.setNextAttemptAt(Instant.now(clock).plus(getRetryDelay(attempts)));
+            retryCounter.increment();
+            LOG.warn("Calendar sync of {} {} ({}) failed, retrying at {}", job.getAbsenceType(), job.getAbsenceId(),
+                job.getAction(), job.getNextAttemptAt(), exception);
+        }
+    }
+
+    private void sendErrorNotification(CalendarSyncJob job, RuntimeException exception) {
+
+        final String calendarName = exception instanceof CalendarSyncException
+            ? ((CalendarSyncException) exception).getCalendarName()
+            : "";
+        final String stackTrace = getStackTrace(exception);
+        final String eventId = getAbsenceMapping(job).map(AbsenceMapping::getEventId).orElse("");
+
+        switch (job.getAction()) {
+            case ADD:
+                calendarMailService.sendCalendarSyncErrorNotification(calendarName, toAbsence(job), stackTrace);
+                break;
+            case UPDATE:
+                calendarMailService.sendCalendarUpdateErrorNotification(calendarName, toAbsence(job), eventId,
+                    stackTrace);
+                break;
+            case DELETE:
+                calendarMailService.sendCalendarDeleteErrorNotification(calendarName, eventId, stackTrace);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private Optional<AbsenceMapping> getAbsenceMapping(CalendarSyncJob job) {
+
+        return absenceMappingService.getAbsenceByIdAndType(job.getAbsenceId(), job.getAbsenceType());
+    }
+
+    private Absence toAbsence(CalendarSyncJob job) {
+
+        return new Absence(job.getPerson(), job.getPeriod(),
+            new AbsenceTimeConfiguration(settingsService.getSettings().getCalendarSettings()));
+    }
+
+    /**
+     * Returns the delay after the given number of failed attempts, it doubles with every attempt up to the maximum.
+     */
+    Duration getRetryDelay(int attempts) {
+
+        final Duration maxRetryDelay = calendarSyncProperties.getMaxRetryDelay();
+        Duration retryDelay = calendarSyncProperties.getRetryDelay();
+
+        for (int attempt = 1; attempt < attempts && retryDelay.compareTo(maxRetryDelay) < 0; attempt++) {
+            retryDelay = retryDelay.multipliedBy(2);
+        }
+
+        return retryDelay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : retryDelay;
+    }
+
+    private static String getStackTrace(Throwable throwable) {
+        final StringWriter stringWriter = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(stringWriter, true));
+        return stringWriter.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.absence.AbsenceType;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+
+/**
+ * Application for leave or sick note whose absence is shown in the calendar, i.e. that is waiting, allowed or active.
+ */
+final class OpenAbsence {
+
+    private final Integer id;
+    private final AbsenceType type;
+    private final Person person;
+    private final Period period;
+
+    OpenAbsence(Integer id, AbsenceType type, Person person, Period period) {
+        this.id = id;
+        this.type = type;
+        this.person = person;
+        this.period = period;
+    }
+
+    Integer getId() {
+        return id;
+    }
+
+    AbsenceType getType() {
+        return type;
+    }
+
+    Person getPerson() {
+        return person;
+    }
+
+    Period getPeriod() {
+        return period;
+    }
+
+    String getKey() {
+        return key(id, type);
+    }
+
+    Absence toAbsence(AbsenceTimeConfiguration absenceTimeConfiguration) {
+        return new Absence(person, period, absenceTimeConfiguration);
+    }
+
+    /**
+     * Returns a key identifying the application for leave or sick note, as their ids may overlap.
+     */
+    static String key(Integer absenceId, AbsenceType absenceType) {
+        return absenceType + "#" + absenceId;
+    }
+}
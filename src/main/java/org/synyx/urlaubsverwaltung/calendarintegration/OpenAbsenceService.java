@@ -0,0 +1,105 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.absence.AbsenceType;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.SICKNOTE;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.VACATION;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
+import static org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus.ACTIVE;
+
+
+/**
+ * Reads the applications for leave and sick notes that are shown in the calendar, i.e. whose events are added when
+ * they are applied for and deleted when they are rejected, cancelled or converted.
+ */
+@Service
+class OpenAbsenceService {
+
+    private static final List<ApplicationStatus> APPLICATION_STATUSES = List.of(ALLOWED, WAITING, TEMPORARY_ALLOWED);
+    private static final List<SickNoteStatus> SICK_NOTE_STATUSES = List.of(ACTIVE);
+
+    private final ApplicationService applicationService;
+    private final SickNoteService sickNoteService;
+
+    @Autowired
+    OpenAbsenceService(ApplicationService applicationService, SickNoteService sickNoteService) {
+
+        this.applicationService = applicationService;
+        this.sickNoteService = sickNoteService;
+    }
+
+    List<OpenAbsence> getOpenApplications() {
+
+        return applicationService.getForStates(APPLICATION_STATUSES).stream()
+            .map(OpenAbsenceService::toOpenAbsence)
+            .collect(toList());
+    }
+
+    List<OpenAbsence> getOpenSickNotes() {
+
+        return sickNoteService.getForStates(SICK_NOTE_STATUSES).stream()
+            .map(OpenAbsenceService::toOpenAbsence)
+            .collect(toList());
+    }
+
+    /**
+     * Returns the open applications for leave and sick notes overlapping the given period.
+     */
+    List<OpenAbsence> getOpenAbsences(LocalDate from, LocalDate to) {
+
+        final List<OpenAbsence> openAbsences = new ArrayList<>();
+
+        for (ApplicationStatus status : APPLICATION_STATUSES) {
+            applicationService.getApplicationsForACertainPeriodAndState(from, to, status).stream()
+                .map(OpenAbsenceService::toOpenAbsence)
+                .forEach(openAbsences::add);
+        }
+
+        sickNoteService.getByPeriod(from, to).stream()
+            .filter(sickNote -> SICK_NOTE_STATUSES.contains(sickNote.getStatus()))
+            .map(OpenAbsenceService::toOpenAbsence)
+            .forEach(openAbsences::add);
+
+        return openAbsences;
+    }
+
+    /**
+     * Returns the current state of the application for leave or sick note, empty if it is not open (anymore).
+     */
+    Optional<OpenAbsence> getOpenAbsence(Integer absenceId, AbsenceType absenceType) {
+
+        if (absenceType == VACATION) {
+            return applicationService.getApplicationById(absenceId)
+                .filter(application -> APPLICATION_STATUSES.contains(application.getStatus()))
+                .map(OpenAbsenceService::toOpenAbsence);
+        }
+
+        return sickNoteService.getById(absenceId)
+            .filter(sickNote -> SICK_NOTE_STATUSES.contains(sickNote.getStatus()))
+            .map(OpenAbsenceService::toOpenAbsence);
+    }
+
+    private static OpenAbsence toOpenAbsence(Application application) {
+        return new OpenAbsence(application.getId(), VACATION, application.getPerson(), application.getPeriod());
+    }
+
+    private static OpenAbsence toOpenAbsence(SickNote sickNote) {
+        return new OpenAbsence(sickNote.getId(), SICKNOTE, sickNote.getPerson(), sickNote.getPeriod());
+    }
+}
@@ -0,0 +1,73 @@
+package org.synyx.urlaubsverwaltung.calendarintegration.providers;
+
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * Result of a batch operation of a {@link CalendarProvider}, tells for every item of the batch if it has been synced
+ * and the id of its event or why it failed. The items are the given absences or event ids, i.e. a batch may partially
+ * succeed.
+ *
+ * @param <K> type of the items of the batch
+ */
+public class CalendarBatchResult<K> {
+
+    private final Map<K, String> eventIds = new LinkedHashMap<>();
+    private final Map<K, CalendarSyncException> failures = new LinkedHashMap<>();
+
+    /**
+     * @param item    item of the batch that has been synced
+     * @param eventId id of the event of the item, may be {@code null} if no calendar is synced
+     */
+    public void succeeded(K item, String eventId) {
+        failures.remove(item);
+        eventIds.put(item, eventId);
+    }
+
+    public void failed(K item, CalendarSyncException exception) {
+        eventIds.remove(item);
+        failures.put(item, exception);
+    }
+
+    /**
+     * Tells if the item has already been synced or failed.
+     */
+    public boolean contains(K item) {
+        return eventIds.containsKey(item) || failures.containsKey(item);
+    }
+
+    public boolean isSucceeded(K item) {
+        return eventIds.containsKey(item);
+    }
+
+    /**
+     * @return the id of the event of the synced item, empty if the item failed or no calendar is synced
+     */
+    public Optional<String> getEventId(K item) {
+        return Optional.ofNullable(eventIds.get(item));
+    }
+
+    public Optional<CalendarSyncException> getFailure(K item) {
+        return Optional.ofNullable(failures.get(item));
+    }
+
+    /**
+     * @return the synced items with the ids of their events, in the order they were synced
+     */
+    public Map<K, String> getSucceeded() {
+        return Collections.unmodifiableMap(eventIds);
+    }
+
+    public Map<K, CalendarSyncException> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
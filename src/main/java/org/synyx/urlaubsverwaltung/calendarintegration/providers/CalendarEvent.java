@@ -0,0 +1,83 @@
+package org.synyx.urlaubsverwaltung.calendarintegration.providers;
+
+import org.synyx.urlaubsverwaltung.absence.Absence;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+
+/**
+ * Event as it is stored in the calendar, used to find the events that differ from their absences.
+ */
+public class CalendarEvent {
+
+    private final String id;
+    private final String subject;
+    private final ZonedDateTime startDate;
+    private final ZonedDateTime endDate;
+    private final boolean allDay;
+
+    /**
+     * @param id        id of the event in the calendar
+     * @param subject   subject of the event
+     * @param startDate start of the event, for all day events the start of the first day in the zone of the calendar
+     * @param endDate   end of the event, for all day events the start of the day after the last day
+     * @param allDay    tells if the event takes whole days
+     */
+    public CalendarEvent(String id, String subject, ZonedDateTime startDate, ZonedDateTime endDate, boolean allDay) {
+        this.id = id;
+        this.subject = subject;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.allDay = allDay;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public ZonedDateTime getStartDate() {
+        return startDate;
+    }
+
+    public ZonedDateTime getEndDate() {
+        return endDate;
+    }
+
+    public boolean isAllDay() {
+        return allDay;
+    }
+
+    /**
+     * Tells if the event shows the given absence. All day events are compared by their days, as calendars store them
+     * in their own zone, the other events by their instants.
+     */
+    public boolean matches(Absence absence) {
+
+        if (allDay != absence.isAllDay() || !Objects.equals(subject, absence.getEventSubject())) {
+            return false;
+        }
+
+        if (allDay) {
+            return startDate.toLocalDate().equals(absence.getStartDate().toLocalDate())
+                && endDate.toLocalDate().equals(absence.getEndDate().toLocalDate());
+        }
+
+        return startDate.toInstant().equals(absence.getStartDate().toInstant())
+            && endDate.toInstant().equals(absence.getEndDate().toInstant());
+    }
+
+    @Override
+    public String toString() {
+        return "CalendarEvent{" +
+            "id='" + id + '\'' +
+            ", startDate=" + startDate +
+            ", endDate=" + endDate +
+            ", allDay=" + allDay +
+            '}';
+    }
+}
@@ -1,8 +1,13 @@
 package org.synyx.urlaubsverwaltung.calendarintegration.providers;
 
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException;
 import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -16,7 +21,8 @@ public interface CalendarProvider {
      *
      * @param absence          represents the absence of a person
      * @param calendarSettings contains configuration for calendar provider
-     * @return id of added absence event, may be empty if an error occurred during the calendar sync
+     * @return id of added absence event, may be empty if no calendar is synced
+     * @throws org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException if the absence could not be added
      */
     Optional<String> add(Absence absence, CalendarSettings calendarSettings);
 
@@ -27,6 +33,7 @@ public interface CalendarProvider {
      * @param absence          represents the updated absence
      * @param eventId          id of event to be updated
      * @param calendarSettings contains configuration for calendar provider
+     * @throws org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException if the event could not be updated
      */
     void update(Absence absence, String eventId, CalendarSettings calendarSettings);
 
@@ -36,10 +43,98 @@ public interface CalendarProvider {
      *
      * @param eventId          id of absence event, which should be deleted
      * @param calendarSettings contains configuration for calendar provider
+     * @throws org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException if the event could not be deleted
      */
     void delete(String eventId, CalendarSettings calendarSettings);
 
 
+    /**
+     * Adds the absences to the calendar. Providers that support batch requests override this method, by default the
+     * absences are added one by one.
+     *
+     * @param absences         the absences to be added
+     * @param calendarSettings contains configuration for calendar provider
+     * @return the ids of the added events or the failures, by absence
+     */
+    default CalendarBatchResult<Absence> addAll(List<Absence> absences, CalendarSettings calendarSettings) {
+
+        final CalendarBatchResult<Absence> result = new CalendarBatchResult<>();
+
+        for (Absence absence : absences) {
+            try {
+                result.succeeded(absence, add(absence, calendarSettings).orElse(null));
+            } catch (CalendarSyncException ex) {
+                result.failed(absence, ex);
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Updates the events with the content of their absences. Providers that support batch requests override this
+     * method, by default the events are updated one by one.
+     *
+     * @param absencesByEventId the updated absences by the id of their event
+     * @param calendarSettings  contains configuration for calendar provider
+     * @return the updated events or the failures, by event id
+     */
+    default CalendarBatchResult<String> updateAll(Map<String, Absence> absencesByEventId,
+                                                  CalendarSettings calendarSettings) {
+
+        final CalendarBatchResult<String> result = new CalendarBatchResult<>();
+
+        absencesByEventId.forEach((eventId, absence) -> {
+            try {
+                update(absence, eventId, calendarSettings);
+                result.succeeded(eventId, eventId);
+            } catch (CalendarSyncException ex) {
+                result.failed(eventId, ex);
+            }
+        });
+
+        return result;
+    }
+
+
+    /**
+     * Deletes the events. Providers that support batch requests override this method, by default the events are
+     * deleted one by one.
+     *
+     * @param eventIds         ids of the events to be deleted
+     * @param calendarSettings contains configuration for calendar provider
+     * @return the deleted events or the failures, by event id
+     */
+    default CalendarBatchResult<String> deleteAll(Collection<String> eventIds, CalendarSettings calendarSettings) {
+
+        final CalendarBatchResult<String> result = new CalendarBatchResult<>();
+
+        for (String eventId : eventIds) {
+            try {
+                delete(eventId, calendarSettings);
+                result.succeeded(eventId, eventId);
+            } catch (CalendarSyncException ex) {
+                result.failed(eventId, ex);
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Returns the events of the calendar overlapping the given days, to compare them with the absences.
+     *
+     * @param from             first day
+     * @param to               last day
+     * @param calendarSettings contains configuration for calendar provider
+     * @return the events of the calendar
+     * @throws org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException if the events could not be read
+     */
+    List<CalendarEvent> getEvents(LocalDate from, LocalDate to, CalendarSettings calendarSettings);
+
+
     /**
      * Check the settings for calendar sync.
      *
@@ -2,69 +2,104 @@ package org.synyx.urlaubsverwaltung.calendarintegration.providers.exchange;
 
 import microsoft.exchange.webservices.data.autodiscover.IAutodiscoverRedirectionUrl;
 import microsoft.exchange.webservices.data.core.ExchangeService;
+import microsoft.exchange.webservices.data.core.enumeration.misc.error.ServiceError;
 import microsoft.exchange.webservices.data.core.enumeration.property.WellKnownFolderName;
 import microsoft.exchange.webservices.data.core.enumeration.service.ConflictResolutionMode;
 import microsoft.exchange.webservices.data.core.enumeration.service.DeleteMode;
 import microsoft.exchange.webservices.data.core.enumeration.service.SendCancellationsMode;
 import microsoft.exchange.webservices.data.core.enumeration.service.SendInvitationsMode;
 import microsoft.exchange.webservices.data.core.enumeration.service.SendInvitationsOrCancellationsMode;
+import microsoft.exchange.webservices.data.core.enumeration.service.ServiceResult;
+import microsoft.exchange.webservices.data.core.response.ServiceResponse;
+import microsoft.exchange.webservices.data.core.response.ServiceResponseCollection;
 import microsoft.exchange.webservices.data.core.service.folder.CalendarFolder;
 import microsoft.exchange.webservices.data.core.service.folder.Folder;
 import microsoft.exchange.webservices.data.core.service.item.Appointment;
+import microsoft.exchange.webservices.data.core.service.item.Item;
+import microsoft.exchange.webservices.data.core.service.schema.FolderSchema;
 import microsoft.exchange.webservices.data.credential.WebCredentials;
+import microsoft.exchange.webservices.data.property.complex.FolderId;
 import microsoft.exchange.webservices.data.property.complex.ItemId;
 import microsoft.exchange.webservices.data.property.complex.time.OlsonTimeZoneDefinition;
+import microsoft.exchange.webservices.data.search.CalendarView;
 import microsoft.exchange.webservices.data.search.FindFoldersResults;
+import microsoft.exchange.webservices.data.search.FindItemsResults;
 import microsoft.exchange.webservices.data.search.FolderView;
+import microsoft.exchange.webservices.data.search.filter.SearchFilter;
+import org.apache.commons.collections4.ListUtils;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarMailService;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarNotCreatedException;
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarNotCreatedException;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarBatchResult;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
 import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarProvider;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
 import org.synyx.urlaubsverwaltung.settings.ExchangeCalendarSettings;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.net.URI;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.time.ZoneOffset.UTC;
 import static java.util.Date.from;
 import static org.slf4j.LoggerFactory.getLogger;
 
 
 /**
  * Provides sync of absences with exchange server calendar.
+ *
+ * <p>The connection to the exchange server, i.e. the autodiscovered url and the working credentials, and the folders
+ * of the calendars are kept in an {@link ExchangeSession} as long as the exchange settings do not change. The session
+ * is dropped if a sync fails, so the retry connects again.</p>
+ *
+ * <p>The batch operations create or delete up to {@value #MAX_BATCH_SIZE} appointments with one CreateItem or
+ * DeleteItem request, the appointments of a batch are updated one by one as they have to be bound first.</p>
  */
 @Service
 public class ExchangeCalendarProvider implements CalendarProvider {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    /**
+     * Maximum number of appointments returned by one calendar view, exchange does not page calendar views.
+     */
+    private static final int MAX_APPOINTMENTS = 1000;
+
+    /**
+     * Maximum number of appointments created or deleted with one request.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
     private final ExchangeService exchangeService;
     private final ExchangeFactory exchangeFactory;
-    private final CalendarMailService calendarMailService;
 
-    private String credentialsMailAddress;
-    private String credentialsPassword;
+    private volatile ExchangeSession session;
 
     @Autowired
-    public ExchangeCalendarProvider(CalendarMailService calendarMailService) {
+    public ExchangeCalendarProvider() {
 
-        this(new ExchangeService(), new ExchangeFactory(), calendarMailService);
+        this(new ExchangeService(), new ExchangeFactory());
     }
 
-    public ExchangeCalendarProvider(ExchangeService exchangeService, ExchangeFactory exchangeFactory, CalendarMailService calendarMailService) {
+    public ExchangeCalendarProvider(ExchangeService exchangeService, ExchangeFactory exchangeFactory) {
 
         this.exchangeService = exchangeService;
         this.exchangeFactory = exchangeFactory;
-        this.calendarMailService = calendarMailService;
     }
 
     @Override
@@ -72,24 +107,19 @@ public class ExchangeCalendarProvider implements CalendarProvider {
 
         ExchangeCalendarSettings exchangeCalendarSettings = calendarSettings.getExchangeCalendarSettings();
         String calendarName = exchangeCalendarSettings.getCalendar();
-        connectToExchange(exchangeCalendarSettings);
+        ExchangeSession exchangeSession = connectToExchange(exchangeCalendarSettings);
 
         try {
             Appointment appointment = this.exchangeFactory.getNewAppointment(exchangeService);
 
             fillAppointment(absence, appointment, calendarSettings.getExchangeCalendarSettings().getTimeZoneId());
 
-            SendInvitationsMode invitationsMode = SendInvitationsMode.SendToNone;
-
-            if (exchangeCalendarSettings.isSendInvitationActive()) {
-                invitationsMode = SendInvitationsMode.SendToAllAndSaveCopy;
-            }
+            SendInvitationsMode invitationsMode = getInvitationsMode(exchangeCalendarSettings);
 
             if (calendarName.isEmpty()) {
                 appointment.save(invitationsMode);
             } else {
-                CalendarFolder calendarFolder = findOrCreateCalendar(calendarName);
-                appointment.save(calendarFolder.getId(), invitationsMode);
+                appointment.save(getCalendarFolderId(exchangeSession, calendarName), invitationsMode);
             }
 
             LOG.info("Appointment {} for '{}' added to exchange calendar '{}'.", appointment.getId(),
@@ -97,15 +127,22 @@ public class ExchangeCalendarProvider implements CalendarProvider {
 
             return Optional.ofNullable(appointment.getId().getUniqueId());
         } catch (Exception ex) { // NOSONAR - EWS Java API throws Exception, that's life
-            LOG.warn("An error occurred while trying to add appointment to Exchange calendar");
-            calendarMailService.sendCalendarSyncErrorNotification(calendarName, absence, getStackTrace(ex));
+            disconnect(exchangeSession);
+            throw new CalendarSyncException(calendarName, "Could not add appointment to exchange calendar", ex);
         }
-
-        return Optional.empty();
     }
 
 
-    private void connectToExchange(ExchangeCalendarSettings settings) {
+    /**
+     * Returns the session of the given settings, connects to the exchange server only if the settings have changed
+     * since the last connection or the last sync failed.
+     */
+    private synchronized ExchangeSession connectToExchange(ExchangeCalendarSettings settings) {
+
+        final ExchangeSession currentSession = session;
+        if (currentSession != null && currentSession.isConnectedWith(settings)) {
+            return currentSession;
+        }
 
         String email = settings.getEmail();
         String password = settings.getPassword();
@@ -114,57 +151,87 @@ public class ExchangeCalendarProvider implements CalendarProvider {
         if (emailPart.length < 2) {
             LOG.warn("No connection could be established to the Exchange calendar for email={}, cause={}",
                 email, "email-address is not valid (expected form: name@domain)");
-            return;
+            throw new CalendarSyncException(settings.getCalendar(),
+                format("Email address '%s' of the exchange calendar is not valid", email));
         }
         String username = emailPart[0];
         String domain = emailPart[1];
 
-        if (!email.equals(credentialsMailAddress) || !password.equals(credentialsPassword)) {
+        try {
+            exchangeService.setCredentials(new WebCredentials(username, password));
+            exchangeService.setTraceEnabled(true);
+            exchangeService.setEnableScpLookup(true);
+            if (settings.getEwsUrl() == null) {
+                exchangeService.autodiscoverUrl(email, new RedirectionUrlCallback());
+            } else {
+                exchangeService.setUrl(new URI(settings.getEwsUrl()));
+            }
+        } catch (Exception usernameException) { // NOSONAR - EWS Java API throws Exception, that's life
+            LOG.info("No connection could be established to the Exchange calendar for username={}, cause={}",
+                username, usernameException.getMessage());
             try {
-                exchangeService.setCredentials(new WebCredentials(username, password));
+                exchangeService.setCredentials(new WebCredentials(username, password, domain));
                 exchangeService.setTraceEnabled(true);
                 exchangeService.setEnableScpLookup(true);
-                if (settings.getEwsUrl() == null) {
-                    exchangeService.autodiscoverUrl(email, new RedirectionUrlCallback());
-                } else {
-                    exchangeService.setUrl(new URI(settings.getEwsUrl()));
-                }
-            } catch (Exception usernameException) { // NOSONAR - EWS Java API throws Exception, that's life
-                LOG.info("No connection could be established to the Exchange calendar for username={}, cause={}",
-                    username, usernameException.getMessage());
+                exchangeService.autodiscoverUrl(email, new RedirectionUrlCallback());
+            } catch (Exception usernameDomainException) { // NOSONAR - EWS Java API throws Exception, that's life
+                LOG.info("No connection could be established to the Exchange calendar for username={} and domain={}, cause={}",
+                    username, domain, usernameDomainException.getMessage());
+
                 try {
-                    exchangeService.setCredentials(new WebCredentials(username, password, domain));
+                    exchangeService.setCredentials(new WebCredentials(email, password));
                     exchangeService.setTraceEnabled(true);
                     exchangeService.setEnableScpLookup(true);
                     exchangeService.autodiscoverUrl(email, new RedirectionUrlCallback());
-                } catch (Exception usernameDomainException) { // NOSONAR - EWS Java API throws Exception, that's life
-                    LOG.info("No connection could be established to the Exchange calendar for username={} and domain={}, cause={}",
-                        username, domain, usernameDomainException.getMessage());
-
-                    try {
-                        exchangeService.setCredentials(new WebCredentials(email, password));
-                        exchangeService.setTraceEnabled(true);
-                        exchangeService.setEnableScpLookup(true);
-                        exchangeService.autodiscoverUrl(email, new RedirectionUrlCallback());
-                    } catch (Exception emailException) { // NOSONAR - EWS Java API throws Exception, that's life
-                        LOG.warn("No connection could be established to the Exchange calendar for email={}, cause={}", email,
-                            emailException.getMessage());
-                    }
+                } catch (Exception emailException) { // NOSONAR - EWS Java API throws Exception, that's life
+                    LOG.warn("No connection could be established to the Exchange calendar for email={}, cause={}", email,
+                        emailException.getMessage());
+                    throw new CalendarSyncException(settings.getCalendar(),
+                        format("No connection could be established to the Exchange calendar for email %s", email),
+                        emailException);
                 }
             }
+        }
+
+        LOG.info("Connected to the Exchange calendar at {}", exchangeService.getUrl());
+
+        session = new ExchangeSession(settings);
+
+        return session;
+    }
+
+
+    /**
+     * Drops the given session if it is still the current one, so the next sync connects again.
+     */
+    private synchronized void disconnect(ExchangeSession failedSession) {
+
+        if (session == failedSession) {
+            session = null;
+        }
+    }
+
 
-            credentialsMailAddress = email;
-            credentialsPassword = password;
+    private FolderId getCalendarFolderId(ExchangeSession exchangeSession, String calendarName) throws Exception { // NOSONAR - EWS Java API throws Exception, that's life
+
+        final FolderId cachedFolderId = exchangeSession.getCalendarFolderId(calendarName);
+        if (cachedFolderId != null) {
+            return cachedFolderId;
         }
+
+        final FolderId folderId = findOrCreateCalendar(calendarName);
+        exchangeSession.putCalendarFolderId(calendarName, folderId);
+
+        return folderId;
     }
 
 
-    private CalendarFolder findOrCreateCalendar(String calendarName) throws Exception { // NOSONAR - EWS Java API throws Exception, that's life
+    private FolderId findOrCreateCalendar(String calendarName) throws Exception { // NOSONAR - EWS Java API throws Exception, that's life
 
         Optional<CalendarFolder> calendarOptional = findCalendar(calendarName);
 
         if (calendarOptional.isPresent()) {
-            return calendarOptional.get();
+            return calendarOptional.get().getId();
         } else {
             LOG.info("No exchange calendar found with name '{}'", calendarName);
 
@@ -176,10 +243,10 @@ public class ExchangeCalendarProvider implements CalendarProvider {
     private Optional<CalendarFolder> findCalendar(String calendarName) throws Exception { // NOSONAR - EWS Java API throws Exception, that's life
 
         FindFoldersResults calendarRoot = exchangeService.findFolders(WellKnownFolderName.Calendar,
-            new FolderView(Integer.MAX_VALUE));
+            new SearchFilter.IsEqualTo(FolderSchema.DisplayName, calendarName), new FolderView(1));
 
         for (Folder folder : calendarRoot.getFolders()) {
-            if (folder.getDisplayName().equals(calendarName)) {
+            if (folder instanceof CalendarFolder && folder.getDisplayName().equals(calendarName)) {
                 return Optional.of((CalendarFolder) folder);
             }
         }
@@ -188,7 +255,7 @@ public class ExchangeCalendarProvider implements CalendarProvider {
     }
 
 
-    private CalendarFolder createCalendar(String calendarName) {
+    private FolderId createCalendar(String calendarName) {
 
         try {
             LOG.info("Trying to create new calendar with name '{}'", calendarName);
@@ -199,7 +266,7 @@ public class ExchangeCalendarProvider implements CalendarProvider {
 
             LOG.info("New calendar folder '{}' created.", calendarName);
 
-            return CalendarFolder.bind(exchangeService, folder.getId());
+            return folder.getId();
         } catch (Exception ex) { // NOSONAR - EWS Java API throws Exception, that's life
             throw new CalendarNotCreatedException(format("Exchange calendar '%s' could not be created",
                 calendarName), ex);
@@ -231,7 +298,7 @@ public class ExchangeCalendarProvider implements CalendarProvider {
 
         ExchangeCalendarSettings exchangeCalendarSettings = calendarSettings.getExchangeCalendarSettings();
         String calendarName = exchangeCalendarSettings.getCalendar();
-        connectToExchange(exchangeCalendarSettings);
+        ExchangeSession exchangeSession = connectToExchange(exchangeCalendarSettings);
 
         try {
             Appointment appointment = Appointment.bind(exchangeService, new ItemId(eventId));
@@ -248,8 +315,9 @@ public class ExchangeCalendarProvider implements CalendarProvider {
 
             LOG.info("Appointment {} has been updated in exchange calendar '{}'.", eventId, calendarName);
         } catch (Exception ex) { // NOSONAR - EWS Java API throws Exception, that's life
-            LOG.warn("Could not update appointment {} in exchange calendar '{}'", eventId, calendarName);
-            calendarMailService.sendCalendarUpdateErrorNotification(calendarName, absence, eventId, getStackTrace(ex));
+            disconnect(exchangeSession);
+            throw new CalendarSyncException(calendarName,
+                format("Could not update appointment %s in exchange calendar", eventId), ex);
         }
     }
 
@@ -259,24 +327,217 @@ public class ExchangeCalendarProvider implements CalendarProvider {
 
         ExchangeCalendarSettings exchangeCalendarSettings = calendarSettings.getExchangeCalendarSettings();
         String calendarName = exchangeCalendarSettings.getCalendar();
-        connectToExchange(exchangeCalendarSettings);
+        ExchangeSession exchangeSession = connectToExchange(exchangeCalendarSettings);
 
         try {
-            Appointment appointment = Appointment.bind(exchangeService, new ItemId(eventId));
+            SendCancellationsMode notificationMode = getCancellationsMode(exchangeCalendarSettings);
 
-            SendCancellationsMode notificationMode = SendCancellationsMode.SendToNone;
+            // deletes the appointment by its id without binding it first
+            exchangeService.deleteItem(new ItemId(eventId), DeleteMode.HardDelete, notificationMode, null);
 
-            if (exchangeCalendarSettings.isSendInvitationActive()) {
-                notificationMode = SendCancellationsMode.SendToAllAndSaveCopy;
+            LOG.info("Appointment {} has been deleted in exchange calendar '{}'.", eventId, calendarName);
+        } catch (Exception ex) { // NOSONAR - EWS Java API throws Exception, that's life
+            disconnect(exchangeSession);
+            throw new CalendarSyncException(calendarName,
+                format("Could not delete appointment %s in exchange calendar", eventId), ex);
+        }
+    }
+
+
+    @Override
+    public CalendarBatchResult<Absence> addAll(List<Absence> absences, CalendarSettings calendarSettings) {
+
+        ExchangeCalendarSettings exchangeCalendarSettings = calendarSettings.getExchangeCalendarSettings();
+        String calendarName = exchangeCalendarSettings.getCalendar();
+
+        CalendarBatchResult<Absence> result = new CalendarBatchResult<>();
+
+        executeInBatches(exchangeCalendarSettings, absences, result, (exchangeSession, batch) -> {
+            List<Item> appointments = new ArrayList<>();
+            for (Absence absence : batch) {
+                Appointment appointment = this.exchangeFactory.getNewAppointment(exchangeService);
+                fillAppointment(absence, appointment, exchangeCalendarSettings.getTimeZoneId());
+                appointments.add(appointment);
             }
 
-            appointment.delete(DeleteMode.HardDelete, notificationMode);
+            FolderId folderId = calendarName.isEmpty()
+                ? new FolderId(WellKnownFolderName.Calendar)
+                : getCalendarFolderId(exchangeSession, calendarName);
 
-            LOG.info("Appointment {} has been deleted in exchange calendar '{}'.", eventId, calendarName);
+            // the ids of the created appointments are set on the given appointments
+            ServiceResponseCollection<ServiceResponse> responses = exchangeService.createItems(appointments, folderId,
+                null, getInvitationsMode(exchangeCalendarSettings));
+
+            for (int i = 0; i < batch.size(); i++) {
+                ServiceResponse response = responses.getResponseAtIndex(i);
+
+                if (response.getResult() == ServiceResult.Error) {
+                    result.failed(batch.get(i), new CalendarSyncException(calendarName,
+                        format("Could not add appointment to exchange calendar: %s", response.getErrorMessage())));
+                } else {
+                    result.succeeded(batch.get(i), appointments.get(i).getId().getUniqueId());
+                }
+            }
+
+            LOG.info("{} of {} appointments added to exchange calendar '{}'.",
+                batch.stream().filter(result::isSucceeded).count(), batch.size(), calendarName);
+        });
+
+        return result;
+    }
+
+
+    /**
+     * Deletes the appointments by their ids without binding them first, appointments that do not exist anymore count
+     * as deleted.
+     */
+    @Override
+    public CalendarBatchResult<String> deleteAll(Collection<String> eventIds, CalendarSettings calendarSettings) {
+
+        ExchangeCalendarSettings exchangeCalendarSettings = calendarSettings.getExchangeCalendarSettings();
+        String calendarName = exchangeCalendarSettings.getCalendar();
+
+        CalendarBatchResult<String> result = new CalendarBatchResult<>();
+
+        executeInBatches(exchangeCalendarSettings, eventIds, result, (exchangeSession, batch) -> {
+            List<ItemId> itemIds = new ArrayList<>();
+            for (String eventId : batch) {
+                itemIds.add(new ItemId(eventId));
+            }
+
+            ServiceResponseCollection<ServiceResponse> responses = exchangeService.deleteItems(itemIds,
+                DeleteMode.HardDelete, getCancellationsMode(exchangeCalendarSettings), null);
+
+            for (int i = 0; i < batch.size(); i++) {
+                ServiceResponse response = responses.getResponseAtIndex(i);
+                String eventId = batch.get(i);
+
+                if (response.getResult() == ServiceResult.Error
+                    && response.getErrorCode() != ServiceError.ErrorItemNotFound) {
+                    result.failed(eventId, new CalendarSyncException(calendarName, format(
+                        "Could not delete appointment %s in exchange calendar: %s", eventId, response.getErrorMessage())));
+                } else {
+                    result.succeeded(eventId, eventId);
+                }
+            }
+
+            LOG.info("{} of {} appointments deleted in exchange calendar '{}'.",
+                batch.stream().filter(result::isSucceeded).count(), batch.size(), calendarName);
+        });
+
+        return result;
+    }
+
+
+    /**
+     * Executes the request for batches of at most {@link #MAX_BATCH_SIZE} items. If the connection or a request
+     * fails as a whole, all of its items without a result fail.
+     */
+    private <K> void executeInBatches(ExchangeCalendarSettings exchangeCalendarSettings, Collection<K> items,
+                                      CalendarBatchResult<K> result, BatchRequest<K> request) {
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        String calendarName = exchangeCalendarSettings.getCalendar();
+
+        ExchangeSession exchangeSession;
+        try {
+            exchangeSession = connectToExchange(exchangeCalendarSettings);
+        } catch (CalendarSyncException ex) {
+            items.forEach(item -> result.failed(item, ex));
+            return;
+        }
+
+        for (List<K> batch : ListUtils.partition(new ArrayList<>(items), MAX_BATCH_SIZE)) {
+            try {
+                request.execute(exchangeSession, batch);
+            } catch (Exception ex) { // NOSONAR - EWS Java API throws Exception, that's life
+                disconnect(exchangeSession);
+
+                CalendarSyncException failure =
+                    new CalendarSyncException(calendarName, "Could not execute batch request of exchange calendar", ex);
+
+                batch.stream()
+                    .filter(item -> !result.contains(item))
+                    .forEach(item -> result.failed(item, failure));
+            }
+        }
+    }
+
+
+    private static SendInvitationsMode getInvitationsMode(ExchangeCalendarSettings exchangeCalendarSettings) {
+
+        if (exchangeCalendarSettings.isSendInvitationActive()) {
+            return SendInvitationsMode.SendToAllAndSaveCopy;
+        }
+
+        return SendInvitationsMode.SendToNone;
+    }
+
+
+    private static SendCancellationsMode getCancellationsMode(ExchangeCalendarSettings exchangeCalendarSettings) {
+
+        if (exchangeCalendarSettings.isSendInvitationActive()) {
+            return SendCancellationsMode.SendToAllAndSaveCopy;
+        }
+
+        return SendCancellationsMode.SendToNone;
+    }
+
+
+    @Override
+    public List<CalendarEvent> getEvents(LocalDate firstDay, LocalDate lastDay, CalendarSettings calendarSettings) {
+
+        ExchangeCalendarSettings exchangeCalendarSettings = calendarSettings.getExchangeCalendarSettings();
+        String calendarName = exchangeCalendarSettings.getCalendar();
+        ExchangeSession exchangeSession = connectToExchange(exchangeCalendarSettings);
+
+        FindItemsResults<Appointment> appointments;
+        List<CalendarEvent> events = new ArrayList<>();
+
+        try {
+            CalendarView calendarView = new CalendarView(from(firstDay.atStartOfDay(UTC).toInstant()),
+                from(lastDay.plusDays(1).atStartOfDay(UTC).toInstant()), MAX_APPOINTMENTS);
+
+            if (calendarName.isEmpty()) {
+                appointments = exchangeService.findAppointments(WellKnownFolderName.Calendar, calendarView);
+            } else {
+                appointments = exchangeService.findAppointments(getCalendarFolderId(exchangeSession, calendarName),
+                    calendarView);
+            }
+
+            ZoneId zone = TimeZone.getTimeZone(exchangeCalendarSettings.getTimeZoneId()).toZoneId();
+            for (Appointment appointment : appointments.getItems()) {
+                events.add(toCalendarEvent(appointment, zone));
+            }
         } catch (Exception ex) { // NOSONAR - EWS Java API throws Exception, that's life
-            LOG.warn("Could not delete appointment {} in exchange calendar '{}'", eventId, calendarName);
-            calendarMailService.sendCalendarDeleteErrorNotification(calendarName, eventId, getStackTrace(ex));
+            disconnect(exchangeSession);
+            throw new CalendarSyncException(calendarName,
+                format("Could not read appointments from %s to %s of exchange calendar", firstDay, lastDay), ex);
         }
+
+        if (appointments.isMoreAvailable()) {
+            throw new CalendarSyncException(calendarName, format("More than %d appointments from %s to %s in exchange "
+                + "calendar, the period has to be shorter", MAX_APPOINTMENTS, firstDay, lastDay));
+        }
+
+        return events;
+    }
+
+
+    /**
+     * All day appointments are converted to the zone of the calendar, so their days are the ones of the absence.
+     */
+    private static CalendarEvent toCalendarEvent(Appointment appointment, ZoneId zone) throws Exception { // NOSONAR - EWS Java API throws Exception, that's life
+
+        boolean allDay = Boolean.TRUE.equals(appointment.getIsAllDayEvent());
+        ZonedDateTime startDate = appointment.getStart().toInstant().atZone(allDay ? zone : UTC);
+        ZonedDateTime endDate = appointment.getEnd().toInstant().atZone(allDay ? zone : UTC);
+
+        return new CalendarEvent(appointment.getId().getUniqueId(), appointment.getSubject(), startDate, endDate,
+            allDay);
     }
 
 
@@ -284,7 +545,18 @@ public class ExchangeCalendarProvider implements CalendarProvider {
     public void checkCalendarSyncSettings(CalendarSettings calendarSettings) {
 
         ExchangeCalendarSettings exchangeCalendarSettings = calendarSettings.getExchangeCalendarSettings();
-        connectToExchange(exchangeCalendarSettings);
+
+        try {
+            connectToExchange(exchangeCalendarSettings);
+        } catch (CalendarSyncException ex) {
+            LOG.warn("Could not connect to the exchange calendar: {}", ex.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchRequest<K> {
+
+        void execute(ExchangeSession exchangeSession, List<K> batch) throws Exception; // NOSONAR - EWS Java API throws Exception, that's life
     }
 
     private static class RedirectionUrlCallback implements IAutodiscoverRedirectionUrl {
@@ -296,10 +568,33 @@ public class ExchangeCalendarProvider implements CalendarProvider {
         }
     }
 
-    private static String getStackTrace(Throwable throwable) {
-        StringWriter sw = new StringWriter();
-        PrintWriter pw = new PrintWriter(sw, true);
-        throwable.printStackTrace(pw);
-        return sw.getBuffer().toString();
+    /**
+     * Connection established with the given exchange settings, together with the folders of the calendars found or
+     * created with this connection.
+     */
+    private static final class ExchangeSession {
+
+        private final List<String> connectionSettings;
+        private final Map<String, FolderId> calendarFolderIds = new ConcurrentHashMap<>();
+
+        private ExchangeSession(ExchangeCalendarSettings settings) {
+            this.connectionSettings = connectionSettingsOf(settings);
+        }
+
+        private boolean isConnectedWith(ExchangeCalendarSettings settings) {
+            return connectionSettings.equals(connectionSettingsOf(settings));
+        }
+
+        private FolderId getCalendarFolderId(String calendarName) {
+            return calendarFolderIds.get(calendarName);
+        }
+
+        private void putCalendarFolderId(String calendarName, FolderId folderId) {
+            calendarFolderIds.put(calendarName, folderId);
+        }
+
+        private static List<String> connectionSettingsOf(ExchangeCalendarSettings settings) {
+            return Arrays.asList(settings.getEmail(), settings.getPassword(), settings.getEwsUrl());
+        }
     }
 }
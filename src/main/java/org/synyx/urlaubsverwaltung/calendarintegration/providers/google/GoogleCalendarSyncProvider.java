@@ -3,9 +3,13 @@ package org.synyx.urlaubsverwaltung.calendarintegration.providers.google;
 import com.google.api.client.auth.oauth2.BearerToken;
 import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
 import com.google.api.client.http.BasicAuthentication;
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponse;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.http.javanet.NetHttpTransport;
@@ -16,11 +20,15 @@ import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventAttendee;
 import com.google.api.services.calendar.model.EventDateTime;
+import com.google.api.services.calendar.model.Events;
+import org.apache.commons.collections4.ListUtils;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarMailService;
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarBatchResult;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
 import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarProvider;
 import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
 import org.synyx.urlaubsverwaltung.settings.GoogleCalendarSettings;
@@ -28,15 +36,33 @@ import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
+import static java.lang.String.format;
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.time.ZoneOffset.UTC;
+import static org.apache.http.HttpStatus.SC_GONE;
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.slf4j.LoggerFactory.getLogger;
 
+/**
+ * Provides sync of absences with google calendar.
+ *
+ * <p>The batch operations send up to {@value #MAX_BATCH_SIZE} requests within one http request, see
+ * <a href="https://developers.google.com/calendar/batch">batch requests</a>.</p>
+ */
 @Service
 public class GoogleCalendarSyncProvider implements CalendarProvider {
 
@@ -50,16 +76,19 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
     private static final String APPLICATION_NAME = "Urlaubsverwaltung";
     private static final String GOOGLEAPIS_OAUTH2_V4_TOKEN = "https://www.googleapis.com/oauth2/v4/token";
 
+    /**
+     * Maximum number of requests of one batch request recommended by google.
+     */
+    static final int MAX_BATCH_SIZE = 50;
+    private static final int MAX_EVENTS_PER_PAGE = 250;
+
     private Calendar googleCalendarClient;
     private int refreshTokenHashCode;
 
-    private final CalendarMailService calendarMailService;
     private final SettingsService settingsService;
 
     @Autowired
-    public GoogleCalendarSyncProvider(CalendarMailService calendarMailService, SettingsService settingsService) {
-        this.calendarMailService = calendarMailService;
-
+    public GoogleCalendarSyncProvider(SettingsService settingsService) {
         this.settingsService = settingsService;
     }
 
@@ -103,61 +132,66 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
     }
 
 
+    /**
+     * Connects the calendar client, the sync is retried later if the client could not be created.
+     */
+    private void connectGoogleCalendarClient(String calendarId) {
+
+        googleCalendarClient = getOrCreateGoogleCalendarClient();
+
+        if (googleCalendarClient == null) {
+            throw new CalendarSyncException(calendarId, "Could not create the google calendar client");
+        }
+    }
+
+
     @Override
     public Optional<String> add(Absence absence, CalendarSettings calendarSettings) {
 
-        googleCalendarClient = getOrCreateGoogleCalendarClient();
+        GoogleCalendarSettings googleCalendarSettings =
+            settingsService.getSettings().getCalendarSettings().getGoogleCalendarSettings();
+        String calendarId = googleCalendarSettings.getCalendarId();
 
-        if (googleCalendarClient != null) {
-            GoogleCalendarSettings googleCalendarSettings =
-                settingsService.getSettings().getCalendarSettings().getGoogleCalendarSettings();
-            String calendarId = googleCalendarSettings.getCalendarId();
+        connectGoogleCalendarClient(calendarId);
 
-            try {
-                Event eventToCommit = new Event();
-                fillEvent(absence, eventToCommit);
+        try {
+            Event eventToCommit = new Event();
+            fillEvent(absence, eventToCommit);
 
-                Event eventInCalendar = googleCalendarClient.events().insert(calendarId, eventToCommit).execute();
+            Event eventInCalendar = googleCalendarClient.events().insert(calendarId, eventToCommit).execute();
 
-                LOG.info("Event {} for '{}' added to google calendar '{}'.", eventInCalendar.getId(),
-                    absence.getPerson().getId(), calendarId);
+            LOG.info("Event {} for '{}' added to google calendar '{}'.", eventInCalendar.getId(),
+                absence.getPerson().getId(), calendarId);
 
-                return Optional.of(eventInCalendar.getId());
+            return Optional.of(eventInCalendar.getId());
 
-            } catch (IOException ex) {
-                LOG.warn("An error occurred while trying to add appointment to calendar {}", calendarId, ex);
-                calendarMailService.sendCalendarSyncErrorNotification(calendarId, absence, ex.toString());
-            }
+        } catch (IOException ex) {
+            throw new CalendarSyncException(calendarId, "Could not add event to google calendar", ex);
         }
-        return Optional.empty();
     }
 
 
     @Override
     public void update(Absence absence, String eventId, CalendarSettings calendarSettings) {
 
-        googleCalendarClient = getOrCreateGoogleCalendarClient();
+        String calendarId =
+            settingsService.getSettings().getCalendarSettings().getGoogleCalendarSettings().getCalendarId();
 
-        if (googleCalendarClient != null) {
+        connectGoogleCalendarClient(calendarId);
 
-            String calendarId =
-                settingsService.getSettings().getCalendarSettings().getGoogleCalendarSettings().getCalendarId();
-
-            try {
-                // gather exiting event
-                Event event = googleCalendarClient.events().get(calendarId, eventId).execute();
+        try {
+            // gather exiting event
+            Event event = googleCalendarClient.events().get(calendarId, eventId).execute();
 
-                // update event with absence
-                fillEvent(absence, event);
+            // update event with absence
+            fillEvent(absence, event);
 
-                // sync event to calendar
-                googleCalendarClient.events().patch(calendarId, eventId, event).execute();
+            // sync event to calendar
+            googleCalendarClient.events().patch(calendarId, eventId, event).execute();
 
-                LOG.info("Event {} has been updated in calendar '{}'.", eventId, calendarId);
-            } catch (IOException ex) {
-                LOG.warn("Could not update event {} in calendar '{}'.", eventId, calendarId, ex);
-                calendarMailService.sendCalendarUpdateErrorNotification(calendarId, absence, eventId, ex.getMessage());
-            }
+            LOG.info("Event {} has been updated in calendar '{}'.", eventId, calendarId);
+        } catch (IOException ex) {
+            throw new CalendarSyncException(calendarId, format("Could not update event %s in google calendar", eventId), ex);
         }
     }
 
@@ -165,25 +199,177 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
     @Override
     public void delete(String eventId, CalendarSettings calendarSettings) {
 
-        googleCalendarClient = getOrCreateGoogleCalendarClient();
+        String calendarId =
+            settingsService.getSettings().getCalendarSettings().getGoogleCalendarSettings().getCalendarId();
 
-        if (googleCalendarClient != null) {
+        connectGoogleCalendarClient(calendarId);
 
-            String calendarId =
-                settingsService.getSettings().getCalendarSettings().getGoogleCalendarSettings().getCalendarId();
+        try {
+            googleCalendarClient.events().delete(calendarId, eventId).execute();
+
+            LOG.info("Event {} has been deleted in calendar '{}'.", eventId, calendarId);
+        } catch (IOException ex) {
+            throw new CalendarSyncException(calendarId, format("Could not delete event %s in google calendar", eventId), ex);
+        }
+    }
+
+
+    @Override
+    public CalendarBatchResult<Absence> addAll(List<Absence> absences, CalendarSettings calendarSettings) {
+
+        String calendarId = getCalendarId();
+
+        connectGoogleCalendarClient(calendarId);
+
+        final CalendarBatchResult<Absence> result = new CalendarBatchResult<>();
+
+        executeInBatches(calendarId, absences, result, (batch, absence) -> {
+            Event eventToCommit = new Event();
+            fillEvent(absence, eventToCommit);
+
+            googleCalendarClient.events().insert(calendarId, eventToCommit)
+                .queue(batch, new ResultCallback<>(calendarId, absence, result, Event::getId));
+        });
+
+        LOG.info("{} of {} events added to google calendar '{}'.", result.getSucceeded().size(), absences.size(),
+            calendarId);
 
+        return result;
+    }
+
+
+    /**
+     * Patches the events with the content of the absences, unlike {@link #update(Absence, String, CalendarSettings)}
+     * the events are not read before.
+     */
+    @Override
+    public CalendarBatchResult<String> updateAll(Map<String, Absence> absencesByEventId,
+                                                 CalendarSettings calendarSettings) {
+
+        String calendarId = getCalendarId();
+
+        connectGoogleCalendarClient(calendarId);
+
+        final CalendarBatchResult<String> result = new CalendarBatchResult<>();
+
+        executeInBatches(calendarId, absencesByEventId.keySet(), result, (batch, eventId) -> {
+            Event event = new Event();
+            fillEvent(absencesByEventId.get(eventId), event);
+
+            googleCalendarClient.events().patch(calendarId, eventId, event)
+                .queue(batch, new ResultCallback<>(calendarId, eventId, result, updatedEvent -> eventId));
+        });
+
+        LOG.info("{} of {} events updated in calendar '{}'.", result.getSucceeded().size(), absencesByEventId.size(),
+            calendarId);
+
+        return result;
+    }
+
+
+    /**
+     * Deletes the events, events that do not exist anymore are deleted as well.
+     */
+    @Override
+    public CalendarBatchResult<String> deleteAll(Collection<String> eventIds, CalendarSettings calendarSettings) {
+
+        String calendarId = getCalendarId();
+
+        connectGoogleCalendarClient(calendarId);
+
+        final CalendarBatchResult<String> result = new CalendarBatchResult<>();
+
+        executeInBatches(calendarId, eventIds, result, (batch, eventId) ->
+            googleCalendarClient.events().delete(calendarId, eventId)
+                .queue(batch, new ResultCallback<Void, String>(calendarId, eventId, result, deleted -> eventId) {
+                    @Override
+                    public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                        if (error.getCode() == SC_NOT_FOUND || error.getCode() == SC_GONE) {
+                            result.succeeded(eventId, eventId);
+                        } else {
+                            super.onFailure(error, responseHeaders);
+                        }
+                    }
+                }));
+
+        LOG.info("{} of {} events deleted in calendar '{}'.", result.getSucceeded().size(), eventIds.size(),
+            calendarId);
+
+        return result;
+    }
+
+
+    /**
+     * Queues the requests of the items into batch requests of at most {@link #MAX_BATCH_SIZE} requests. If a batch
+     * request fails as a whole, all of its items without a result fail.
+     */
+    private <K> void executeInBatches(String calendarId, Collection<K> items, CalendarBatchResult<K> result,
+                                      BatchItemRequest<K> itemRequest) {
+
+        for (List<K> chunk : ListUtils.partition(new ArrayList<>(items), MAX_BATCH_SIZE)) {
             try {
-                googleCalendarClient.events().delete(calendarId, eventId).execute();
+                BatchRequest batch = googleCalendarClient.batch();
+
+                for (K item : chunk) {
+                    itemRequest.queue(batch, item);
+                }
 
-                LOG.info("Event {} has been deleted in calendar '{}'.", eventId, calendarId);
+                batch.execute();
             } catch (IOException ex) {
-                LOG.warn("Could not delete event {} in calendar '{}'", eventId, calendarId, ex);
-                calendarMailService.sendCalendarDeleteErrorNotification(calendarId, eventId, ex.getMessage());
+                CalendarSyncException failure =
+                    new CalendarSyncException(calendarId, "Could not execute batch request of google calendar", ex);
+
+                chunk.stream()
+                    .filter(item -> !result.contains(item))
+                    .forEach(item -> result.failed(item, failure));
             }
         }
     }
 
 
+    /**
+     * Reads the events page by page, recurring events are expanded to single events.
+     */
+    @Override
+    public List<CalendarEvent> getEvents(LocalDate from, LocalDate to, CalendarSettings calendarSettings) {
+
+        String calendarId = getCalendarId();
+
+        connectGoogleCalendarClient(calendarId);
+
+        try {
+            List<CalendarEvent> calendarEvents = new ArrayList<>();
+            String pageToken = null;
+
+            do {
+                Events events = googleCalendarClient.events().list(calendarId)
+                    .setTimeMin(new DateTime(Date.from(from.atStartOfDay(UTC).toInstant())))
+                    .setTimeMax(new DateTime(Date.from(to.plusDays(1).atStartOfDay(UTC).toInstant())))
+                    .setSingleEvents(true)
+                    .setMaxResults(MAX_EVENTS_PER_PAGE)
+                    .setPageToken(pageToken)
+                    .execute();
+
+                if (events.getItems() != null) {
+                    events.getItems().forEach(event -> calendarEvents.add(toCalendarEvent(event)));
+                }
+
+                pageToken = events.getNextPageToken();
+            } while (pageToken != null);
+
+            return calendarEvents;
+        } catch (IOException ex) {
+            throw new CalendarSyncException(calendarId,
+                format("Could not read events from %s to %s of google calendar", from, to), ex);
+        }
+    }
+
+
+    private String getCalendarId() {
+        return settingsService.getSettings().getCalendarSettings().getGoogleCalendarSettings().getCalendarId();
+    }
+
+
     @Override
     public void checkCalendarSyncSettings(CalendarSettings calendarSettings) {
 
@@ -227,6 +413,22 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
             .setFromTokenResponse(tokenResponse);
     }
 
+    private static CalendarEvent toCalendarEvent(Event event) {
+
+        // all day events have a date without time, which is parsed as the start of the day in UTC like it is written
+        boolean allDay = event.getStart().getDate() != null;
+
+        return new CalendarEvent(event.getId(), event.getSummary(), toZonedDateTime(event.getStart()),
+            toZonedDateTime(event.getEnd()), allDay);
+    }
+
+    private static ZonedDateTime toZonedDateTime(EventDateTime eventDateTime) {
+
+        DateTime dateTime = eventDateTime.getDate() != null ? eventDateTime.getDate() : eventDateTime.getDateTime();
+
+        return Instant.ofEpochMilli(dateTime.getValue()).atZone(UTC);
+    }
+
     private static void fillEvent(Absence absence, Event event) {
 
         event.setSummary(absence.getEventSubject());
@@ -262,4 +464,41 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
         event.setEnd(endEventDateTime);
     }
 
+    /**
+     * Queues the request of one item of a batch.
+     */
+    @FunctionalInterface
+    private interface BatchItemRequest<K> {
+
+        void queue(BatchRequest batch, K item) throws IOException;
+    }
+
+    /**
+     * Records the response to the request of one item of a batch in the result.
+     */
+    private static class ResultCallback<T, K> extends JsonBatchCallback<T> {
+
+        private final String calendarId;
+        private final K item;
+        private final CalendarBatchResult<K> result;
+        private final Function<T, String> eventId;
+
+        ResultCallback(String calendarId, K item, CalendarBatchResult<K> result, Function<T, String> eventId) {
+            this.calendarId = calendarId;
+            this.item = item;
+            this.result = result;
+            this.eventId = eventId;
+        }
+
+        @Override
+        public void onSuccess(T response, HttpHeaders responseHeaders) {
+            result.succeeded(item, eventId.apply(response));
+        }
+
+        @Override
+        public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+            result.failed(item, new CalendarSyncException(calendarId,
+                format("Google calendar rejected the request with %d: %s", error.getCode(), error.getMessage())));
+        }
+    }
 }
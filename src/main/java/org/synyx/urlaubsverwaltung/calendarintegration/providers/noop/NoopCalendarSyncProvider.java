@@ -3,9 +3,12 @@ package org.synyx.urlaubsverwaltung.calendarintegration.providers.noop;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
 import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarProvider;
 import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -35,6 +38,11 @@ public class NoopCalendarSyncProvider implements CalendarProvider {
         LOG.info("No calendar provider configured to delete event '{}'", eventId);
     }
 
+    @Override
+    public List<CalendarEvent> getEvents(LocalDate from, LocalDate to, CalendarSettings calendarSettings) {
+        return List.of();
+    }
+
     @Override
     public void checkCalendarSyncSettings(CalendarSettings calendarSettings) {
         LOG.info("No calendar provider configured to check calendarSettings '{}'", calendarSettings);
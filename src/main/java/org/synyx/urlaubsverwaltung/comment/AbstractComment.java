@@ -32,6 +32,13 @@ public abstract class AbstractComment extends AbstractPersistable<Integer> {
         this.date = LocalDate.now(UTC);
     }
 
+    /**
+     * Creates a comment that has been written at the given date, e.g. a comment read from the archive.
+     */
+    protected AbstractComment(LocalDate date) {
+        this.date = date;
+    }
+
     public Person getPerson() {
 
         return person;
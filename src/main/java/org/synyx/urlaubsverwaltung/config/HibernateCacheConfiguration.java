@@ -0,0 +1,185 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.synyx.urlaubsverwaltung.application.domain.VacationType;
+import org.synyx.urlaubsverwaltung.department.Department;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteType;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Configures the hibernate second level cache backed by Ehcache via JCache for the mostly read entities.
+ *
+ * <p>The cached entities and collections are registered via the {@code hibernate.classcache} and
+ * {@code hibernate.collectioncache} settings instead of annotations, so every entity can be disabled separately with
+ * {@code uv.cache.<entity>.enabled=false}. The cache statistics are exported to Micrometer by the hibernate metrics of
+ * Spring Boot, tagged with the region, see {@link PersistenceMetricsConfiguration}.</p>
+ */
+@Configuration
+public class HibernateCacheConfiguration {
+
+    static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final String READ_WRITE = "read-write";
+    private static final long UPDATE_TIMESTAMPS_HEAP_ENTRIES = 1000;
+
+    private static final List<CachedEntity> CACHED_ENTITIES = List.of(
+        new CachedEntity(Person.class, HibernateCacheProperties::getPerson, "permissions", "notifications"),
+        new CachedEntity(Department.class, HibernateCacheProperties::getDepartment,
+            "members", "departmentHeads", "secondStageAuthorities"),
+        new CachedEntity(WorkingTime.class, HibernateCacheProperties::getWorkingTime),
+        new CachedEntity(VacationType.class, HibernateCacheProperties::getVacationType),
+        new CachedEntity(SickNoteType.class, HibernateCacheProperties::getSickNoteType),
+        new CachedEntity(Settings.class, HibernateCacheProperties::getSettings)
+    );
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "uv.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager hibernateCacheManager(HibernateCacheProperties cacheProperties) {
+
+        final ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+        getCacheConfigurations(cacheProperties).forEach(configuration::addCache);
+
+        final EhcacheCachingProvider cachingProvider =
+            (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+
+        // every application context gets its own cache manager
+        final URI uri = URI.create("urn:urlaubsverwaltung:hibernate:" + UUID.randomUUID());
+
+        return cachingProvider.getCacheManager(uri, configuration.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCachePropertiesCustomizer(HibernateCacheProperties cacheProperties,
+                                                                            ObjectProvider<CacheManager> hibernateCacheManager) {
+
+        return hibernateProperties -> {
+
+            final CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+
+            if (!cacheProperties.isEnabled() || cacheManager == null) {
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                return;
+            }
+
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, cacheProperties.getQuery().isEnabled());
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+
+            hibernateProperties.putAll(getCacheSettings(cacheProperties));
+        };
+    }
+
+    /**
+     * Returns the {@code hibernate.classcache} and {@code hibernate.collectioncache} settings of all enabled entities.
+     */
+    static Map<String, String> getCacheSettings(HibernateCacheProperties cacheProperties) {
+
+        final Map<String, String> cacheSettings = new LinkedHashMap<>();
+
+        for (CachedEntity cachedEntity : CACHED_ENTITIES) {
+            if (cachedEntity.getRegion(cacheProperties).isEnabled()) {
+                cacheSettings.put(AvailableSettings.CLASS_CACHE_PREFIX + "." + cachedEntity.getRegionName(), READ_WRITE);
+                for (String collectionRegionName : cachedEntity.getCollectionRegionNames()) {
+                    cacheSettings.put(AvailableSettings.COLLECTION_CACHE_PREFIX + "." + collectionRegionName, READ_WRITE);
+                }
+            }
+        }
+
+        return cacheSettings;
+    }
+
+    /**
+     * Returns the configurations of all caches needed by the enabled entities and the query cache. The names of the
+     * caches are the default region names of hibernate, the entity name and the collection role.
+     */
+    static Map<String, CacheConfiguration<Object, Object>> getCacheConfigurations(HibernateCacheProperties cacheProperties) {
+
+        final Map<String, CacheConfiguration<Object, Object>> cacheConfigurations = new LinkedHashMap<>();
+
+        for (CachedEntity cachedEntity : CACHED_ENTITIES) {
+            final HibernateCacheProperties.Region region = cachedEntity.getRegion(cacheProperties);
+            if (region.isEnabled()) {
+                cacheConfigurations.put(cachedEntity.getRegionName(), getCacheConfiguration(region));
+                for (String collectionRegionName : cachedEntity.getCollectionRegionNames()) {
+                    cacheConfigurations.put(collectionRegionName, getCacheConfiguration(region));
+                }
+            }
+        }
+
+        if (cacheProperties.getQuery().isEnabled()) {
+            cacheConfigurations.put(QUERY_RESULTS_REGION, getCacheConfiguration(cacheProperties.getQuery()));
+
+            // the update timestamps must not expire before the query results, else stale results could be returned
+            cacheConfigurations.put(UPDATE_TIMESTAMPS_REGION, CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(UPDATE_TIMESTAMPS_HEAP_ENTRIES))
+                .withExpiry(ExpiryPolicyBuilder.noExpiration())
+                .build());
+        }
+
+        return cacheConfigurations;
+    }
+
+    private static CacheConfiguration<Object, Object> getCacheConfiguration(HibernateCacheProperties.Region region) {
+
+        return CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(region.getHeapEntries()))
+            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive()))
+            .build();
+    }
+
+    private static final class CachedEntity {
+
+        private final Class<?> entityClass;
+        private final Function<HibernateCacheProperties, HibernateCacheProperties.Region> region;
+        private final List<String> collections;
+
+        private CachedEntity(Class<?> entityClass, Function<HibernateCacheProperties, HibernateCacheProperties.Region> region,
+                             String... collections) {
+            this.entityClass = entityClass;
+            this.region = region;
+            this.collections = List.of(collections);
+        }
+
+        private HibernateCacheProperties.Region getRegion(HibernateCacheProperties cacheProperties) {
+            return region.apply(cacheProperties);
+        }
+
+        private String getRegionName() {
+            return entityClass.getName();
+        }
+
+        private List<String> getCollectionRegionNames() {
+            final String entityName = entityClass.getName();
+            return collections.stream().map(collection -> entityName + "." + collection).collect(toList());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.cache")
+@Validated
+public class HibernateCacheProperties {
+
+    /**
+     * Enables the hibernate second level cache for the mostly read entities. If disabled, every entity is read from
+     * the database again.
+     */
+    private boolean enabled = true;
+
+    @Valid
+    private Region person = new Region(Duration.ofMinutes(10), 2000);
+
+    @Valid
+    private Region department = new Region(Duration.ofMinutes(10), 500);
+
+    @Valid
+    private Region workingTime = new Region(Duration.ofMinutes(10), 5000);
+
+    @Valid
+    private Region vacationType = new Region(Duration.ofHours(1), 100);
+
+    @Valid
+    private Region sickNoteType = new Region(Duration.ofHours(1), 100);
+
+    @Valid
+    private Region settings = new Region(Duration.ofHours(1), 10);
+
+    /**
+     * Cached results of the queries for all vacation types and sick note types.
+     */
+    @Valid
+    private Region query = new Region(Duration.ofMinutes(10), 100);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Region getPerson() {
+        return person;
+    }
+
+    public void setPerson(Region person) {
+        this.person = person;
+    }
+
+    public Region getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(Region department) {
+        this.department = department;
+    }
+
+    public Region getWorkingTime() {
+        return workingTime;
+    }
+
+    public void setWorkingTime(Region workingTime) {
+        this.workingTime = workingTime;
+    }
+
+    public Region getVacationType() {
+        return vacationType;
+    }
+
+    public void setVacationType(Region vacationType) {
+        this.vacationType = vacationType;
+    }
+
+    public Region getSickNoteType() {
+        return sickNoteType;
+    }
+
+    public void setSickNoteType(Region sickNoteType) {
+        this.sickNoteType = sickNoteType;
+    }
+
+    public Region getSettings() {
+        return settings;
+    }
+
+    public void setSettings(Region settings) {
+        this.settings = settings;
+    }
+
+    public Region getQuery() {
+        return query;
+    }
+
+    public void setQuery(Region query) {
+        this.query = query;
+    }
+
+    public static class Region {
+
+        /**
+         * Caches the entity and its collections. If disabled, the entity is always read from the database.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Time after which a cached entry expires and is read from the database again.
+         */
+        @NotNull
+        private Duration timeToLive;
+
+        /**
+         * Maximum number of entries kept on the heap.
+         */
+        @NotNull
+        @Min(1)
+        private Long heapEntries;
+
+        public Region() {
+            /* OK */
+        }
+
+        Region(Duration timeToLive, long heapEntries) {
+            this.timeToLive = timeToLive;
+            this.heapEntries = heapEntries;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public Long getHeapEntries() {
+            return heapEntries;
+        }
+
+        public void setHeapEntries(Long heapEntries) {
+            this.heapEntries = heapEntries;
+        }
+    }
+}
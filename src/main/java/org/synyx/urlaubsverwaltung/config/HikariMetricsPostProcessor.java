@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+
+/**
+ * Registers the metrics of every Hikari pool, e.g. {@code hikaricp.connections.active}, {@code .idle},
+ * {@code .pending} and the time to acquire a connection {@code hikaricp.connections.acquire}, tagged with the name of
+ * the pool.
+ *
+ * <p>The metrics have to be registered before the pool is started, i.e. before Liquibase or Hibernate request the
+ * first connection. At that time the meter registries of Spring Boot may not exist yet, so the metrics are registered
+ * at the global registry of Micrometer, that forwards them to all registries added by Spring Boot later on.</p>
+ */
+class HikariMetricsPostProcessor implements BeanPostProcessor {
+
+    private final MeterRegistry meterRegistry;
+
+    HikariMetricsPostProcessor() {
+
+        this(Metrics.globalRegistry);
+    }
+
+    HikariMetricsPostProcessor(MeterRegistry meterRegistry) {
+
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+        if (bean instanceof HikariDataSource) {
+            final HikariDataSource dataSource = (HikariDataSource) bean;
+            if (dataSource.getMetricRegistry() == null && dataSource.getMetricsTrackerFactory() == null) {
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            }
+        }
+
+        return bean;
+    }
+}
@@ -0,0 +1,65 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jpa.HibernateQueryMetrics;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Exports the statistics of the persistence layer to Micrometer, so slow pages can be traced back to their queries:
+ *
+ * <ul>
+ *     <li>the metrics of the connection pools, see {@link HikariMetricsPostProcessor}</li>
+ *     <li>the timers of the repository methods, see {@link RepositoryMetricsPostProcessor}</li>
+ *     <li>the hibernate statistics, e.g. {@code hibernate.query.executions}, {@code hibernate.entities.loads},
+ *     {@code hibernate.collections.fetches} and {@code hibernate.second.level.cache.requests}, exported by the
+ *     hibernate metrics of Spring Boot</li>
+ *     <li>the statistics of every single query, e.g. {@code hibernate.query.execution.total} and
+ *     {@code hibernate.query.execution.max} tagged with the query, to find the slowest query</li>
+ * </ul>
+ */
+@Configuration
+public class PersistenceMetricsConfiguration {
+
+    private static final String ENTITY_MANAGER_FACTORY_NAME = "entityManagerFactory";
+
+    @Bean
+    public static HikariMetricsPostProcessor hikariMetricsPostProcessor() {
+
+        return new HikariMetricsPostProcessor();
+    }
+
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor() {
+
+        return new RepositoryMetricsPostProcessor();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsPropertiesCustomizer() {
+
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    }
+
+    /**
+     * The query metrics are bound after all singletons are created, binding them while the meter registry is created
+     * would create the entity manager factory too early.
+     */
+    @Bean
+    public SmartInitializingSingleton hibernateQueryMetricsBinder(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                  ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+
+        return () -> entityManagerFactory.ifAvailable(factory -> meterRegistry.ifAvailable(registry ->
+            new HibernateQueryMetrics(factory.unwrap(SessionFactory.class), ENTITY_MANAGER_FACTORY_NAME, emptyList())
+                .bindTo(registry)));
+    }
+}
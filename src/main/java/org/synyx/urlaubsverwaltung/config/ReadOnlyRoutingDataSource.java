@@ -0,0 +1,128 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.slf4j.Logger;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+
+/**
+ * Routes the connections of the read-only transactions of the services to the replica and all other connections to the
+ * primary database.
+ *
+ * <p>Spring Data opens a read-only transaction for every repository read outside of a service transaction. These reads
+ * are part of write flows too, e.g. the validation of an application for leave before it is saved or the redirect to a
+ * record right after it has been created, and must not see a lagging replica. So the transactions opened by the
+ * repositories use the primary database.</p>
+ *
+ * <p>If no connection to the replica can be obtained, the connection of the primary is used instead and the replica is
+ * not asked again until the retry interval has passed.</p>
+ *
+ * <p>The data source must be wrapped in a {@link LazyConnectionDataSourceProxy}, because the transaction manager
+ * requests the connection before the transaction is marked as read-only.</p>
+ */
+class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    // the transactions of the repositories are named after the repository implementation and the called method
+    private static final String REPOSITORY_TRANSACTION_PREFIX = SimpleJpaRepository.class.getPackageName() + ".";
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration retryAfter;
+    private final Clock clock;
+
+    private volatile Instant replicaUnavailableUntil = Instant.MIN;
+
+    ReadOnlyRoutingDataSource(DataSource primary, DataSource replica, Duration retryAfter, Clock clock) {
+
+        this.primary = primary;
+        this.replica = replica;
+        this.retryAfter = retryAfter;
+        this.clock = clock;
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        if (isServiceReadOnlyTransaction() && isReplicaAvailable()) {
+            return Target.REPLICA;
+        }
+
+        return Target.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionSupplier connectionSupplier) throws SQLException {
+
+        final DataSource target = determineTargetDataSource();
+
+        if (target != replica) {
+            return connectionSupplier.get(target);
+        }
+
+        try {
+            return connectionSupplier.get(replica);
+        } catch (SQLException exception) {
+            replicaUnavailableUntil = clock.instant().plus(retryAfter);
+            LOG.warn("Could not get a connection of the replica, using the primary database until {}",
+                replicaUnavailableUntil, exception);
+            return connectionSupplier.get(primary);
+        }
+    }
+
+    private static boolean isServiceReadOnlyTransaction() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+
+        final String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+
+        return transactionName == null || !transactionName.startsWith(REPOSITORY_TRANSACTION_PREFIX);
+    }
+
+    private boolean isReplicaAvailable() {
+
+        return !clock.instant().isBefore(replicaUnavailableUntil);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+}
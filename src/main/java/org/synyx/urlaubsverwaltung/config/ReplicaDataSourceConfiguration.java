@@ -0,0 +1,79 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
+
+/**
+ * Configures a second connection pool for the read replica if {@code uv.datasource.replica.url} is set.
+ *
+ * <p>The primary data source of the application routes the read-only transactions of the services, i.e.
+ * {@code @Transactional(readOnly = true)} and read-only transaction templates, to the replica and everything else, also
+ * the reads of the repositories outside of a service transaction, to the primary database. The replica may lag behind
+ * the primary, so data that has to be read right after it has been written must be read within a read-write
+ * transaction.</p>
+ *
+ * <p>The entity manager must not be kept open for the whole web request ({@code spring.jpa.open-in-view=false}),
+ * otherwise all transactions of a request would use the connection of the first one.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "uv.datasource.replica", name = "url")
+public class ReplicaDataSourceConfiguration {
+
+    private static final Duration REPLICA_CONNECTION_TIMEOUT = Duration.ofSeconds(5);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+
+        final HikariDataSource primaryDataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primaryDataSource.setPoolName("primary");
+
+        return primaryDataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("uv.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              ReplicaDataSourceProperties replicaProperties) {
+
+        final HikariDataSource replicaDataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(dataSourceProperties.determineDriverClassName())
+            .url(replicaProperties.getUrl())
+            .username(defaultIfBlank(replicaProperties.getUsername(), dataSourceProperties.determineUsername()))
+            .password(defaultIfBlank(replicaProperties.getPassword(), dataSourceProperties.determinePassword()))
+            .build();
+        replicaDataSource.setPoolName("replica");
+
+        // the application starts without replica and a missing replica is detected quickly, the read-only
+        // transactions fall back to the primary database in that case
+        replicaDataSource.setInitializationFailTimeout(-1);
+        replicaDataSource.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT.toMillis());
+
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaDataSourceProperties replicaProperties, Clock clock) {
+
+        return new LazyConnectionDataSourceProxy(new ReadOnlyRoutingDataSource(primaryDataSource, replicaDataSource,
+            replicaProperties.getRetryAfter(), clock));
+    }
+}
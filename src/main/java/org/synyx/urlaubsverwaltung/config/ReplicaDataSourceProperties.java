@@ -0,0 +1,68 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.datasource.replica")
+@Validated
+public class ReplicaDataSourceProperties {
+
+    /**
+     * JDBC url of the read replica. Read-only transactions are routed to the replica only if the url is configured.
+     */
+    private String url;
+
+    /**
+     * Login username of the replica, defaults to the username of the primary database.
+     */
+    private String username;
+
+    /**
+     * Login password of the replica, defaults to the password of the primary database.
+     */
+    private String password;
+
+    /**
+     * Time after a failed connection attempt to the replica, in which the read-only transactions use the primary
+     * database.
+     */
+    @NotNull
+    private Duration retryAfter = Duration.ofSeconds(30);
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
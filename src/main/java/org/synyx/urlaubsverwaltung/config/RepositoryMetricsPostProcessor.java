@@ -0,0 +1,89 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.Repository;
+
+import java.util.Arrays;
+
+
+/**
+ * Measures every call of a Spring Data repository as {@code spring.data.repository.invocations}, tagged with the
+ * repository, the method, the state and the exception, so that repositories called far more often than expected, e.g.
+ * within a loop, show up next to the slow ones.
+ *
+ * <p>The interceptor is added in front of the advices of the repository proxy, so the time includes the transaction
+ * and getting the connection. Like the pool metrics the timers are registered at the global registry of Micrometer,
+ * see {@link HikariMetricsPostProcessor}.</p>
+ */
+class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    static final String METRIC_NAME = "spring.data.repository.invocations";
+
+    private final MeterRegistry meterRegistry;
+
+    RepositoryMetricsPostProcessor() {
+
+        this(Metrics.globalRegistry);
+    }
+
+    RepositoryMetricsPostProcessor(MeterRegistry meterRegistry) {
+
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+        if (bean instanceof Repository && bean instanceof Advised && !((Advised) bean).isFrozen()) {
+            final Advised repository = (Advised) bean;
+            final String repositoryName = Arrays.stream(repository.getProxiedInterfaces())
+                .filter(Repository.class::isAssignableFrom)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(beanName);
+
+            repository.addAdvice(0, new RepositoryMetricsInterceptor(meterRegistry, repositoryName));
+        }
+
+        return bean;
+    }
+
+    private static final class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+        private final MeterRegistry meterRegistry;
+        private final String repositoryName;
+
+        private RepositoryMetricsInterceptor(MeterRegistry meterRegistry, String repositoryName) {
+
+            this.meterRegistry = meterRegistry;
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            String exception = "None";
+
+            try {
+                return invocation.proceed();
+            } catch (Throwable throwable) {
+                exception = throwable.getClass().getSimpleName();
+                throw throwable;
+            } finally {
+                sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("repository", repositoryName)
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("state", "None".equals(exception) ? "SUCCESS" : "ERROR")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.department;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.springframework.data.jpa.domain.AbstractPersistable;
@@ -20,10 +21,16 @@ import static java.time.ZoneOffset.UTC;
 
 /**
  * Department represents an organisation unit of a company.
+ *
+ * <p>The eagerly loaded members, department heads and second stage authorities are fetched in batches for all loaded
+ * departments.</p>
  */
 @Entity
+@BatchSize(size = Department.BATCH_SIZE)
 public class Department extends AbstractPersistable<Integer> {
 
+    static final int BATCH_SIZE = 50;
+
     @Column(nullable = false)
     private String name;
 
@@ -37,16 +44,19 @@ public class Department extends AbstractPersistable<Integer> {
     @CollectionTable(name = "Department_Member")
     @ElementCollection
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = BATCH_SIZE)
     private List<Person> members = new ArrayList<>();
 
     @CollectionTable(name = "Department_DepartmentHead")
     @ElementCollection
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = BATCH_SIZE)
     private List<Person> departmentHeads = new ArrayList<>();
 
     @CollectionTable(name = "Department_SecondStageAuthority")
     @ElementCollection
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = BATCH_SIZE)
     private List<Person> secondStageAuthorities = new ArrayList<>();
 
     public Department() {
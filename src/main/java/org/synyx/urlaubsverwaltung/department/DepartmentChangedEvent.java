@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.springframework.context.ApplicationEvent;
+
+public class DepartmentChangedEvent extends ApplicationEvent {
+
+    private final Integer departmentId;
+
+    public DepartmentChangedEvent(Object source, Integer departmentId) {
+        super(source);
+        this.departmentId = departmentId;
+    }
+
+    public Integer getDepartmentId() {
+        return departmentId;
+    }
+}
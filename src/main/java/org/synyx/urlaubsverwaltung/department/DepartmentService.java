@@ -1,6 +1,8 @@
 package org.synyx.urlaubsverwaltung.department;
 
 import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
@@ -92,6 +94,21 @@ public interface DepartmentService {
                                                                             LocalDate endDate);
 
 
+    /**
+     * Get one page of the active (waiting or allowed) applications for leave of the members of the departments of the
+     * given person for the provided period, ordered by start date and id.
+     *
+     * @param member      to get the departments of
+     * @param startDate   of the period
+     * @param endDate     of the period
+     * @param pageRequest the page to get
+     * @return the requested page of waiting or allowed applications for leave of departments members
+     */
+    KeysetPage<Application> getApplicationsForLeaveOfMembersInDepartmentsOfPerson(Person member, LocalDate startDate,
+                                                                                  LocalDate endDate,
+                                                                                  KeysetPageRequest pageRequest);
+
+
     /**
      * Get all members (including the given person) of the departments where the given person is the department head.
      *
@@ -2,10 +2,13 @@ package org.synyx.urlaubsverwaltung.department;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.Role;
 
@@ -22,6 +25,9 @@ import static java.time.ZoneOffset.UTC;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
 
 
 /**
@@ -34,12 +40,15 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final ApplicationService applicationService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public DepartmentServiceImpl(DepartmentRepository departmentRepository, ApplicationService applicationService) {
+    public DepartmentServiceImpl(DepartmentRepository departmentRepository, ApplicationService applicationService,
+                                 ApplicationEventPublisher applicationEventPublisher) {
 
         this.departmentRepository = departmentRepository;
         this.applicationService = applicationService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -52,6 +61,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     public void create(Department department) {
 
         departmentRepository.save(department);
+        applicationEventPublisher.publishEvent(new DepartmentChangedEvent(this, department.getId()));
 
         LOG.info("Created department: {}", department);
     }
@@ -63,6 +73,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setLastModification(LocalDate.now(UTC));
 
         departmentRepository.save(department);
+        applicationEventPublisher.publishEvent(new DepartmentChangedEvent(this, department.getId()));
 
         LOG.info("Updated department: {}", department);
     }
@@ -73,6 +84,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         if (departmentRepository.findById(departmentId).isPresent()) {
             departmentRepository.deleteById(departmentId);
+            applicationEventPublisher.publishEvent(new DepartmentChangedEvent(this, departmentId));
         } else {
             LOG.info("No department found for ID = {}, deletion is not necessary.", departmentId);
         }
@@ -131,6 +143,21 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
 
+    @Override
+    public KeysetPage<Application> getApplicationsForLeaveOfMembersInDepartmentsOfPerson(Person member,
+                                                                                         LocalDate startDate,
+                                                                                         LocalDate endDate,
+                                                                                         KeysetPageRequest pageRequest) {
+
+        final List<Person> departmentMembers = getMembersOfAssignedDepartments(member).stream()
+            .filter(departmentMember -> !departmentMember.equals(member))
+            .collect(toList());
+
+        return applicationService.getApplicationsForACertainPeriodAndPersonsAndStates(startDate, endDate,
+            departmentMembers, List.of(ALLOWED, TEMPORARY_ALLOWED, WAITING), pageRequest);
+    }
+
+
     private List<Person> getMembersOfAssignedDepartments(Person member) {
 
         Set<Person> relevantPersons = new HashSet<>();
@@ -0,0 +1,220 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.person.MailNotification;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonSavedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_BOSS_DEPARTMENTS;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_SECOND_STAGE_AUTHORITY;
+import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
+
+
+/**
+ * Index of the mail recipients by notification type and by the departments of a person, so that the recipients of a
+ * mail can be resolved without reading all persons and departments again for every mail.
+ *
+ * <p>The index is built on the first use and dropped after a person or a department has been saved or deleted. The
+ * lists of the index are in the order of {@link PersonService#getPersonsWithNotificationType(MailNotification)}.</p>
+ */
+@Component
+public class NotificationRecipientIndex {
+
+    private final PersonService personService;
+    private final DepartmentService departmentService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Index index;
+
+    @Autowired
+    public NotificationRecipientIndex(PersonService personService, DepartmentService departmentService,
+                                      PlatformTransactionManager transactionManager) {
+
+        this.personService = personService;
+        this.departmentService = departmentService;
+        // not read-only, the index must not be built from a replica that has not caught up with a change yet
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param notification to get the persons for
+     * @return all active persons with the given notification type
+     */
+    public List<Person> getPersonsWithNotificationType(MailNotification notification) {
+
+        return getIndex().personsByNotification.get(notification);
+    }
+
+    /**
+     * @param member of one or more departments
+     * @return the department heads with department head notifications that manage the given person, without the person
+     * itself
+     */
+    public List<Person> getResponsibleDepartmentHeads(Person member) {
+
+        return without(member, getIndex().departmentHeadsByMember.getOrDefault(member, emptyList()));
+    }
+
+    /**
+     * @param member of one or more departments
+     * @return the second stage authorities with second stage notifications that are responsible for the given person,
+     * without the person itself
+     */
+    public List<Person> getResponsibleSecondStageAuthorities(Person member) {
+
+        return without(member, getIndex().secondStageAuthoritiesByMember.getOrDefault(member, emptyList()));
+    }
+
+    /**
+     * @param member of one or more departments
+     * @return the bosses with notifications about their departments that are members of a department of the given
+     * person
+     */
+    public List<Person> getDepartmentBosses(Person member) {
+
+        return getIndex().departmentBossesByMember.getOrDefault(member, emptyList());
+    }
+
+    /**
+     * Drops the index right away, so that the changing transaction does not read the old index, and again after the
+     * transaction has been completed, so that no index with rolled back changes is kept.
+     */
+    @EventListener({PersonSavedEvent.class, DepartmentChangedEvent.class})
+    public void handleRecipientsChanged() {
+
+        invalidate();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    void invalidate() {
+
+        version.incrementAndGet();
+        index = null;
+    }
+
+    private Index getIndex() {
+
+        final Index currentIndex = index;
+        if (currentIndex != null) {
+            return currentIndex;
+        }
+
+        final long versionBeforeBuild = version.get();
+        final Index builtIndex = transactionTemplate.execute(status -> buildIndex());
+
+        // an index built while a person or department has been changed is used once, but not kept
+        if (version.get() == versionBeforeBuild) {
+            index = builtIndex;
+        }
+
+        return builtIndex;
+    }
+
+    private Index buildIndex() {
+
+        final Map<MailNotification, List<Person>> personsByNotification = new EnumMap<>(MailNotification.class);
+        for (MailNotification notification : MailNotification.values()) {
+            personsByNotification.put(notification, List.copyOf(personService.getPersonsWithNotificationType(notification)));
+        }
+
+        final Map<Person, Set<Person>> departmentHeads = new HashMap<>();
+        final Map<Person, Set<Person>> secondStageAuthorities = new HashMap<>();
+        final Map<Person, Set<Person>> departmentMembers = new HashMap<>();
+
+        for (Department department : departmentService.getAllDepartments()) {
+            for (Person member : department.getMembers()) {
+                // second stage authorities are not managed within their own department
+                if (!department.getSecondStageAuthorities().contains(member)) {
+                    departmentHeads.computeIfAbsent(member, key -> new HashSet<>()).addAll(department.getDepartmentHeads());
+                    secondStageAuthorities.computeIfAbsent(member, key -> new HashSet<>()).addAll(department.getSecondStageAuthorities());
+                }
+                departmentMembers.computeIfAbsent(member, key -> new HashSet<>()).addAll(department.getMembers());
+            }
+        }
+
+        final List<Person> notifiedDepartmentHeads = personsByNotification.get(NOTIFICATION_DEPARTMENT_HEAD).stream()
+            .filter(person -> person.hasRole(DEPARTMENT_HEAD))
+            .collect(toList());
+        final List<Person> notifiedSecondStageAuthorities = personsByNotification.get(NOTIFICATION_SECOND_STAGE_AUTHORITY).stream()
+            .filter(person -> person.hasRole(SECOND_STAGE_AUTHORITY))
+            .collect(toList());
+
+        return new Index(personsByNotification,
+            byMember(departmentHeads, notifiedDepartmentHeads),
+            byMember(secondStageAuthorities, notifiedSecondStageAuthorities),
+            byMember(departmentMembers, personsByNotification.get(NOTIFICATION_BOSS_DEPARTMENTS)));
+    }
+
+    /**
+     * Keeps the recipients per member that are related to the member, in the order of the recipients.
+     */
+    private static Map<Person, List<Person>> byMember(Map<Person, Set<Person>> relatedPersons, List<Person> recipients) {
+
+        final Map<Person, List<Person>> recipientsByMember = new HashMap<>();
+
+        relatedPersons.forEach((member, related) -> {
+            final List<Person> relatedRecipients = recipients.stream().filter(related::contains).collect(toList());
+            if (!relatedRecipients.isEmpty()) {
+                recipientsByMember.put(member, List.copyOf(relatedRecipients));
+            }
+        });
+
+        return recipientsByMember;
+    }
+
+    private static List<Person> without(Person person, List<Person> persons) {
+
+        if (!persons.contains(person)) {
+            return persons;
+        }
+
+        return persons.stream().filter(other -> !other.equals(person)).collect(toList());
+    }
+
+    private static final class Index {
+
+        private final Map<MailNotification, List<Person>> personsByNotification;
+        private final Map<Person, List<Person>> departmentHeadsByMember;
+        private final Map<Person, List<Person>> secondStageAuthoritiesByMember;
+        private final Map<Person, List<Person>> departmentBossesByMember;
+
+        private Index(Map<MailNotification, List<Person>> personsByNotification,
+                      Map<Person, List<Person>> departmentHeadsByMember,
+                      Map<Person, List<Person>> secondStageAuthoritiesByMember,
+                      Map<Person, List<Person>> departmentBossesByMember) {
+
+            this.personsByNotification = personsByNotification;
+            this.departmentHeadsByMember = departmentHeadsByMember;
+            this.secondStageAuthoritiesByMember = secondStageAuthoritiesByMember;
+            this.departmentBossesByMember = departmentBossesByMember;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.synyx.urlaubsverwaltung.dev;
 
 import org.slf4j.Logger;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import javax.annotation.PostConstruct;
@@ -44,16 +46,19 @@ public class TestDataCreationService {
     private final OvertimeRecordDataProvider overtimeRecordDataProvider;
     private final DepartmentDataProvider departmentDataProvider;
     private final TestDataProperties testDataProperties;
+    private final TransactionTemplate transactionTemplate;
 
     public TestDataCreationService(PersonDataProvider personDataProvider, ApplicationForLeaveDataProvider applicationForLeaveDataProvider,
                                    SickNoteDataProvider sickNoteDataProvider, OvertimeRecordDataProvider overtimeRecordDataProvider,
-                                   DepartmentDataProvider departmentDataProvider, TestDataProperties testDataProperties) {
+                                   DepartmentDataProvider departmentDataProvider, TestDataProperties testDataProperties,
+                                   PlatformTransactionManager transactionManager) {
         this.personDataProvider = personDataProvider;
         this.applicationForLeaveDataProvider = applicationForLeaveDataProvider;
         this.sickNoteDataProvider = sickNoteDataProvider;
         this.overtimeRecordDataProvider = overtimeRecordDataProvider;
         this.departmentDataProvider = departmentDataProvider;
         this.testDataProperties = testDataProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @PostConstruct
@@ -111,8 +116,21 @@ public class TestDataCreationService {
     }
 
 
+    /**
+     * Creates the applications for leave, sick notes and overtime records of the person within one transaction, so
+     * they are inserted in batches.
+     */
     private void createTestData(Person person, Person boss, Person office) {
 
+        transactionTemplate.execute(status -> {
+            createAbsences(person, boss, office);
+            return null;
+        });
+    }
+
+
+    private void createAbsences(Person person, Person boss, Person office) {
+
         createApplicationsForLeave(person, boss, office);
         createSickNotes(person, office);
         createOvertimeRecords(person);
@@ -0,0 +1,43 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Maps the exception of a bulk send to the mails that could not be sent.
+ */
+final class FailedMails {
+
+    private FailedMails() {
+        // ok
+    }
+
+    /**
+     * Returns the failed mails reported by a {@link MailSendException}. Any other exception, e.g. a failed
+     * authentication, means that none of the mails has been sent.
+     */
+    static Map<SimpleMailMessage, Exception> of(List<SimpleMailMessage> mails, MailException exception) {
+
+        final Map<SimpleMailMessage, Exception> failedMails = new LinkedHashMap<>();
+
+        if (exception instanceof MailSendException) {
+            ((MailSendException) exception).getFailedMessages().forEach((mail, mailException) -> {
+                if (mail instanceof SimpleMailMessage) {
+                    failedMails.put((SimpleMailMessage) mail, mailException);
+                }
+            });
+        }
+
+        if (failedMails.isEmpty()) {
+            mails.forEach(mail -> failedMails.put(mail, exception));
+        }
+
+        return failedMails;
+    }
+}
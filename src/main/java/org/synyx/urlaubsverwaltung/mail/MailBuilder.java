@@ -5,22 +5,29 @@ import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
  * Builds mail content by filling templates with data.
+ *
+ * <p>The parsed templates are kept per name and locale, the mail templates are part of the application and do not
+ * change at runtime. The output of a template is written into a buffer sized by its last output.</p>
  */
 @Service
 class MailBuilder {
 
     private static final String FILE_EXTENSION = ".ftl";
+    private static final int INITIAL_BUFFER_SIZE = 1024;
 
     private final Configuration freemarkerConfiguration;
+    private final ConcurrentMap<String, CachedTemplate> templates = new ConcurrentHashMap<>();
 
     @Autowired
     MailBuilder(Configuration freemarkerConfiguration) {
@@ -38,13 +45,55 @@ class MailBuilder {
      */
     String buildMailBody(String templateName, Map<String, Object> model, Locale locale) {
 
-        String templateFilename = templateName + FILE_EXTENSION;
-
         try {
-            Template template = freemarkerConfiguration.getTemplate(templateFilename, locale);
-            return FreeMarkerTemplateUtils.processTemplateIntoString(template, model);
+            final CachedTemplate cachedTemplate = getTemplate(templateName, locale);
+
+            final StringWriter writer = new StringWriter(cachedTemplate.getExpectedLength());
+            cachedTemplate.getTemplate().process(model, writer);
+            cachedTemplate.setExpectedLength(writer.getBuffer().length());
+
+            return writer.toString();
         } catch (TemplateException | IOException e) {
             throw new MailBuilderException("Something went wrong processing email template=" + templateName, e);
         }
     }
+
+    private CachedTemplate getTemplate(String templateName, Locale locale) throws IOException {
+
+        final String key = templateName + "_" + locale;
+
+        final CachedTemplate cachedTemplate = templates.get(key);
+        if (cachedTemplate != null) {
+            return cachedTemplate;
+        }
+
+        final Template template = freemarkerConfiguration.getTemplate(templateName + FILE_EXTENSION, locale);
+        final CachedTemplate loadedTemplate = new CachedTemplate(template);
+        final CachedTemplate existingTemplate = templates.putIfAbsent(key, loadedTemplate);
+
+        return existingTemplate == null ? loadedTemplate : existingTemplate;
+    }
+
+    private static final class CachedTemplate {
+
+        private final Template template;
+        private volatile int expectedLength = INITIAL_BUFFER_SIZE;
+
+        private CachedTemplate(Template template) {
+            this.template = template;
+        }
+
+        Template getTemplate() {
+            return template;
+        }
+
+        int getExpectedLength() {
+            return expectedLength;
+        }
+
+        void setExpectedLength(int length) {
+            // a little headroom, so that a slightly longer output of the next model does not grow the buffer
+            this.expectedLength = length + length / 8;
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+public class MailDigestConfiguration implements SchedulingConfigurer {
+
+    private final MailDigestProperties digestProperties;
+    private final MailDigestService digestService;
+
+    @Autowired
+    MailDigestConfiguration(MailDigestProperties digestProperties, MailDigestService digestService) {
+
+        this.digestProperties = digestProperties;
+        this.digestService = digestService;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addCronTask(digestService::sendDigests, digestProperties.getCron());
+    }
+}
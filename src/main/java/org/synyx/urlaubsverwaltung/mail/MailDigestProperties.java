@@ -0,0 +1,64 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import org.synyx.urlaubsverwaltung.person.MailNotification;
+import org.synyx.urlaubsverwaltung.validation.CronExpression;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_BOSS_ALL;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_OFFICE;
+
+@Component
+@ConfigurationProperties("uv.mail.digest")
+@Validated
+public class MailDigestProperties {
+
+    /**
+     * Collects the mails to the notification groups of the given types and the informational mails to the persons with
+     * one of these types, e.g. about new applications, and sends them as one mail per person with the next digest,
+     * instead of one mail per event. Reminders are always sent immediately.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Send the digests by default every day at 07:00 am. Notifications that are already collected are sent with the
+     * next digest even if the digest mode has been disabled in the meantime.
+     */
+    @CronExpression
+    private String cron = "0 0 7 * * *";
+
+    /**
+     * Notification types whose persons receive digests, e.g. the office and the bosses that are notified about all
+     * applications for leave.
+     */
+    @NotNull
+    private List<MailNotification> notifications = List.of(NOTIFICATION_BOSS_ALL, NOTIFICATION_OFFICE);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public List<MailNotification> getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(List<MailNotification> notifications) {
+        this.notifications = notifications;
+    }
+}
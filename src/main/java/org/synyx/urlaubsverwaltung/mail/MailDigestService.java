@@ -0,0 +1,86 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.DIGEST;
+
+
+/**
+ * Sends the mails collected for the digests, one mail per recipient. The rendered mails are the sections of the
+ * digest, so the digest shows the same content as the single mails would have done.
+ */
+@Service
+public class MailDigestService {
+
+    private static final Locale LOCALE = Locale.GERMAN;
+    private static final String TEMPLATE_NAME = "digest";
+
+    private final OutboxMailDAO outboxMailDAO;
+    private final MailOutbox mailOutbox;
+    private final MailBuilder mailBuilder;
+    private final MessageSource messageSource;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    MailDigestService(OutboxMailDAO outboxMailDAO, MailOutbox mailOutbox, MailBuilder mailBuilder,
+                      MessageSource messageSource, PlatformTransactionManager transactionManager) {
+
+        this.outboxMailDAO = outboxMailDAO;
+        this.mailOutbox = mailOutbox;
+        this.mailBuilder = mailBuilder;
+        this.messageSource = messageSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queues the digests of all recipients with collected mails in the outbox. A single collected mail is sent as it is.
+     */
+    public void sendDigests() {
+
+        transactionTemplate.execute(status -> {
+
+            final Map<String, List<OutboxMail>> mailsByRecipient = outboxMailDAO.findByStatusOrderByRecipientAscIdAsc(DIGEST)
+                .stream()
+                .collect(groupingBy(OutboxMail::getRecipient, LinkedHashMap::new, toList()));
+
+            mailsByRecipient.forEach(this::sendDigest);
+
+            return mailsByRecipient.size();
+        });
+    }
+
+    private void sendDigest(String recipient, List<OutboxMail> mails) {
+
+        final OutboxMail first = mails.get(0);
+
+        if (mails.size() == 1) {
+            mailOutbox.enqueue(first.getSender(), List.of(recipient), first.getSubject(), first.getText());
+        } else {
+            final List<Map<String, String>> sections = mails.stream()
+                .map(mail -> Map.of("subject", mail.getSubject(), "text", mail.getText()))
+                .collect(toList());
+
+            final Map<String, Object> model = new HashMap<>();
+            model.put("mails", sections);
+
+            final String subject = messageSource.getMessage("subject.digest", new Object[]{mails.size()}, LOCALE);
+            final String text = mailBuilder.buildMailBody(TEMPLATE_NAME, model, LOCALE);
+
+            mailOutbox.enqueue(first.getSender(), List.of(recipient), subject, text);
+        }
+
+        outboxMailDAO.deleteAll(mails);
+    }
+}
@@ -0,0 +1,86 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.DIGEST;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.PENDING;
+
+
+/**
+ * Queues rendered mails within the transaction of the caller, e.g. the transaction that allows an application for
+ * leave. The mails are sent by the {@link MailOutboxDispatcher} after the transaction has been committed, so a slow
+ * mail server does not slow down the request and no mail is sent for a rolled back transaction.
+ */
+@Service
+class MailOutbox {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final OutboxMailDAO outboxMailDAO;
+    private final Clock clock;
+
+    @Autowired
+    MailOutbox(OutboxMailDAO outboxMailDAO, Clock clock) {
+
+        this.outboxMailDAO = outboxMailDAO;
+        this.clock = clock;
+    }
+
+    /**
+     * Queues one mail per recipient. A mail is not queued again for a recipient, as long as the same mail is still
+     * waiting to be sent to that recipient.
+     *
+     * @param from       mail address from where the mail is sent
+     * @param recipients mail addresses where the mail should be sent to
+     * @param subject    mail subject
+     * @param text       mail body
+     */
+    @Transactional
+    public void enqueue(String from, List<String> recipients, String subject, String text) {
+
+        queue(from, recipients, subject, text, PENDING);
+    }
+
+    /**
+     * Collects one mail per recipient for the next digest, instead of sending it right away. The same mail is collected
+     * only once per recipient and digest.
+     *
+     * @param from       mail address from where the mail is sent
+     * @param recipients mail addresses where the mail should be sent to
+     * @param subject    mail subject, used as heading of the section in the digest
+     * @param text       mail body, used as section of the digest
+     */
+    @Transactional
+    public void collectForDigest(String from, List<String> recipients, String subject, String text) {
+
+        queue(from, recipients, subject, text, DIGEST);
+    }
+
+    private void queue(String from, List<String> recipients, String subject, String text, OutboxMailStatus status) {
+
+        if (recipients == null || recipients.isEmpty()) {
+            LOG.warn("Could not queue email to empty recipients!");
+            return;
+        }
+
+        final String contentHash = DigestUtils.md5DigestAsHex((from + '\n' + subject + '\n' + text).getBytes(UTF_8));
+        final Instant now = Instant.now(clock);
+
+        recipients.stream()
+            .distinct()
+            .filter(recipient -> !outboxMailDAO.existsByRecipientAndContentHashAndStatus(recipient, contentHash, status))
+            .map(recipient -> new OutboxMail(from, recipient, subject, text, contentHash, status, now))
+            .forEach(outboxMailDAO::save);
+    }
+}
@@ -0,0 +1,27 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@ConditionalOnProperty(value = "uv.mail.outbox.dispatch-enabled", havingValue = "true", matchIfMissing = true)
+public class MailOutboxConfiguration implements SchedulingConfigurer {
+
+    private final MailOutboxProperties outboxProperties;
+    private final MailOutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    MailOutboxConfiguration(MailOutboxProperties outboxProperties, MailOutboxDispatcher outboxDispatcher) {
+
+        this.outboxProperties = outboxProperties;
+        this.outboxDispatcher = outboxDispatcher;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addFixedDelayTask(outboxDispatcher::dispatch, outboxProperties.getDispatchInterval().toMillis());
+    }
+}
@@ -0,0 +1,183 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.FAILED;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.PENDING;
+
+
+/**
+ * Sends the mails queued in the {@link MailOutbox}. The mails of a batch are sent through one connection to the mail
+ * server, e.g. the many reminders of the cron jobs. Mails that could not be sent are retried with an exponential
+ * backoff until {@link MailOutboxProperties#getMaxAttempts()} is reached.
+ *
+ * <p>The size of the outbox and the time between queueing and sending a mail are exported as
+ * {@code uv.mail.outbox.pending}, {@code uv.mail.outbox.failed} and {@code uv.mail.outbox.delivery}.</p>
+ */
+@Service
+public class MailOutboxDispatcher {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxMailDAO outboxMailDAO;
+    private final MailSender mailSender;
+    private final MailOutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final Timer deliveryTimer;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+
+    @Autowired
+    MailOutboxDispatcher(OutboxMailDAO outboxMailDAO, MailSender mailSender, MailOutboxProperties outboxProperties,
+                         PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Clock clock) {
+
+        this.outboxMailDAO = outboxMailDAO;
+        this.mailSender = mailSender;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+
+        this.deliveryTimer = Timer.builder("uv.mail.outbox.delivery")
+            .description("Time between queueing and sending a mail")
+            .register(meterRegistry);
+        this.retryCounter = meterRegistry.counter("uv.mail.outbox.retries");
+        this.failureCounter = meterRegistry.counter("uv.mail.outbox.failures");
+
+        Gauge.builder("uv.mail.outbox.pending", outboxMailDAO, dao -> dao.countByStatus(PENDING))
+            .description("Mails waiting to be sent")
+            .register(meterRegistry);
+        Gauge.builder("uv.mail.outbox.failed", outboxMailDAO, dao -> dao.countByStatus(FAILED))
+            .description("Mails that could not be sent and are not retried anymore")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Sends all mails that are due, batch by batch. Every batch is sent within its own transaction.
+     */
+    public void dispatch() {
+
+        Integer dispatched;
+
+        do {
+            dispatched = transactionTemplate.execute(status -> dispatchBatch());
+        } while (dispatched != null && dispatched == outboxProperties.getBatchSize()
+            && !Thread.currentThread().isInterrupted());
+    }
+
+    private int dispatchBatch() {
+
+        final List<OutboxMail> mails = outboxMailDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING,
+            Instant.now(clock), PageRequest.of(0, outboxProperties.getBatchSize()));
+
+        if (mails.isEmpty()) {
+            return 0;
+        }
+
+        final Map<OutboxMail, SimpleMailMessage> messages = new LinkedHashMap<>();
+        mails.forEach(mail -> messages.put(mail, toMessage(mail)));
+
+        final Map<SimpleMailMessage, Exception> failedMessages = sendEmails(new ArrayList<>(messages.values()));
+
+        messages.forEach((mail, message) -> {
+            final Exception exception = failedMessages.get(message);
+            if (exception == null) {
+                sent(mail);
+            } else {
+                failed(mail, exception);
+            }
+        });
+
+        return mails.size();
+    }
+
+    /**
+     * Sends all mails of the batch through one connection to the mail server, the result tells which of the mails
+     * could not be sent.
+     */
+    private Map<SimpleMailMessage, Exception> sendEmails(List<SimpleMailMessage> messages) {
+
+        try {
+            return mailSender.sendEmails(messages);
+        } catch (RuntimeException exception) {
+            final Map<SimpleMailMessage, Exception> failedMessages = new HashMap<>();
+            messages.forEach(message -> failedMessages.put(message, exception));
+            return failedMessages;
+        }
+    }
+
+    private void sent(OutboxMail mail) {
+
+        outboxMailDAO.delete(mail);
+        deliveryTimer.record(Duration.between(mail.getCreatedAt(), Instant.now(clock)));
+    }
+
+    private void failed(OutboxMail mail, Exception exception) {
+
+        final int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        mail.setLastError(abbreviate(exception.getMessage(), MAX_ERROR_LENGTH));
+
+        if (attempts >= outboxProperties.getMaxAttempts()) {
+            mail.setStatus(FAILED);
+            failureCounter.increment();
+            LOG.error("Sending email to {} failed {} times, giving up", mail.getRecipient(), attempts, exception);
+        } else {
+            mail.setNextAttemptAt(Instant.now(clock).plus(getRetryDelay(attempts)));
+            retryCounter.increment();
+            LOG.warn("Sending email to {} failed, retrying at {}", mail.getRecipient(), mail.getNextAttemptAt(),
+                exception);
+        }
+    }
+
+    private static SimpleMailMessage toMessage(OutboxMail mail) {
+
+        final SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(mail.getSender());
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getText());
+
+        return message;
+    }
+
+    /**
+     * Returns the delay after the given number of failed attempts, it doubles with every attempt up to the maximum.
+     */
+    Duration getRetryDelay(int attempts) {
+
+        final Duration maxRetryDelay = outboxProperties.getMaxRetryDelay();
+        Duration retryDelay = outboxProperties.getRetryDelay();
+
+        for (int attempt = 1; attempt < attempts && retryDelay.compareTo(maxRetryDelay) < 0; attempt++) {
+            retryDelay = retryDelay.multipliedBy(2);
+        }
+
+        return retryDelay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : retryDelay;
+    }
+}
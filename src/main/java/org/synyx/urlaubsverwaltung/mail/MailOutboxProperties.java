@@ -0,0 +1,103 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.mail.outbox")
+@Validated
+public class MailOutboxProperties {
+
+    /**
+     * Sends the mails of the outbox in the background. Without the dispatcher the mails stay in the outbox.
+     */
+    private boolean dispatchEnabled = true;
+
+    /**
+     * Delay between two runs of the dispatcher that sends the mails of the outbox.
+     */
+    @NotNull
+    private Duration dispatchInterval = Duration.ofSeconds(5);
+
+    /**
+     * Number of mails sent within one transaction of the dispatcher and through one connection to the mail server.
+     */
+    @NotNull
+    @Min(1)
+    @Max(1000)
+    private Integer batchSize = 50;
+
+    /**
+     * Number of attempts to send a mail, afterwards the mail is marked as failed and kept in the outbox.
+     */
+    @NotNull
+    @Min(1)
+    @Max(100)
+    private Integer maxAttempts = 10;
+
+    /**
+     * Delay before the first retry of a mail that could not be sent, the delay is doubled with every further attempt.
+     */
+    @NotNull
+    private Duration retryDelay = Duration.ofMinutes(1);
+
+    /**
+     * Maximum delay between two attempts to send a mail.
+     */
+    @NotNull
+    private Duration maxRetryDelay = Duration.ofHours(6);
+
+    public boolean isDispatchEnabled() {
+        return dispatchEnabled;
+    }
+
+    public void setDispatchEnabled(boolean dispatchEnabled) {
+        this.dispatchEnabled = dispatchEnabled;
+    }
+
+    public Duration getDispatchInterval() {
+        return dispatchInterval;
+    }
+
+    public void setDispatchInterval(Duration dispatchInterval) {
+        this.dispatchInterval = dispatchInterval;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public void setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public Duration getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    public void setMaxRetryDelay(Duration maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+    }
+}
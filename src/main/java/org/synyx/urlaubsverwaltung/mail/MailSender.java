@@ -1,6 +1,11 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 public interface MailSender {
@@ -12,6 +17,29 @@ public interface MailSender {
      * @param recipients mail addresses where the mail should be sent to
      * @param subject    mail subject
      * @param text       mail body
+     *
+     * @throws MailException if the mail could not be sent
      */
     void sendEmail(String from, List<String> recipients, String subject, String text);
+
+    /**
+     * Send all given mails, if possible through one connection to the mail server.
+     *
+     * @param mails to be sent
+     * @return the mails that could not be sent with the reason, empty if all mails have been sent
+     */
+    default Map<SimpleMailMessage, Exception> sendEmails(List<SimpleMailMessage> mails) {
+
+        final Map<SimpleMailMessage, Exception> failedMails = new LinkedHashMap<>();
+
+        for (SimpleMailMessage mail : mails) {
+            try {
+                sendEmail(mail.getFrom(), List.of(mail.getTo()), mail.getSubject(), mail.getText());
+            } catch (MailException exception) {
+                failedMails.put(mail, exception);
+            }
+        }
+
+        return failedMails;
+    }
 }
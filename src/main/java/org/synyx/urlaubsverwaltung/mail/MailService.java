@@ -36,6 +36,20 @@ public interface MailService {
     void sendMailToEach(List<Person> persons, String subjectMessageKey, String templateName, Map<String, Object> model, Object... args);
 
 
+    /**
+     * Sends an informational mail to each person separately like {@link #sendMailToEach}. In digest mode the mail is
+     * collected for the digest of the persons that receive digests for one of their notification types, the other
+     * persons get it immediately. Mails that ask for an action, e.g. reminders, must not be sent with this method.
+     *
+     * @param persons           to get this email each
+     * @param subjectMessageKey message key of the subject
+     * @param templateName      name of template
+     * @param model             additional information based on the template
+     * @param args              additional information for subjectMessageKey
+     */
+    void sendDigestibleMailToEach(List<Person> persons, String subjectMessageKey, String templateName, Map<String, Object> model, Object... args);
+
+
     /**
      * Sends a mail defined by mail notification groups
      *
@@ -9,12 +9,16 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import static java.util.Collections.singletonList;
 
 
 /**
- * Implementation of interface {@link MailService}.
+ * Implementation of interface {@link MailService}. The mails are rendered right away and queued in the
+ * {@link MailOutbox}, they are sent after the transaction of the caller has been committed. In digest mode the mails to
+ * the notification groups and the informational mails to single persons are collected and sent as one mail per person
+ * by the {@link MailDigestService}. The other mails to single persons, e.g. the reminders, are always sent immediately.
  */
 @Service("mailService")
 class MailServiceImpl implements MailService {
@@ -23,64 +27,111 @@ class MailServiceImpl implements MailService {
 
     private final MessageSource messageSource;
     private final MailBuilder mailBuilder;
-    private final MailSender mailSender;
+    private final MailOutbox mailOutbox;
     private final MailOptionProvider mailOptionProvider;
     private final RecipientService recipientService;
+    private final MailDigestProperties digestProperties;
 
     @Autowired
-    MailServiceImpl(MessageSource messageSource, MailBuilder mailBuilder, MailSender mailSender,
-                    MailOptionProvider mailOptionProvider, RecipientService recipientService) {
+    MailServiceImpl(MessageSource messageSource, MailBuilder mailBuilder, MailOutbox mailOutbox,
+                    MailOptionProvider mailOptionProvider, RecipientService recipientService,
+                    MailDigestProperties digestProperties) {
 
         this.messageSource = messageSource;
         this.mailBuilder = mailBuilder;
         this.mailOptionProvider = mailOptionProvider;
-        this.mailSender = mailSender;
+        this.mailOutbox = mailOutbox;
         this.recipientService = recipientService;
+        this.digestProperties = digestProperties;
     }
 
     @Override
     public void sendMailTo(MailNotification mailNotification, String subjectMessageKey, String templateName, Map<String, Object> model) {
 
         final List<Person> persons = recipientService.getRecipientsWithNotificationType(mailNotification);
-        sendMailToPersons(persons, subjectMessageKey, templateName, model);
+        final List<String> recipients = recipientService.getMailAddresses(persons);
+        sendMailToRecipients(recipients, subjectMessageKey, templateName, model, isDigested(mailNotification));
     }
 
     @Override
     public void sendMailTo(Person person, String subjectMessageKey, String templateName, Map<String, Object> model) {
 
-        final List<Person> persons = singletonList(person);
-        sendMailToPersons(persons, subjectMessageKey, templateName, model);
+        final List<String> recipients = recipientService.getMailAddresses(singletonList(person));
+        sendMailToRecipients(recipients, subjectMessageKey, templateName, model, false);
     }
 
     @Override
     public void sendMailToEach(List<Person> persons, String subjectMessageKey, String templateName, Map<String, Object> model, Object... args) {
 
+        sendMailToEach(persons, subjectMessageKey, templateName, model, person -> false, args);
+    }
+
+    @Override
+    public void sendDigestibleMailToEach(List<Person> persons, String subjectMessageKey, String templateName, Map<String, Object> model, Object... args) {
+
+        sendMailToEach(persons, subjectMessageKey, templateName, model, this::isDigested, args);
+    }
+
+    private void sendMailToEach(List<Person> persons, String subjectMessageKey, String templateName,
+                                Map<String, Object> model, Predicate<Person> digested, Object... args) {
+
+        // the subject is the same for every person, only the body is rendered per person
+        final String subject = getTranslation(subjectMessageKey, args);
+
         persons.forEach(person -> {
             model.put("recipient", person);
             final List<String> mailAddress = recipientService.getMailAddresses(person);
-            sendMailToRecipients(mailAddress, subjectMessageKey, templateName, model, args);
+            sendMail(mailAddress, subject, templateName, model, digested.test(person));
         });
     }
 
     @Override
     public void sendTechnicalMail(String subjectMessageKey, String templateName, Map<String, Object> model) {
-        sendMailToRecipients(singletonList(mailOptionProvider.getAdministrator()), subjectMessageKey, templateName, model);
+        sendMailToRecipients(singletonList(mailOptionProvider.getAdministrator()), subjectMessageKey, templateName, model, false);
     }
 
-    private void sendMailToPersons(List<Person> persons, String subjectMessageKey, String templateName, Map<String, Object> model) {
+    private void sendMailToRecipients(List<String> recipients, String subjectMessageKey, String templateName,
+                                      Map<String, Object> model, boolean digested) {
 
-        final List<String> recipients = recipientService.getMailAddresses(persons);
-        sendMailToRecipients(recipients, subjectMessageKey, templateName, model);
+        sendMail(recipients, getTranslation(subjectMessageKey), templateName, model, digested);
     }
 
-    private void sendMailToRecipients(List<String> recipients, String subjectMessageKey, String templateName, Map<String, Object> model, Object... args) {
+    /**
+     * Renders the template once for all given recipients.
+     */
+    private void sendMail(List<String> recipients, String subject, String templateName, Map<String, Object> model,
+                          boolean digested) {
+
+        if (recipients.isEmpty()) {
+            return;
+        }
 
         model.put("baseLinkURL", mailOptionProvider.getApplicationUrl());
 
-        final String subject = getTranslation(subjectMessageKey, args);
         final String text = mailBuilder.buildMailBody(templateName, model, LOCALE);
 
-        mailSender.sendEmail(mailOptionProvider.getSender(), recipients, subject, text);
+        if (digested) {
+            mailOutbox.collectForDigest(mailOptionProvider.getSender(), recipients, subject, text);
+        } else {
+            mailOutbox.enqueue(mailOptionProvider.getSender(), recipients, subject, text);
+        }
+    }
+
+    /**
+     * Mails to a notification group are collected for the digest, if the digest mode is enabled for the group.
+     */
+    private boolean isDigested(MailNotification mailNotification) {
+
+        return digestProperties.isEnabled() && digestProperties.getNotifications().contains(mailNotification);
+    }
+
+    /**
+     * Informational mails to single persons, e.g. the bosses of an application, are collected for the digest, if the
+     * digest mode is enabled for one of the notification types of the person.
+     */
+    private boolean isDigested(Person person) {
+
+        return digestProperties.isEnabled() && digestProperties.getNotifications().stream().anyMatch(person::hasNotificationType);
     }
 
     private String getTranslation(String key, Object... args) {
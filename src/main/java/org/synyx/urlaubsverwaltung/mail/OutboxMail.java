@@ -0,0 +1,108 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.data.jpa.domain.AbstractPersistable;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.time.Instant;
+
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.PENDING;
+
+
+/**
+ * Rendered mail to a single recipient that waits in the outbox to be sent by the {@link MailOutboxDispatcher}.
+ */
+@Entity
+class OutboxMail extends AbstractPersistable<Integer> {
+
+    private String sender;
+    private String recipient;
+    private String subject;
+    private String text;
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxMailStatus status;
+
+    private int attempts;
+    private String lastError;
+    private Instant createdAt;
+    private Instant nextAttemptAt;
+
+    OutboxMail() {
+        /* OK */
+    }
+
+    OutboxMail(String sender, String recipient, String subject, String text, String contentHash, Instant createdAt) {
+        this(sender, recipient, subject, text, contentHash, PENDING, createdAt);
+    }
+
+    OutboxMail(String sender, String recipient, String subject, String text, String contentHash,
+               OutboxMailStatus status, Instant createdAt) {
+        this.sender = sender;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.text = text;
+        this.contentHash = contentHash;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    String getSender() {
+        return sender;
+    }
+
+    String getRecipient() {
+        return recipient;
+    }
+
+    String getSubject() {
+        return subject;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    String getContentHash() {
+        return contentHash;
+    }
+
+    OutboxMailStatus getStatus() {
+        return status;
+    }
+
+    void setStatus(OutboxMailStatus status) {
+        this.status = status;
+    }
+
+    int getAttempts() {
+        return attempts;
+    }
+
+    void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    String getLastError() {
+        return lastError;
+    }
+
+    void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
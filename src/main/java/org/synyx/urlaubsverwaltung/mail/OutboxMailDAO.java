@@ -0,0 +1,32 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+
+
+interface OutboxMailDAO extends JpaRepository<OutboxMail, Integer> {
+
+    boolean existsByRecipientAndContentHashAndStatus(String recipient, String contentHash, OutboxMailStatus status);
+
+    /**
+     * Returns the mails to be sent now, oldest first. The mails are locked until the end of the transaction, so
+     * several instances of the application do not send the same mail twice.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxMail> findByStatusAndNextAttemptAtLessThanEqualOrderById(OutboxMailStatus status, Instant now,
+                                                                         Pageable pageable);
+
+    /**
+     * Returns the mails with the given status grouped by recipient, oldest first. The mails are locked until the end of
+     * the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxMail> findByStatusOrderByRecipientAscIdAsc(OutboxMailStatus status);
+
+    long countByStatus(OutboxMailStatus status);
+}
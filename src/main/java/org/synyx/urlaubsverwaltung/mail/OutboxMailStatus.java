@@ -0,0 +1,22 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+/**
+ * State of a mail in the outbox. Sent mails are removed from the outbox.
+ */
+enum OutboxMailStatus {
+
+    /**
+     * The mail waits to be sent or to be retried.
+     */
+    PENDING,
+
+    /**
+     * The mail is collected for the digest of the recipient, see {@link MailDigestService}.
+     */
+    DIGEST,
+
+    /**
+     * Sending the mail failed too often, it is kept for the administrator but not retried anymore.
+     */
+    FAILED
+}
@@ -2,9 +2,9 @@ package org.synyx.urlaubsverwaltung.mail;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.department.NotificationRecipientIndex;
 import org.synyx.urlaubsverwaltung.person.MailNotification;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.person.PersonService;
 
 import java.util.List;
 
@@ -19,12 +19,12 @@ import static org.springframework.util.StringUtils.hasText;
 @Service
 class RecipientService {
 
-    private final PersonService personService;
+    private final NotificationRecipientIndex recipientIndex;
 
     @Autowired
-    RecipientService(PersonService personService) {
+    RecipientService(NotificationRecipientIndex recipientIndex) {
 
-        this.personService = personService;
+        this.recipientIndex = recipientIndex;
     }
 
     /**
@@ -35,7 +35,7 @@ class RecipientService {
      */
     List<Person> getRecipientsWithNotificationType(MailNotification notification) {
 
-        return personService.getPersonsWithNotificationType(notification);
+        return recipientIndex.getPersonsWithNotificationType(notification);
     }
 
 
@@ -7,8 +7,10 @@ import org.springframework.mail.javamail.JavaMailSender;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Collections.emptyMap;
 import static org.slf4j.LoggerFactory.getLogger;
 
 public class SpringBootConfiguredMailSender implements MailSender {
@@ -37,23 +39,33 @@ public class SpringBootConfiguredMailSender implements MailSender {
         send(mailMessage);
     }
 
-    private void send(SimpleMailMessage message) {
+    @Override
+    public Map<SimpleMailMessage, Exception> sendEmails(List<SimpleMailMessage> mails) {
+
+        if (mails.isEmpty()) {
+            return emptyMap();
+        }
+
         try {
+            this.javaMailSender.send(mails.toArray(new SimpleMailMessage[0]));
+            LOG.debug("Sent {} emails", mails.size());
+            return emptyMap();
+        } catch (MailException ex) {
+            return FailedMails.of(mails, ex);
+        }
+    }
 
-            this.javaMailSender.send(message);
+    private void send(SimpleMailMessage message) {
 
-            for (String recipient : message.getTo()) {
-                LOG.debug("Sent email to {}", recipient);
-            }
+        this.javaMailSender.send(message);
 
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("To={}\n\nSubject={}\n\nText={}",
-                    Arrays.toString(message.getTo()), message.getSubject(), message.getText());
-            }
-        } catch (MailException ex) {
-            for (String recipient : message.getTo()) {
-                LOG.error("Sending email to {} failed", recipient, ex);
-            }
+        for (String recipient : message.getTo()) {
+            LOG.debug("Sent email to {}", recipient);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("To={}\n\nSubject={}\n\nText={}",
+                Arrays.toString(message.getTo()), message.getSubject(), message.getText());
         }
     }
 }
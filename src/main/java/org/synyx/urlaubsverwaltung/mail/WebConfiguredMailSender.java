@@ -9,8 +9,10 @@ import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Collections.emptyMap;
 import static org.slf4j.LoggerFactory.getLogger;
 
 
@@ -55,36 +57,59 @@ public class WebConfiguredMailSender implements MailSender {
         }
     }
 
-    private void send(SimpleMailMessage message) {
+    @Override
+    public Map<SimpleMailMessage, Exception> sendEmails(List<SimpleMailMessage> mails) {
+
+        if (mails.isEmpty()) {
+            return emptyMap();
+        }
 
         MailSettings mailSettings = settingsService.getSettings().getMailSettings();
 
+        if (!mailSettings.isActive()) {
+            LOG.info("No email configuration to send {} emails", mails.size());
+            return emptyMap();
+        }
+
         try {
-            if (mailSettings.isActive()) {
-                this.mailSender.setHost(mailSettings.getHost());
-                this.mailSender.setPort(mailSettings.getPort());
-                this.mailSender.setUsername(mailSettings.getUsername());
-                this.mailSender.setPassword(mailSettings.getPassword());
-
-                this.mailSender.send(message);
-
-                for (String recipient : message.getTo()) {
-                    LOG.debug("Sent email to {}", recipient);
-                }
-            } else {
-                for (String recipient : message.getTo()) {
-                    LOG.info("No email configuration to send email to {}", recipient);
-                }
-            }
+            configure(mailSettings);
+            this.mailSender.send(mails.toArray(new SimpleMailMessage[0]));
+            LOG.debug("Sent {} emails", mails.size());
+            return emptyMap();
+        } catch (MailException ex) {
+            return FailedMails.of(mails, ex);
+        }
+    }
+
+    private void send(SimpleMailMessage message) {
 
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("To={}\n\nSubject={}\n\nText={}",
-                        Arrays.toString(message.getTo()), message.getSubject(), message.getText());
+        MailSettings mailSettings = settingsService.getSettings().getMailSettings();
+
+        if (mailSettings.isActive()) {
+            configure(mailSettings);
+
+            this.mailSender.send(message);
+
+            for (String recipient : message.getTo()) {
+                LOG.debug("Sent email to {}", recipient);
             }
-        } catch (MailException ex) {
+        } else {
             for (String recipient : message.getTo()) {
-                LOG.error("Sending email to {} failed", recipient, ex);
+                LOG.info("No email configuration to send email to {}", recipient);
             }
         }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("To={}\n\nSubject={}\n\nText={}",
+                    Arrays.toString(message.getTo()), message.getSubject(), message.getText());
+        }
+    }
+
+    private void configure(MailSettings mailSettings) {
+
+        this.mailSender.setHost(mailSettings.getHost());
+        this.mailSender.setPort(mailSettings.getPort());
+        this.mailSender.setUsername(mailSettings.getUsername());
+        this.mailSender.setPassword(mailSettings.getPassword());
     }
 }
@@ -24,11 +24,16 @@ interface OvertimeDAO extends CrudRepository<Overtime, Integer> {
     BigDecimal calculateTotalHoursForPerson(@Param("person") Person person);
 
 
+    @Query(
+        "SELECT overtime.person.id AS personId, SUM(overtime.hours) AS hours FROM Overtime overtime "
+            + "WHERE overtime.person IN :persons GROUP BY overtime.person.id"
+    )
+    List<OvertimeHoursOfPerson> calculateTotalHoursForPersons(@Param("persons") List<Person> persons);
+
+
     @Query(
         "SELECT overtime FROM Overtime overtime WHERE overtime.person = :person "
-            + "AND ((overtime.startDate BETWEEN :start AND :end) "
-            + "OR (overtime.endDate BETWEEN :start AND :end) "
-            + "OR (overtime.startDate < :start and overtime.endDate > :end)) "
+            + "AND overtime.startDate <= :end AND overtime.endDate >= :start "
             + "ORDER BY overtime.startDate"
     )
     List<Overtime> findByPersonAndPeriod(@Param("person") Person person, @Param("start") LocalDate start, @Param("end") LocalDate end);
@@ -0,0 +1,14 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import java.math.BigDecimal;
+
+
+/**
+ * Projection of the summed up overtime hours of a single person.
+ */
+interface OvertimeHoursOfPerson {
+
+    Integer getPersonId();
+
+    BigDecimal getHours();
+}
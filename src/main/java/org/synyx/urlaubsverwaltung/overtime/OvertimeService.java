@@ -4,6 +4,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -81,4 +82,14 @@ public interface OvertimeService {
      * @since 2.13.0
      */
     BigDecimal getLeftOvertimeForPerson(Person person);
+
+
+    /**
+     * Get the left overtime hours of each of the given persons with a constant number of queries, independent of the
+     * number of given persons.
+     *
+     * @param persons to get the left overtime for
+     * @return the left overtime per person, contains an entry for every given person
+     */
+    Map<Person, BigDecimal> getLeftOvertimeForPersons(List<Person> persons);
 }
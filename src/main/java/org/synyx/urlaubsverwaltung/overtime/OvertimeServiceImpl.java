@@ -10,7 +10,9 @@ import org.synyx.urlaubsverwaltung.util.DateUtil;
 
 import javax.transaction.Transactional;
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -131,6 +133,35 @@ class OvertimeServiceImpl implements OvertimeService {
     }
 
 
+    @Override
+    public Map<Person, BigDecimal> getLeftOvertimeForPersons(List<Person> persons) {
+
+        Assert.notNull(persons, "Persons to get left overtime for must be given.");
+
+        final Map<Person, BigDecimal> leftOvertimeOfPersons = new HashMap<>();
+        if (persons.isEmpty()) {
+            return leftOvertimeOfPersons;
+        }
+
+        final Map<Integer, BigDecimal> totalOvertimeByPersonId = new HashMap<>();
+        for (OvertimeHoursOfPerson overtimeHours : overtimeDAO.calculateTotalHoursForPersons(persons)) {
+            if (overtimeHours.getHours() != null) {
+                totalOvertimeByPersonId.put(overtimeHours.getPersonId(), overtimeHours.getHours());
+            }
+        }
+
+        final Map<Person, BigDecimal> overtimeReductions = applicationService.getTotalOvertimeReductionOfPersons(persons);
+
+        for (Person person : persons) {
+            BigDecimal totalOvertime = totalOvertimeByPersonId.getOrDefault(person.getId(), BigDecimal.ZERO);
+            BigDecimal overtimeReduction = overtimeReductions.getOrDefault(person, BigDecimal.ZERO);
+            leftOvertimeOfPersons.put(person, totalOvertime.subtract(overtimeReduction));
+        }
+
+        return leftOvertimeOfPersons;
+    }
+
+
     private BigDecimal getTotalOvertimeForPerson(Person person) {
 
         Optional<BigDecimal> totalOvertime = Optional.ofNullable(overtimeDAO.calculateTotalHoursForPerson(person));
@@ -15,6 +15,9 @@ import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.security.SecurityRules;
@@ -54,7 +57,9 @@ public class VacationApiController {
             + "If a person is specified, only the allowed vacations of the person are fetched. "
             + "If a person and the department members flag is specified, "
             + "then all the waiting and allowed vacations of the departments the person is assigned to, are fetched. "
-            + "Information only reachable for users with role office."
+            + "Information only reachable for users with role office. "
+            + "If a limit or cursor is given, the vacations are paged ordered by start date and id, "
+            + "the cursor of the next page is returned as 'next'."
     )
     @GetMapping("/vacations")
     @PreAuthorize(SecurityRules.IS_OFFICE + " or @userApiMethodSecurity.isSamePersonId(authentication, #personId)")
@@ -70,7 +75,13 @@ public class VacationApiController {
             String to,
         @ApiParam(value = "ID of the person")
         @RequestParam(value = "person", required = false)
-            Integer personId) {
+            Integer personId,
+        @ApiParam(value = "Maximum number of vacations of the page, at most " + KeysetPageRequest.MAX_SIZE)
+        @RequestParam(value = "limit", required = false)
+            Integer limit,
+        @ApiParam(value = "Cursor of the page, returned as 'next' by the previous page")
+        @RequestParam(value = "cursor", required = false)
+            String cursor) {
 
         final LocalDate startDate;
         final LocalDate endDate;
@@ -86,6 +97,18 @@ public class VacationApiController {
             throw new IllegalArgumentException("Parameter 'from' must be before or equals to 'to' parameter");
         }
 
+        final Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.of(cursor, limit);
+        if (pageRequest.isPresent()) {
+            final KeysetPage<Application> page = getApplications(startDate, endDate, personId, departmentMembers,
+                pageRequest.get());
+            final List<VacationResponse> vacationResponses = page.getContent().stream()
+                .map(VacationResponse::new)
+                .collect(toList());
+
+            return new ResponseWrapper<>(new VacationListResponse(vacationResponses),
+                page.getNext().map(KeysetCursor::encode).orElse(null));
+        }
+
         List<Application> applications = new ArrayList<>();
 
         if (personId == null && departmentMembers == null) {
@@ -110,4 +133,27 @@ public class VacationApiController {
 
         return new ResponseWrapper<>(new VacationListResponse(vacationResponses));
     }
+
+    private KeysetPage<Application> getApplications(LocalDate startDate, LocalDate endDate, Integer personId,
+                                                    Boolean departmentMembers, KeysetPageRequest pageRequest) {
+
+        if (personId == null) {
+            return departmentMembers == null
+                ? applicationService.getApplicationsForACertainPeriodAndState(startDate, endDate, ALLOWED, pageRequest)
+                : KeysetPage.empty();
+        }
+
+        final Optional<Person> person = personService.getPersonByID(personId);
+        if (person.isEmpty()) {
+            return KeysetPage.empty();
+        }
+
+        if (departmentMembers == null || !departmentMembers) {
+            return applicationService.getApplicationsForACertainPeriodAndPersonAndState(startDate, endDate,
+                person.get(), ALLOWED, pageRequest);
+        }
+
+        return departmentService.getApplicationsForLeaveOfMembersInDepartmentsOfPerson(person.get(), startDate, endDate,
+            pageRequest);
+    }
 }
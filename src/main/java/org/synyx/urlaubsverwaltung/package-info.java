@@ -0,0 +1,22 @@
+/**
+ * Generator of the entity ids: every entity gets its own sequence named {@code <Entity>_SEQ}, e.g.
+ * {@code Application_SEQ}. Ids are fetched in blocks of 50 with the pooled-lo optimizer, so hibernate needs one
+ * sequence call per 50 inserts and is able to batch the inserts.
+ *
+ * <p>The sequences are created by liquibase starting after the highest existing id of the table, the increment of the
+ * sequence must match the increment size of the generator.</p>
+ */
+@GenericGenerator(
+    name = "sequence_per_entity",
+    strategy = "enhanced-sequence",
+    parameters = {
+        @Parameter(name = SequenceStyleGenerator.CONFIG_PREFER_SEQUENCE_PER_ENTITY, value = "true"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+        @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+    }
+)
+package org.synyx.urlaubsverwaltung;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
@@ -0,0 +1,130 @@
+package org.synyx.urlaubsverwaltung.paging;
+
+import org.springframework.util.Assert;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Position within a list ordered by a sort key and the id as tie breaker, e.g. {@code (startDate, id)} or
+ * {@code (lastName, id)}. The next page starts with the first element after this position.
+ *
+ * <p>The cursor is handed to the client as an opaque url safe string, see {@link #encode()} and
+ * {@link #decode(String)}.</p>
+ */
+public final class KeysetCursor implements Comparable<KeysetCursor> {
+
+    private static final char SEPARATOR = '|';
+
+    private static final Comparator<KeysetCursor> ORDER = Comparator.comparing(KeysetCursor::getKey)
+        .thenComparing(KeysetCursor::getId);
+
+    private final String key;
+    private final Integer id;
+
+    private KeysetCursor(String key, Integer id) {
+
+        Assert.notNull(key, "Key must be given");
+        Assert.notNull(id, "Id must be given");
+
+        this.key = key;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(String key, Integer id) {
+
+        return new KeysetCursor(key == null ? "" : key, id);
+    }
+
+    /**
+     * Dates are stored in ISO format, so the order of the keys is the order of the dates.
+     */
+    public static KeysetCursor of(LocalDate key, Integer id) {
+
+        return new KeysetCursor(key.toString(), id);
+    }
+
+    /**
+     * Reads a cursor created by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the given value is not a valid cursor
+     */
+    public static KeysetCursor decode(String value) {
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(value), UTF_8);
+            final int separator = decoded.lastIndexOf(SEPARATOR);
+
+            return new KeysetCursor(decoded.substring(0, separator), Integer.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, exception);
+        }
+    }
+
+    public String encode() {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((key + SEPARATOR + id).getBytes(UTF_8));
+    }
+
+    public String getKey() {
+
+        return key;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key of the cursor is not a date
+     */
+    public LocalDate getDateKey() {
+
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("Invalid cursor, key is not a date: " + key, exception);
+        }
+    }
+
+    public Integer getId() {
+
+        return id;
+    }
+
+    @Override
+    public int compareTo(KeysetCursor other) {
+
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final KeysetCursor that = (KeysetCursor) o;
+
+        return key.equals(that.key) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(key, id);
+    }
+
+    @Override
+    public String toString() {
+
+        return "KeysetCursor{key='" + key + "', id=" + id + '}';
+    }
+}
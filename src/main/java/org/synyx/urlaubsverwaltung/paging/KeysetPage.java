@@ -0,0 +1,76 @@
+package org.synyx.urlaubsverwaltung.paging;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+
+/**
+ * One page of a list ordered by a sort key and the id, together with the cursor of the next page if there is one.
+ */
+public final class KeysetPage<T> {
+
+    private final List<T> content;
+    private final KeysetCursor next;
+
+    private KeysetPage(List<T> content, KeysetCursor next) {
+
+        this.content = content;
+        this.next = next;
+    }
+
+    public static <T> KeysetPage<T> empty() {
+
+        return new KeysetPage<>(emptyList(), null);
+    }
+
+    /**
+     * Creates the page from the rows read with the limit of {@link KeysetPageRequest#toPageable()}, i.e. the rows
+     * after the cursor of the request in the order of the cursor, at most one more than the size of the page.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, KeysetPageRequest request, Function<T, KeysetCursor> cursorOf) {
+
+        if (rows.size() <= request.getSize()) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        final List<T> content = rows.subList(0, request.getSize());
+
+        return new KeysetPage<>(content, cursorOf.apply(content.get(content.size() - 1)));
+    }
+
+    /**
+     * Creates the page from a list that is already loaded completely, e.g. a list filtered by department. The
+     * elements are ordered by the given cursor.
+     */
+    public static <T> KeysetPage<T> fromList(List<T> elements, KeysetPageRequest request,
+                                             Function<T, KeysetCursor> cursorOf) {
+
+        final List<T> rows = elements.stream()
+            .filter(element -> request.getAfter().map(after -> cursorOf.apply(element).compareTo(after) > 0).orElse(true))
+            .sorted(comparing(cursorOf))
+            .limit(request.getSize() + 1L)
+            .collect(toList());
+
+        return of(rows, request, cursorOf);
+    }
+
+    public List<T> getContent() {
+
+        return content;
+    }
+
+    public Optional<KeysetCursor> getNext() {
+
+        return Optional.ofNullable(next);
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+
+        return new KeysetPage<>(content.stream().map(mapper).collect(toList()), next);
+    }
+}
@@ -0,0 +1,102 @@
+package org.synyx.urlaubsverwaltung.paging;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+
+
+/**
+ * Request for one page of a list ordered by a sort key and the id, starting after the given cursor.
+ */
+public final class KeysetPageRequest {
+
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+
+    private final KeysetCursor after;
+    private final int size;
+
+    private KeysetPageRequest(KeysetCursor after, int size) {
+
+        this.after = after;
+        this.size = size;
+    }
+
+    /**
+     * Creates the request for the first page.
+     *
+     * @throws IllegalArgumentException if the size is not between 1 and {@link #MAX_SIZE}
+     */
+    public static KeysetPageRequest first(int size) {
+
+        return new KeysetPageRequest(null, validSize(size));
+    }
+
+    /**
+     * Creates the request for the page after the given cursor.
+     *
+     * @throws IllegalArgumentException if the size is not between 1 and {@link #MAX_SIZE}
+     */
+    public static KeysetPageRequest after(KeysetCursor cursor, int size) {
+
+        return new KeysetPageRequest(cursor, validSize(size));
+    }
+
+    /**
+     * Creates the request from the given request parameters. Without limit and cursor the list is not paged at all,
+     * that is the behaviour of the lists before paging was introduced. A cursor without limit gets the
+     * {@link #DEFAULT_SIZE}.
+     *
+     * @param cursor encoded cursor of the last page, may be {@code null} for the first page
+     * @param limit maximum number of elements of the page, may be {@code null}
+     *
+     * @return the page request or empty if the list should not be paged
+     *
+     * @throws IllegalArgumentException if the cursor is invalid or the limit is not between 1 and {@link #MAX_SIZE}
+     */
+    public static Optional<KeysetPageRequest> of(String cursor, Integer limit) {
+
+        if (cursor == null && limit == null) {
+            return Optional.empty();
+        }
+
+        final int size = limit == null ? DEFAULT_SIZE : limit;
+
+        return Optional.of(cursor == null ? first(size) : after(KeysetCursor.decode(cursor), size));
+    }
+
+    private static int validSize(int size) {
+
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SIZE + ", but was " + size);
+        }
+
+        return size;
+    }
+
+    public Optional<KeysetCursor> getAfter() {
+
+        return Optional.ofNullable(after);
+    }
+
+    public int getSize() {
+
+        return size;
+    }
+
+    /**
+     * Returns the limit for the database query. One more element than the size of the page is read, that way it is
+     * known if there is a next page without an additional count query.
+     */
+    public Pageable toPageable() {
+
+        return PageRequest.of(0, size + 1);
+    }
+
+    @Override
+    public String toString() {
+
+        return "KeysetPageRequest{after=" + after + ", size=" + size + '}';
+    }
+}
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.person;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.springframework.data.jpa.domain.AbstractPersistable;
@@ -15,12 +16,18 @@ import java.util.Collections;
 
 /**
  * This class describes a person.
+ *
+ * <p>Persons and their eagerly loaded permissions and notifications are fetched in batches, so loading a list of
+ * persons needs a constant number of statements instead of two additional statements per person.</p>
  */
 @Entity
+@BatchSize(size = Person.BATCH_SIZE)
 public class Person extends AbstractPersistable<Integer> {
 
     private static final long serialVersionUID = 765672310978437L;
 
+    static final int BATCH_SIZE = 100;
+
     private String username;
     private String password;
     private String lastName;
@@ -29,11 +36,13 @@ public class Person extends AbstractPersistable<Integer> {
 
     @ElementCollection
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = BATCH_SIZE)
     @Enumerated(EnumType.STRING)
     private Collection<Role> permissions;
 
     @ElementCollection
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = BATCH_SIZE)
     @Enumerated(EnumType.STRING)
     private Collection<MailNotification> notifications;
 
@@ -126,13 +135,23 @@ public class Person extends AbstractPersistable<Integer> {
 
     public String getNiceName() {
 
+        return getNiceName(firstName, lastName);
+    }
+
+    public String getGravatarURL() {
+
+        return getGravatarURL(email);
+    }
+
+    static String getNiceName(String firstName, String lastName) {
+
         StringBuilder builder = new StringBuilder();
-        if (StringUtils.hasText(this.firstName)) {
-            builder.append(this.firstName);
+        if (StringUtils.hasText(firstName)) {
+            builder.append(firstName);
             builder.append(" ");
         }
-        if (StringUtils.hasText(this.lastName)) {
-            builder.append(this.lastName);
+        if (StringUtils.hasText(lastName)) {
+            builder.append(lastName);
         }
         String nicename = builder.toString().trim();
 
@@ -143,9 +162,9 @@ public class Person extends AbstractPersistable<Integer> {
         return nicename;
     }
 
-    public String getGravatarURL() {
-        if (StringUtils.hasText(this.email)) {
-            return GravatarUtil.createImgURL(this.email);
+    static String getGravatarURL(String email) {
+        if (StringUtils.hasText(email)) {
+            return GravatarUtil.createImgURL(email);
         }
 
         return "";
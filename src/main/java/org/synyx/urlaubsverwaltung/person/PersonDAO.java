@@ -1,12 +1,88 @@
 package org.synyx.urlaubsverwaltung.person;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 
 /**
  * Repository for {@link Person} entities.
+ *
+ * <p>The persons are filtered by their permissions and notifications within the database and ordered by their name,
+ * the same order as {@link Person#getNiceName()}.</p>
+ *
+ * <p>The paged queries are ordered by {@code (lastName, id)} and continue after the last name and id of the last person
+ * of the previous page, the limit is given by the {@link Pageable}. A missing last name is handled as empty name.</p>
  */
 interface PersonDAO extends JpaRepository<Person, Integer> {
 
     Person findByUsername(String username);
+
+    @Query("select p from Person p where ?1 member of p.permissions order by p.firstName, p.lastName")
+    List<Person> findByPermissionsContainingOrderByName(Role permission);
+
+    @Query("select p from Person p where ?1 not member of p.permissions order by p.firstName, p.lastName")
+    List<Person> findByPermissionsNotContainingOrderByName(Role permission);
+
+    @Query("select p from Person p where ?1 member of p.permissions order by coalesce(p.lastName, ''), p.id")
+    List<Person> findByPermissionsContainingOrderByLastNameAndId(Role permission, Pageable pageable);
+
+    @Query(
+        "select p from Person p where ?1 member of p.permissions "
+            + "and (coalesce(p.lastName, '') > ?2 or (coalesce(p.lastName, '') = ?2 and p.id > ?3)) "
+            + "order by coalesce(p.lastName, ''), p.id"
+    )
+    List<Person> findByPermissionsContainingAfterOrderByLastNameAndId(Role permission, String afterLastName,
+                                                                      Integer afterId, Pageable pageable);
+
+    @Query("select p from Person p where ?1 not member of p.permissions order by coalesce(p.lastName, ''), p.id")
+    List<Person> findByPermissionsNotContainingOrderByLastNameAndId(Role permission, Pageable pageable);
+
+    @Query(
+        "select p from Person p where ?1 not member of p.permissions "
+            + "and (coalesce(p.lastName, '') > ?2 or (coalesce(p.lastName, '') = ?2 and p.id > ?3)) "
+            + "order by coalesce(p.lastName, ''), p.id"
+    )
+    List<Person> findByPermissionsNotContainingAfterOrderByLastNameAndId(Role permission, String afterLastName,
+                                                                         Integer afterId, Pageable pageable);
+
+    @Query(
+        "select new org.synyx.urlaubsverwaltung.person.PersonSummary(p.id, p.firstName, p.lastName, p.email) "
+            + "from Person p where ?1 not member of p.permissions order by p.firstName, p.lastName"
+    )
+    List<PersonSummary> findSummariesByPermissionsNotContainingOrderByName(Role permission);
+
+    @Query(
+        "select new org.synyx.urlaubsverwaltung.person.PersonSummary(p.id, p.firstName, p.lastName, p.email) "
+            + "from Person p where ?1 not member of p.permissions order by coalesce(p.lastName, ''), p.id"
+    )
+    List<PersonSummary> findSummariesByPermissionsNotContainingOrderByLastNameAndId(Role permission, Pageable pageable);
+
+    @Query(
+        "select new org.synyx.urlaubsverwaltung.person.PersonSummary(p.id, p.firstName, p.lastName, p.email) "
+            + "from Person p where ?1 not member of p.permissions "
+            + "and (coalesce(p.lastName, '') > ?2 or (coalesce(p.lastName, '') = ?2 and p.id > ?3)) "
+            + "order by coalesce(p.lastName, ''), p.id"
+    )
+    List<PersonSummary> findSummariesByPermissionsNotContainingAfterOrderByLastNameAndId(Role permission,
+                                                                                         String afterLastName,
+                                                                                         Integer afterId,
+                                                                                         Pageable pageable);
+
+    @Query(
+        "select distinct p from Person p join p.permissions permission "
+            + "where permission = ?1 and ?2 not member of p.permissions "
+            + "order by p.firstName, p.lastName"
+    )
+    List<Person> findByPermissionsContainingAndPermissionsNotContainingOrderByName(Role permission, Role excludedPermission);
+
+    @Query(
+        "select distinct p from Person p join p.notifications notification "
+            + "where notification = ?1 and ?2 not member of p.permissions "
+            + "order by p.firstName, p.lastName"
+    )
+    List<Person> findByNotificationsContainingAndPermissionsNotContainingOrderByName(MailNotification notification,
+                                                                                     Role excludedPermission);
 }
@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import org.springframework.context.ApplicationEvent;
+
+public class PersonSavedEvent extends ApplicationEvent {
+
+    private final transient Person person;
+
+    public PersonSavedEvent(Object source, Person person) {
+        super(source);
+        this.person = person;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+}
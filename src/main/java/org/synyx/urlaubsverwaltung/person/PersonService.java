@@ -1,5 +1,8 @@
 package org.synyx.urlaubsverwaltung.person;
 
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -101,6 +104,29 @@ public interface PersonService {
      */
     List<Person> getActivePersons();
 
+    /**
+     * returns one page of the active persons ordered by last name and id.
+     *
+     * @param pageRequest the page to get
+     * @return returns the requested page of the active persons
+     */
+    KeysetPage<Person> getActivePersons(KeysetPageRequest pageRequest);
+
+    /**
+     * returns a summary of all active persons ordered by first name, without loading the persons themselves.
+     *
+     * @return returns the summaries of all active persons
+     */
+    List<PersonSummary> getActivePersonSummaries();
+
+    /**
+     * returns one page of the summaries of the active persons ordered by last name and id.
+     *
+     * @param pageRequest the page to get
+     * @return returns the requested page of the summaries of the active persons
+     */
+    KeysetPage<PersonSummary> getActivePersonSummaries(KeysetPageRequest pageRequest);
+
     /**
      * returns all inactive persons ordered by first name.
      *
@@ -108,6 +134,14 @@ public interface PersonService {
      */
     List<Person> getInactivePersons();
 
+    /**
+     * returns one page of the inactive persons ordered by last name and id.
+     *
+     * @param pageRequest the page to get
+     * @return returns the requested page of the inactive persons
+     */
+    KeysetPage<Person> getInactivePersons(KeysetPageRequest pageRequest);
+
     /**
      * This method allows to get the signed in user.
      *
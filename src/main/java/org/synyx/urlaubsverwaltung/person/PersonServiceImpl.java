@@ -7,15 +7,16 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.account.service.AccountInteractionService;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
-import static java.util.stream.Collectors.toList;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
@@ -110,6 +111,7 @@ class PersonServiceImpl implements PersonService {
     public Person save(Person person) {
 
         final Person persistedPerson = personDAO.save(person);
+        applicationEventPublisher.publishEvent(new PersonSavedEvent(this, persistedPerson));
 
         final boolean isInactive = persistedPerson.getPermissions().contains(INACTIVE);
         if (isInactive) {
@@ -135,36 +137,68 @@ class PersonServiceImpl implements PersonService {
     @Override
     public List<Person> getActivePersons() {
 
-        return personDAO.findAll()
-            .stream()
-            .filter(person -> !person.hasRole(INACTIVE))
-            .sorted(personComparator())
-            .collect(toList());
+        return personDAO.findByPermissionsNotContainingOrderByName(INACTIVE);
+    }
+
+    @Override
+    public KeysetPage<Person> getActivePersons(KeysetPageRequest pageRequest) {
+
+        final List<Person> persons = pageRequest.getAfter()
+            .map(after -> personDAO.findByPermissionsNotContainingAfterOrderByLastNameAndId(INACTIVE, after.getKey(),
+                after.getId(), pageRequest.toPageable()))
+            .orElseGet(() -> personDAO.findByPermissionsNotContainingOrderByLastNameAndId(INACTIVE,
+                pageRequest.toPageable()));
+
+        return KeysetPage.of(persons, pageRequest, PersonServiceImpl::toCursor);
+    }
+
+    @Override
+    public List<PersonSummary> getActivePersonSummaries() {
+
+        return personDAO.findSummariesByPermissionsNotContainingOrderByName(INACTIVE);
+    }
+
+    @Override
+    public KeysetPage<PersonSummary> getActivePersonSummaries(KeysetPageRequest pageRequest) {
+
+        final List<PersonSummary> persons = pageRequest.getAfter()
+            .map(after -> personDAO.findSummariesByPermissionsNotContainingAfterOrderByLastNameAndId(INACTIVE,
+                after.getKey(), after.getId(), pageRequest.toPageable()))
+            .orElseGet(() -> personDAO.findSummariesByPermissionsNotContainingOrderByLastNameAndId(INACTIVE,
+                pageRequest.toPageable()));
+
+        return KeysetPage.of(persons, pageRequest, person -> KeysetCursor.of(person.getLastName(), person.getId()));
     }
 
     @Override
     public List<Person> getInactivePersons() {
 
-        return personDAO.findAll()
-            .stream()
-            .filter(person -> person.hasRole(INACTIVE))
-            .sorted(personComparator())
-            .collect(toList());
+        return personDAO.findByPermissionsContainingOrderByName(INACTIVE);
+    }
+
+    @Override
+    public KeysetPage<Person> getInactivePersons(KeysetPageRequest pageRequest) {
+
+        final List<Person> persons = pageRequest.getAfter()
+            .map(after -> personDAO.findByPermissionsContainingAfterOrderByLastNameAndId(INACTIVE, after.getKey(),
+                after.getId(), pageRequest.toPageable()))
+            .orElseGet(() -> personDAO.findByPermissionsContainingOrderByLastNameAndId(INACTIVE,
+                pageRequest.toPageable()));
+
+        return KeysetPage.of(persons, pageRequest, PersonServiceImpl::toCursor);
     }
 
     @Override
     public List<Person> getActivePersonsByRole(final Role role) {
 
-        return getActivePersons().stream().filter(person -> person.hasRole(role)).collect(toList());
+        return personDAO.findByPermissionsContainingAndPermissionsNotContainingOrderByName(role, INACTIVE);
     }
 
 
     @Override
     public List<Person> getPersonsWithNotificationType(final MailNotification notification) {
 
-        return getActivePersons().stream()
-            .filter(person -> person.hasNotificationType(notification))
-            .collect(toList());
+        return personDAO.findByNotificationsContainingAndPermissionsNotContainingOrderByName(notification, INACTIVE);
     }
 
     @Override
@@ -214,7 +248,8 @@ class PersonServiceImpl implements PersonService {
         return savedPerson;
     }
 
-    private Comparator<Person> personComparator() {
-        return Comparator.comparing(p -> p.getNiceName().toLowerCase());
+    private static KeysetCursor toCursor(Person person) {
+
+        return KeysetCursor.of(person.getLastName(), person.getId());
     }
 }
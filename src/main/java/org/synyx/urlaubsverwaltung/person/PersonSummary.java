@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung.person;
+
+/**
+ * Read only projection of a {@link Person} with the attributes needed to list persons, loaded without the
+ * permissions and notifications.
+ */
+public class PersonSummary {
+
+    private final Integer id;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+
+    public PersonSummary(Integer id, String firstName, String lastName, String email) {
+
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+    }
+
+    public Integer getId() {
+
+        return id;
+    }
+
+    public String getFirstName() {
+
+        return firstName;
+    }
+
+    public String getLastName() {
+
+        return lastName;
+    }
+
+    public String getEmail() {
+
+        return email;
+    }
+
+    public String getNiceName() {
+
+        return Person.getNiceName(firstName, lastName);
+    }
+
+    public String getGravatarURL() {
+
+        return Person.getGravatarURL(email);
+    }
+
+    @Override
+    public String toString() {
+
+        return "PersonSummary{id=" + id + '}';
+    }
+}
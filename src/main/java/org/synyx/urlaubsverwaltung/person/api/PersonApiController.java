@@ -2,24 +2,33 @@ package org.synyx.urlaubsverwaltung.person.api;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
 import org.synyx.urlaubsverwaltung.availability.api.AvailabilityApiController;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.PersonSummary;
 import org.synyx.urlaubsverwaltung.security.SecurityRules;
 
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.stream.Collectors.toList;
+import static org.springframework.hateoas.Link.REL_NEXT;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
+import static org.springframework.http.HttpHeaders.LINK;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
 import static org.synyx.urlaubsverwaltung.availability.api.AvailabilityApiController.AVAILABILITIES;
@@ -42,17 +51,31 @@ public class PersonApiController {
     }
 
     @ApiOperation(
-        value = "Get all active persons of the application", notes = "Get all active persons of the application"
+        value = "Get all active persons of the application", notes = "Get all active persons of the application. "
+        + "If a limit or cursor is given, the persons are paged ordered by last name and id, "
+        + "the link to the next page is returned in the 'Link' header with relation 'next'."
     )
     @GetMapping
     @PreAuthorize(SecurityRules.IS_OFFICE)
-    public ResponseEntity<List<PersonResponse>> persons() {
+    public ResponseEntity<List<PersonResponse>> persons(
+        @ApiParam(value = "Maximum number of persons of the page, at most " + KeysetPageRequest.MAX_SIZE)
+        @RequestParam(value = "limit", required = false)
+            Integer limit,
+        @ApiParam(value = "Cursor of the page, taken from the link to the next page")
+        @RequestParam(value = "cursor", required = false)
+            String cursor) {
 
-        List<PersonResponse> persons = personService.getActivePersons().stream()
-            .map(this::createPersonResponse)
-            .collect(toList());
+        final Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.of(cursor, limit);
+        if (pageRequest.isPresent()) {
+            final KeysetPage<PersonSummary> page = personService.getActivePersonSummaries(pageRequest.get());
+            final HttpHeaders headers = new HttpHeaders();
+            page.getNext().ifPresent(next -> headers.add(LINK, linkTo(methodOn(PersonApiController.class)
+                .persons(pageRequest.get().getSize(), next.encode())).withRel(REL_NEXT).toString()));
+
+            return new ResponseEntity<>(toResponses(page.getContent()), headers, OK);
+        }
 
-        return new ResponseEntity<>(persons, OK);
+        return new ResponseEntity<>(toResponses(personService.getActivePersonSummaries()), OK);
     }
 
     @ApiOperation(value = "Get one active person by id", notes = "Get one active person by id")
@@ -65,10 +88,19 @@ public class PersonApiController {
             .orElseGet(() -> new ResponseEntity<>(NOT_FOUND));
     }
 
+    private List<PersonResponse> toResponses(List<PersonSummary> persons) {
+        return persons.stream()
+            .map(person -> addLinks(PersonResponseMapper.mapToResponse(person), person.getId()))
+            .collect(toList());
+    }
+
     private PersonResponse createPersonResponse(Person person) {
-        final PersonResponse personResponse = PersonResponseMapper.mapToResponse(person);
-        personResponse.add(linkTo(methodOn(PersonApiController.class).getPerson(person.getId())).withSelfRel());
-        personResponse.add(linkTo(methodOn(AvailabilityApiController.class).personsAvailabilities(person.getId(), null, null))
+        return addLinks(PersonResponseMapper.mapToResponse(person), person.getId());
+    }
+
+    private PersonResponse addLinks(PersonResponse personResponse, Integer personId) {
+        personResponse.add(linkTo(methodOn(PersonApiController.class).getPerson(personId)).withSelfRel());
+        personResponse.add(linkTo(methodOn(AvailabilityApiController.class).personsAvailabilities(personId, null, null))
             .withRel(AVAILABILITIES));
         return personResponse;
     }
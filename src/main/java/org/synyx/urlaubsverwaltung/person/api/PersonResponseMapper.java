@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.person.api;
 
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonSummary;
 
 public final class PersonResponseMapper {
 
@@ -11,4 +12,8 @@ public final class PersonResponseMapper {
     public static PersonResponse mapToResponse(Person person) {
         return new PersonResponse(person.getEmail(), person.getFirstName(), person.getLastName(), person.getNiceName());
     }
+
+    public static PersonResponse mapToResponse(PersonSummary person) {
+        return new PersonResponse(person.getEmail(), person.getFirstName(), person.getLastName(), person.getNiceName());
+    }
 }
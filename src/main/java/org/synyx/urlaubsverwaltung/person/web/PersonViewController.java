@@ -16,6 +16,9 @@ import org.synyx.urlaubsverwaltung.account.service.VacationDaysService;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.department.web.UnknownDepartmentException;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonConfigurationProperties;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -130,26 +133,34 @@ public class PersonViewController {
     public String showPerson(@RequestParam(value = "active") boolean active,
                              @RequestParam(value = "department", required = false) Optional<Integer> requestedDepartmentId,
                              @RequestParam(value = "year", required = false) Optional<Integer> requestedYear,
+                             @RequestParam(value = "limit", required = false) Integer limit,
+                             @RequestParam(value = "cursor", required = false) String cursor,
                              Model model) throws UnknownDepartmentException {
 
         Integer year = requestedYear.orElseGet(() -> ZonedDateTime.now(UTC).getYear());
 
         Person signedInUser = personService.getSignedInUser();
-        final List<Person> persons = active ? getRelevantActivePersons(signedInUser)
-            : getRelevantInactivePersons(signedInUser);
 
+        Optional<Department> department = Optional.empty();
         if (requestedDepartmentId.isPresent()) {
             Integer departmentId = requestedDepartmentId.get();
-            Department department = departmentService.getDepartmentById(departmentId).orElseThrow(() ->
-                new UnknownDepartmentException(departmentId));
-
-            // if department filter is active, only department members are relevant
-            persons.retainAll(department.getMembers());
+            department = Optional.of(departmentService.getDepartmentById(departmentId).orElseThrow(() ->
+                new UnknownDepartmentException(departmentId)));
 
-            model.addAttribute("department", department);
+            model.addAttribute("department", department.get());
         }
 
-        preparePersonView(signedInUser, persons, year, model);
+        final Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.of(cursor, limit);
+        if (pageRequest.isPresent()) {
+            final KeysetPage<Person> page = getRelevantPersons(signedInUser, active, department, pageRequest.get());
+
+            preparePersonView(signedInUser, page.getContent(), year, model);
+
+            model.addAttribute("limit", pageRequest.get().getSize());
+            page.getNext().ifPresent(next -> model.addAttribute("nextCursor", next.encode()));
+        } else {
+            preparePersonView(signedInUser, getRelevantPersons(signedInUser, active, department), year, model);
+        }
 
         model.addAttribute("userCanBeManipulated", personConfigurationProperties.isCanBeManipulated());
 
@@ -157,6 +168,35 @@ public class PersonViewController {
     }
 
 
+    /**
+     * Boss and office see all persons, these are read page by page from the database. The persons of the departments
+     * of a department head or second stage authority and the members of a filtered department are limited by the size
+     * of the departments, so they are paged in memory.
+     */
+    private KeysetPage<Person> getRelevantPersons(Person signedInUser, boolean active, Optional<Department> department,
+                                                  KeysetPageRequest pageRequest) {
+
+        if (department.isEmpty() && (signedInUser.hasRole(Role.BOSS) || signedInUser.hasRole(Role.OFFICE))) {
+            return active ? personService.getActivePersons(pageRequest) : personService.getInactivePersons(pageRequest);
+        }
+
+        return KeysetPage.fromList(getRelevantPersons(signedInUser, active, department), pageRequest,
+            person -> KeysetCursor.of(person.getLastName(), person.getId()));
+    }
+
+
+    private List<Person> getRelevantPersons(Person signedInUser, boolean active, Optional<Department> department) {
+
+        final List<Person> persons = active ? getRelevantActivePersons(signedInUser)
+            : getRelevantInactivePersons(signedInUser);
+
+        // if department filter is active, only department members are relevant
+        department.ifPresent(filteredDepartment -> persons.retainAll(filteredDepartment.getMembers()));
+
+        return persons;
+    }
+
+
     private List<Person> getRelevantActivePersons(Person signedInUser) {
 
         if (signedInUser.hasRole(Role.BOSS) || signedInUser.hasRole(Role.OFFICE)) {
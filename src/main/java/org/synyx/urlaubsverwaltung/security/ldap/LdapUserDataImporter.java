@@ -34,7 +34,7 @@ public class LdapUserDataImporter {
     }
 
     @PostConstruct
-    void sync() {
+    public void sync() {
 
         LOG.info("STARTING DIRECTORY SERVICE SYNC --------------------------------------------------------------------------------");
 
@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import org.springframework.context.ApplicationEvent;
+
+public class SettingsSavedEvent extends ApplicationEvent {
+
+    private final transient Settings settings;
+
+    public SettingsSavedEvent(Object source, Settings settings) {
+        super(source);
+        this.settings = settings;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+}
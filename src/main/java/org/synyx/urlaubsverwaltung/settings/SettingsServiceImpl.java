@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.settings;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -17,11 +18,13 @@ public class SettingsServiceImpl implements SettingsService {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final SettingsDAO settingsDAO;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public SettingsServiceImpl(SettingsDAO settingsDAO) {
+    public SettingsServiceImpl(SettingsDAO settingsDAO, ApplicationEventPublisher applicationEventPublisher) {
 
         this.settingsDAO = settingsDAO;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -30,6 +33,8 @@ public class SettingsServiceImpl implements SettingsService {
         settingsDAO.save(settings);
 
         LOG.info("Updated settings: {}", settings);
+
+        applicationEventPublisher.publishEvent(new SettingsSavedEvent(this, settings));
     }
 
 
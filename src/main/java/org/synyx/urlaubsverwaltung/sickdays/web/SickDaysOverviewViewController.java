@@ -11,13 +11,16 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.security.SecurityRules;
-import org.synyx.urlaubsverwaltung.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteSummary;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import org.synyx.urlaubsverwaltung.web.LocalDatePropertyEditor;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCalculator;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
 
 import java.math.BigDecimal;
@@ -28,7 +31,10 @@ import java.util.Map;
 import java.util.Optional;
 
 import static java.time.ZoneOffset.UTC;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.synyx.urlaubsverwaltung.sickdays.web.SickDays.SickDayType.TOTAL;
 import static org.synyx.urlaubsverwaltung.sickdays.web.SickDays.SickDayType.WITH_AUB;
 import static org.synyx.urlaubsverwaltung.sicknote.SickNoteCategory.SICK_NOTE_CHILD;
@@ -70,27 +76,46 @@ public class SickDaysOverviewViewController {
     @PreAuthorize(SecurityRules.IS_OFFICE)
     @GetMapping("/sicknote")
     public String periodsSickNotes(@RequestParam(value = "from", required = false) String from,
-                                   @RequestParam(value = "to", required = false) String to, Model model) {
+                                   @RequestParam(value = "to", required = false) String to,
+                                   @RequestParam(value = "limit", required = false) Integer limit,
+                                   @RequestParam(value = "cursor", required = false) String cursor, Model model) {
 
         FilterPeriod period = new FilterPeriod(Optional.ofNullable(from), Optional.ofNullable(to));
-        List<SickNote> sickNoteList = sickNoteService.getByPeriod(period.getStartDate(), period.getEndDate());
-        fillModel(model, sickNoteList, period);
+        Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.of(cursor, limit);
+
+        final List<Person> persons;
+        final List<SickNoteSummary> sickNotes;
+
+        if (pageRequest.isPresent()) {
+            // the persons are paged, so only the sick notes of the persons of the page are needed
+            KeysetPage<Person> page = personService.getActivePersons(pageRequest.get());
+            persons = page.getContent();
+            sickNotes = sickNoteService.getActiveSickNoteSummaries(persons, period.getStartDate(), period.getEndDate());
+
+            model.addAttribute("limit", pageRequest.get().getSize());
+            page.getNext().ifPresent(next -> model.addAttribute("nextCursor", next.encode()));
+        } else {
+            persons = personService.getActivePersons();
+            sickNotes = sickNoteService.getActiveSickNoteSummaries(period.getStartDate(), period.getEndDate());
+        }
+
+        fillModel(model, persons, sickNotes, period);
 
         return "sicknote/sick_notes";
     }
 
 
-    private void fillModel(Model model, List<SickNote> sickNotes, FilterPeriod period) {
+    private void fillModel(Model model, List<Person> persons, List<SickNoteSummary> sickNotes, FilterPeriod period) {
 
         model.addAttribute("today", LocalDate.now(UTC));
         model.addAttribute("from", period.getStartDate());
         model.addAttribute("to", period.getEndDate());
         model.addAttribute("period", period);
 
-        List<Person> persons = personService.getActivePersons();
+        Map<Integer, Person> personsById = persons.stream().collect(toMap(Person::getId, identity()));
 
-        List<SickNote> sickNotesOfActivePersons = sickNotes.stream()
-            .filter(sickNote -> persons.contains(sickNote.getPerson()) && sickNote.isActive())
+        List<SickNoteSummary> sickNotesOfActivePersons = sickNotes.stream()
+            .filter(sickNote -> personsById.containsKey(sickNote.getPersonId()))
             .collect(toList());
 
         Map<Person, SickDays> sickDays = new HashMap<>();
@@ -101,29 +126,26 @@ public class SickDaysOverviewViewController {
             childSickDays.put(person, new SickDays());
         }
 
-        for (SickNote sickNote : sickNotesOfActivePersons) {
-            Person person = sickNote.getPerson();
-            BigDecimal workDays = calendarService.getWorkDays(sickNote.getDayLength(), sickNote.getStartDate(),
-                sickNote.getEndDate(), person);
+        WorkDaysCalculator workDaysCalculator = calendarService.getWorkDaysCalculator(sickNotesOfActivePersons.stream()
+            .map(SickNoteSummary::getPersonId)
+            .collect(toSet()));
 
-            if (sickNote.getSickNoteType().isOfCategory(SICK_NOTE_CHILD)) {
-                childSickDays.get(person).addDays(TOTAL, workDays);
+        for (SickNoteSummary sickNote : sickNotesOfActivePersons) {
+            Person person = personsById.get(sickNote.getPersonId());
+            BigDecimal workDays = workDaysCalculator.getWorkDays(sickNote.getDayLength(), sickNote.getStartDate(),
+                sickNote.getEndDate(), sickNote.getPersonId());
 
-                if (sickNote.isAubPresent()) {
-                    BigDecimal workDaysWithAUB = calendarService.getWorkDays(sickNote.getDayLength(),
-                        sickNote.getAubStartDate(), sickNote.getAubEndDate(), person);
+            SickDays sickDaysOfPerson = sickNote.getCategory() == SICK_NOTE_CHILD
+                ? childSickDays.get(person)
+                : sickDays.get(person);
 
-                    childSickDays.get(person).addDays(WITH_AUB, workDaysWithAUB);
-                }
-            } else {
-                sickDays.get(person).addDays(TOTAL, workDays);
+            sickDaysOfPerson.addDays(TOTAL, workDays);
 
-                if (sickNote.isAubPresent()) {
-                    BigDecimal workDaysWithAUB = calendarService.getWorkDays(sickNote.getDayLength(),
-                        sickNote.getAubStartDate(), sickNote.getAubEndDate(), person);
+            if (sickNote.isAubPresent()) {
+                BigDecimal workDaysWithAUB = workDaysCalculator.getWorkDays(sickNote.getDayLength(),
+                    sickNote.getAubStartDate(), sickNote.getAubEndDate(), sickNote.getPersonId());
 
-                    sickDays.get(person).addDays(WITH_AUB, workDaysWithAUB);
-                }
+                sickDaysOfPerson.addDays(WITH_AUB, workDaysWithAUB);
             }
         }
 
@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.sicknote;
+
+import org.hibernate.annotations.Immutable;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+
+/**
+ * Sick note that has been moved to the archive, because it has been cancelled or converted to vacation long ago.
+ * Archived sick notes can not be changed, they are only read as {@link SickNote} for historical years.
+ */
+@Entity
+@Immutable
+@Table(name = "SickNote_Archive")
+public class ArchivedSickNote {
+
+    @Id
+    private Integer id;
+
+    @ManyToOne
+    private Person person;
+
+    @ManyToOne
+    private SickNoteType sickNoteType;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    private DayLength dayLength;
+
+    private LocalDate aubStartDate;
+
+    private LocalDate aubEndDate;
+
+    private LocalDate lastEdited;
+
+    @Enumerated(EnumType.STRING)
+    private SickNoteStatus status;
+
+    ArchivedSickNote() {
+
+        // needed for Hibernate
+    }
+
+    public SickNote toSickNote() {
+
+        final SickNote sickNote = new SickNote();
+        sickNote.setId(id);
+        sickNote.setPerson(person);
+        sickNote.setSickNoteType(sickNoteType);
+        sickNote.setStartDate(startDate);
+        sickNote.setEndDate(endDate);
+        sickNote.setDayLength(dayLength);
+        sickNote.setAubStartDate(aubStartDate);
+        sickNote.setAubEndDate(aubEndDate);
+        sickNote.setLastEdited(lastEdited);
+        sickNote.setStatus(status);
+        sickNote.setArchived(true);
+
+        return sickNote;
+    }
+}
@@ -0,0 +1,55 @@
+package org.synyx.urlaubsverwaltung.sicknote;
+
+import org.hibernate.annotations.Immutable;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+
+/**
+ * Comment of an {@link ArchivedSickNote}, it is read as {@link SickNoteComment} of the archived sick note.
+ */
+@Entity
+@Immutable
+@Table(name = "SickNoteComment_Archive")
+public class ArchivedSickNoteComment {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "sickNote_id")
+    private Integer sickNoteId;
+
+    @ManyToOne
+    private Person person;
+
+    private LocalDate date;
+
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    private SickNoteAction action;
+
+    ArchivedSickNoteComment() {
+
+        // needed for Hibernate
+    }
+
+    public SickNoteComment toSickNoteComment(SickNote sickNote) {
+
+        final SickNoteComment comment = new SickNoteComment(date);
+        comment.setSickNote(sickNote);
+        comment.setPerson(person);
+        comment.setText(text);
+        comment.setAction(action);
+
+        return comment;
+    }
+}
@@ -0,0 +1,14 @@
+package org.synyx.urlaubsverwaltung.sicknote;
+
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+
+/**
+ * Read only repository for {@link ArchivedSickNoteComment} entities.
+ */
+interface ArchivedSickNoteCommentDAO extends Repository<ArchivedSickNoteComment, Integer> {
+
+    List<ArchivedSickNoteComment> findBySickNoteIdOrderById(Integer sickNoteId);
+}
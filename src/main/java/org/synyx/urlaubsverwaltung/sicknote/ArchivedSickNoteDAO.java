@@ -0,0 +1,31 @@
+package org.synyx.urlaubsverwaltung.sicknote;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Read only repository for {@link ArchivedSickNote} entities, the period queries are the same as the ones of
+ * {@link SickNoteDAO}.
+ */
+interface ArchivedSickNoteDAO extends Repository<ArchivedSickNote, Integer> {
+
+    Optional<ArchivedSickNote> findById(Integer id);
+
+    @Query(
+        "SELECT x FROM ArchivedSickNote x WHERE x.person = ?1 AND x.startDate <= ?3 AND x.endDate >= ?2 "
+            + "ORDER BY x.startDate"
+    )
+    List<ArchivedSickNote> findByPersonAndPeriod(Person person, LocalDate startDate, LocalDate endDate);
+
+    @Query(
+        "SELECT x FROM ArchivedSickNote x WHERE x.startDate <= ?2 AND x.endDate >= ?1 "
+            + "ORDER BY x.startDate"
+    )
+    List<ArchivedSickNote> findByPeriod(LocalDate startDate, LocalDate endDate);
+}
@@ -10,6 +10,7 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.ManyToOne;
+import javax.persistence.Transient;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -65,6 +66,12 @@ public class SickNote extends AbstractPersistable<Integer> {
     @Enumerated(EnumType.STRING)
     private SickNoteStatus status;
 
+    /**
+     * Flag if the sick note has been read from the archive, archived sick notes can not be changed.
+     */
+    @Transient
+    private boolean archived;
+
     public SickNote() {
 
         this.lastEdited = LocalDate.now(UTC);
@@ -210,6 +217,18 @@ public class SickNote extends AbstractPersistable<Integer> {
     }
 
 
+    public boolean isArchived() {
+
+        return archived;
+    }
+
+
+    void setArchived(boolean archived) {
+
+        this.archived = archived;
+    }
+
+
     public Period getPeriod() {
 
         return new Period(getStartDate(), getEndDate(), getDayLength());
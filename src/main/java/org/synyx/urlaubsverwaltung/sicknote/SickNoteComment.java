@@ -6,6 +6,7 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.ManyToOne;
+import java.time.LocalDate;
 
 
 /**
@@ -20,6 +21,18 @@ public class SickNoteComment extends AbstractComment {
     @Enumerated(EnumType.STRING)
     private SickNoteAction action;
 
+    public SickNoteComment() {
+
+        // needed for Hibernate
+    }
+
+
+    public SickNoteComment(LocalDate date) {
+
+        super(date);
+    }
+
+
     public SickNote getSickNote() {
 
         return sickNote;
@@ -2,10 +2,13 @@ package org.synyx.urlaubsverwaltung.sicknote;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.util.List;
 
+import static java.util.stream.Collectors.toList;
+
 
 /**
  * Implementation for {@link SickNoteCommentService}.
@@ -14,11 +17,13 @@ import java.util.List;
 class SickNoteCommentServiceImpl implements SickNoteCommentService {
 
     private final SickNoteCommentDAO commentDAO;
+    private final ArchivedSickNoteCommentDAO archivedCommentDAO;
 
     @Autowired
-    public SickNoteCommentServiceImpl(SickNoteCommentDAO commentDAO) {
+    public SickNoteCommentServiceImpl(SickNoteCommentDAO commentDAO, ArchivedSickNoteCommentDAO archivedCommentDAO) {
 
         this.commentDAO = commentDAO;
+        this.archivedCommentDAO = archivedCommentDAO;
     }
 
     @Override
@@ -29,6 +34,8 @@ class SickNoteCommentServiceImpl implements SickNoteCommentService {
     @Override
     public SickNoteComment create(SickNote sickNote, SickNoteAction action, Person author, String text) {
 
+        Assert.state(!sickNote.isArchived(), "Archived sick note can not be commented.");
+
         final SickNoteComment comment = new SickNoteComment();
 
         comment.setSickNote(sickNote);
@@ -48,6 +55,15 @@ class SickNoteCommentServiceImpl implements SickNoteCommentService {
     @Override
     public List<SickNoteComment> getCommentsBySickNote(SickNote sickNote) {
 
-        return commentDAO.getCommentsBySickNote(sickNote);
+        final List<SickNoteComment> comments = commentDAO.getCommentsBySickNote(sickNote);
+
+        // every sick note has got at least one comment, only the comments of archived sick notes are missing
+        if (!comments.isEmpty() || sickNote.getId() == null) {
+            return comments;
+        }
+
+        return archivedCommentDAO.findBySickNoteIdOrderById(sickNote.getId()).stream()
+            .map(archivedComment -> archivedComment.toSickNoteComment(sickNote))
+            .collect(toList());
     }
 }
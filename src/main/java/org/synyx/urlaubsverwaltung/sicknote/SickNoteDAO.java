@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.sicknote;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -10,34 +11,97 @@ import java.util.List;
 
 /**
  * Repository for {@link SickNote} entities.
+ *
+ * <p>The paged queries are ordered by {@code (startDate, id)} and continue after the start date and id of the last
+ * sick note of the previous page, the limit is given by the {@link Pageable}.</p>
  */
 interface SickNoteDAO extends CrudRepository<SickNote, Integer> {
 
     @Query(
-        "SELECT x FROM SickNote x WHERE x.person = ?1 AND "
-            + "((x.startDate BETWEEN ?2 AND ?3) OR (x.endDate BETWEEN ?2 AND ?3) "
-            + "OR (x.startDate < ?2 and x.endDate > ?3)) "
+        "SELECT x FROM SickNote x WHERE x.person = ?1 AND x.startDate <= ?3 AND x.endDate >= ?2 "
             + "ORDER BY x.startDate"
     )
     List<SickNote> findByPersonAndPeriod(Person person, LocalDate startDate, LocalDate endDate);
 
 
     @Query(
-        "SELECT x FROM SickNote x WHERE ((x.startDate BETWEEN ?1 AND ?2) OR (x.endDate BETWEEN ?1 AND ?2) "
-            + "OR (x.startDate < ?1 and x.endDate > ?2)) "
+        "SELECT x FROM SickNote x WHERE x.startDate <= ?2 AND x.endDate >= ?1 "
             + "ORDER BY x.startDate"
     )
     List<SickNote> findByPeriod(LocalDate startDate, LocalDate endDate);
 
 
+    @Query(
+        "SELECT x FROM SickNote x WHERE x.person = ?1 AND x.startDate <= ?3 AND x.endDate >= ?2 AND x.status = 'ACTIVE' "
+            + "ORDER BY x.startDate, x.id"
+    )
+    List<SickNote> findActiveByPersonAndPeriod(Person person, LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+
+    @Query(
+        "SELECT x FROM SickNote x WHERE x.person = ?1 AND x.startDate <= ?3 AND x.endDate >= ?2 AND x.status = 'ACTIVE' "
+            + "AND (x.startDate > ?4 OR (x.startDate = ?4 AND x.id > ?5)) "
+            + "ORDER BY x.startDate, x.id"
+    )
+    List<SickNote> findActiveByPersonAndPeriodAfter(Person person, LocalDate startDate, LocalDate endDate,
+                                                    LocalDate afterStartDate, Integer afterId, Pageable pageable);
+
+
+    @Query(
+        "SELECT x FROM SickNote x WHERE x.startDate <= ?2 AND x.endDate >= ?1 AND x.status = 'ACTIVE' "
+            + "ORDER BY x.startDate, x.id"
+    )
+    List<SickNote> findActiveByPeriod(LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+
+    @Query(
+        "SELECT x FROM SickNote x WHERE x.startDate <= ?2 AND x.endDate >= ?1 AND x.status = 'ACTIVE' "
+            + "AND (x.startDate > ?3 OR (x.startDate = ?3 AND x.id > ?4)) "
+            + "ORDER BY x.startDate, x.id"
+    )
+    List<SickNote> findActiveByPeriodAfter(LocalDate startDate, LocalDate endDate, LocalDate afterStartDate,
+                                           Integer afterId, Pageable pageable);
+
+
     // NOTE: Following methods are to create statistic
 
-    @Query("SELECT x FROM SickNote x WHERE (YEAR(x.startDate) = ?1 OR YEAR(x.endDate) = ?1) AND x.status = 'ACTIVE'")
-    List<SickNote> findAllActiveByYear(int year);
+    @Query(
+        "SELECT x.id AS id, x.person.id AS personId, x.startDate AS startDate, x.endDate AS endDate, "
+            + "x.dayLength AS dayLength "
+            + "FROM SickNote x WHERE x.startDate <= ?2 AND x.endDate >= ?1 AND x.status = 'ACTIVE'"
+    )
+    List<SickNotePeriod> findActiveSickNotePeriods(LocalDate from, LocalDate to);
+
+
+    // NOTE: Following methods are used to list sick notes without loading the entities
+
+    @Query(
+        "SELECT x.id AS id, x.person.id AS personId, x.startDate AS startDate, x.endDate AS endDate, "
+            + "x.dayLength AS dayLength "
+            + "FROM SickNote x WHERE x.person = ?1 AND x.startDate <= ?3 AND x.endDate >= ?2 AND x.status = 'ACTIVE' "
+            + "ORDER BY x.startDate"
+    )
+    List<SickNotePeriod> findActiveSickNotePeriodsByPerson(Person person, LocalDate from, LocalDate to);
 
 
-    @Query("SELECT COUNT(DISTINCT x.person) FROM SickNote x WHERE YEAR(x.startDate) = ?1 OR YEAR(x.endDate) = ?1 AND x.status = 'ACTIVE'")
-    Long findNumberOfPersonsWithMinimumOneSickNote(int year);
+    @Query(
+        "SELECT x.id AS id, x.person.id AS personId, x.startDate AS startDate, x.endDate AS endDate, "
+            + "x.dayLength AS dayLength, x.sickNoteType.category AS category, "
+            + "x.aubStartDate AS aubStartDate, x.aubEndDate AS aubEndDate "
+            + "FROM SickNote x WHERE x.startDate <= ?2 AND x.endDate >= ?1 AND x.status = 'ACTIVE' "
+            + "ORDER BY x.startDate"
+    )
+    List<SickNoteSummary> findActiveSickNoteSummaries(LocalDate from, LocalDate to);
+
+
+    @Query(
+        "SELECT x.id AS id, x.person.id AS personId, x.startDate AS startDate, x.endDate AS endDate, "
+            + "x.dayLength AS dayLength, x.sickNoteType.category AS category, "
+            + "x.aubStartDate AS aubStartDate, x.aubEndDate AS aubEndDate "
+            + "FROM SickNote x WHERE x.person IN ?3 AND x.startDate <= ?2 AND x.endDate >= ?1 AND x.status = 'ACTIVE' "
+            + "ORDER BY x.startDate"
+    )
+    List<SickNoteSummary> findActiveSickNoteSummariesByPersons(LocalDate from, LocalDate to, List<Person> persons);
 
 
     // NOTE: Only needed to send email after certain duration of a sick note
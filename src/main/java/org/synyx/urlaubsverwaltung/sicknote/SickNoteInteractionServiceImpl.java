@@ -6,18 +6,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationInteractionService;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncService;
-import org.synyx.urlaubsverwaltung.absence.Absence;
-import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
-import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
-import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncQueue;
 import org.synyx.urlaubsverwaltung.absence.AbsenceType;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
-import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.time.ZoneOffset.UTC;
@@ -37,21 +30,17 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
     private final SickNoteService sickNoteService;
     private final SickNoteCommentService commentService;
     private final ApplicationInteractionService applicationInteractionService;
-    private final CalendarSyncService calendarSyncService;
-    private final AbsenceMappingService absenceMappingService;
-    private final SettingsService settingsService;
+    private final CalendarSyncQueue calendarSyncQueue;
 
     @Autowired
     public SickNoteInteractionServiceImpl(SickNoteService sickNoteService, SickNoteCommentService commentService,
-                                          ApplicationInteractionService applicationInteractionService, CalendarSyncService calendarSyncService,
-                                          AbsenceMappingService absenceMappingService, SettingsService settingsService) {
+                                          ApplicationInteractionService applicationInteractionService,
+                                          CalendarSyncQueue calendarSyncQueue) {
 
         this.sickNoteService = sickNoteService;
         this.commentService = commentService;
         this.applicationInteractionService = applicationInteractionService;
-        this.calendarSyncService = calendarSyncService;
-        this.absenceMappingService = absenceMappingService;
-        this.settingsService = settingsService;
+        this.calendarSyncQueue = calendarSyncQueue;
     }
 
     @Override
@@ -69,7 +58,7 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
 
         LOG.info("Created sick note: {}", sickNote);
 
-        updateCalendar(sickNote);
+        calendarSyncQueue.addAbsence(sickNote.getId(), AbsenceType.SICKNOTE, sickNote.getPerson(), sickNote.getPeriod());
 
         return sickNote;
     }
@@ -89,7 +78,8 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
 
         LOG.info("Updated sick note: {}", sickNote);
 
-        updateAbsence(sickNote);
+        calendarSyncQueue.updateAbsence(sickNote.getId(), AbsenceType.SICKNOTE, sickNote.getPerson(),
+            sickNote.getPeriod());
 
         return sickNote;
     }
@@ -107,18 +97,8 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
 
         LOG.info("Converted sick note to vacation: {}", sickNote);
 
-        Optional<AbsenceMapping> absenceMapping = absenceMappingService.getAbsenceByIdAndType(sickNote.getId(),
-            AbsenceType.SICKNOTE);
-
-        if (absenceMapping.isPresent()) {
-            String eventId = absenceMapping.get().getEventId();
-            CalendarSettings calendarSettings = settingsService.getSettings().getCalendarSettings();
-
-            calendarSyncService.update(new Absence(application.getPerson(), application.getPeriod(),
-                new AbsenceTimeConfiguration(calendarSettings)), eventId);
-            absenceMappingService.delete(absenceMapping.get());
-            absenceMappingService.create(application.getId(), AbsenceType.VACATION, eventId);
-        }
+        calendarSyncQueue.moveAbsence(sickNote.getId(), AbsenceType.SICKNOTE, application.getId(), AbsenceType.VACATION,
+            application.getPerson(), application.getPeriod());
 
         return sickNote;
     }
@@ -134,41 +114,11 @@ class SickNoteInteractionServiceImpl implements SickNoteInteractionService {
 
         LOG.info("Cancelled sick note: {}", sickNote);
 
-        Optional<AbsenceMapping> absenceMapping = absenceMappingService.getAbsenceByIdAndType(sickNote.getId(),
-            AbsenceType.SICKNOTE);
-
-        if (absenceMapping.isPresent()) {
-            calendarSyncService.deleteAbsence(absenceMapping.get().getEventId());
-            absenceMappingService.delete(absenceMapping.get());
-        }
+        calendarSyncQueue.deleteAbsence(sickNote.getId(), AbsenceType.SICKNOTE);
 
         return sickNote;
     }
 
-    private void updateAbsence(SickNote sickNote) {
-
-        Optional<AbsenceMapping> absenceMapping = absenceMappingService.getAbsenceByIdAndType(sickNote.getId(),
-            AbsenceType.SICKNOTE);
-
-        if (absenceMapping.isPresent()) {
-            CalendarSettings calendarSettings = settingsService.getSettings().getCalendarSettings();
-            AbsenceTimeConfiguration timeConfiguration = new AbsenceTimeConfiguration(calendarSettings);
-            calendarSyncService.update(new Absence(sickNote.getPerson(), sickNote.getPeriod(),
-                timeConfiguration), absenceMapping.get().getEventId());
-        }
-    }
-
-    private void updateCalendar(SickNote sickNote) {
-
-        CalendarSettings calendarSettings = settingsService.getSettings().getCalendarSettings();
-        AbsenceTimeConfiguration timeConfiguration = new AbsenceTimeConfiguration(calendarSettings);
-
-        Optional<String> eventId = calendarSyncService.addAbsence(new Absence(sickNote.getPerson(),
-            sickNote.getPeriod(), timeConfiguration));
-
-        eventId.ifPresent(s -> absenceMappingService.create(sickNote.getId(), AbsenceType.SICKNOTE, s));
-    }
-
     private void saveSickNote(SickNote sickNote) {
 
         sickNote.setLastEdited(LocalDate.now(UTC));
@@ -0,0 +1,23 @@
+package org.synyx.urlaubsverwaltung.sicknote;
+
+import org.synyx.urlaubsverwaltung.period.DayLength;
+
+import java.time.LocalDate;
+
+
+/**
+ * Projection of the period of a {@link SickNote}, used to calculate statistics and list absences without loading the
+ * sick notes and their persons.
+ */
+public interface SickNotePeriod {
+
+    Integer getId();
+
+    Integer getPersonId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    DayLength getDayLength();
+}
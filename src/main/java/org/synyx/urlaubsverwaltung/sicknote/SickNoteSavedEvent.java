@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.sicknote;
+
+import org.springframework.context.ApplicationEvent;
+
+public class SickNoteSavedEvent extends ApplicationEvent {
+
+    private final transient SickNote sickNote;
+
+    public SickNoteSavedEvent(Object source, SickNote sickNote) {
+        super(source);
+        this.sickNote = sickNote;
+    }
+
+    public SickNote getSickNote() {
+        return sickNote;
+    }
+}
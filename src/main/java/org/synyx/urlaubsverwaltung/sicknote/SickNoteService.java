@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.sicknote;
 
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
@@ -50,6 +52,31 @@ public interface SickNoteService {
     List<SickNote> getByPeriod(LocalDate from, LocalDate to);
 
 
+    /**
+     * Get one page of the active sick notes of the given person that are in the given period, ordered by start date
+     * and id.
+     *
+     * @param person      defines the owner of the sick notes
+     * @param from        defines the start of the period
+     * @param to          defines the end of the period
+     * @param pageRequest defines the page to get
+     * @return the requested page of the active sick notes matching the given parameters
+     */
+    KeysetPage<SickNote> getActiveByPersonAndPeriod(Person person, LocalDate from, LocalDate to,
+                                                    KeysetPageRequest pageRequest);
+
+
+    /**
+     * Get one page of the active sick notes that are in the given period, ordered by start date and id.
+     *
+     * @param from        defines the start of the period
+     * @param to          defines the end of the period
+     * @param pageRequest defines the page to get
+     * @return the requested page of the active sick notes matching the given parameters
+     */
+    KeysetPage<SickNote> getActiveByPeriod(LocalDate from, LocalDate to, KeysetPageRequest pageRequest);
+
+
     /**
      * Get all the sick notes that are reaching the end of sick pay.
      *
@@ -57,9 +84,44 @@ public interface SickNoteService {
      */
     List<SickNote> getSickNotesReachingEndOfSickPay();
 
-    List<SickNote> getAllActiveByYear(int year);
+    /**
+     * Get the periods of all active sick notes overlapping the given period.
+     *
+     * @param from start of the period
+     * @param to   end of the period
+     * @return periods of the active sick notes overlapping the given period
+     */
+    List<SickNotePeriod> getActiveSickNotePeriods(LocalDate from, LocalDate to);
+
+    /**
+     * Get the periods of the active sick notes of the given person overlapping the given period, ordered by start
+     * date.
+     *
+     * @param person to get the sick note periods for
+     * @param from   start of the period
+     * @param to     end of the period
+     * @return periods of the active sick notes of the person overlapping the given period
+     */
+    List<SickNotePeriod> getActiveSickNotePeriods(Person person, LocalDate from, LocalDate to);
+
+    /**
+     * Get a summary of all active sick notes overlapping the given period, ordered by start date.
+     *
+     * @param from start of the period
+     * @param to   end of the period
+     * @return summaries of the active sick notes overlapping the given period
+     */
+    List<SickNoteSummary> getActiveSickNoteSummaries(LocalDate from, LocalDate to);
 
-    Long getNumberOfPersonsWithMinimumOneSickNote(int year);
+    /**
+     * Get a summary of the active sick notes of the given persons overlapping the given period, ordered by start date.
+     *
+     * @param persons to get the sick note summaries for
+     * @param from    start of the period
+     * @param to      end of the period
+     * @return summaries of the active sick notes of the persons overlapping the given period
+     */
+    List<SickNoteSummary> getActiveSickNoteSummaries(List<Person> persons, LocalDate from, LocalDate to);
 
     /**
      * Get all {@link SickNote} with specific states
@@ -1,7 +1,13 @@
 package org.synyx.urlaubsverwaltung.sicknote;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+import org.synyx.urlaubsverwaltung.archive.ArchiveService;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.AbsenceSettings;
 import org.synyx.urlaubsverwaltung.settings.Settings;
@@ -11,51 +17,99 @@ import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
 
 
 /**
  * Implementation for {@link org.synyx.urlaubsverwaltung.sicknote.SickNoteService}.
+ *
+ * <p>The sick notes of periods that may contain archived sick notes are read from the archive too, see
+ * {@link ArchiveService}. Only cancelled and converted sick notes are archived, the active ones are never read from
+ * the archive. The sick notes read from the archive can not be saved anymore.</p>
  */
 @Service
 class SickNoteServiceImpl implements SickNoteService {
 
     private final SickNoteDAO sickNoteDAO;
+    private final ArchivedSickNoteDAO archivedSickNoteDAO;
+    private final ArchiveService archiveService;
     private final SettingsService settingsService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public SickNoteServiceImpl(SickNoteDAO sickNoteDAO, SettingsService settingsService) {
+    public SickNoteServiceImpl(SickNoteDAO sickNoteDAO, ArchivedSickNoteDAO archivedSickNoteDAO,
+                               ArchiveService archiveService, SettingsService settingsService,
+                               ApplicationEventPublisher applicationEventPublisher) {
 
         this.sickNoteDAO = sickNoteDAO;
+        this.archivedSickNoteDAO = archivedSickNoteDAO;
+        this.archiveService = archiveService;
         this.settingsService = settingsService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
     public void save(SickNote sickNote) {
 
-        sickNoteDAO.save(sickNote);
+        Assert.state(!sickNote.isArchived(), "Archived sick note can not be changed.");
+
+        final SickNote savedSickNote = sickNoteDAO.save(sickNote);
+        applicationEventPublisher.publishEvent(new SickNoteSavedEvent(this, savedSickNote));
     }
 
 
     @Override
     public Optional<SickNote> getById(Integer id) {
 
-        return sickNoteDAO.findById(id);
+        return sickNoteDAO.findById(id)
+            .or(() -> archivedSickNoteDAO.findById(id).map(ArchivedSickNote::toSickNote));
     }
 
 
     @Override
     public List<SickNote> getByPersonAndPeriod(Person person, LocalDate from, LocalDate to) {
 
-        return sickNoteDAO.findByPersonAndPeriod(person, from, to);
+        return withArchived(from, sickNoteDAO.findByPersonAndPeriod(person, from, to),
+            () -> archivedSickNoteDAO.findByPersonAndPeriod(person, from, to));
     }
 
 
     @Override
     public List<SickNote> getByPeriod(LocalDate from, LocalDate to) {
 
-        return sickNoteDAO.findByPeriod(from, to);
+        return withArchived(from, sickNoteDAO.findByPeriod(from, to),
+            () -> archivedSickNoteDAO.findByPeriod(from, to));
+    }
+
+
+    @Override
+    public KeysetPage<SickNote> getActiveByPersonAndPeriod(Person person, LocalDate from, LocalDate to,
+                                                           KeysetPageRequest pageRequest) {
+
+        final List<SickNote> sickNotes = pageRequest.getAfter()
+            .map(after -> sickNoteDAO.findActiveByPersonAndPeriodAfter(person, from, to, after.getDateKey(),
+                after.getId(), pageRequest.toPageable()))
+            .orElseGet(() -> sickNoteDAO.findActiveByPersonAndPeriod(person, from, to, pageRequest.toPageable()));
+
+        return KeysetPage.of(sickNotes, pageRequest, SickNoteServiceImpl::toCursor);
+    }
+
+
+    @Override
+    public KeysetPage<SickNote> getActiveByPeriod(LocalDate from, LocalDate to, KeysetPageRequest pageRequest) {
+
+        final List<SickNote> sickNotes = pageRequest.getAfter()
+            .map(after -> sickNoteDAO.findActiveByPeriodAfter(from, to, after.getDateKey(), after.getId(),
+                pageRequest.toPageable()))
+            .orElseGet(() -> sickNoteDAO.findActiveByPeriod(from, to, pageRequest.toPageable()));
+
+        return KeysetPage.of(sickNotes, pageRequest, SickNoteServiceImpl::toCursor);
     }
 
 
@@ -73,15 +127,31 @@ class SickNoteServiceImpl implements SickNoteService {
     }
 
     @Override
-    public List<SickNote> getAllActiveByYear(int year) {
+    public List<SickNotePeriod> getActiveSickNotePeriods(LocalDate from, LocalDate to) {
 
-        return sickNoteDAO.findAllActiveByYear(year);
+        return sickNoteDAO.findActiveSickNotePeriods(from, to);
     }
 
     @Override
-    public Long getNumberOfPersonsWithMinimumOneSickNote(int year) {
+    public List<SickNotePeriod> getActiveSickNotePeriods(Person person, LocalDate from, LocalDate to) {
 
-        return sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(year);
+        return sickNoteDAO.findActiveSickNotePeriodsByPerson(person, from, to);
+    }
+
+    @Override
+    public List<SickNoteSummary> getActiveSickNoteSummaries(LocalDate from, LocalDate to) {
+
+        return sickNoteDAO.findActiveSickNoteSummaries(from, to);
+    }
+
+    @Override
+    public List<SickNoteSummary> getActiveSickNoteSummaries(List<Person> persons, LocalDate from, LocalDate to) {
+
+        if (persons.isEmpty()) {
+            return emptyList();
+        }
+
+        return sickNoteDAO.findActiveSickNoteSummariesByPersons(from, to, persons);
     }
 
     @Override
@@ -95,4 +165,30 @@ class SickNoteServiceImpl implements SickNoteService {
 
         return sickNoteDAO.findByStatusInAndPersonIn(sickNoteStatuses, persons);
     }
+
+    /**
+     * Adds the archived sick notes if the period starting at the given date may contain archived sick notes, the
+     * result is ordered by the start date like the sick notes read from the database.
+     */
+    private List<SickNote> withArchived(LocalDate from, List<SickNote> sickNotes,
+                                        Supplier<List<ArchivedSickNote>> archivedSickNotes) {
+
+        if (!archiveService.isArchivedPeriod(from)) {
+            return sickNotes;
+        }
+
+        final List<ArchivedSickNote> archived = archivedSickNotes.get();
+        if (archived.isEmpty()) {
+            return sickNotes;
+        }
+
+        return Stream.concat(sickNotes.stream(), archived.stream().map(ArchivedSickNote::toSickNote))
+            .sorted(comparing(SickNote::getStartDate))
+            .collect(toList());
+    }
+
+    private static KeysetCursor toCursor(SickNote sickNote) {
+
+        return KeysetCursor.of(sickNote.getStartDate(), sickNote.getId());
+    }
 }
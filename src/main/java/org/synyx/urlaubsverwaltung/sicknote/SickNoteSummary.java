@@ -0,0 +1,22 @@
+package org.synyx.urlaubsverwaltung.sicknote;
+
+import java.time.LocalDate;
+
+
+/**
+ * Projection of a {@link SickNote} with its category and the period of the AUB, used to calculate the sick days of
+ * many persons without loading the sick notes and their persons.
+ */
+public interface SickNoteSummary extends SickNotePeriod {
+
+    SickNoteCategory getCategory();
+
+    LocalDate getAubStartDate();
+
+    LocalDate getAubEndDate();
+
+    default boolean isAubPresent() {
+
+        return getAubStartDate() != null && getAubEndDate() != null;
+    }
+}
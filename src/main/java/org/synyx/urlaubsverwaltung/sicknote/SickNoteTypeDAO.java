@@ -1,7 +1,17 @@
 package org.synyx.urlaubsverwaltung.sicknote;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
 
 
 interface SickNoteTypeDAO extends JpaRepository<SickNoteType, Integer> {
+
+    @Override
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<SickNoteType> findAll();
 }
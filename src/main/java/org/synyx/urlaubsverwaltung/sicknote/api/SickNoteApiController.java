@@ -12,6 +12,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.synyx.urlaubsverwaltung.api.ResponseWrapper;
 import org.synyx.urlaubsverwaltung.api.RestApiDateFormat;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.sicknote.SickNote;
@@ -45,7 +48,9 @@ public class SickNoteApiController {
     @ApiOperation(
         value = "Get all sick notes for a certain period", notes = "Get all sick notes for a certain period. "
         + "If a person is specified, only the sick notes of this person are fetched. "
-        + "Information only reachable for users with role office."
+        + "Information only reachable for users with role office. "
+        + "If a limit or cursor is given, the sick notes are paged ordered by start date and id, "
+        + "the cursor of the next page is returned as 'next'."
     )
     @GetMapping("/sicknotes")
     @PreAuthorize(IS_OFFICE + " or @userApiMethodSecurity.isSamePersonId(authentication, #personId)")
@@ -58,7 +63,13 @@ public class SickNoteApiController {
             String to,
         @ApiParam(value = "ID of the person")
         @RequestParam(value = "person", required = false)
-            Integer personId) {
+            Integer personId,
+        @ApiParam(value = "Maximum number of sick notes of the page, at most " + KeysetPageRequest.MAX_SIZE)
+        @RequestParam(value = "limit", required = false)
+            Integer limit,
+        @ApiParam(value = "Cursor of the page, returned as 'next' by the previous page")
+        @RequestParam(value = "cursor", required = false)
+            String cursor) {
 
         final LocalDate startDate;
         final LocalDate endDate;
@@ -76,6 +87,20 @@ public class SickNoteApiController {
 
         final Optional<Person> optionalPerson = personId == null ? Optional.empty() : personService.getPersonByID(personId);
 
+        final Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.of(cursor, limit);
+        if (pageRequest.isPresent()) {
+            final KeysetPage<SickNote> page = optionalPerson.isPresent()
+                ? sickNoteService.getActiveByPersonAndPeriod(optionalPerson.get(), startDate, endDate, pageRequest.get())
+                : sickNoteService.getActiveByPeriod(startDate, endDate, pageRequest.get());
+
+            final List<SickNoteResponse> sickNoteResponses = page.getContent().stream()
+                .map(SickNoteResponse::new)
+                .collect(toList());
+
+            return new ResponseWrapper<>(new SickNoteListResponse(sickNoteResponses),
+                page.getNext().map(KeysetCursor::encode).orElse(null));
+        }
+
         final List<SickNote> sickNotes;
 
         if (optionalPerson.isPresent()) {
@@ -1,17 +1,9 @@
 package org.synyx.urlaubsverwaltung.sicknote.statistics;
 
-import org.springframework.util.Assert;
-import org.synyx.urlaubsverwaltung.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
-
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
-import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
-import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 
 
 /**
@@ -25,16 +17,14 @@ public class SickNoteStatistics {
     private final BigDecimal totalNumberOfSickDays;
     private final Long numberOfPersonsWithMinimumOneSickNote;
 
-    public SickNoteStatistics(int year, SickNoteService sickNoteService, WorkDaysService calendarService) {
+    public SickNoteStatistics(int year, int totalNumberOfSickNotes, BigDecimal totalNumberOfSickDays,
+                              Long numberOfPersonsWithMinimumOneSickNote) {
 
         this.year = year;
-        this.numberOfPersonsWithMinimumOneSickNote = sickNoteService.getNumberOfPersonsWithMinimumOneSickNote(year);
+        this.numberOfPersonsWithMinimumOneSickNote = numberOfPersonsWithMinimumOneSickNote;
         this.created = LocalDate.now(UTC);
-
-        List<SickNote> sickNotes = sickNoteService.getAllActiveByYear(year);
-
-        this.totalNumberOfSickNotes = sickNotes.size();
-        this.totalNumberOfSickDays = calculateTotalNumberOfSickDays(calendarService, sickNotes);
+        this.totalNumberOfSickNotes = totalNumberOfSickNotes;
+        this.totalNumberOfSickDays = totalNumberOfSickDays;
     }
 
     public int getTotalNumberOfSickNotes() {
@@ -49,42 +39,6 @@ public class SickNoteStatistics {
     }
 
 
-    private BigDecimal calculateTotalNumberOfSickDays(WorkDaysService calendarService, List<SickNote> sickNotes) {
-
-        BigDecimal numberOfSickDays = BigDecimal.ZERO;
-
-        for (SickNote sickNote : sickNotes) {
-            LocalDate sickNoteStartDate = sickNote.getStartDate();
-            LocalDate sickNoteEndDate = sickNote.getEndDate();
-
-            LocalDate startDate;
-            LocalDate endDate;
-
-            Assert.isTrue(sickNoteStartDate.getYear() == this.year || sickNoteEndDate.getYear() == this.year,
-                "Start date OR end date of the sick note must be in the year " + this.year);
-
-            if (sickNoteStartDate.getYear() == this.year) {
-                startDate = sickNoteStartDate;
-            } else {
-                startDate = sickNoteEndDate.with(firstDayOfYear());
-            }
-
-            if (sickNoteEndDate.getYear() == this.year) {
-                endDate = sickNoteEndDate;
-            } else {
-                endDate = sickNoteStartDate.with(lastDayOfYear());
-            }
-
-            BigDecimal workDays = calendarService.getWorkDays(sickNote.getDayLength(), startDate, endDate,
-                sickNote.getPerson());
-
-            numberOfSickDays = numberOfSickDays.add(workDays);
-        }
-
-        return numberOfSickDays;
-    }
-
-
     public LocalDate getCreated() {
 
         return this.created;
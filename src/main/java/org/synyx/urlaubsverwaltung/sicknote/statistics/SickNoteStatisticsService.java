@@ -3,29 +3,94 @@ package org.synyx.urlaubsverwaltung.sicknote.statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.sicknote.SickNotePeriod;
 import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.statistics.aggregation.SickDaysAggregate;
+import org.synyx.urlaubsverwaltung.statistics.aggregation.StatisticsAggregationService;
+import org.synyx.urlaubsverwaltung.util.DateUtil;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCalculator;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+
 
 /**
  * Service for creating {@link SickNoteStatistics}.
+ *
+ * <p>Only the periods of the active sick notes are fetched, the workdays of all sick notes are calculated with one
+ * {@link WorkDaysCalculator} for all affected persons.</p>
  */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class SickNoteStatisticsService {
 
     private final SickNoteService sickNoteService;
     private final WorkDaysService calendarService;
+    private final StatisticsAggregationService statisticsAggregationService;
 
     @Autowired
-    public SickNoteStatisticsService(SickNoteService sickNoteService, WorkDaysService calendarService) {
+    public SickNoteStatisticsService(SickNoteService sickNoteService, WorkDaysService calendarService,
+                                     StatisticsAggregationService statisticsAggregationService) {
 
         this.sickNoteService = sickNoteService;
         this.calendarService = calendarService;
+        this.statisticsAggregationService = statisticsAggregationService;
     }
 
     public SickNoteStatistics createStatistics(int year) {
 
-        return new SickNoteStatistics(year, sickNoteService, calendarService);
+        if (statisticsAggregationService.isAggregated(year)) {
+            return createStatisticsFromAggregates(year);
+        }
+
+        final LocalDate firstDayOfYear = DateUtil.getFirstDayOfYear(year);
+        final LocalDate lastDayOfYear = DateUtil.getLastDayOfYear(year);
+
+        final List<SickNotePeriod> sickNotePeriods = sickNoteService.getActiveSickNotePeriods(firstDayOfYear, lastDayOfYear);
+
+        final Set<Integer> personIds = sickNotePeriods.stream()
+            .map(SickNotePeriod::getPersonId)
+            .collect(toSet());
+
+        final WorkDaysCalculator workDaysCalculator = calendarService.getWorkDaysCalculator(personIds);
+
+        BigDecimal totalNumberOfSickDays = BigDecimal.ZERO;
+        for (SickNotePeriod sickNotePeriod : sickNotePeriods) {
+
+            final LocalDate startDate = sickNotePeriod.getStartDate().isBefore(firstDayOfYear)
+                ? firstDayOfYear : sickNotePeriod.getStartDate();
+            final LocalDate endDate = sickNotePeriod.getEndDate().isAfter(lastDayOfYear)
+                ? lastDayOfYear : sickNotePeriod.getEndDate();
+
+            totalNumberOfSickDays = totalNumberOfSickDays.add(workDaysCalculator.getWorkDays(
+                sickNotePeriod.getDayLength(), startDate, endDate, sickNotePeriod.getPersonId()));
+        }
+
+        return new SickNoteStatistics(year, sickNotePeriods.size(), totalNumberOfSickDays, (long) personIds.size());
+    }
+
+    private SickNoteStatistics createStatisticsFromAggregates(int year) {
+
+        final List<SickDaysAggregate> aggregates = statisticsAggregationService.getSickDaysAggregates(year);
+
+        int totalNumberOfSickNotes = 0;
+        BigDecimal totalNumberOfSickDays = BigDecimal.ZERO;
+        long numberOfPersons = 0;
+
+        for (SickDaysAggregate aggregate : aggregates) {
+            totalNumberOfSickNotes += aggregate.getNumberOfSickNotes();
+            totalNumberOfSickDays = totalNumberOfSickDays.add(aggregate.getTotalSickDays());
+
+            if (aggregate.getNumberOfSickNotes() > 0) {
+                numberOfPersons++;
+            }
+        }
+
+        return new SickNoteStatistics(year, totalNumberOfSickNotes, totalNumberOfSickDays, numberOfPersons);
     }
 }
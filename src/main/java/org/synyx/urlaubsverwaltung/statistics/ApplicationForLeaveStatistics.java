@@ -7,6 +7,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -29,11 +30,16 @@ public class ApplicationForLeaveStatistics {
 
     public ApplicationForLeaveStatistics(Person person, VacationTypeService vacationTypeService) {
 
+        this(person, vacationTypeService.getVacationTypes());
+    }
+
+    public ApplicationForLeaveStatistics(Person person, List<VacationType> vacationTypes) {
+
         Assert.notNull(person, "Person must be given.");
 
         this.person = person;
 
-        for (VacationType vacationType : vacationTypeService.getVacationTypes()) {
+        for (VacationType vacationType : vacationTypes) {
             waitingVacationDays.put(vacationType, BigDecimal.ZERO);
             allowedVacationDays.put(vacationType, BigDecimal.ZERO);
         }
@@ -8,23 +8,31 @@ import org.synyx.urlaubsverwaltung.account.service.AccountService;
 import org.synyx.urlaubsverwaltung.account.service.VacationDaysService;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.VacationType;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.application.service.VacationTypeService;
 import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.statistics.aggregation.VacationDaysAggregate;
 import org.synyx.urlaubsverwaltung.util.DateUtil;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
 
 /**
  * Builds a {@link ApplicationForLeaveStatistics} for the given
- * {@link org.synyx.urlaubsverwaltung.person.Person} and period.
+ * {@link org.synyx.urlaubsverwaltung.person.Person} and period, or for a list of persons at once.
  */
 @Component
 public class ApplicationForLeaveStatisticsBuilder {
@@ -67,21 +75,142 @@ public class ApplicationForLeaveStatisticsBuilder {
         }
 
         List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPerson(from, to, person);
+        addVacationDays(statistics, applications, from.getYear());
+
+        statistics.setLeftOvertime(overtimeService.getLeftOvertimeForPerson(person));
+
+        return statistics;
+    }
+
+
+    /**
+     * Builds the {@link ApplicationForLeaveStatistics} for all given persons. In contrast to
+     * {@link #build(Person, LocalDate, LocalDate)} the accounts, the applications for leave and the overtime of all
+     * persons are fetched with a constant number of queries and the statistics are assembled in memory.
+     *
+     * @param persons to build the statistics for
+     * @param from    start of the period, must be in the same year as the end
+     * @param to      end of the period
+     * @return the statistics in the order of the given persons
+     */
+    public List<ApplicationForLeaveStatistics> buildAll(List<Person> persons, LocalDate from, LocalDate to) {
+
+        Assert.notNull(persons, "Persons must be given");
+        Assert.notNull(from, "From must be given");
+        Assert.notNull(to, "To must be given");
+
+        Assert.isTrue(from.getYear() == to.getYear(), "From and to must be in the same year");
+
+        final int year = from.getYear();
+        final List<VacationType> vacationTypes = vacationTypeService.getVacationTypes();
+
+        final Map<Person, Account> accountsByPerson = accountService.getHolidaysAccounts(year, persons).stream()
+            .collect(toMap(Account::getPerson, identity(), (first, second) -> first));
+
+        // the applications of the whole year are needed to calculate the left vacation days of the accounts
+        final Map<Person, List<Application>> applicationsOfYearByPerson = applicationService
+            .getApplicationsForACertainPeriodAndPersons(DateUtil.getFirstDayOfYear(year), DateUtil.getLastDayOfYear(year), persons)
+            .stream()
+            .collect(groupingBy(Application::getPerson));
+
+        final Map<Person, BigDecimal> leftOvertimeByPerson = overtimeService.getLeftOvertimeForPersons(persons);
+
+        final List<ApplicationForLeaveStatistics> statistics = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+
+            final ApplicationForLeaveStatistics statisticsOfPerson = new ApplicationForLeaveStatistics(person, vacationTypes);
+            final List<Application> applicationsOfYear = applicationsOfYearByPerson.getOrDefault(person, List.of());
+
+            final Account account = accountsByPerson.get(person);
+            if (account != null) {
+                statisticsOfPerson.setLeftVacationDays(
+                    vacationDaysService.calculateTotalLeftVacationDays(account, applicationsOfYear));
+            }
+
+            final List<Application> applicationsOfPeriod = new ArrayList<>();
+            for (Application application : applicationsOfYear) {
+                if (!application.getStartDate().isAfter(to) && !application.getEndDate().isBefore(from)) {
+                    applicationsOfPeriod.add(application);
+                }
+            }
+            addVacationDays(statisticsOfPerson, applicationsOfPeriod, year);
+
+            statisticsOfPerson.setLeftOvertime(leftOvertimeByPerson.getOrDefault(person, BigDecimal.ZERO));
+
+            statistics.add(statisticsOfPerson);
+        }
+
+        return statistics;
+    }
+
+
+    /**
+     * Builds the {@link ApplicationForLeaveStatistics} of a whole year for all given persons based on the
+     * pre-aggregated vacation days instead of the applications for leave.
+     *
+     * @param persons    to build the statistics for
+     * @param year       of the statistics
+     * @param aggregates pre-aggregated vacation days of the given persons for the given year
+     * @return the statistics in the order of the given persons
+     */
+    public List<ApplicationForLeaveStatistics> buildAllFromAggregates(List<Person> persons, int year,
+                                                                      List<VacationDaysAggregate> aggregates) {
+
+        Assert.notNull(persons, "Persons must be given");
+        Assert.notNull(aggregates, "Aggregates must be given");
+
+        final List<VacationType> vacationTypes = vacationTypeService.getVacationTypes();
+
+        final Map<Person, Account> accountsByPerson = accountService.getHolidaysAccounts(year, persons).stream()
+            .collect(toMap(Account::getPerson, identity(), (first, second) -> first));
+
+        final Map<Person, List<VacationDaysAggregate>> aggregatesByPerson = aggregates.stream()
+            .collect(groupingBy(VacationDaysAggregate::getPerson));
+
+        final Map<Person, BigDecimal> leftOvertimeByPerson = overtimeService.getLeftOvertimeForPersons(persons);
+
+        final List<ApplicationForLeaveStatistics> statistics = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+
+            final ApplicationForLeaveStatistics statisticsOfPerson = new ApplicationForLeaveStatistics(person, vacationTypes);
+
+            BigDecimal usedDaysBeforeApril = BigDecimal.ZERO;
+            BigDecimal usedDaysAfterApril = BigDecimal.ZERO;
+
+            for (VacationDaysAggregate aggregate : aggregatesByPerson.getOrDefault(person, List.of())) {
+                statisticsOfPerson.addAllowedVacationDays(aggregate.getVacationType(), aggregate.getAllowedDays());
+                statisticsOfPerson.addWaitingVacationDays(aggregate.getVacationType(), aggregate.getWaitingDays());
+                usedDaysBeforeApril = usedDaysBeforeApril.add(aggregate.getUsedDaysBeforeApril());
+                usedDaysAfterApril = usedDaysAfterApril.add(aggregate.getUsedDaysAfterApril());
+            }
+
+            final Account account = accountsByPerson.get(person);
+            if (account != null) {
+                statisticsOfPerson.setLeftVacationDays(
+                    vacationDaysService.calculateTotalLeftVacationDays(account, usedDaysBeforeApril, usedDaysAfterApril));
+            }
+
+            statisticsOfPerson.setLeftOvertime(leftOvertimeByPerson.getOrDefault(person, BigDecimal.ZERO));
+
+            statistics.add(statisticsOfPerson);
+        }
+
+        return statistics;
+    }
+
+
+    private void addVacationDays(ApplicationForLeaveStatistics statistics, List<Application> applications, int relevantYear) {
 
         for (Application application : applications) {
             if (application.hasStatus(ApplicationStatus.WAITING)
                 || application.hasStatus(ApplicationStatus.TEMPORARY_ALLOWED)) {
                 statistics.addWaitingVacationDays(application.getVacationType(),
-                    getVacationDays(application, from.getYear()));
+                    getVacationDays(application, relevantYear));
             } else if (application.hasStatus(ApplicationStatus.ALLOWED)) {
                 statistics.addAllowedVacationDays(application.getVacationType(),
-                    getVacationDays(application, from.getYear()));
+                    getVacationDays(application, relevantYear));
             }
         }
-
-        statistics.setLeftOvertime(overtimeService.getLeftOvertimeForPerson(person));
-
-        return statistics;
     }
 
 
@@ -0,0 +1,108 @@
+package org.synyx.urlaubsverwaltung.statistics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import org.synyx.urlaubsverwaltung.validation.CronExpression;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.statistics")
+@Validated
+public class StatisticsProperties {
+
+    /**
+     * Number of worker threads used to compute the application for leave statistics.
+     * A value of 1 computes the statistics sequentially within the request thread.
+     */
+    @NotNull
+    @Min(1)
+    @Max(64)
+    private Integer parallelism = 1;
+
+    /**
+     * Maximum time to wait for the worker threads to compute the application for leave statistics. The computation is
+     * cancelled if it takes longer. Only used if the statistics are computed with more than one worker thread.
+     */
+    @NotNull
+    private Duration parallelTimeout = Duration.ofSeconds(60);
+
+    @Valid
+    private Aggregation aggregation = new Aggregation();
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public Duration getParallelTimeout() {
+        return parallelTimeout;
+    }
+
+    public void setParallelTimeout(Duration parallelTimeout) {
+        this.parallelTimeout = parallelTimeout;
+    }
+
+    public Aggregation getAggregation() {
+        return aggregation;
+    }
+
+    public void setAggregation(Aggregation aggregation) {
+        this.aggregation = aggregation;
+    }
+
+    public static class Aggregation {
+
+        /**
+         * Pre-aggregates the vacation and sick days per person and year. If disabled, the statistics are always
+         * computed from the applications for leave and sick notes.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Rebuild the aggregates by default every night at 03:00 am
+         */
+        @CronExpression
+        private String cron = "0 0 3 * * *";
+
+        /**
+         * Number of past years that are rebuilt additionally to the current and the next year.
+         */
+        @NotNull
+        @Min(0)
+        @Max(10)
+        private Integer yearsInPast = 1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+
+        public Integer getYearsInPast() {
+            return yearsInPast;
+        }
+
+        public void setYearsInPast(Integer yearsInPast) {
+            this.yearsInPast = yearsInPast;
+        }
+    }
+}
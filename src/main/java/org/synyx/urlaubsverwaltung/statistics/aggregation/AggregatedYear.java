@@ -0,0 +1,40 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.Instant;
+
+
+/**
+ * Marks a year whose statistics aggregates have been fully built at least once. Only the aggregates of these years
+ * are complete and may be used instead of computing the statistics from the absences.
+ */
+@Entity
+public class AggregatedYear {
+
+    @Id
+    private Integer year;
+
+    private Instant lastRebuild;
+
+    public AggregatedYear() {
+        /* OK */
+    }
+
+    public AggregatedYear(Integer year, Instant lastRebuild) {
+        this.year = year;
+        this.lastRebuild = lastRebuild;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public Instant getLastRebuild() {
+        return lastRebuild;
+    }
+
+    public void setLastRebuild(Instant lastRebuild) {
+        this.lastRebuild = lastRebuild;
+    }
+}
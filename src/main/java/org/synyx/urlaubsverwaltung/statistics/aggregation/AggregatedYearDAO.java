@@ -0,0 +1,14 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+
+
+/**
+ * Repository for {@link AggregatedYear} entities.
+ */
+interface AggregatedYearDAO extends CrudRepository<AggregatedYear, Integer> {
+
+    List<AggregatedYear> findByYearGreaterThanEqual(Integer year);
+}
@@ -0,0 +1,99 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.springframework.data.jpa.domain.AbstractPersistable;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.ManyToOne;
+import java.math.BigDecimal;
+
+import static java.math.BigDecimal.ZERO;
+
+
+/**
+ * Pre-aggregated sick days of the active sick notes of a person for a year, separated into sick days of the person
+ * itself and sick days because of a sick child.
+ */
+@Entity
+public class SickDaysAggregate extends AbstractPersistable<Integer> {
+
+    @ManyToOne
+    private Person person;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    private Integer numberOfSickNotes = 0;
+    private BigDecimal sickDays = ZERO;
+    private BigDecimal sickDaysWithAub = ZERO;
+    private BigDecimal childSickDays = ZERO;
+    private BigDecimal childSickDaysWithAub = ZERO;
+
+    public SickDaysAggregate() {
+        /* OK */
+    }
+
+    public SickDaysAggregate(Person person, Integer year) {
+        this.person = person;
+        this.year = year;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public Integer getNumberOfSickNotes() {
+        return numberOfSickNotes;
+    }
+
+    public BigDecimal getSickDays() {
+        return sickDays;
+    }
+
+    public BigDecimal getSickDaysWithAub() {
+        return sickDaysWithAub;
+    }
+
+    public BigDecimal getChildSickDays() {
+        return childSickDays;
+    }
+
+    public BigDecimal getChildSickDaysWithAub() {
+        return childSickDaysWithAub;
+    }
+
+    public BigDecimal getTotalSickDays() {
+        return sickDays.add(childSickDays);
+    }
+
+    void addSickNote() {
+        this.numberOfSickNotes++;
+    }
+
+    void addSickDays(BigDecimal days, BigDecimal daysWithAub) {
+        this.sickDays = this.sickDays.add(days);
+        this.sickDaysWithAub = this.sickDaysWithAub.add(daysWithAub);
+    }
+
+    void addChildSickDays(BigDecimal days, BigDecimal daysWithAub) {
+        this.childSickDays = this.childSickDays.add(days);
+        this.childSickDaysWithAub = this.childSickDaysWithAub.add(daysWithAub);
+    }
+
+    @Override
+    public String toString() {
+        return "SickDaysAggregate{" +
+            "year=" + year +
+            ", numberOfSickNotes=" + numberOfSickNotes +
+            ", sickDays=" + sickDays +
+            ", sickDaysWithAub=" + sickDaysWithAub +
+            ", childSickDays=" + childSickDays +
+            ", childSickDaysWithAub=" + childSickDaysWithAub +
+            '}';
+    }
+}
@@ -0,0 +1,28 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.List;
+
+
+/**
+ * Repository for {@link SickDaysAggregate} entities.
+ */
+interface SickDaysAggregateDAO extends CrudRepository<SickDaysAggregate, Integer> {
+
+    List<SickDaysAggregate> findByYear(Integer year);
+
+    @Query("SELECT DISTINCT x.year FROM SickDaysAggregate x WHERE x.person = ?1")
+    List<Integer> findYearsByPerson(Person person);
+
+    @Modifying
+    @Query("DELETE FROM SickDaysAggregate x WHERE x.year = ?1")
+    void deleteByYear(Integer year);
+
+    @Modifying
+    @Query("DELETE FROM SickDaysAggregate x WHERE x.year = ?1 AND x.person = ?2")
+    void deleteByYearAndPerson(Integer year, Person person);
+}
@@ -0,0 +1,30 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.statistics.StatisticsProperties;
+
+@Configuration
+@ConditionalOnProperty(value = "uv.statistics.aggregation.enabled", havingValue = "true")
+public class StatisticsAggregationConfiguration implements SchedulingConfigurer {
+
+    private final StatisticsProperties statisticsProperties;
+    private final StatisticsAggregationService statisticsAggregationService;
+
+    @Autowired
+    public StatisticsAggregationConfiguration(StatisticsProperties statisticsProperties,
+                                              StatisticsAggregationService statisticsAggregationService) {
+
+        this.statisticsProperties = statisticsProperties;
+        this.statisticsAggregationService = statisticsAggregationService;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addCronTask(statisticsAggregationService::rebuildAggregates,
+            statisticsProperties.getAggregation().getCron());
+    }
+}
@@ -0,0 +1,87 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationSavedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.SettingsSavedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteSavedEvent;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSavedEvent;
+
+import java.time.LocalDate;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+
+/**
+ * Updates the statistics aggregates of a person after an application for leave, a sick note or a working time of this
+ * person has been saved and drops all aggregates after the settings have been saved. The aggregates are updated after
+ * the commit, so a failing update never rolls back the saved data - the next nightly rebuild corrects the aggregates
+ * in that case.
+ */
+@Component
+class StatisticsAggregationListener {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final StatisticsAggregationService statisticsAggregationService;
+
+    @Autowired
+    StatisticsAggregationListener(StatisticsAggregationService statisticsAggregationService) {
+        this.statisticsAggregationService = statisticsAggregationService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleApplicationSavedEvent(ApplicationSavedEvent event) {
+        final Application application = event.getApplication();
+        updateAggregates(application.getPerson(), application.getStartDate(), application.getEndDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSickNoteSavedEvent(SickNoteSavedEvent event) {
+        final SickNote sickNote = event.getSickNote();
+        updateAggregates(sickNote.getPerson(), sickNote.getStartDate(), sickNote.getEndDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleWorkingTimeSavedEvent(WorkingTimeSavedEvent event) {
+
+        final WorkingTime workingTime = event.getWorkingTime();
+        final Person person = workingTime.getPerson();
+
+        try {
+            statisticsAggregationService.updateAggregatesFrom(person, workingTime.getValidFrom());
+        } catch (RuntimeException e) {
+            LOG.warn("Could not update the statistics aggregates of person with id {}", person.getId(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSettingsSavedEvent(SettingsSavedEvent event) {
+
+        try {
+            statisticsAggregationService.invalidateAggregates();
+        } catch (RuntimeException e) {
+            LOG.error("Could not mark the statistics aggregates as outdated after the settings changed", e);
+        }
+    }
+
+    private void updateAggregates(Person person, LocalDate startDate, LocalDate endDate) {
+
+        if (person == null || startDate == null || endDate == null) {
+            return;
+        }
+
+        try {
+            statisticsAggregationService.updateAggregates(person, startDate, endDate);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not update the statistics aggregates of person with id {}", person.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.VacationCategory;
+import org.synyx.urlaubsverwaltung.application.domain.VacationType;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.period.NowService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteCategory;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.statistics.StatisticsProperties;
+import org.synyx.urlaubsverwaltung.util.DateUtil;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.math.BigDecimal.ZERO;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
+
+
+/**
+ * Maintains the pre-aggregated vacation and sick days per person and year.
+ *
+ * <p>The aggregates of a year are rebuilt completely by the nightly job and are updated for a single person whenever
+ * an application for leave, a sick note or a working time of this person is saved. The aggregates of a year are only
+ * used if the aggregation is enabled and the year has been rebuilt at least once, otherwise the statistics fall back to
+ * the computation based on the applications for leave and sick notes. Changed settings may change the work days of
+ * all persons, so all years are marked as not aggregated until the next nightly rebuild.</p>
+ */
+@Service
+public class StatisticsAggregationService {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final List<ApplicationStatus> RELEVANT_STATUSES = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED);
+
+    private final VacationDaysAggregateDAO vacationDaysAggregateDAO;
+    private final SickDaysAggregateDAO sickDaysAggregateDAO;
+    private final AggregatedYearDAO aggregatedYearDAO;
+    private final ApplicationService applicationService;
+    private final SickNoteService sickNoteService;
+    private final WorkDaysService calendarService;
+    private final NowService nowService;
+    private final StatisticsProperties statisticsProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public StatisticsAggregationService(VacationDaysAggregateDAO vacationDaysAggregateDAO,
+                                        SickDaysAggregateDAO sickDaysAggregateDAO, AggregatedYearDAO aggregatedYearDAO,
+                                        ApplicationService applicationService, SickNoteService sickNoteService,
+                                        WorkDaysService calendarService, NowService nowService,
+                                        StatisticsProperties statisticsProperties,
+                                        PlatformTransactionManager transactionManager) {
+
+        this.vacationDaysAggregateDAO = vacationDaysAggregateDAO;
+        this.sickDaysAggregateDAO = sickDaysAggregateDAO;
+        this.aggregatedYearDAO = aggregatedYearDAO;
+        this.applicationService = applicationService;
+        this.sickNoteService = sickNoteService;
+        this.calendarService = calendarService;
+        this.nowService = nowService;
+        this.statisticsProperties = statisticsProperties;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Checks if complete aggregates are available for the given year.
+     *
+     * @param year to check
+     * @return {@code true} if the aggregation is enabled and the given year has been rebuilt, else {@code false}
+     */
+    public boolean isAggregated(int year) {
+
+        return statisticsProperties.getAggregation().isEnabled() && aggregatedYearDAO.existsById(year);
+    }
+
+    public List<VacationDaysAggregate> getVacationDaysAggregates(int year, List<Person> persons) {
+
+        if (persons.isEmpty()) {
+            return List.of();
+        }
+
+        return vacationDaysAggregateDAO.findByYearAndPersonIn(year, persons);
+    }
+
+    public List<SickDaysAggregate> getSickDaysAggregates(int year) {
+
+        return sickDaysAggregateDAO.findByYear(year);
+    }
+
+    /**
+     * Rebuilds the aggregates of the configured past years, the current year and the next year. Every year is rebuilt
+     * within its own transaction, a failing year does not prevent the others from being rebuilt.
+     */
+    public void rebuildAggregates() {
+
+        final int currentYear = nowService.currentYear();
+        final int firstYear = currentYear - statisticsProperties.getAggregation().getYearsInPast();
+
+        for (int year = firstYear; year <= currentYear + 1; year++) {
+            try {
+                rebuildAggregates(year);
+            } catch (RuntimeException e) {
+                LOG.error("Could not rebuild the statistics aggregates of year {}", year, e);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the aggregates of all persons for the given year and marks the year as aggregated.
+     *
+     * @param year to rebuild the aggregates for
+     */
+    public void rebuildAggregates(int year) {
+
+        final long start = System.currentTimeMillis();
+
+        transactionTemplate.execute(status -> {
+
+            final LocalDate firstDayOfYear = DateUtil.getFirstDayOfYear(year);
+            final LocalDate lastDayOfYear = DateUtil.getLastDayOfYear(year);
+
+            final List<Application> applications = new ArrayList<>();
+            for (ApplicationStatus applicationStatus : RELEVANT_STATUSES) {
+                applications.addAll(applicationService.getApplicationsForACertainPeriodAndState(firstDayOfYear,
+                    lastDayOfYear, applicationStatus));
+            }
+
+            final List<SickNote> sickNotes = sickNoteService.getByPeriod(firstDayOfYear, lastDayOfYear);
+
+            vacationDaysAggregateDAO.deleteByYear(year);
+            sickDaysAggregateDAO.deleteByYear(year);
+
+            vacationDaysAggregateDAO.saveAll(aggregateVacationDays(year, applications));
+            sickDaysAggregateDAO.saveAll(aggregateSickDays(year, sickNotes));
+
+            final AggregatedYear aggregatedYear = aggregatedYearDAO.findById(year)
+                .orElseGet(() -> new AggregatedYear(year, null));
+            aggregatedYear.setLastRebuild(Instant.now());
+            aggregatedYearDAO.save(aggregatedYear);
+
+            return null;
+        });
+
+        LOG.info("Rebuilt the statistics aggregates of year {} in {} ms", year, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Recomputes the aggregates of the given person for all already aggregated years touched by the given period and
+     * for all years the person already has aggregates for, as the absence may have been moved out of one of these
+     * years. Years that have not been rebuilt yet are skipped, they are built completely by the next nightly rebuild.
+     *
+     * @param person    whose absences changed
+     * @param startDate of the changed absence
+     * @param endDate   of the changed absence
+     */
+    public void updateAggregates(Person person, LocalDate startDate, LocalDate endDate) {
+
+        final SortedSet<Integer> years = new TreeSet<>();
+
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            if (isAggregated(year)) {
+                years.add(year);
+            }
+        }
+
+        if (statisticsProperties.getAggregation().isEnabled() && aggregatedYearDAO.count() > 0) {
+            final SortedSet<Integer> yearsOfPerson = new TreeSet<>(vacationDaysAggregateDAO.findYearsByPerson(person));
+            yearsOfPerson.addAll(sickDaysAggregateDAO.findYearsByPerson(person));
+            yearsOfPerson.stream()
+                .filter(year -> !years.contains(year))
+                .filter(this::isAggregated)
+                .forEach(years::add);
+        }
+
+        years.forEach(year -> updateAggregates(person, year));
+    }
+
+    /**
+     * Recomputes the aggregates of the given person for all already aggregated years from the year of the given date
+     * on, e.g. after a working time of the person valid from this date has changed.
+     *
+     * @param person    whose work days changed
+     * @param validFrom the first day with changed work days
+     */
+    public void updateAggregatesFrom(Person person, LocalDate validFrom) {
+
+        if (!statisticsProperties.getAggregation().isEnabled()) {
+            return;
+        }
+
+        aggregatedYearDAO.findByYearGreaterThanEqual(validFrom.getYear()).stream()
+            .map(AggregatedYear::getYear)
+            .sorted()
+            .forEach(year -> updateAggregates(person, year));
+    }
+
+    /**
+     * Marks all years as not aggregated, so the statistics are computed from the applications for leave and sick notes
+     * until the aggregates have been rebuilt by the nightly job.
+     */
+    public void invalidateAggregates() {
+
+        transactionTemplate.execute(status -> {
+            aggregatedYearDAO.deleteAll();
+            return null;
+        });
+
+        LOG.info("Marked all years as not aggregated, the statistics are computed without aggregates until the next rebuild");
+    }
+
+    private void updateAggregates(Person person, int aggregatedYear) {
+
+        transactionTemplate.execute(status -> {
+
+            final LocalDate firstDayOfYear = DateUtil.getFirstDayOfYear(aggregatedYear);
+            final LocalDate lastDayOfYear = DateUtil.getLastDayOfYear(aggregatedYear);
+
+            final List<Application> applications = applicationService
+                .getApplicationsForACertainPeriodAndPerson(firstDayOfYear, lastDayOfYear, person).stream()
+                .filter(application -> RELEVANT_STATUSES.contains(application.getStatus()))
+                .collect(toList());
+
+            final List<SickNote> sickNotes = sickNoteService.getByPersonAndPeriod(person, firstDayOfYear, lastDayOfYear);
+
+            vacationDaysAggregateDAO.deleteByYearAndPerson(aggregatedYear, person);
+            sickDaysAggregateDAO.deleteByYearAndPerson(aggregatedYear, person);
+
+            vacationDaysAggregateDAO.saveAll(aggregateVacationDays(aggregatedYear, applications));
+            sickDaysAggregateDAO.saveAll(aggregateSickDays(aggregatedYear, sickNotes));
+
+            return null;
+        });
+    }
+
+
+    List<VacationDaysAggregate> aggregateVacationDays(int year, List<Application> applications) {
+
+        final LocalDate firstDayOfYear = DateUtil.getFirstDayOfYear(year);
+        final LocalDate lastOfMarch = DateUtil.getLastDayOfMonth(year, Month.MARCH.getValue());
+        final LocalDate firstOfApril = DateUtil.getFirstDayOfMonth(year, Month.APRIL.getValue());
+        final LocalDate lastDayOfYear = DateUtil.getLastDayOfYear(year);
+
+        final Map<AggregateKey, VacationDaysAggregate> aggregates = new LinkedHashMap<>();
+
+        for (Application application : applications) {
+
+            final Person person = application.getPerson();
+            final VacationType vacationType = application.getVacationType();
+
+            final VacationDaysAggregate aggregate = aggregates.computeIfAbsent(new AggregateKey(person, vacationType),
+                key -> new VacationDaysAggregate(person, year, vacationType));
+
+            final BigDecimal days = getWorkDays(application, firstDayOfYear, lastDayOfYear);
+
+            if (application.hasStatus(ALLOWED)) {
+                aggregate.addAllowedDays(days);
+            } else {
+                aggregate.addWaitingDays(days);
+            }
+
+            // only waiting and allowed holidays are used to calculate the left vacation days
+            if (VacationCategory.HOLIDAY.equals(vacationType.getCategory())
+                && (application.hasStatus(WAITING) || application.hasStatus(ALLOWED))) {
+                aggregate.addUsedDaysBeforeApril(getWorkDays(application, firstDayOfYear, lastOfMarch));
+                aggregate.addUsedDaysAfterApril(getWorkDays(application, firstOfApril, lastDayOfYear));
+            }
+        }
+
+        return new ArrayList<>(aggregates.values());
+    }
+
+
+    List<SickDaysAggregate> aggregateSickDays(int year, List<SickNote> sickNotes) {
+
+        final LocalDate firstDayOfYear = DateUtil.getFirstDayOfYear(year);
+        final LocalDate lastDayOfYear = DateUtil.getLastDayOfYear(year);
+
+        final Map<Person, SickDaysAggregate> aggregates = new LinkedHashMap<>();
+
+        for (SickNote sickNote : sickNotes) {
+
+            if (!sickNote.isActive()) {
+                continue;
+            }
+
+            final Person person = sickNote.getPerson();
+            final SickDaysAggregate aggregate = aggregates.computeIfAbsent(person,
+                key -> new SickDaysAggregate(person, year));
+
+            final BigDecimal days = getWorkDays(sickNote, sickNote.getStartDate(), sickNote.getEndDate(),
+                firstDayOfYear, lastDayOfYear);
+            final BigDecimal daysWithAub = sickNote.isAubPresent()
+                ? getWorkDays(sickNote, sickNote.getAubStartDate(), sickNote.getAubEndDate(), firstDayOfYear, lastDayOfYear)
+                : ZERO;
+
+            aggregate.addSickNote();
+
+            if (sickNote.getSickNoteType().isOfCategory(SickNoteCategory.SICK_NOTE_CHILD)) {
+                aggregate.addChildSickDays(days, daysWithAub);
+            } else {
+                aggregate.addSickDays(days, daysWithAub);
+            }
+        }
+
+        return new ArrayList<>(aggregates.values());
+    }
+
+
+    private BigDecimal getWorkDays(Application application, LocalDate firstMilestone, LocalDate lastMilestone) {
+
+        final LocalDate startDate = application.getStartDate().isBefore(firstMilestone) ? firstMilestone : application.getStartDate();
+        final LocalDate endDate = application.getEndDate().isAfter(lastMilestone) ? lastMilestone : application.getEndDate();
+
+        if (startDate.isAfter(endDate)) {
+            return ZERO;
+        }
+
+        return calendarService.getWorkDays(application.getDayLength(), startDate, endDate, application.getPerson());
+    }
+
+
+    private BigDecimal getWorkDays(SickNote sickNote, LocalDate from, LocalDate to,
+                                   LocalDate firstMilestone, LocalDate lastMilestone) {
+
+        final LocalDate startDate = from.isBefore(firstMilestone) ? firstMilestone : from;
+        final LocalDate endDate = to.isAfter(lastMilestone) ? lastMilestone : to;
+
+        if (startDate.isAfter(endDate)) {
+            return ZERO;
+        }
+
+        return calendarService.getWorkDays(sickNote.getDayLength(), startDate, endDate, sickNote.getPerson());
+    }
+
+
+    private static final class AggregateKey {
+
+        private final Person person;
+        private final VacationType vacationType;
+
+        private AggregateKey(Person person, VacationType vacationType) {
+            this.person = person;
+            this.vacationType = vacationType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final AggregateKey that = (AggregateKey) o;
+            return Objects.equals(person, that.person) && Objects.equals(vacationType, that.vacationType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, vacationType);
+        }
+    }
+}
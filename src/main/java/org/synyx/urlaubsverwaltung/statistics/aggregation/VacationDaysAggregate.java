@@ -0,0 +1,103 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.springframework.data.jpa.domain.AbstractPersistable;
+import org.synyx.urlaubsverwaltung.application.domain.VacationType;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.ManyToOne;
+import java.math.BigDecimal;
+
+import static java.math.BigDecimal.ZERO;
+
+
+/**
+ * Pre-aggregated vacation days of a person for a year and vacation type.
+ *
+ * <p>The allowed and waiting days are used for the application for leave statistics, the used days before and after
+ * April are the waiting and allowed days of holiday applications needed to calculate the left vacation days.</p>
+ */
+@Entity
+public class VacationDaysAggregate extends AbstractPersistable<Integer> {
+
+    @ManyToOne
+    private Person person;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @ManyToOne
+    private VacationType vacationType;
+
+    private BigDecimal allowedDays = ZERO;
+    private BigDecimal waitingDays = ZERO;
+    private BigDecimal usedDaysBeforeApril = ZERO;
+    private BigDecimal usedDaysAfterApril = ZERO;
+
+    public VacationDaysAggregate() {
+        /* OK */
+    }
+
+    public VacationDaysAggregate(Person person, Integer year, VacationType vacationType) {
+        this.person = person;
+        this.year = year;
+        this.vacationType = vacationType;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public VacationType getVacationType() {
+        return vacationType;
+    }
+
+    public BigDecimal getAllowedDays() {
+        return allowedDays;
+    }
+
+    public BigDecimal getWaitingDays() {
+        return waitingDays;
+    }
+
+    public BigDecimal getUsedDaysBeforeApril() {
+        return usedDaysBeforeApril;
+    }
+
+    public BigDecimal getUsedDaysAfterApril() {
+        return usedDaysAfterApril;
+    }
+
+    void addAllowedDays(BigDecimal days) {
+        this.allowedDays = this.allowedDays.add(days);
+    }
+
+    void addWaitingDays(BigDecimal days) {
+        this.waitingDays = this.waitingDays.add(days);
+    }
+
+    void addUsedDaysBeforeApril(BigDecimal days) {
+        this.usedDaysBeforeApril = this.usedDaysBeforeApril.add(days);
+    }
+
+    void addUsedDaysAfterApril(BigDecimal days) {
+        this.usedDaysAfterApril = this.usedDaysAfterApril.add(days);
+    }
+
+    @Override
+    public String toString() {
+        return "VacationDaysAggregate{" +
+            "year=" + year +
+            ", vacationType=" + vacationType +
+            ", allowedDays=" + allowedDays +
+            ", waitingDays=" + waitingDays +
+            ", usedDaysBeforeApril=" + usedDaysBeforeApril +
+            ", usedDaysAfterApril=" + usedDaysAfterApril +
+            '}';
+    }
+}
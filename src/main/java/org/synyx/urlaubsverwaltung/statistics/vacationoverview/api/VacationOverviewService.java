@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.statistics.vacationoverview.api;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
@@ -39,6 +40,7 @@ public class VacationOverviewService {
         this.publicHolidayService = publicHolidayService;
     }
 
+    @Transactional(readOnly = true)
     public List<VacationOverview> getVacationOverviews(String selectedDepartment,
                                                        Integer selectedYear,
                                                        Integer selectedMonth) {
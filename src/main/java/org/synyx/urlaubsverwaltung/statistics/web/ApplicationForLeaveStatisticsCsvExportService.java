@@ -4,11 +4,19 @@ import liquibase.util.csv.CSVWriter;
 import org.synyx.urlaubsverwaltung.statistics.ApplicationForLeaveStatistics;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 public interface ApplicationForLeaveStatisticsCsvExportService {
 
-    void writeStatistics(FilterPeriod period, List<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter);
+    /**
+     * Writes the given statistics as csv, the statistics are consumed one after another and the written rows are
+     * flushed regularly, so the statistics can be produced lazily.
+     *
+     * @param period     of the statistics
+     * @param statistics to write
+     * @param csvWriter  to write the statistics to
+     */
+    void writeStatistics(FilterPeriod period, Stream<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter);
 
     String getFileName(FilterPeriod period);
 }
@@ -9,18 +9,25 @@ import org.synyx.urlaubsverwaltung.application.service.VacationTypeService;
 import org.synyx.urlaubsverwaltung.statistics.ApplicationForLeaveStatistics;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
 
 @Service
 class ApplicationForLeaveStatisticsCsvExportServiceImpl implements ApplicationForLeaveStatisticsCsvExportService {
 
     private static final Locale LOCALE = Locale.GERMAN;
     private static final String DATE_FORMAT = "ddMMyyyy";
+    private static final int FLUSH_INTERVAL = 50;
 
     private final MessageSource messageSource;
     private final VacationTypeService vacationTypeService;
@@ -32,7 +39,7 @@ class ApplicationForLeaveStatisticsCsvExportServiceImpl implements ApplicationFo
     }
 
     @Override
-    public void writeStatistics(FilterPeriod period, List<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter) {
+    public void writeStatistics(FilterPeriod period, Stream<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter) {
         final String[] csvHeader = {getTranslation("person.data.firstName", "Vorname"),
             getTranslation("person.data.lastName", "Nachname"), "",
             getTranslation("applications.statistics.allowed", "genehmigt"),
@@ -57,7 +64,17 @@ class ApplicationForLeaveStatisticsCsvExportServiceImpl implements ApplicationFo
 
         String translatedTextTotal = getTranslation("applications.statistics.total", "gesamt");
 
-        for (ApplicationForLeaveStatistics applicationForLeaveStatistics : statistics) {
+        List<VacationType> vacationTypes = vacationTypeService.getVacationTypes();
+        List<String> translatedVacationTypes = vacationTypes.stream()
+            .map(type -> getTranslation(type.getMessageKey()))
+            .collect(toList());
+
+        Iterator<ApplicationForLeaveStatistics> statisticsIterator = statistics.iterator();
+        int writtenStatistics = 0;
+
+        while (statisticsIterator.hasNext()) {
+
+            ApplicationForLeaveStatistics applicationForLeaveStatistics = statisticsIterator.next();
 
             String[] csvRow = new String[csvHeader.length];
 
@@ -71,11 +88,12 @@ class ApplicationForLeaveStatisticsCsvExportServiceImpl implements ApplicationFo
 
             csvWriter.writeNext(csvRow);
 
-            for (VacationType type : vacationTypeService.getVacationTypes()) {
+            for (int i = 0; i < vacationTypes.size(); i++) {
 
+                VacationType type = vacationTypes.get(i);
                 String[] csvRowVacationTypes = new String[csvHeader.length];
 
-                csvRowVacationTypes[2] = getTranslation(type.getMessageKey());
+                csvRowVacationTypes[2] = translatedVacationTypes.get(i);
                 csvRowVacationTypes[3] = decimalFormat
                     .format(applicationForLeaveStatistics.getAllowedVacationDays().get(type));
                 csvRowVacationTypes[4] = decimalFormat
@@ -83,8 +101,14 @@ class ApplicationForLeaveStatisticsCsvExportServiceImpl implements ApplicationFo
 
                 csvWriter.writeNext(csvRowVacationTypes);
             }
+
+            writtenStatistics++;
+            if (writtenStatistics % FLUSH_INTERVAL == 0) {
+                flush(csvWriter);
+            }
         }
 
+        flush(csvWriter);
     }
 
     @Override
@@ -95,6 +119,14 @@ class ApplicationForLeaveStatisticsCsvExportServiceImpl implements ApplicationFo
             period.getEndDate().format(DateTimeFormatter.ofPattern(DATE_FORMAT)));
     }
 
+    private static void flush(CSVWriter csvWriter) {
+        try {
+            csvWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not flush the statistics csv", e);
+        }
+    }
+
     private String getTranslation(String key, Object... args) {
 
         return messageSource.getMessage(key, args, LOCALE);
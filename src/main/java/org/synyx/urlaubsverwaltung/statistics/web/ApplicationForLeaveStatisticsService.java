@@ -4,7 +4,17 @@ import org.synyx.urlaubsverwaltung.statistics.ApplicationForLeaveStatistics;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ApplicationForLeaveStatisticsService {
     List<ApplicationForLeaveStatistics> getStatistics(FilterPeriod period);
+
+    /**
+     * Resolves the relevant persons immediately, but builds their statistics lazily chunk by chunk while the returned
+     * stream is consumed.
+     *
+     * @param period to build the statistics for
+     * @return lazily built statistics of the relevant persons
+     */
+    Stream<ApplicationForLeaveStatistics> streamStatistics(FilterPeriod period);
 }
@@ -1,40 +1,176 @@
 package org.synyx.urlaubsverwaltung.statistics.web;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.statistics.ApplicationForLeaveStatistics;
 import org.synyx.urlaubsverwaltung.statistics.ApplicationForLeaveStatisticsBuilder;
+import org.synyx.urlaubsverwaltung.statistics.StatisticsProperties;
+import org.synyx.urlaubsverwaltung.statistics.aggregation.StatisticsAggregationService;
+import org.synyx.urlaubsverwaltung.util.DateUtil;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
 
 @Service
-class ApplicationForLeaveStatisticsServiceImpl implements ApplicationForLeaveStatisticsService {
+class ApplicationForLeaveStatisticsServiceImpl implements ApplicationForLeaveStatisticsService, DisposableBean {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final String TIMER_NAME = "uv.statistics.application.computation";
+    private static final int STREAM_CHUNK_SIZE = 50;
 
     private final PersonService personService;
     private final DepartmentService departmentService;
     private final ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder;
+    private final StatisticsAggregationService statisticsAggregationService;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int parallelism;
+    private final Duration parallelTimeout;
+    private final ExecutorService executorService;
 
     @Autowired
     public ApplicationForLeaveStatisticsServiceImpl(PersonService personService, DepartmentService departmentService,
-                                                    ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder) {
+                                                    ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder,
+                                                    StatisticsAggregationService statisticsAggregationService,
+                                                    StatisticsProperties statisticsProperties,
+                                                    PlatformTransactionManager transactionManager,
+                                                    MeterRegistry meterRegistry) {
         this.personService = personService;
         this.departmentService = departmentService;
         this.applicationForLeaveStatisticsBuilder = applicationForLeaveStatisticsBuilder;
+        this.statisticsAggregationService = statisticsAggregationService;
+        this.meterRegistry = meterRegistry;
+        this.parallelism = statisticsProperties.getParallelism();
+        this.parallelTimeout = statisticsProperties.getParallelTimeout();
+
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+
+        this.executorService = parallelism > 1
+            ? newFixedThreadPool(parallelism, new CustomizableThreadFactory("uv-statistics-"))
+            : null;
     }
 
     @Override
     public List<ApplicationForLeaveStatistics> getStatistics(FilterPeriod period) {
         List<Person> persons = getRelevantPersons();
 
-        return persons.stream()
-            .map(person -> applicationForLeaveStatisticsBuilder.build(person, period.getStartDate(), period.getEndDate()))
-            .collect(Collectors.toList());
+        final boolean parallel = executorService != null && persons.size() > 1;
+        final Timer.Sample sample = Timer.start(meterRegistry);
+
+        final List<ApplicationForLeaveStatistics> statistics = parallel
+            ? buildParallel(persons, period.getStartDate(), period.getEndDate())
+            : build(persons, period.getStartDate(), period.getEndDate());
+
+        final long durationInNanos = sample.stop(Timer.builder(TIMER_NAME)
+            .description("Time needed to compute the application for leave statistics")
+            .tag("mode", parallel ? "parallel" : "sequential")
+            .register(meterRegistry));
+
+        meterRegistry.counter("uv.statistics.application.persons").increment(persons.size());
+        LOG.debug("Computed application for leave statistics for {} persons in {} ms ({})",
+            persons.size(), durationInNanos / 1_000_000, parallel ? "parallel" : "sequential");
+
+        return statistics;
+    }
+
+    @Override
+    public Stream<ApplicationForLeaveStatistics> streamStatistics(FilterPeriod period) {
+
+        final List<Person> persons = getRelevantPersons();
+        final LocalDate from = period.getStartDate();
+        final LocalDate to = period.getEndDate();
+
+        final int numberOfChunks = (persons.size() + STREAM_CHUNK_SIZE - 1) / STREAM_CHUNK_SIZE;
+
+        return IntStream.range(0, numberOfChunks)
+            .mapToObj(chunk -> persons.subList(chunk * STREAM_CHUNK_SIZE, Math.min((chunk + 1) * STREAM_CHUNK_SIZE, persons.size())))
+            .flatMap(chunk -> readOnlyTransactionTemplate.execute(status -> build(chunk, from, to)).stream());
+    }
+
+    @Override
+    public void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private List<ApplicationForLeaveStatistics> build(List<Person> persons, LocalDate from, LocalDate to) {
+
+        final int year = from.getYear();
+        final boolean wholeYear = from.equals(DateUtil.getFirstDayOfYear(year)) && to.equals(DateUtil.getLastDayOfYear(year));
+
+        if (wholeYear && statisticsAggregationService.isAggregated(year)) {
+            return applicationForLeaveStatisticsBuilder.buildAllFromAggregates(persons, year,
+                statisticsAggregationService.getVacationDaysAggregates(year, persons));
+        }
+
+        return applicationForLeaveStatisticsBuilder.buildAll(persons, from, to);
+    }
+
+    /**
+     * Splits the given persons into one contiguous partition per worker. Every partition is computed within its own
+     * read-only transaction, the order of the given persons is kept in the result. All partitions have to be computed
+     * within the configured timeout, otherwise the remaining partitions are cancelled.
+     */
+    private List<ApplicationForLeaveStatistics> buildParallel(List<Person> persons, LocalDate from, LocalDate to) {
+
+        final int partitionSize = (persons.size() + parallelism - 1) / parallelism;
+
+        final List<Future<List<ApplicationForLeaveStatistics>>> partitions = new ArrayList<>();
+        for (int start = 0; start < persons.size(); start += partitionSize) {
+            final List<Person> partition = persons.subList(start, Math.min(start + partitionSize, persons.size()));
+            partitions.add(executorService.submit(() ->
+                readOnlyTransactionTemplate.execute(status -> build(partition, from, to))));
+        }
+
+        final long deadline = System.nanoTime() + parallelTimeout.toNanos();
+
+        final List<ApplicationForLeaveStatistics> statistics = new ArrayList<>(persons.size());
+        try {
+            for (Future<List<ApplicationForLeaveStatistics>> partition : partitions) {
+                statistics.addAll(partition.get(deadline - System.nanoTime(), NANOSECONDS));
+            }
+        } catch (TimeoutException e) {
+            partitions.forEach(partition -> partition.cancel(true));
+            throw new IllegalStateException("Could not compute the application for leave statistics within "
+                + parallelTimeout, e);
+        } catch (InterruptedException e) {
+            partitions.forEach(partition -> partition.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing the application for leave statistics", e);
+        } catch (ExecutionException e) {
+            partitions.forEach(partition -> partition.cancel(true));
+            throw new IllegalStateException("Could not compute the application for leave statistics", e.getCause());
+        }
+
+        return statistics;
     }
 
     private List<Person> getRelevantPersons() {
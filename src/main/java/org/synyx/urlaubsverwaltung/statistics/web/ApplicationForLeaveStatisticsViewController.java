@@ -2,6 +2,9 @@ package org.synyx.urlaubsverwaltung.statistics.web;
 
 import liquibase.util.csv.CSVWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.synyx.urlaubsverwaltung.application.service.VacationTypeService;
 import org.synyx.urlaubsverwaltung.security.SecurityRules;
@@ -19,11 +23,13 @@ import org.synyx.urlaubsverwaltung.statistics.ApplicationForLeaveStatistics;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import org.synyx.urlaubsverwaltung.web.LocalDatePropertyEditor;
 
-import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Controller to generate applications for leave statistics.
@@ -89,35 +95,35 @@ public class ApplicationForLeaveStatisticsViewController {
 
     @PreAuthorize(SecurityRules.IS_PRIVILEGED_USER)
     @GetMapping(value = "/download")
-    public String downloadCSV(@RequestParam(value = "from", required = false) String from,
-                              @RequestParam(value = "to", required = false) String to,
-                              HttpServletResponse response,
-                              Model model)
-        throws IOException {
+    public ResponseEntity<StreamingResponseBody> downloadCSV(@RequestParam(value = "from", required = false) String from,
+                                                             @RequestParam(value = "to", required = false) String to) {
 
         FilterPeriod period = new FilterPeriod(Optional.ofNullable(from), Optional.ofNullable(to));
 
-        // NOTE: Not supported at the moment
+        // NOTE: Not supported at the moment - the statistics view shows the error for the given period
         if (period.getStartDate().getYear() != period.getEndDate().getYear()) {
-            model.addAttribute("period", period);
-            model.addAttribute("errors", "INVALID_PERIOD");
+            URI statisticsUri = UriComponentsBuilder.fromUriString(STATISTICS_REL)
+                .queryParam("from", period.getStartDateAsString())
+                .queryParam("to", period.getEndDateAsString())
+                .build().toUri();
 
-            return "application/app_statistics";
+            return ResponseEntity.status(HttpStatus.FOUND).location(statisticsUri).build();
         }
 
-        List<ApplicationForLeaveStatistics> statistics = applicationForLeaveStatisticsService.getStatistics(period);
+        // the persons are resolved within the request, the statistics are built while writing the response
+        Stream<ApplicationForLeaveStatistics> statistics = applicationForLeaveStatisticsService.streamStatistics(period);
 
         String fileName = applicationForLeaveStatisticsCsvExportService.getFileName(period);
-        response.setContentType("text/csv");
-        response.setCharacterEncoding("utf-8");
-        response.setHeader("Content-disposition", "attachment;filename=" + fileName);
 
-        try (CSVWriter csvWriter = new CSVWriter(response.getWriter())) {
+        StreamingResponseBody body = outputStream -> {
+            CSVWriter csvWriter = new CSVWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
             applicationForLeaveStatisticsCsvExportService.writeStatistics(period, statistics, csvWriter);
-        }
-
-        model.addAttribute("period", period);
+            csvWriter.flush();
+        };
 
-        return "application/app_statistics";
+        return ResponseEntity.ok()
+            .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+            .header("Content-disposition", "attachment;filename=" + fileName)
+            .body(body);
     }
 }
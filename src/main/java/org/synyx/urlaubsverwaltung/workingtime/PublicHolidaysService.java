@@ -48,10 +48,31 @@ public class PublicHolidaysService {
         return getAbsenceTypeOfDate(date, federalState).getInverse().getDuration();
     }
 
+    /**
+     * Returns the working duration for a date like {@link #getWorkingDurationOfDate(LocalDate, FederalState)}, but
+     * based on the given settings instead of loading them for every date.
+     *
+     * @param date                to get working duration for
+     * @param federalState        the federal state to consider holiday settings for
+     * @param workingTimeSettings the working time settings defining the working duration of Christmas Eve and
+     *                            New Year's Eve
+     * @return working duration of the given date
+     */
+    public BigDecimal getWorkingDurationOfDate(LocalDate date, FederalState federalState,
+                                               WorkingTimeSettings workingTimeSettings) {
+
+        return getAbsenceTypeOfDate(date, federalState, workingTimeSettings).getInverse().getDuration();
+    }
+
     public DayLength getAbsenceTypeOfDate(LocalDate date, FederalState federalState) {
 
         Settings settings = settingsService.getSettings();
-        WorkingTimeSettings workingTimeSettings = settings.getWorkingTimeSettings();
+
+        return getAbsenceTypeOfDate(date, federalState, settings.getWorkingTimeSettings());
+    }
+
+    private DayLength getAbsenceTypeOfDate(LocalDate date, FederalState federalState,
+                                           WorkingTimeSettings workingTimeSettings) {
 
         DayLength workingTime = DayLength.FULL;
 
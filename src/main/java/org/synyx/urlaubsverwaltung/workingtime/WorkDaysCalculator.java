@@ -0,0 +1,87 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.settings.FederalState;
+import org.synyx.urlaubsverwaltung.settings.WorkingTimeSettings;
+import org.synyx.urlaubsverwaltung.util.DateFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Calculates workdays like {@link WorkDaysService#getWorkDays(DayLength, LocalDate, LocalDate,
+ * org.synyx.urlaubsverwaltung.person.Person)} for many periods of a fixed set of persons, based on the working times
+ * and settings fetched once by {@link WorkDaysService#getWorkDaysCalculator(java.util.Collection)}.
+ *
+ * <p>NOTE: The working duration of a date is cached per federal state, so an instance should only be used for a
+ * single calculation, e.g. one statistic, and must not be shared between threads.</p>
+ */
+public class WorkDaysCalculator {
+
+    private final PublicHolidaysService publicHolidaysService;
+    private final WorkingTimeSettings workingTimeSettings;
+    private final Map<Integer, List<WorkingTime>> workingTimesByPerson;
+    private final Map<FederalState, Map<LocalDate, BigDecimal>> workingDurationsByFederalState =
+        new EnumMap<>(FederalState.class);
+
+    WorkDaysCalculator(PublicHolidaysService publicHolidaysService, WorkingTimeSettings workingTimeSettings,
+                       Map<Integer, List<WorkingTime>> workingTimesByPerson) {
+
+        this.publicHolidaysService = publicHolidaysService;
+        this.workingTimeSettings = workingTimeSettings;
+        this.workingTimesByPerson = workingTimesByPerson;
+    }
+
+    /**
+     * Calculates the workdays of the person with the given id in the stated period.
+     *
+     * @param dayLength personal daily working time of the given person
+     * @param startDate start day of the period to calculate the working days
+     * @param endDate   last day of the period to calculate the working days
+     * @param personId  id of the person, must be one of the persons the calculator has been created for
+     * @return number of workdays in a certain time period
+     */
+    public BigDecimal getWorkDays(DayLength dayLength, LocalDate startDate, LocalDate endDate, Integer personId) {
+
+        final WorkingTime workingTime = getWorkingTime(personId, startDate);
+
+        if (workingTime == null) {
+            throw new NoValidWorkingTimeException("No working time found for User '" + personId
+                + "' in period " + startDate.format(DateTimeFormatter.ofPattern(DateFormat.PATTERN)) + " - "
+                + endDate.format(DateTimeFormatter.ofPattern(DateFormat.PATTERN)));
+        }
+
+        final FederalState federalState = workingTime.getFederalStateOverride()
+            .orElseGet(workingTimeSettings::getFederalState);
+        final Map<LocalDate, BigDecimal> workingDurations = workingDurationsByFederalState
+            .computeIfAbsent(federalState, state -> new HashMap<>());
+
+        return WorkDaysService.calculateWorkDays(dayLength, startDate, endDate, workingTime,
+            day -> workingDurations.computeIfAbsent(day,
+                date -> publicHolidaysService.getWorkingDurationOfDate(date, federalState, workingTimeSettings)));
+    }
+
+    /**
+     * Returns the latest working time of the person that is valid at the given date. The working times are sorted by
+     * their validity date.
+     */
+    private WorkingTime getWorkingTime(Integer personId, LocalDate date) {
+
+        WorkingTime validWorkingTime = null;
+
+        for (WorkingTime workingTime : workingTimesByPerson.getOrDefault(personId, List.of())) {
+            if (workingTime.getValidFrom().isAfter(date)) {
+                break;
+            }
+            validWorkingTime = workingTime;
+        }
+
+        return validWorkingTime;
+    }
+}
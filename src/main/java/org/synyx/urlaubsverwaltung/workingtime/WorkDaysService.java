@@ -12,7 +12,13 @@ import org.synyx.urlaubsverwaltung.util.DateUtil;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.groupingBy;
 
 
 /**
@@ -95,13 +101,40 @@ public class WorkDaysService {
 
         FederalState federalState = getFederalState(workingTime);
 
+        return calculateWorkDays(dayLength, startDate, endDate, workingTime,
+            day -> publicHolidaysService.getWorkingDurationOfDate(day, federalState));
+    }
+
+
+    /**
+     * Creates a {@link WorkDaysCalculator} to calculate the workdays of many periods of the given persons, e.g. for
+     * statistics. The working times of all persons and the settings are fetched once and the working duration of a
+     * date is calculated only once per federal state.
+     *
+     * @param personIds ids of the persons to calculate workdays for
+     * @return calculator for the workdays of the given persons
+     */
+    public WorkDaysCalculator getWorkDaysCalculator(Collection<Integer> personIds) {
+
+        final Map<Integer, List<WorkingTime>> workingTimesByPerson = workingTimeService.getByPersonIds(personIds)
+            .stream()
+            .collect(groupingBy(workingTime -> workingTime.getPerson().getId()));
+
+        return new WorkDaysCalculator(publicHolidaysService, settingsService.getSettings().getWorkingTimeSettings(),
+            workingTimesByPerson);
+    }
+
+
+    static BigDecimal calculateWorkDays(DayLength dayLength, LocalDate startDate, LocalDate endDate,
+                                        WorkingTime workingTime, Function<LocalDate, BigDecimal> workingDurationOfDate) {
+
         BigDecimal vacationDays = BigDecimal.ZERO;
 
         LocalDate day = startDate;
 
         while (!day.isAfter(endDate)) {
             // value may be 1 for public holiday, 0 for not public holiday or 0.5 for Christmas Eve or New Year's Eve
-            BigDecimal duration = publicHolidaysService.getWorkingDurationOfDate(day, federalState);
+            BigDecimal duration = workingDurationOfDate.apply(day);
 
             int dayOfWeek = day.getDayOfWeek().getValue();
             BigDecimal workingDuration = workingTime.getDayLengthForWeekDay(dayOfWeek).getDuration();
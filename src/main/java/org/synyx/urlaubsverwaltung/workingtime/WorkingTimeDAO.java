@@ -5,6 +5,7 @@ import org.springframework.data.repository.CrudRepository;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -17,6 +18,10 @@ interface WorkingTimeDAO extends CrudRepository<WorkingTime, Integer> {
     List<WorkingTime> findByPerson(Person person);
 
 
+    @Query("SELECT x FROM WorkingTime x WHERE x.person.id IN ?1 ORDER BY x.validFrom")
+    List<WorkingTime> findByPersonIdIn(Collection<Integer> personIds);
+
+
     @Query("SELECT x FROM WorkingTime x WHERE x.person = ?1 AND x.validFrom = ?2")
     WorkingTime findByPersonAndValidityDate(Person person, LocalDate date);
 
@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.springframework.context.ApplicationEvent;
+
+public class WorkingTimeSavedEvent extends ApplicationEvent {
+
+    private final transient WorkingTime workingTime;
+
+    public WorkingTimeSavedEvent(Object source, WorkingTime workingTime) {
+        super(source);
+        this.workingTime = workingTime;
+    }
+
+    public WorkingTime getWorkingTime() {
+        return workingTime;
+    }
+}
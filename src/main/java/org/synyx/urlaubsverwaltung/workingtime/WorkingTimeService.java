@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.workingtime;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.period.DayLength;
@@ -14,6 +15,7 @@ import org.synyx.urlaubsverwaltung.workingtime.config.WorkingTimeProperties;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,14 +36,18 @@ public class WorkingTimeService {
     private final WorkingTimeDAO workingTimeDAO;
     private final SettingsService settingsService;
     private final Clock clock;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public WorkingTimeService(WorkingTimeProperties workingTimeProperties, WorkingTimeDAO workingTimeDAO, SettingsService settingsService, Clock clock) {
+    public WorkingTimeService(WorkingTimeProperties workingTimeProperties, WorkingTimeDAO workingTimeDAO,
+                              SettingsService settingsService, Clock clock,
+                              ApplicationEventPublisher applicationEventPublisher) {
 
         this.workingTimeProperties = workingTimeProperties;
         this.workingTimeDAO = workingTimeDAO;
         this.settingsService = settingsService;
         this.clock = clock;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     public void touch(List<Integer> workingDays, Optional<FederalState> federalState, LocalDate validFrom,
@@ -72,6 +78,8 @@ public class WorkingTimeService {
 
         workingTimeDAO.save(workingTime);
         LOG.info("Successfully created working time for person {}", person);
+
+        applicationEventPublisher.publishEvent(new WorkingTimeSavedEvent(this, workingTime));
     }
 
 
@@ -81,6 +89,16 @@ public class WorkingTimeService {
     }
 
 
+    public List<WorkingTime> getByPersonIds(Collection<Integer> personIds) {
+
+        if (personIds.isEmpty()) {
+            return List.of();
+        }
+
+        return workingTimeDAO.findByPersonIdIn(personIds);
+    }
+
+
     public Optional<WorkingTime> getByPersonAndValidityDateEqualsOrMinorDate(Person person, LocalDate date) {
 
         return Optional.ofNullable(workingTimeDAO.findByPersonAndValidityDateEqualsOrMinorDate(person, date));
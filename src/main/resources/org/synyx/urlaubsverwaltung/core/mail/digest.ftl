@@ -0,0 +1,11 @@
+Hallo,
+
+seit der letzten Zusammenfassung gab es folgende Benachrichtigungen:
+<#list mails as mail>
+
+----------------------------------------------------------------------
+${mail.subject}
+----------------------------------------------------------------------
+
+${mail.text}
+</#list>
@@ -114,6 +114,14 @@
 
                 </c:choose>
 
+                <c:if test="${not empty nextCursor}">
+                    <p class="pull-right hidden-print">
+                        <a href="${URL_PREFIX}/person?active=${param.active}&year=${year}&department=${department.id}&limit=${limit}&cursor=${nextCursor}">
+                            <spring:message code="action.page.next"/>
+                        </a>
+                    </p>
+                </c:if>
+
             </div>
         </div>
     </div>
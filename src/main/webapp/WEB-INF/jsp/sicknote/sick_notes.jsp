@@ -130,6 +130,14 @@
                         </c:forEach>
                     </tbody>
                 </table>
+
+                <c:if test="${not empty nextCursor}">
+                    <p class="pull-right hidden-print">
+                        <a href="${URL_PREFIX}/sicknote?from=${period.startDateAsString}&to=${period.endDateAsString}&limit=${limit}&cursor=${nextCursor}">
+                            <spring:message code="action.page.next"/>
+                        </a>
+                    </p>
+                </c:if>
             </div>
         </div>
     </div>
@@ -0,0 +1,40 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+
+/**
+ * Helps integration tests to count the statements hibernate issues for a use case.
+ */
+public final class HibernateStatisticsSupport {
+
+    private HibernateStatisticsSupport() {
+        // Hide constructor for util classes
+    }
+
+    /**
+     * Flushes and clears the persistence context and the second level cache, so that the following use case has to
+     * load everything from the database, and returns the freshly reset hibernate statistics.
+     *
+     * @param entityManager of the current transaction
+     * @return the enabled and cleared hibernate statistics
+     */
+    public static Statistics clearPersistenceContextAndGetStatistics(EntityManager entityManager) {
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+        entityManagerFactory.getCache().evictAll();
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        return statistics;
+    }
+}
@@ -0,0 +1,253 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.application.dao.ApplicationDAO;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.VacationType;
+import org.synyx.urlaubsverwaltung.application.service.VacationTypeService;
+import org.synyx.urlaubsverwaltung.overtime.Overtime;
+import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteType;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteTypeService;
+import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.CANCELLED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.REJECTED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus.ACTIVE;
+import static org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus.CONVERTED_TO_VACATION;
+
+
+/**
+ * Checks the query plans of the frequently used period and status queries, so a query that can not use an index
+ * anymore, e.g. because of a changed predicate or a dropped index, fails instead of silently scanning the whole table.
+ *
+ * <p>The SQL is not written by hand but recorded while the real repository methods are executed. The tables are
+ * seeded with enough persons, periods and states that a table scan is clearly more expensive than an index access.</p>
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = RecordingStatementInspector.PROPERTY)
+@Transactional
+public class QueryIndexUsageIT {
+
+    private static final int NUMBER_OF_PERSONS = 20;
+    private static final int RECORDS_PER_PERSON = 25;
+    private static final LocalDate FIRST_START_DATE = LocalDate.of(2011, 1, 1);
+
+    private static final int YEAR = 2020;
+    private static final LocalDate START = LocalDate.of(YEAR, 1, 1);
+    private static final LocalDate END = LocalDate.of(YEAR, 12, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private VacationTypeService vacationTypeService;
+    @Autowired
+    private SickNoteTypeService sickNoteTypeService;
+    @Autowired
+    private ApplicationDAO applicationDAO;
+    @Autowired
+    private SickNoteService sickNoteService;
+    @Autowired
+    private OvertimeService overtimeService;
+
+    private final List<Person> persons = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+
+        final VacationType vacationType = vacationTypeService.getVacationTypes().get(0);
+        final SickNoteType sickNoteType = sickNoteTypeService.getSickNoteTypes().get(0);
+
+        for (int p = 0; p < NUMBER_OF_PERSONS; p++) {
+            persons.add(personService.save(TestDataCreator.createPerson("index" + p)));
+        }
+
+        // every person gets records spread over twenty years, only one in ten records has one of the queried states
+        for (int record = 0; record < RECORDS_PER_PERSON; record++) {
+            for (int p = 0; p < NUMBER_OF_PERSONS; p++) {
+
+                final Person person = persons.get(p);
+                final LocalDate startDate = FIRST_START_DATE.plusDays((record * NUMBER_OF_PERSONS + p) * 14L);
+                final LocalDate endDate = startDate.plusDays(2);
+                final int state = (record + p) % 10;
+
+                final Application application = TestDataCreator.createApplication(person, vacationType, startDate, endDate, FULL);
+                application.setStatus(applicationStatus(state));
+                entityManager.persist(application);
+
+                final SickNote sickNote = TestDataCreator.createSickNote(person, startDate, endDate, FULL);
+                sickNote.setSickNoteType(sickNoteType);
+                sickNote.setStatus(sickNoteStatus(state));
+                entityManager.persist(sickNote);
+
+                entityManager.persist(new Overtime(person, startDate, endDate, BigDecimal.ONE));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void ensureApplicationsForPersonAndPeriodUseIndex() {
+
+        final Person person = persons.get(0);
+        final String sql = recordSql("Application",
+            () -> applicationDAO.getApplicationsForACertainTimeAndPerson(START, END, person));
+
+        assertUsesIndex(sql, "Application", person.getId(), END, START);
+    }
+
+    @Test
+    public void ensureApplicationsForStatusAndPeriodUseIndex() {
+
+        final String sql = recordSql("Application",
+            () -> applicationDAO.getApplicationsForACertainTimeAndState(START, END, ALLOWED));
+
+        assertUsesIndex(sql, "Application", ALLOWED.name(), END, START);
+    }
+
+    @Test
+    public void ensureApplicationsForStatusesAndPersonsUseIndex() {
+
+        final Person first = persons.get(0);
+        final Person second = persons.get(1);
+        final String sql = recordSql("Application",
+            () -> applicationDAO.findByStatusInAndPersonIn(List.of(WAITING, TEMPORARY_ALLOWED), List.of(first, second)));
+
+        assertUsesIndex(sql, "Application", WAITING.name(), TEMPORARY_ALLOWED.name(), first.getId(), second.getId());
+    }
+
+    @Test
+    public void ensureSickNotesForPersonAndPeriodUseIndex() {
+
+        final Person person = persons.get(0);
+        final String sql = recordSql("SickNote", () -> sickNoteService.getByPersonAndPeriod(person, START, END));
+
+        assertUsesIndex(sql, "SickNote", person.getId(), END, START);
+    }
+
+    @Test
+    public void ensureActiveSickNotesForPeriodUseIndex() {
+
+        final String sql = recordSql("SickNote", () -> sickNoteService.getActiveSickNotePeriods(START, END));
+
+        assertUsesIndex(sql, "SickNote", END, START);
+    }
+
+    @Test
+    public void ensureSickNotesForStatusesUseIndex() {
+
+        final String sql = recordSql("SickNote",
+            () -> sickNoteService.getForStates(List.of(ACTIVE, CONVERTED_TO_VACATION)));
+
+        assertUsesIndex(sql, "SickNote", ACTIVE.name(), CONVERTED_TO_VACATION.name());
+    }
+
+    @Test
+    public void ensureOvertimeForPersonAndPeriodUseIndex() {
+
+        final Person person = persons.get(0);
+        final String sql = recordSql("Overtime", () -> overtimeService.getOvertimeRecordsForPersonAndYear(person, YEAR));
+
+        assertUsesIndex(sql, "Overtime", person.getId(), END, START);
+    }
+
+    private static ApplicationStatus applicationStatus(int state) {
+
+        switch (state) {
+            case 0:
+                return ALLOWED;
+            case 1:
+                return WAITING;
+            case 2:
+                return TEMPORARY_ALLOWED;
+            default:
+                return state % 2 == 0 ? REJECTED : CANCELLED;
+        }
+    }
+
+    private static SickNoteStatus sickNoteStatus(int state) {
+
+        switch (state) {
+            case 0:
+                return ACTIVE;
+            case 1:
+                return CONVERTED_TO_VACATION;
+            default:
+                return SickNoteStatus.CANCELLED;
+        }
+    }
+
+    /**
+     * Executes the given query and returns the last recorded statement selecting from the given table.
+     */
+    private String recordSql(String table, Runnable query) {
+
+        RecordingStatementInspector.clear();
+        query.run();
+
+        return RecordingStatementInspector.getStatements().stream()
+            .filter(sql -> aliasPattern(table).matcher(sql).find())
+            .reduce((first, second) -> second)
+            .orElseThrow(() -> new AssertionError("No statement selecting from " + table + " was recorded"));
+    }
+
+    /**
+     * Runs EXPLAIN for the given statement and asserts that the given table is not scanned completely but accessed
+     * via an index. Rows of joined tables, e.g. the persons of an entity graph, are not checked.
+     */
+    private void assertUsesIndex(String sql, String table, Object... parameters) {
+
+        final Matcher matcher = aliasPattern(table).matcher(sql);
+        assertThat(matcher.find()).as("statement selects from %s: %s", table, sql).isTrue();
+        final String alias = matcher.group(1);
+
+        final List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, parameters);
+
+        assertThat(plan).filteredOn(row -> alias.equals(row.get("table")))
+            .as("plan of %s", sql)
+            .hasSize(1)
+            .allSatisfy(row -> {
+                assertThat(row.get("type")).as("access type of %s", sql).isNotEqualTo("ALL");
+                assertThat(row.get("key")).as("key of %s", sql).isNotNull();
+            });
+    }
+
+    private static Pattern aliasPattern(String table) {
+
+        return Pattern.compile("\\bfrom\\s+" + table + "\\s+(\\w+)", CASE_INSENSITIVE);
+    }
+}
@@ -0,0 +1,37 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * Records the SQL hibernate prepares, so integration tests can check the statements generated for a use case. A
+ * batch is prepared once for all its rows. Tests enable the inspector via {@link #PROPERTY}.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.synyx.urlaubsverwaltung.RecordingStatementInspector";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+
+        STATEMENTS.add(sql);
+
+        return sql;
+    }
+
+    public static void clear() {
+
+        STATEMENTS.clear();
+    }
+
+    public static List<String> getStatements() {
+
+        return List.copyOf(STATEMENTS);
+    }
+}
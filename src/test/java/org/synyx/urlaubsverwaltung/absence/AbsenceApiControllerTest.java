@@ -10,15 +10,16 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.synyx.urlaubsverwaltung.absence.AbsenceApiController;
 import org.synyx.urlaubsverwaltung.api.ApiExceptionHandlerControllerAdvice;
-import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationPeriod;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
-import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNotePeriod;
 import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static java.util.Collections.singletonList;
@@ -26,16 +27,19 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createApplication;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
-import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createSickNote;
 
 
 @RunWith(MockitoJUnitRunner.class)
@@ -67,31 +71,28 @@ public class AbsenceApiControllerTest {
             .andExpect(status().isOk());
 
         verify(sickNoteService)
-            .getByPersonAndPeriod(any(Person.class), eq(LocalDate.of(2016, 1, 1)),
+            .getActiveSickNotePeriods(any(Person.class), eq(LocalDate.of(2016, 1, 1)),
                 eq(LocalDate.of(2016, 12, 31)));
         verify(applicationService)
-            .getApplicationsForACertainPeriodAndPerson(eq(LocalDate.of(2016, 1, 1)),
-                eq(LocalDate.of(2016, 12, 31)), any(Person.class));
+            .getPeriodsForACertainPeriodAndPersonAndStates(eq(LocalDate.of(2016, 1, 1)),
+                eq(LocalDate.of(2016, 12, 31)), any(Person.class), eq(List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED)));
         verify(personService).getPersonByID(23);
     }
 
     @Test
     public void ensureCorrectConversionOfVacationAndSickNotes() throws Exception {
         final Person person = createPerson("muster");
-        final SickNote sickNote = createSickNote(person, LocalDate.of(2016, 5, 19),
-            LocalDate.of(2016, 5, 20), DayLength.FULL);
-        sickNote.setId(1);
-        final Application vacation = createApplication(person, LocalDate.of(2016, 4, 6),
-            LocalDate.of(2016, 4, 6), DayLength.FULL);
+        final SickNotePeriod sickNote = sickNotePeriod(1, LocalDate.of(2016, 5, 19), LocalDate.of(2016, 5, 20));
+        final ApplicationPeriod vacation = applicationPeriod(2, LocalDate.of(2016, 4, 6), LocalDate.of(2016, 4, 6));
 
         when(personService.getPersonByID(anyInt())).thenReturn(Optional.of(person));
 
-        when(sickNoteService.getByPersonAndPeriod(any(Person.class),
+        when(sickNoteService.getActiveSickNotePeriods(any(Person.class),
             any(LocalDate.class), any(LocalDate.class)))
             .thenReturn(singletonList(sickNote));
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class),
-            any(LocalDate.class), any(Person.class)))
+        when(applicationService.getPeriodsForACertainPeriodAndPersonAndStates(any(LocalDate.class),
+            any(LocalDate.class), any(Person.class), anyList()))
             .thenReturn(singletonList(vacation));
 
         perform(get("/api/absences").param("year", "2016").param("person", "23"))
@@ -113,11 +114,10 @@ public class AbsenceApiControllerTest {
     @Test
     public void ensureTypeFilterIsWorking() throws Exception {
         final Person person = createPerson("muster");
-        final Application vacation = createApplication(person, LocalDate.of(2016, 4, 6),
-            LocalDate.of(2016, 4, 6), DayLength.FULL);
+        final ApplicationPeriod vacation = applicationPeriod(2, LocalDate.of(2016, 4, 6), LocalDate.of(2016, 4, 6));
 
         when(personService.getPersonByID(anyInt())).thenReturn(Optional.of(person));
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(singletonList(vacation));
+        when(applicationService.getPeriodsForACertainPeriodAndPersonAndStates(any(LocalDate.class), any(LocalDate.class), any(Person.class), anyList())).thenReturn(singletonList(vacation));
 
         perform(get("/api/absences").param("year", "2016").param("person", "23").param("type", "VACATION"))
             .andExpect(status().isOk())
@@ -132,14 +132,12 @@ public class AbsenceApiControllerTest {
     @Test
     public void ensureMonthFilterIsWorking() throws Exception {
         final Person person = createPerson("muster");
-        final Application vacation = createApplication(person, LocalDate.of(2016, 5, 30),
-            LocalDate.of(2016, 6, 1), DayLength.FULL);
-        final SickNote sickNote = createSickNote(person, LocalDate.of(2016, 6, 30),
-            LocalDate.of(2016, 7, 6), DayLength.FULL);
+        final ApplicationPeriod vacation = applicationPeriod(2, LocalDate.of(2016, 5, 30), LocalDate.of(2016, 6, 1));
+        final SickNotePeriod sickNote = sickNotePeriod(1, LocalDate.of(2016, 6, 30), LocalDate.of(2016, 7, 6));
 
         when(personService.getPersonByID(anyInt())).thenReturn(Optional.of(person));
-        when(sickNoteService.getByPersonAndPeriod(any(Person.class), any(LocalDate.class), any(LocalDate.class))).thenReturn(singletonList(sickNote));
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(singletonList(vacation));
+        when(sickNoteService.getActiveSickNotePeriods(any(Person.class), any(LocalDate.class), any(LocalDate.class))).thenReturn(singletonList(sickNote));
+        when(applicationService.getPeriodsForACertainPeriodAndPersonAndStates(any(LocalDate.class), any(LocalDate.class), any(Person.class), anyList())).thenReturn(singletonList(vacation));
 
         perform(get("/api/absences").param("year", "2016").param("month", "6").param("person", "23"))
             .andExpect(status().isOk())
@@ -230,6 +228,29 @@ public class AbsenceApiControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    private static ApplicationPeriod applicationPeriod(Integer id, LocalDate startDate, LocalDate endDate) {
+
+        final ApplicationPeriod applicationPeriod = mock(ApplicationPeriod.class);
+        when(applicationPeriod.getId()).thenReturn(id);
+        when(applicationPeriod.getStartDate()).thenReturn(startDate);
+        when(applicationPeriod.getEndDate()).thenReturn(endDate);
+        when(applicationPeriod.getDayLength()).thenReturn(DayLength.FULL);
+        when(applicationPeriod.getStatus()).thenReturn(WAITING);
+
+        return applicationPeriod;
+    }
+
+    private static SickNotePeriod sickNotePeriod(Integer id, LocalDate startDate, LocalDate endDate) {
+
+        final SickNotePeriod sickNotePeriod = mock(SickNotePeriod.class);
+        when(sickNotePeriod.getId()).thenReturn(id);
+        when(sickNotePeriod.getStartDate()).thenReturn(startDate);
+        when(sickNotePeriod.getEndDate()).thenReturn(endDate);
+        when(sickNotePeriod.getDayLength()).thenReturn(DayLength.FULL);
+
+        return sickNotePeriod;
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return MockMvcBuilders.standaloneSetup(sut).setControllerAdvice(new ApiExceptionHandlerControllerAdvice()).build().perform(builder);
     }
@@ -8,9 +8,12 @@ import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
 import org.synyx.urlaubsverwaltung.absence.AbsenceMappingServiceImpl;
 import org.synyx.urlaubsverwaltung.absence.AbsenceType;
 
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.verify;
 
 
@@ -72,4 +75,31 @@ public class AbsenceMappingServiceImplTest {
 
         verify(absenceMappingDAO).findAbsenceMappingByAbsenceIdAndAbsenceType(21, AbsenceType.SICKNOTE);
     }
+
+
+    @Test
+    public void shouldFindAbsenceMappingsOfSeveralAbsences() {
+
+        sut.getAbsencesByIdsAndType(List.of(1, 2), AbsenceType.VACATION);
+
+        verify(absenceMappingDAO).findByAbsenceTypeAndAbsenceIdIn(AbsenceType.VACATION, List.of(1, 2));
+    }
+
+
+    @Test
+    public void shouldNotQueryAbsenceMappingsWithoutIds() {
+
+        assertThat(sut.getAbsencesByIdsAndType(List.of(), AbsenceType.SICKNOTE).isEmpty(), is(true));
+
+        verifyZeroInteractions(absenceMappingDAO);
+    }
+
+
+    @Test
+    public void shouldFindAbsenceMappingsOfSeveralEvents() {
+
+        sut.getAbsencesByEventIds(List.of("event-1", "event-2"));
+
+        verify(absenceMappingDAO).findByEventIdIn(List.of("event-1", "event-2"));
+    }
 }
@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.account.service;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.RecordingStatementInspector;
+import org.synyx.urlaubsverwaltung.mail.MailService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import javax.persistence.EntityManager;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createHolidaysAccount;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = RecordingStatementInspector.PROPERTY)
+@Transactional
+public class TurnOfTheYearAccountUpdaterServiceIT {
+
+    private static final int NEW_YEAR = ZonedDateTime.now(UTC).getYear();
+    private static final int LAST_YEAR = NEW_YEAR - 1;
+
+    @Autowired
+    private TurnOfTheYearAccountUpdaterService sut;
+
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private MailService mailService;
+
+    @Test
+    public void ensureInsertsTheAccountsOfTheNewYearInBatches() {
+
+        final List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final Person person = personService.save(createPerson("turnOfTheYear" + i));
+            accountService.save(createHolidaysAccount(person, LAST_YEAR));
+            persons.add(person);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+
+        sut.updateAccountsForNextPeriod();
+        entityManager.flush();
+
+        assertThat(RecordingStatementInspector.getStatements())
+            .filteredOn(sql -> sql.toLowerCase().startsWith("insert into account"))
+            .hasSize(1);
+
+        for (Person person : persons) {
+            assertThat(accountService.getHolidaysAccount(NEW_YEAR, person)).isPresent();
+        }
+    }
+}
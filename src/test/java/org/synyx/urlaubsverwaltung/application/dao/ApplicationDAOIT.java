@@ -1,9 +1,11 @@
 package org.synyx.urlaubsverwaltung.application.dao;
 
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
@@ -13,14 +15,17 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
 
+import javax.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.math.BigDecimal.ONE;
 import static java.math.RoundingMode.UNNECESSARY;
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.HibernateStatisticsSupport.clearPersistenceContextAndGetStatistics;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.CANCELLED;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.REJECTED;
@@ -45,6 +50,8 @@ public class ApplicationDAOIT {
     private ApplicationDAO applicationDAO;
     @Autowired
     private VacationTypeDAO vacationTypeDAO;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     public void ensureReturnsNullAsTotalOvertimeReductionIfPersonHasNoApplicationsForLeaveYet() {
@@ -118,6 +125,107 @@ public class ApplicationDAOIT {
     }
 
 
+    @Test
+    public void ensureLoadsWaitingApplicationsWithPersonsInBoundedNumberOfStatements() {
+
+        final Person boss = personService.save(TestDataCreator.createPerson("boss"));
+        final LocalDate now = LocalDate.now(UTC);
+
+        for (int i = 0; i < 10; i++) {
+            final Person person = personService.save(TestDataCreator.createPerson("person" + i));
+            final Person replacement = personService.save(TestDataCreator.createPerson("replacement" + i));
+
+            final Application application = createApplication(person, getVacationType(HOLIDAY), now, now.plusDays(2), FULL);
+            application.setApplier(person);
+            application.setBoss(boss);
+            application.setHolidayReplacement(replacement);
+            application.setStatus(WAITING);
+            applicationDAO.save(application);
+        }
+
+        final Statistics statistics = clearPersistenceContextAndGetStatistics(entityManager);
+
+        final List<Application> applications = applicationDAO.getApplicationsForACertainState(WAITING);
+        applications.forEach(application -> {
+            assertThat(application.getPerson().getPermissions()).isNotEmpty();
+            assertThat(application.getHolidayReplacement().getNotifications()).isNotEmpty();
+            assertThat(application.getVacationType().getCategory()).isEqualTo(HOLIDAY);
+        });
+
+        // the applications joined with persons and vacation type, plus one batch per person collection
+        assertThat(applications).hasSizeGreaterThanOrEqualTo(10);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+
+    @Test
+    public void ensureLoadsApplicationsOfPersonsForStatisticsInBoundedNumberOfStatements() {
+
+        final LocalDate start = LocalDate.of(2030, 1, 1);
+        final List<Person> persons = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            final Person person = personService.save(TestDataCreator.createPerson("statistics" + i));
+            persons.add(person);
+
+            final Application holiday = createApplication(person, getVacationType(HOLIDAY), start.plusDays(i), start.plusDays(i + 2), FULL);
+            holiday.setStatus(ALLOWED);
+            applicationDAO.save(holiday);
+
+            final Application overtime = createApplication(person, getVacationType(OVERTIME), start.plusDays(i + 5), start.plusDays(i + 5), FULL);
+            overtime.setStatus(WAITING);
+            applicationDAO.save(overtime);
+        }
+
+        final Statistics statistics = clearPersistenceContextAndGetStatistics(entityManager);
+
+        final List<Application> applications = applicationDAO.getApplicationsForACertainTimeAndPersons(start,
+            start.plusDays(30), persons);
+        applications.forEach(application -> {
+            assertThat(application.getPerson().getPermissions()).isNotEmpty();
+            assertThat(application.getPerson().getNotifications()).isNotEmpty();
+            assertThat(application.getVacationType().getCategory()).isNotNull();
+        });
+
+        // the applications joined with persons and vacation type, plus one batch per person collection
+        assertThat(applications).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+
+    @Test
+    public void ensurePagesApplicationsForPeriodAndStateOrderedByStartDateAndId() {
+
+        final Person person = personService.save(TestDataCreator.createPerson("sam", "sam", "smith", "smith@test.de"));
+        final LocalDate start = LocalDate.of(2030, 1, 1);
+
+        final Application sameStartFirst = saveAllowed(person, start.plusDays(5));
+        final Application sameStartSecond = saveAllowed(person, start.plusDays(5));
+        final Application earliest = saveAllowed(person, start);
+        final Application latest = saveAllowed(person, start.plusDays(10));
+
+        final LocalDate end = start.plusDays(20);
+        final List<Application> firstPage = applicationDAO.getApplicationsForACertainTimeAndState(start, end, ALLOWED,
+            PageRequest.of(0, 2));
+        assertThat(firstPage).containsExactly(earliest, sameStartFirst);
+
+        final List<Application> secondPage = applicationDAO.getApplicationsForACertainTimeAndStateAfter(start, end,
+            ALLOWED, sameStartFirst.getStartDate(), sameStartFirst.getId(), PageRequest.of(0, 2));
+        assertThat(secondPage).containsExactly(sameStartSecond, latest);
+
+        final List<Application> pageOfPerson = applicationDAO.getApplicationsForACertainTimeAndPersonAndStateAfter(
+            start, end, person, ALLOWED, sameStartSecond.getStartDate(), sameStartSecond.getId(), PageRequest.of(0, 2));
+        assertThat(pageOfPerson).containsExactly(latest);
+    }
+
+    private Application saveAllowed(Person person, LocalDate startDate) {
+
+        final Application application = createApplication(person, getVacationType(HOLIDAY), startDate, startDate, FULL);
+        application.setStatus(ALLOWED);
+
+        return applicationDAO.save(application);
+    }
+
     private VacationType getVacationType(VacationCategory category) {
 
         List<VacationType> vacationTypes = vacationTypeDAO.findAll();
@@ -7,16 +7,22 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.synyx.urlaubsverwaltung.application.dao.ApplicationCommentDAO;
+import org.synyx.urlaubsverwaltung.application.dao.ArchivedApplicationCommentDAO;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationComment;
+import org.synyx.urlaubsverwaltung.application.domain.ArchivedApplicationComment;
 import org.synyx.urlaubsverwaltung.application.domain.VacationType;
 import org.synyx.urlaubsverwaltung.person.Person;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
+import static java.util.Collections.emptyList;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationAction.ALLOWED;
@@ -37,10 +43,12 @@ public class ApplicationCommentServiceImplTest {
 
     @Mock
     private ApplicationCommentDAO commentDAO;
+    @Mock
+    private ArchivedApplicationCommentDAO archivedCommentDAO;
 
     @Before
     public void setUp() {
-        commentService = new ApplicationCommentServiceImpl(commentDAO);
+        commentService = new ApplicationCommentServiceImpl(commentDAO, archivedCommentDAO);
     }
 
 
@@ -97,4 +105,21 @@ public class ApplicationCommentServiceImplTest {
 
         verify(commentDAO).save(eq(savedComment));
     }
+
+
+    @Test
+    public void ensureReadsCommentsOfArchivedApplicationFromArchive() {
+
+        final Application application = createApplication(createPerson("person"), createVacationType(HOLIDAY));
+        application.setId(42);
+
+        final ApplicationComment comment = new ApplicationComment(createPerson("author"), LocalDate.of(2015, 3, 1));
+        final ArchivedApplicationComment archivedComment = mock(ArchivedApplicationComment.class);
+        when(archivedComment.toApplicationComment(application)).thenReturn(comment);
+
+        when(commentDAO.getCommentsByApplication(application)).thenReturn(emptyList());
+        when(archivedCommentDAO.findByApplicationIdOrderById(42)).thenReturn(List.of(archivedComment));
+
+        Assert.assertEquals(List.of(comment), commentService.getCommentsByApplication(application));
+    }
 }
@@ -14,17 +14,13 @@ import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.application.domain.VacationCategory;
 import org.synyx.urlaubsverwaltung.application.service.exception.ImpatientAboutApplicationForLeaveProcessException;
 import org.synyx.urlaubsverwaltung.application.service.exception.RemindAlreadySentException;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncService;
-import org.synyx.urlaubsverwaltung.absence.Absence;
-import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
-import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncQueue;
 import org.synyx.urlaubsverwaltung.absence.AbsenceType;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.Period;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.Role;
-import org.synyx.urlaubsverwaltung.settings.Settings;
-import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
 
 import java.time.LocalDate;
@@ -35,7 +31,6 @@ import static java.time.ZoneOffset.UTC;
 import static java.util.Arrays.asList;
 import static java.util.Optional.of;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
@@ -63,22 +58,15 @@ public class ApplicationInteractionServiceImplTest {
     @Mock
     private ApplicationMailService applicationMailService;
     @Mock
-    private CalendarSyncService calendarSyncService;
-    @Mock
-    private AbsenceMappingService absenceMappingService;
-    @Mock
-    private SettingsService settingsService;
+    private CalendarSyncQueue calendarSyncQueue;
     @Mock
     private DepartmentService departmentService;
 
     @Before
     public void setUp() {
 
-        when(calendarSyncService.addAbsence(any(Absence.class))).thenReturn(of("42"));
-        when(settingsService.getSettings()).thenReturn(new Settings());
-
         sut = new ApplicationInteractionServiceImpl(applicationService, commentService, accountInteractionService,
-            applicationMailService, calendarSyncService, absenceMappingService, settingsService, departmentService);
+            applicationMailService, calendarSyncQueue, departmentService);
     }
 
 
@@ -133,8 +121,7 @@ public class ApplicationInteractionServiceImplTest {
 
         sut.apply(applicationForLeave, applier, comment);
 
-        verify(calendarSyncService).addAbsence(any(Absence.class));
-        verify(absenceMappingService).create(isNull(), eq(AbsenceType.VACATION), anyString());
+        verify(calendarSyncQueue).addAbsence(isNull(), eq(AbsenceType.VACATION), eq(person), any(Period.class));
     }
 
 
@@ -238,8 +225,7 @@ public class ApplicationInteractionServiceImplTest {
 
     private void assertNoCalendarSyncIsExecuted() {
 
-        verifyZeroInteractions(calendarSyncService);
-        verifyZeroInteractions(absenceMappingService);
+        verifyZeroInteractions(calendarSyncQueue);
     }
 
 
@@ -286,7 +272,6 @@ public class ApplicationInteractionServiceImplTest {
         applicationForLeave.setTwoStageApproval(true);
         when(applicationService.save(applicationForLeave)).thenReturn(applicationForLeave);
 
-        AbsenceMapping absenceMapping = TestDataCreator.anyAbsenceMapping();
         when(commentService.create(applicationForLeave, ApplicationAction.ALLOWED, comment, boss)).thenReturn(new ApplicationComment(person));
 
         sut.allow(applicationForLeave, boss, comment);
@@ -315,8 +300,7 @@ public class ApplicationInteractionServiceImplTest {
         verifyZeroInteractions(applicationService);
         verifyZeroInteractions(commentService);
         verifyZeroInteractions(applicationMailService);
-        verifyZeroInteractions(calendarSyncService);
-        verifyZeroInteractions(absenceMappingService);
+        verifyZeroInteractions(calendarSyncQueue);
     }
 
 
@@ -391,8 +375,7 @@ public class ApplicationInteractionServiceImplTest {
 
     private void assertNoCalendarSyncOccurs() {
 
-        verifyZeroInteractions(calendarSyncService);
-        verifyZeroInteractions(absenceMappingService);
+        verifyZeroInteractions(calendarSyncQueue);
     }
 
 
@@ -424,8 +407,7 @@ public class ApplicationInteractionServiceImplTest {
         verifyZeroInteractions(applicationService);
         verifyZeroInteractions(commentService);
         verifyZeroInteractions(applicationMailService);
-        verifyZeroInteractions(calendarSyncService);
-        verifyZeroInteractions(absenceMappingService);
+        verifyZeroInteractions(calendarSyncQueue);
     }
 
 
@@ -532,7 +514,7 @@ public class ApplicationInteractionServiceImplTest {
         assertApplicationForLeaveAndCommentAreSaved(applicationForLeave, ApplicationAction.ALLOWED, comment,
             secondStage);
         assertAllowedNotificationIsSent(applicationForLeave);
-        verifyZeroInteractions(calendarSyncService);
+        verifyZeroInteractions(calendarSyncQueue);
     }
 
     @Test
@@ -558,7 +540,7 @@ public class ApplicationInteractionServiceImplTest {
         assertApplicationForLeaveHasChangedStatus(applicationForLeave, ApplicationStatus.ALLOWED, departmentHead, secondStageAuthority);
         assertApplicationForLeaveAndCommentAreSaved(applicationForLeave, ApplicationAction.ALLOWED, comment, secondStageAuthority);
         assertAllowedNotificationIsSent(applicationForLeave);
-        verifyZeroInteractions(calendarSyncService);
+        verifyZeroInteractions(calendarSyncQueue);
     }
 
 
@@ -711,14 +693,9 @@ public class ApplicationInteractionServiceImplTest {
         applicationForLeave.setStatus(WAITING);
         when(applicationService.save(applicationForLeave)).thenReturn(applicationForLeave);
 
-        AbsenceMapping absenceMapping = TestDataCreator.anyAbsenceMapping();
-        final Optional<AbsenceMapping> absenceByIdAndType = absenceMappingService.getAbsenceByIdAndType(isNull(), eq(AbsenceType.VACATION));
-        when(absenceByIdAndType).thenReturn(of(absenceMapping));
-
         sut.reject(applicationForLeave, boss, comment);
 
-        verify(calendarSyncService).deleteAbsence(absenceMapping.getEventId());
-        verify(absenceMappingService).delete(absenceMapping);
+        verify(calendarSyncQueue).deleteAbsence(isNull(), eq(AbsenceType.VACATION));
     }
 
 
@@ -782,13 +759,9 @@ public class ApplicationInteractionServiceImplTest {
         Application applicationForLeave = getDummyApplication(person);
         applicationForLeave.setStatus(WAITING);
 
-        AbsenceMapping absenceMapping = TestDataCreator.anyAbsenceMapping();
-        when(absenceMappingService.getAbsenceByIdAndType(null, AbsenceType.VACATION)).thenReturn(of(absenceMapping));
-
         sut.cancel(applicationForLeave, canceller, comment);
 
-        verify(calendarSyncService).deleteAbsence(anyString());
-        verify(absenceMappingService).delete(any(AbsenceMapping.class));
+        verify(calendarSyncQueue).deleteAbsence(isNull(), eq(AbsenceType.VACATION));
     }
 
 
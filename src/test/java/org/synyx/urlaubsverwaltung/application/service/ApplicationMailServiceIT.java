@@ -12,6 +12,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationComment;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.mail.MailDigestProperties;
+import org.synyx.urlaubsverwaltung.mail.MailDigestService;
+import org.synyx.urlaubsverwaltung.mail.MailOutboxDispatcher;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.settings.MailSettings;
@@ -50,6 +53,12 @@ public class ApplicationMailServiceIT {
 
     @Autowired
     private ApplicationMailService sut;
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
+    @Autowired
+    private MailDigestProperties mailDigestProperties;
+    @Autowired
+    private MailDigestService mailDigestService;
 
     @Autowired
     private SettingsService settingsService;
@@ -66,6 +75,7 @@ public class ApplicationMailServiceIT {
     @After
     public void tearDown() {
         Mailbox.clearAll();
+        mailDigestProperties.setEnabled(false);
     }
 
     @Test
@@ -91,6 +101,7 @@ public class ApplicationMailServiceIT {
         comment.setText("OK, Urlaub kann genommen werden");
 
         sut.sendAllowedNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // were both emails sent?
         List<Message> inboxOffice = Mailbox.get(office.getEmail());
@@ -146,6 +157,7 @@ public class ApplicationMailServiceIT {
         application.setBoss(boss);
 
         sut.sendRejectedNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent?
         List<Message> inbox = Mailbox.get(person.getEmail());
@@ -176,6 +188,7 @@ public class ApplicationMailServiceIT {
         final Application application = createApplication(recipient);
 
         sut.sendReferApplicationNotification(application, recipient, sender);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent?
         List<Message> inbox = Mailbox.get(recipient.getEmail());
@@ -212,6 +225,7 @@ public class ApplicationMailServiceIT {
         final Application application = createApplication(person);
 
         sut.sendCancellationRequest(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         List<Message> inbox = Mailbox.get(office.getEmail());
         assertThat(inbox.size()).isOne();
@@ -242,6 +256,7 @@ public class ApplicationMailServiceIT {
         application.setApplier(office);
 
         sut.sendSickNoteConvertedToVacationNotification(application);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent?
         List<Message> inbox = Mailbox.get(person.getEmail());
@@ -276,6 +291,7 @@ public class ApplicationMailServiceIT {
         application.setHolidayReplacement(holidayReplacement);
 
         sut.notifyHolidayReplacement(application);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent?
         List<Message> inbox = Mailbox.get(holidayReplacement.getEmail());
@@ -301,6 +317,7 @@ public class ApplicationMailServiceIT {
         final Application application = createApplication(person);
 
         sut.sendConfirmation(application, null);
+        mailOutboxDispatcher.dispatch();
 
         List<Message> inbox = Mailbox.get(person.getEmail());
         assertThat(inbox.size()).isOne();
@@ -326,6 +343,7 @@ public class ApplicationMailServiceIT {
         comment.setText("Hätte gerne Urlaub");
 
         sut.sendConfirmation(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent?
         List<Message> inbox = Mailbox.get(person.getEmail());
@@ -363,6 +381,7 @@ public class ApplicationMailServiceIT {
 
         application.setApplier(office);
         sut.sendAppliedForLeaveByOfficeNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent?
         List<Message> inbox = Mailbox.get(person.getEmail());
@@ -399,6 +418,7 @@ public class ApplicationMailServiceIT {
         comment.setText("Geht leider nicht");
 
         sut.sendCancelledByOfficeNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent?
         List<Message> inboxApplicant = Mailbox.get(person.getEmail());
@@ -441,6 +461,7 @@ public class ApplicationMailServiceIT {
         when(applicationRecipientService.getRecipientsForAllowAndRemind(application)).thenReturn(asList(boss, departmentHead));
 
         sut.sendNewApplicationNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent to boss?
         List<Message> inboxOfBoss = Mailbox.get(boss.getEmail());
@@ -460,6 +481,40 @@ public class ApplicationMailServiceIT {
     }
 
 
+    @Test
+    public void ensureNotificationAboutNewApplicationIsSentToBossThatReceivesDigestsWithTheDigest() throws MessagingException {
+
+        activateMailSettings();
+        mailDigestProperties.setEnabled(true);
+
+        final Person boss = createPerson("boss", "Hugo", "Boss", "boss@firma.test");
+        boss.setPermissions(singletonList(BOSS));
+        boss.setNotifications(singletonList(NOTIFICATION_BOSS_ALL));
+
+        final Person departmentHead = createPerson("departmentHead", "Senior", "Kopf", "head@firma.test");
+        departmentHead.setPermissions(singletonList(DEPARTMENT_HEAD));
+
+        final Person person = createPerson("user", "Lieschen", "Müller", "lieschen@firma.test");
+        final ApplicationComment comment = new ApplicationComment(person);
+        final Application application = createApplication(person);
+
+        when(applicationRecipientService.getRecipientsForAllowAndRemind(application)).thenReturn(asList(boss, departmentHead));
+
+        sut.sendNewApplicationNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
+
+        // the department head does not receive digests
+        assertThat(Mailbox.get(boss.getEmail()).size()).isZero();
+        assertThat(Mailbox.get(departmentHead.getEmail()).size()).isOne();
+
+        mailDigestService.sendDigests();
+        mailOutboxDispatcher.dispatch();
+
+        List<Message> inboxOfBoss = Mailbox.get(boss.getEmail());
+        assertThat(inboxOfBoss.size()).isOne();
+        assertThat(inboxOfBoss.get(0).getSubject()).contains("Neuer Urlaubsantrag");
+    }
+
     @Test
     public void ensureNotificationAboutNewApplicationOfSecondStageAuthorityIsSentToBosses() throws MessagingException, IOException {
 
@@ -483,6 +538,7 @@ public class ApplicationMailServiceIT {
         when(applicationRecipientService.getRecipientsForAllowAndRemind(application)).thenReturn(asList(boss, departmentHead));
 
         sut.sendNewApplicationNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent to boss?
         List<Message> inboxOfBoss = Mailbox.get(boss.getEmail());
@@ -522,6 +578,7 @@ public class ApplicationMailServiceIT {
         when(applicationRecipientService.getRecipientsForAllowAndRemind(application)).thenReturn(asList(boss, secondStage));
 
         sut.sendNewApplicationNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent to boss?
         List<Message> inboxOfBoss = Mailbox.get(boss.getEmail());
@@ -560,6 +617,7 @@ public class ApplicationMailServiceIT {
         when(applicationRecipientService.getRecipientsForTemporaryAllow(application)).thenReturn(singletonList(secondStage));
 
         sut.sendTemporaryAllowedNotification(application, comment);
+        mailOutboxDispatcher.dispatch();
 
         // were both emails sent?
         List<Message> inboxSecondStage = Mailbox.get(secondStage.getEmail());
@@ -620,6 +678,7 @@ public class ApplicationMailServiceIT {
         when(applicationRecipientService.getRecipientsForAllowAndRemind(application)).thenReturn(asList(boss, departmentHead));
 
         sut.sendRemindBossNotification(application);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent to boss?
         List<Message> inboxOfBoss = Mailbox.get(boss.getEmail());
@@ -640,6 +699,29 @@ public class ApplicationMailServiceIT {
         assertThat(content).contains("/web/application/1234");
     }
 
+    @Test
+    public void ensureRemindMailIsSentImmediatelyToBossThatReceivesDigests() throws MessagingException {
+
+        activateMailSettings();
+        mailDigestProperties.setEnabled(true);
+
+        final Person boss = createPerson("boss", "Hugo", "Boss", "boss@firma.test");
+        boss.setPermissions(singletonList(BOSS));
+        boss.setNotifications(singletonList(NOTIFICATION_BOSS_ALL));
+
+        final Person person = createPerson("user", "Lieschen", "Müller", "lieschen@firma.test");
+        final Application application = createApplication(person);
+
+        when(applicationRecipientService.getRecipientsForAllowAndRemind(application)).thenReturn(singletonList(boss));
+
+        sut.sendRemindBossNotification(application);
+        mailOutboxDispatcher.dispatch();
+
+        List<Message> inboxOfBoss = Mailbox.get(boss.getEmail());
+        assertThat(inboxOfBoss.size()).isOne();
+        assertThat(inboxOfBoss.get(0).getSubject()).contains("Erinnerung wartender Urlaubsantrag");
+    }
+
     @Test
     public void ensureSendRemindForWaitingApplicationsReminderNotification() throws Exception {
 
@@ -668,6 +750,7 @@ public class ApplicationMailServiceIT {
         when(applicationRecipientService.getRecipientsForAllowAndRemind(applicationC)).thenReturn(asList(boss, departmentHeadA));
 
         sut.sendRemindForWaitingApplicationsReminderNotification(asList(applicationA, applicationB, applicationC));
+        mailOutboxDispatcher.dispatch();
 
         verifyInbox(boss, asList(applicationA, applicationB, applicationC));
         verifyInbox(departmentHeadA, asList(applicationA, applicationC));
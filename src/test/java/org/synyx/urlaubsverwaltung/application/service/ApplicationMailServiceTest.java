@@ -323,7 +323,7 @@ public class ApplicationMailServiceTest {
 
         sut.sendNewApplicationNotification(application, comment);
 
-        verify(mailService).sendMailToEach(recipients, "subject.application.applied.boss", "new_applications", model, "Lord Helmchen");
+        verify(mailService).sendDigestibleMailToEach(recipients, "subject.application.applied.boss", "new_applications", model, "Lord Helmchen");
     }
 
 
@@ -372,6 +372,6 @@ public class ApplicationMailServiceTest {
         sut.sendTemporaryAllowedNotification(application, comment);
 
         verify(mailService).sendMailTo(person, "subject.application.temporaryAllowed.user", "temporary_allowed_user", model);
-        verify(mailService).sendMailToEach(recipients, "subject.application.temporaryAllowed.secondStage", "temporary_allowed_second_stage_authority", modelSecondStage);
+        verify(mailService).sendDigestibleMailToEach(recipients, "subject.application.temporaryAllowed.secondStage", "temporary_allowed_second_stage_authority", modelSecondStage);
     }
 }
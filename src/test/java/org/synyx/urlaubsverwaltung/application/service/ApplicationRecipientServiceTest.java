@@ -5,11 +5,13 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.VacationCategory;
 import org.synyx.urlaubsverwaltung.application.domain.VacationType;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.department.NotificationRecipientIndex;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
@@ -20,6 +22,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_BOSS_ALL;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_BOSS_DEPARTMENTS;
@@ -43,7 +46,9 @@ public class ApplicationRecipientServiceTest {
 
     @Before
     public void setUp() {
-        sut = new ApplicationRecipientService(personService, departmentService);
+        final NotificationRecipientIndex recipientIndex = new NotificationRecipientIndex(personService,
+            departmentService, mock(PlatformTransactionManager.class));
+        sut = new ApplicationRecipientService(recipientIndex);
     }
 
     @Test
@@ -55,7 +60,7 @@ public class ApplicationRecipientServiceTest {
         // given department head
         final Person departmentHead = createPerson("departmentHead", DEPARTMENT_HEAD);
         when(personService.getPersonsWithNotificationType(NOTIFICATION_DEPARTMENT_HEAD)).thenReturn(singletonList(departmentHead));
-        when(departmentService.isDepartmentHeadOfPerson(departmentHead, normalUser)).thenReturn(true);
+        givenDepartments(department(singletonList(normalUser), singletonList(departmentHead), emptyList()));
 
         // given boss
         final Person boss = createPerson("boss", BOSS);
@@ -72,7 +77,7 @@ public class ApplicationRecipientServiceTest {
         Person departmentHead = createPerson("departmentHead", DEPARTMENT_HEAD);
         Application application = getHolidayApplication(departmentHead);
         when(personService.getPersonsWithNotificationType(NOTIFICATION_DEPARTMENT_HEAD)).thenReturn(singletonList(departmentHead));
-        when(departmentService.isDepartmentHeadOfPerson(departmentHead, departmentHead)).thenReturn(true);
+        givenDepartments(department(singletonList(departmentHead), singletonList(departmentHead), emptyList()));
 
         // given boss
         Person boss = createPerson("boss", BOSS);
@@ -92,7 +97,7 @@ public class ApplicationRecipientServiceTest {
         // given department head
         Person departmentHead = createPerson("departmentHead", DEPARTMENT_HEAD);
         when(personService.getPersonsWithNotificationType(NOTIFICATION_DEPARTMENT_HEAD)).thenReturn(singletonList(departmentHead));
-        when(departmentService.isDepartmentHeadOfPerson(departmentHead, normalUser)).thenReturn(true);
+        givenDepartments(department(singletonList(normalUser), singletonList(departmentHead), emptyList()));
 
         // given boss
         Person boss = createPerson("boss", BOSS);
@@ -109,12 +114,11 @@ public class ApplicationRecipientServiceTest {
         Person departmentHead = createPerson("departmentHead", DEPARTMENT_HEAD);
         Application application = getHolidayApplication(departmentHead);
         when(personService.getPersonsWithNotificationType(NOTIFICATION_DEPARTMENT_HEAD)).thenReturn(singletonList(departmentHead));
-        when(departmentService.isDepartmentHeadOfPerson(departmentHead, departmentHead)).thenReturn(true);
 
         // given second stage
         Person secondStage = createPerson("secondStage", SECOND_STAGE_AUTHORITY);
         when(personService.getPersonsWithNotificationType(NOTIFICATION_SECOND_STAGE_AUTHORITY)).thenReturn(singletonList(secondStage));
-        when(departmentService.isSecondStageAuthorityOfPerson(secondStage, departmentHead)).thenReturn(true);
+        givenDepartments(department(singletonList(departmentHead), singletonList(departmentHead), singletonList(secondStage)));
 
         // given boss
         Person boss = createPerson("boss", BOSS);
@@ -169,13 +173,13 @@ public class ApplicationRecipientServiceTest {
 
         when(personService.getPersonsWithNotificationType(NOTIFICATION_DEPARTMENT_HEAD)).thenReturn(asList(head1, head2));
         when(personService.getPersonsWithNotificationType(NOTIFICATION_SECOND_STAGE_AUTHORITY)).thenReturn(singletonList(secondStage));
-        when(departmentService.isDepartmentHeadOfPerson(head1, head1)).thenReturn(true);
-        when(departmentService.isDepartmentHeadOfPerson(head2, head1)).thenReturn(true);
-        when(departmentService.isSecondStageAuthorityOfPerson(secondStage, head1)).thenReturn(true);
+        givenDepartments(
+            department(asList(head1, secondStage), singletonList(head1), singletonList(secondStage)),
+            department(asList(head1, head2, secondStage), singletonList(head2), singletonList(secondStage)));
 
         List<Person> recipientsForAllowAndRemind = sut.getRecipientsForAllowAndRemind(application);
 
-        assertThat(recipientsForAllowAndRemind).contains(head2, secondStage);
+        assertThat(recipientsForAllowAndRemind).contains(head2, secondStage).doesNotContain(head1);
     }
 
     @Test
@@ -187,7 +191,7 @@ public class ApplicationRecipientServiceTest {
         // given second stage
         Person secondStage = createPerson("secondStage", SECOND_STAGE_AUTHORITY);
         when(personService.getPersonsWithNotificationType(NOTIFICATION_SECOND_STAGE_AUTHORITY)).thenReturn(singletonList(secondStage));
-        when(departmentService.isSecondStageAuthorityOfPerson(secondStage, normalUser)).thenReturn(true);
+        givenDepartments(department(singletonList(normalUser), emptyList(), singletonList(secondStage)));
 
         List<Person> recipientsForTemporaryAllow = sut.getRecipientsForTemporaryAllow(application);
 
@@ -206,11 +210,7 @@ public class ApplicationRecipientServiceTest {
         when(personService.getPersonsWithNotificationType(NOTIFICATION_BOSS_ALL)).thenReturn(singletonList(boss));
         when(personService.getPersonsWithNotificationType(NOTIFICATION_BOSS_DEPARTMENTS)).thenReturn(singletonList(bossOfDepartment));
 
-        Department department = new Department();
-        department.setMembers(asList(normalUser, bossOfDepartment));
-
-        when(departmentService.getAssignedDepartmentsOfMember(bossOfDepartment)).thenReturn(singletonList(department));
-        when(departmentService.getAssignedDepartmentsOfMember(normalUser)).thenReturn(singletonList(department));
+        givenDepartments(department(asList(normalUser, bossOfDepartment), emptyList(), emptyList()));
 
         List<Person> recipientsForAllowAndRemind = sut.getRecipientsForAllowAndRemind(application);
 
@@ -229,15 +229,27 @@ public class ApplicationRecipientServiceTest {
         when(personService.getPersonsWithNotificationType(NOTIFICATION_BOSS_ALL)).thenReturn(singletonList(boss));
         when(personService.getPersonsWithNotificationType(NOTIFICATION_BOSS_DEPARTMENTS)).thenReturn(singletonList(bossOfDepartment));
 
-        Department department = new Department();
-        department.setMembers(asList(normalUser, bossOfDepartment));
-
-        when(departmentService.getAssignedDepartmentsOfMember(bossOfDepartment)).thenReturn(emptyList());
-        when(departmentService.getAssignedDepartmentsOfMember(normalUser)).thenReturn(singletonList(department));
+        givenDepartments(
+            department(singletonList(normalUser), emptyList(), emptyList()),
+            department(singletonList(bossOfDepartment), emptyList(), emptyList()));
 
         List<Person> recipientsForAllowAndRemind = sut.getRecipientsForAllowAndRemind(application);
 
-        assertThat(recipientsForAllowAndRemind).contains(boss);
+        assertThat(recipientsForAllowAndRemind).contains(boss).doesNotContain(bossOfDepartment);
+    }
+
+    private void givenDepartments(Department... departments) {
+        when(departmentService.getAllDepartments()).thenReturn(asList(departments));
+    }
+
+    private static Department department(List<Person> members, List<Person> departmentHeads,
+                                         List<Person> secondStageAuthorities) {
+        Department department = TestDataCreator.createDepartment();
+        department.setMembers(members);
+        department.setDepartmentHeads(departmentHeads);
+        department.setSecondStageAuthorities(secondStageAuthorities);
+        department.setTwoStageApproval(!secondStageAuthorities.isEmpty());
+        return department;
     }
 
     private Application getHolidayApplication(Person normalUser) {
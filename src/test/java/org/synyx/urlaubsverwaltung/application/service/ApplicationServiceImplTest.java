@@ -3,21 +3,33 @@ package org.synyx.urlaubsverwaltung.application.service;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.synyx.urlaubsverwaltung.application.dao.ApplicationDAO;
+import org.synyx.urlaubsverwaltung.application.dao.ArchivedApplicationDAO;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationPeriod;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationSummary;
+import org.synyx.urlaubsverwaltung.application.domain.ArchivedApplication;
+import org.synyx.urlaubsverwaltung.archive.ArchiveService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.CANCELLED;
 import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 
 
 /**
@@ -27,12 +39,19 @@ public class ApplicationServiceImplTest {
 
     private ApplicationService applicationService;
     private ApplicationDAO applicationDAO;
+    private ArchivedApplicationDAO archivedApplicationDAO;
+    private ArchiveService archiveService;
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Before
     public void setUp() {
 
         applicationDAO = mock(ApplicationDAO.class);
-        applicationService = new ApplicationServiceImpl(applicationDAO);
+        archivedApplicationDAO = mock(ArchivedApplicationDAO.class);
+        archiveService = mock(ArchiveService.class);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        applicationService = new ApplicationServiceImpl(applicationDAO, archivedApplicationDAO, archiveService,
+            applicationEventPublisher);
     }
 
 
@@ -56,6 +75,78 @@ public class ApplicationServiceImplTest {
     }
 
 
+    @Test
+    public void ensureGetApplicationByIdReadsArchiveIfApplicationIsNotFound() {
+
+        final Application application = new Application();
+        final ArchivedApplication archivedApplication = mock(ArchivedApplication.class);
+        when(archivedApplication.toApplication()).thenReturn(application);
+        when(archivedApplicationDAO.findById(1234)).thenReturn(Optional.of(archivedApplication));
+
+        assertEquals(Optional.of(application), applicationService.getApplicationById(1234));
+    }
+
+
+    // Get applications of period --------------------------------------------------------------------------------------
+
+    @Test
+    public void ensureGetApplicationsForACertainPeriodAndPersonAddsArchivedApplicationsOrderedByStartDate() {
+
+        final LocalDate start = LocalDate.of(2015, 1, 1);
+        final LocalDate end = LocalDate.of(2015, 12, 31);
+        final Person person = TestDataCreator.createPerson();
+
+        final Application application = TestDataCreator.createApplication(person, LocalDate.of(2015, 6, 1),
+            LocalDate.of(2015, 6, 2), FULL);
+        final Application archived = TestDataCreator.createApplication(person, LocalDate.of(2015, 3, 1),
+            LocalDate.of(2015, 3, 2), FULL);
+        archived.setStatus(CANCELLED);
+        final ArchivedApplication archivedApplication = mock(ArchivedApplication.class);
+        when(archivedApplication.toApplication()).thenReturn(archived);
+
+        when(archiveService.isArchivedPeriod(start)).thenReturn(true);
+        when(applicationDAO.getApplicationsForACertainTimeAndPerson(start, end, person)).thenReturn(List.of(application));
+        when(archivedApplicationDAO.getApplicationsForACertainTimeAndPerson(start, end, person))
+            .thenReturn(List.of(archivedApplication));
+
+        final List<Application> result = applicationService.getApplicationsForACertainPeriodAndPerson(start, end, person);
+        assertEquals(List.of(archived, application), result);
+    }
+
+
+    @Test
+    public void ensureGetApplicationsForACertainPeriodAndPersonDoesNotReadArchiveForRecentPeriod() {
+
+        final LocalDate start = LocalDate.of(2020, 1, 1);
+        final LocalDate end = LocalDate.of(2020, 12, 31);
+        final Person person = TestDataCreator.createPerson();
+        final List<Application> applications = List.of(new Application());
+
+        when(archiveService.isArchivedPeriod(start)).thenReturn(false);
+        when(applicationDAO.getApplicationsForACertainTimeAndPerson(start, end, person)).thenReturn(applications);
+
+        final List<Application> result = applicationService.getApplicationsForACertainPeriodAndPerson(start, end, person);
+        assertEquals(applications, result);
+        verifyZeroInteractions(archivedApplicationDAO);
+    }
+
+
+    @Test
+    public void ensureGetApplicationsForACertainPeriodAndStateDoesNotReadArchiveForStatusThatIsNeverArchived() {
+
+        final LocalDate start = LocalDate.of(2015, 1, 1);
+        final LocalDate end = LocalDate.of(2015, 12, 31);
+        final List<Application> applications = List.of(new Application());
+
+        when(archiveService.isArchivedPeriod(start)).thenReturn(true);
+        when(applicationDAO.getApplicationsForACertainTimeAndState(start, end, ALLOWED)).thenReturn(applications);
+
+        final List<Application> result = applicationService.getApplicationsForACertainPeriodAndState(start, end, ALLOWED);
+        assertEquals(applications, result);
+        verifyZeroInteractions(archivedApplicationDAO);
+    }
+
+
     // Save application ------------------------------------------------------------------------------------------------
 
     @Test
@@ -67,6 +158,16 @@ public class ApplicationServiceImplTest {
         verify(applicationDAO).save(application);
     }
 
+    @Test
+    public void ensureSavePublishesApplicationSavedEvent() {
+
+        Application application = new Application();
+        when(applicationDAO.save(application)).thenReturn(application);
+
+        applicationService.save(application);
+        verify(applicationEventPublisher).publishEvent(any(ApplicationSavedEvent.class));
+    }
+
 
     // Get total overtime reduction ------------------------------------------------------------------------------------
 
@@ -118,6 +219,32 @@ public class ApplicationServiceImplTest {
         assertEquals(applications, result);
     }
 
+    @Test
+    public void getSummariesForStates() {
+
+        final List<ApplicationSummary> summaries = List.of(mock(ApplicationSummary.class));
+
+        when(applicationDAO.findSummariesByStatusIn(List.of(WAITING))).thenReturn(summaries);
+
+        final List<ApplicationSummary> result = applicationService.getSummariesForStates(List.of(WAITING));
+        assertEquals(summaries, result);
+    }
+
+    @Test
+    public void getPeriodsForACertainPeriodAndPersonAndStates() {
+
+        final LocalDate start = LocalDate.of(2020, 1, 1);
+        final LocalDate end = LocalDate.of(2020, 12, 31);
+        final Person person = TestDataCreator.createPerson();
+        final List<ApplicationPeriod> periods = List.of(mock(ApplicationPeriod.class));
+
+        when(applicationDAO.findPeriodsByPersonAndStatusIn(start, end, person, List.of(WAITING))).thenReturn(periods);
+
+        final List<ApplicationPeriod> result =
+            applicationService.getPeriodsForACertainPeriodAndPersonAndStates(start, end, person, List.of(WAITING));
+        assertEquals(periods, result);
+    }
+
 
     @Test
     public void ensureReturnsCorrectTotalOvertimeReductionForPerson() {
@@ -8,14 +8,19 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
-import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationSummary;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.Role;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCalculator;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -25,6 +30,7 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
@@ -36,6 +42,7 @@ import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.W
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
@@ -53,167 +60,118 @@ public class ApplicationForLeaveViewControllerTest {
     private DepartmentService departmentService;
     @Mock
     private PersonService personService;
+    @Mock
+    private WorkDaysCalculator workDaysCalculator;
 
     @Before
     public void setUp() {
         sut = new ApplicationForLeaveViewController(applicationService, calendarService, departmentService, personService);
+
+        when(calendarService.getWorkDaysCalculator(anyCollection())).thenReturn(workDaysCalculator);
     }
 
     @Test
     public void getApplicationForDepartmentHead() throws Exception {
 
-        final Person person = new Person();
-        person.setFirstName("Atticus");
-        final Application application = new Application();
-        application.setId(1);
-        application.setPerson(person);
-        application.setStatus(WAITING);
-        application.setStartDate(LocalDate.MAX);
-        application.setEndDate(LocalDate.MAX);
-        application.setDayLength(FULL);
-
-        final Person headPerson = new Person();
-        headPerson.setPermissions(singletonList(DEPARTMENT_HEAD));
-        final Application applicationOfHead = new Application();
-        applicationOfHead.setId(2);
-        applicationOfHead.setPerson(headPerson);
-
-        final Person secondStagePerson = new Person();
-        secondStagePerson.setPermissions(singletonList(SECOND_STAGE_AUTHORITY));
-        final Application applicationOfSecondStage = new Application();
-        applicationOfSecondStage.setId(3);
-        applicationOfSecondStage.setPerson(secondStagePerson);
+        final Person headPerson = person(2, "head", DEPARTMENT_HEAD);
+        final Person person = person(1, "Atticus", USER);
+        final Person secondStagePerson = person(3, "secondStage", SECOND_STAGE_AUTHORITY);
+
+        final ApplicationSummary application = application(1, person, WAITING);
+        final ApplicationSummary applicationOfHead = application(2, headPerson, WAITING);
+        final ApplicationSummary applicationOfSecondStage = application(3, secondStagePerson, WAITING);
 
         when(personService.getSignedInUser()).thenReturn(headPerson);
         when(departmentService.getManagedMembersOfDepartmentHead(headPerson)).thenReturn(asList(headPerson, person, secondStagePerson));
-        when(applicationService.getApplicationsForACertainState(WAITING)).thenReturn(asList(application, applicationOfHead, applicationOfSecondStage));
+        when(applicationService.getSummariesForStates(List.of(WAITING))).thenReturn(asList(application, applicationOfHead, applicationOfSecondStage));
+        when(workDaysCalculator.getWorkDays(FULL, LocalDate.MAX, LocalDate.MAX, 1)).thenReturn(BigDecimal.ONE);
 
         final ResultActions resultActions = perform(get("/web/application"));
         resultActions.andExpect(status().isOk());
         resultActions.andExpect(model().attribute("applications", hasSize(1)));
-        resultActions.andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeave.class))));
+        resultActions.andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeaveSummary.class))));
         resultActions.andExpect(model().attribute("applications", hasItem(hasProperty("person",
             hasProperty("firstName", equalTo("Atticus"))))));
+        resultActions.andExpect(model().attribute("applications", hasItem(hasProperty("workDays", equalTo(BigDecimal.ONE)))));
         resultActions.andExpect(view().name("application/app_list"));
     }
 
+    @Test
+    public void getApplicationForDepartmentHeadExcludesInactiveSecondStageAuthority() throws Exception {
+
+        final Person headPerson = person(2, "head", DEPARTMENT_HEAD);
+        final Person person = person(1, "Atticus", USER);
+        final Person inactiveSecondStagePerson = person(3, "secondStage", SECOND_STAGE_AUTHORITY, INACTIVE);
+
+        final ApplicationSummary application = application(1, person, WAITING);
+        final ApplicationSummary applicationOfSecondStage = application(3, inactiveSecondStagePerson, WAITING);
+
+        when(personService.getSignedInUser()).thenReturn(headPerson);
+        when(departmentService.getManagedMembersOfDepartmentHead(headPerson)).thenReturn(asList(headPerson, person, inactiveSecondStagePerson));
+        when(applicationService.getSummariesForStates(List.of(WAITING))).thenReturn(asList(application, applicationOfSecondStage));
+
+        perform(get("/web/application"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("applications", hasSize(1)))
+            .andExpect(model().attribute("applications", hasItem(hasProperty("person",
+                hasProperty("firstName", equalTo("Atticus"))))));
+    }
+
     @Test
     public void getApplicationForBoss() throws Exception {
 
-        final Person person = new Person();
-        final Application application = new Application();
-        application.setId(1);
-        application.setPerson(person);
-        application.setStatus(WAITING);
-        application.setStartDate(LocalDate.MAX);
-        application.setEndDate(LocalDate.MAX);
-        application.setDayLength(FULL);
-
-        final Person bossPerson = new Person();
-        bossPerson.setPermissions(singletonList(BOSS));
-        final Application applicationOfBoss = new Application();
-        applicationOfBoss.setId(2);
-        applicationOfBoss.setPerson(bossPerson);
-        applicationOfBoss.setStatus(WAITING);
-        applicationOfBoss.setStartDate(LocalDate.MAX);
-        applicationOfBoss.setEndDate(LocalDate.MAX);
-
-        final Person secondStagePerson = new Person();
-        secondStagePerson.setPermissions(singletonList(SECOND_STAGE_AUTHORITY));
-        final Application applicationOfSecondStage = new Application();
-        applicationOfSecondStage.setId(3);
-        applicationOfSecondStage.setPerson(secondStagePerson);
-        applicationOfSecondStage.setStatus(WAITING);
-        applicationOfSecondStage.setStartDate(LocalDate.MAX);
-        applicationOfSecondStage.setEndDate(LocalDate.MAX);
+        final Person bossPerson = person(2, "boss", BOSS);
+
+        final ApplicationSummary application = application(1, person(1, "person", USER), WAITING);
+        final ApplicationSummary applicationOfBoss = application(2, bossPerson, WAITING);
+        final ApplicationSummary applicationOfSecondStage = application(3, person(3, "secondStage", SECOND_STAGE_AUTHORITY), TEMPORARY_ALLOWED);
 
         when(personService.getSignedInUser()).thenReturn(bossPerson);
-        when(applicationService.getApplicationsForACertainState(WAITING)).thenReturn(asList(application, applicationOfBoss, applicationOfSecondStage));
+        when(applicationService.getSummariesForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
+            .thenReturn(asList(application, applicationOfBoss, applicationOfSecondStage));
 
         final ResultActions resultActions = perform(get("/web/application"));
         resultActions.andExpect(status().isOk());
         resultActions.andExpect(model().attribute("applications", hasSize(3)));
-        resultActions.andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeave.class))));
+        resultActions.andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeaveSummary.class))));
         resultActions.andExpect(view().name("application/app_list"));
     }
 
     @Test
     public void getApplicationForOffice() throws Exception {
 
-        final Person person = new Person();
-        final Application application = new Application();
-        application.setId(1);
-        application.setPerson(person);
-        application.setStatus(TEMPORARY_ALLOWED);
-        application.setStartDate(LocalDate.MAX);
-        application.setEndDate(LocalDate.MAX);
-        application.setDayLength(FULL);
-
-        final Person officePerson = new Person();
-        officePerson.setPermissions(singletonList(OFFICE));
-        final Application applicationOfBoss = new Application();
-        applicationOfBoss.setId(2);
-        applicationOfBoss.setPerson(officePerson);
-        applicationOfBoss.setStatus(WAITING);
-        applicationOfBoss.setStartDate(LocalDate.MAX);
-        applicationOfBoss.setEndDate(LocalDate.MAX);
-
-        final Person secondStagePerson = new Person();
-        secondStagePerson.setPermissions(singletonList(SECOND_STAGE_AUTHORITY));
-        final Application applicationOfSecondStage = new Application();
-        applicationOfSecondStage.setId(3);
-        applicationOfSecondStage.setPerson(secondStagePerson);
-        applicationOfSecondStage.setStatus(WAITING);
-        applicationOfSecondStage.setStartDate(LocalDate.MAX);
-        applicationOfSecondStage.setEndDate(LocalDate.MAX);
+        final Person officePerson = person(2, "office", OFFICE);
+
+        final ApplicationSummary application = application(1, person(1, "person", USER), TEMPORARY_ALLOWED);
+        final ApplicationSummary applicationOfOffice = application(2, officePerson, WAITING);
+        final ApplicationSummary applicationOfSecondStage = application(3, person(3, "secondStage", SECOND_STAGE_AUTHORITY), WAITING);
 
         when(personService.getSignedInUser()).thenReturn(officePerson);
-        when(applicationService.getApplicationsForACertainState(WAITING)).thenReturn(asList(applicationOfBoss, applicationOfSecondStage));
-        when(applicationService.getApplicationsForACertainState(TEMPORARY_ALLOWED)).thenReturn(singletonList(application));
+        when(applicationService.getSummariesForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
+            .thenReturn(asList(applicationOfOffice, applicationOfSecondStage, application));
 
         final ResultActions resultActions = perform(get("/web/application"));
         resultActions.andExpect(status().isOk());
         resultActions.andExpect(model().attribute("applications", hasSize(3)));
-        resultActions.andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeave.class))));
+        resultActions.andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeaveSummary.class))));
         resultActions.andExpect(view().name("application/app_list"));
     }
 
     @Test
     public void getApplicationForSecondStage() throws Exception {
 
-        final Person person = new Person();
-        person.setFirstName("person");
-        final Application application = new Application();
-        application.setId(1);
-        application.setPerson(person);
-        application.setStatus(TEMPORARY_ALLOWED);
-        application.setStartDate(LocalDate.MAX);
-        application.setEndDate(LocalDate.MAX);
-        application.setDayLength(FULL);
-
-        final Person officePerson = new Person();
-        officePerson.setFirstName("office");
-        officePerson.setPermissions(singletonList(OFFICE));
-        final Application applicationOfBoss = new Application();
-        applicationOfBoss.setId(2);
-        applicationOfBoss.setPerson(officePerson);
-        applicationOfBoss.setStatus(WAITING);
-        applicationOfBoss.setStartDate(LocalDate.MAX);
-        applicationOfBoss.setEndDate(LocalDate.MAX);
-
-        final Person secondStagePerson = new Person();
-        secondStagePerson.setPermissions(singletonList(SECOND_STAGE_AUTHORITY));
-        final Application applicationOfSecondStage = new Application();
-        applicationOfSecondStage.setId(3);
-        applicationOfSecondStage.setPerson(secondStagePerson);
-        applicationOfSecondStage.setStatus(WAITING);
-        applicationOfSecondStage.setStartDate(LocalDate.MAX);
-        applicationOfSecondStage.setEndDate(LocalDate.MAX);
+        final Person person = person(1, "person", USER);
+        final Person officePerson = person(2, "office", OFFICE);
+        final Person secondStagePerson = person(3, "secondStage", SECOND_STAGE_AUTHORITY);
+
+        final ApplicationSummary application = application(1, person, TEMPORARY_ALLOWED);
+        final ApplicationSummary applicationOfOffice = application(2, officePerson, WAITING);
+        final ApplicationSummary applicationOfSecondStage = application(3, secondStagePerson, WAITING);
 
         when(personService.getSignedInUser()).thenReturn(secondStagePerson);
         when(departmentService.getManagedMembersForSecondStageAuthority(secondStagePerson)).thenReturn(asList(secondStagePerson, person, officePerson));
-        when(applicationService.getApplicationsForACertainState(WAITING)).thenReturn(asList(applicationOfBoss, applicationOfSecondStage));
-        when(applicationService.getApplicationsForACertainState(TEMPORARY_ALLOWED)).thenReturn(singletonList(application));
+        when(applicationService.getSummariesForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
+            .thenReturn(asList(applicationOfOffice, applicationOfSecondStage, application));
 
         final ResultActions resultActions = perform(get("/web/application"));
         resultActions.andExpect(status().isOk());
@@ -222,43 +180,26 @@ public class ApplicationForLeaveViewControllerTest {
             hasProperty("firstName", equalTo("office"))))));
         resultActions.andExpect(model().attribute("applications", hasItem(hasProperty("person",
             hasProperty("firstName", equalTo("person"))))));
-        resultActions.andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeave.class))));
+        resultActions.andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeaveSummary.class))));
         resultActions.andExpect(view().name("application/app_list"));
     }
 
     @Test
     public void departmentHeadAndSecondStageAuthorityOfDifferentDepartmentsGrantsApplications() throws Exception {
 
-        final Person departmentHeadAndSecondStageAuth = new Person();
-        departmentHeadAndSecondStageAuth.setFirstName("departmentHeadAndSecondStageAuth");
-        departmentHeadAndSecondStageAuth.setPermissions(asList(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
-
-        final Person userOfDepartmentA = new Person();
-        userOfDepartmentA.setFirstName("userOfDepartmentA");
-        userOfDepartmentA.setPermissions(singletonList(USER));
-        final Application applicationOfUserA = new Application();
-        applicationOfUserA.setId(1);
-        applicationOfUserA.setPerson(userOfDepartmentA);
-        applicationOfUserA.setStatus(TEMPORARY_ALLOWED);
-        applicationOfUserA.setStartDate(LocalDate.MAX);
-        applicationOfUserA.setEndDate(LocalDate.MAX);
-
-        final Person userOfDepartmentB = new Person();
-        userOfDepartmentB.setFirstName("userOfDepartmentB");
-        userOfDepartmentB.setPermissions(singletonList(USER));
-        final Application applicationOfUserB = new Application();
-        applicationOfUserB.setId(2);
-        applicationOfUserB.setPerson(userOfDepartmentB);
-        applicationOfUserB.setStatus(WAITING);
-        applicationOfUserB.setStartDate(LocalDate.MAX);
-        applicationOfUserB.setEndDate(LocalDate.MAX);
+        final Person departmentHeadAndSecondStageAuth = person(1, "departmentHeadAndSecondStageAuth", DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY);
+        final Person userOfDepartmentA = person(2, "userOfDepartmentA", USER);
+        final Person userOfDepartmentB = person(3, "userOfDepartmentB", USER);
+
+        final ApplicationSummary applicationOfUserA = application(1, userOfDepartmentA, TEMPORARY_ALLOWED);
+        final ApplicationSummary applicationOfUserB = application(2, userOfDepartmentB, WAITING);
 
         when(personService.getSignedInUser()).thenReturn(departmentHeadAndSecondStageAuth);
         when(departmentService.getManagedMembersForSecondStageAuthority(departmentHeadAndSecondStageAuth)).thenReturn(asList(departmentHeadAndSecondStageAuth, userOfDepartmentA));
         when(departmentService.getManagedMembersOfDepartmentHead(departmentHeadAndSecondStageAuth)).thenReturn(asList(departmentHeadAndSecondStageAuth, userOfDepartmentB));
-        when(applicationService.getApplicationsForACertainState(TEMPORARY_ALLOWED))
-            .thenReturn(singletonList(applicationOfUserA));
-        when(applicationService.getApplicationsForACertainState(WAITING))
+        when(applicationService.getSummariesForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
+            .thenReturn(asList(applicationOfUserB, applicationOfUserA));
+        when(applicationService.getSummariesForStates(List.of(WAITING)))
             .thenReturn(singletonList(applicationOfUserB));
 
         perform(get("/web/application"))
@@ -268,41 +209,25 @@ public class ApplicationForLeaveViewControllerTest {
                 hasProperty("firstName", equalTo("userOfDepartmentA"))))))
             .andExpect(model().attribute("applications", hasItem(hasProperty("person",
                 hasProperty("firstName", equalTo("userOfDepartmentB"))))))
-            .andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeave.class))))
+            .andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeaveSummary.class))))
             .andExpect(view().name("application/app_list"));
     }
 
     @Test
     public void departmentHeadAndSecondStageAuthorityOfSameDepartmentsGrantsApplications() throws Exception {
 
-        final Person departmentHeadAndSecondStageAuth = new Person();
-        departmentHeadAndSecondStageAuth.setFirstName("departmentHeadAndSecondStageAuth");
-        departmentHeadAndSecondStageAuth.setPermissions(asList(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
-
-        final Person userOfDepartment = new Person();
-        userOfDepartment.setFirstName("userOfDepartment");
-        userOfDepartment.setPermissions(singletonList(USER));
-        final Application temporaryAllowedApplication = new Application();
-        temporaryAllowedApplication.setId(1);
-        temporaryAllowedApplication.setPerson(userOfDepartment);
-        temporaryAllowedApplication.setStatus(TEMPORARY_ALLOWED);
-        temporaryAllowedApplication.setStartDate(LocalDate.MAX);
-        temporaryAllowedApplication.setEndDate(LocalDate.MAX);
-
-        final Application waitingApplication = new Application();
-        waitingApplication.setId(2);
-        waitingApplication.setPerson(userOfDepartment);
-        waitingApplication.setStatus(WAITING);
-        waitingApplication.setStartDate(LocalDate.MAX);
-        waitingApplication.setEndDate(LocalDate.MAX);
+        final Person departmentHeadAndSecondStageAuth = person(1, "departmentHeadAndSecondStageAuth", DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY);
+        final Person userOfDepartment = person(2, "userOfDepartment", USER);
 
+        final ApplicationSummary temporaryAllowedApplication = application(1, userOfDepartment, TEMPORARY_ALLOWED);
+        final ApplicationSummary waitingApplication = application(2, userOfDepartment, WAITING);
 
         when(personService.getSignedInUser()).thenReturn(departmentHeadAndSecondStageAuth);
         when(departmentService.getManagedMembersForSecondStageAuthority(departmentHeadAndSecondStageAuth)).thenReturn(asList(departmentHeadAndSecondStageAuth, userOfDepartment));
         when(departmentService.getManagedMembersOfDepartmentHead(departmentHeadAndSecondStageAuth)).thenReturn(asList(departmentHeadAndSecondStageAuth, userOfDepartment));
-        when(applicationService.getApplicationsForACertainState(TEMPORARY_ALLOWED))
-            .thenReturn(singletonList(temporaryAllowedApplication));
-        when(applicationService.getApplicationsForACertainState(WAITING))
+        when(applicationService.getSummariesForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
+            .thenReturn(asList(waitingApplication, temporaryAllowedApplication));
+        when(applicationService.getSummariesForStates(List.of(WAITING)))
             .thenReturn(singletonList(waitingApplication));
 
         perform(get("/web/application"))
@@ -314,10 +239,26 @@ public class ApplicationForLeaveViewControllerTest {
                 hasProperty("person", hasProperty("firstName", equalTo("userOfDepartment"))),
                 hasProperty("status", equalTo(TEMPORARY_ALLOWED)))))
 
-            .andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeave.class))))
+            .andExpect(model().attribute("applications", hasItem(instanceOf(ApplicationForLeaveSummary.class))))
             .andExpect(view().name("application/app_list"));
     }
 
+    private static Person person(Integer id, String firstName, Role... roles) {
+
+        final Person person = new Person();
+        person.setId(id);
+        person.setFirstName(firstName);
+        person.setPermissions(asList(roles));
+
+        return person;
+    }
+
+    private static ApplicationSummary application(Integer id, Person person, ApplicationStatus status) {
+
+        return new ApplicationSummary(id, person.getId(), person.getFirstName(), person.getLastName(),
+            person.getEmail(), null, LocalDate.MAX, null, LocalDate.MAX, null, FULL, null, status);
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut).build().perform(builder);
     }
@@ -0,0 +1,163 @@
+package org.synyx.urlaubsverwaltung.archive;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.application.dao.ApplicationDAO;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationComment;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationCommentService;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.service.VacationTypeService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteComment;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteCommentService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteTypeService;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationAction.APPLIED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationAction.CANCELLED;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.sicknote.SickNoteAction.CREATED;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createApplication;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createSickNote;
+
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@Transactional
+public class ArchiveServiceIT {
+
+    @Autowired
+    private ArchiveService sut;
+
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private ApplicationDAO applicationDAO;
+    @Autowired
+    private ApplicationCommentService applicationCommentService;
+    @Autowired
+    private VacationTypeService vacationTypeService;
+    @Autowired
+    private SickNoteService sickNoteService;
+    @Autowired
+    private SickNoteCommentService sickNoteCommentService;
+    @Autowired
+    private SickNoteTypeService sickNoteTypeService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void ensureArchivesFinalApplicationsOfPastYearsAndReadsThemForHistoricalPeriods() {
+
+        final Person person = personService.save(createPerson("archive", "Marlene", "Muster", "muster@example.org"));
+        final LocalDate longAgo = LocalDate.now(UTC).minusYears(5);
+        final LocalDate recently = LocalDate.now(UTC).minusDays(10);
+
+        final Application cancelledLongAgo = saveApplication(person, longAgo, ApplicationStatus.CANCELLED);
+        applicationCommentService.create(cancelledLongAgo, APPLIED, Optional.empty(), person);
+        applicationCommentService.create(cancelledLongAgo, CANCELLED, Optional.of("Not needed"), person);
+        final Application allowedLongAgo = saveApplication(person, longAgo.plusDays(1), ApplicationStatus.ALLOWED);
+        final Application cancelledRecently = saveApplication(person, recently, ApplicationStatus.CANCELLED);
+
+        archive();
+
+        assertThat(applicationDAO.findById(cancelledLongAgo.getId())).isEmpty();
+        assertThat(applicationDAO.findById(allowedLongAgo.getId())).isPresent();
+        assertThat(applicationDAO.findById(cancelledRecently.getId())).isPresent();
+
+        final Application archived = applicationService.getApplicationById(cancelledLongAgo.getId()).orElseThrow();
+        assertThat(archived.getStatus()).isEqualTo(ApplicationStatus.CANCELLED);
+        assertThat(archived.getPerson()).isEqualTo(person);
+        assertThat(archived.getStartDate()).isEqualTo(longAgo);
+        assertThat(archived.isArchived()).isTrue();
+        assertThatThrownBy(() -> applicationService.save(archived)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> applicationCommentService.create(archived, CANCELLED, Optional.empty(), person))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(applicationDAO.findById(cancelledLongAgo.getId())).isEmpty();
+
+        final List<ApplicationComment> comments = applicationCommentService.getCommentsByApplication(archived);
+        assertThat(comments).extracting(ApplicationComment::getAction).containsExactly(APPLIED, CANCELLED);
+        assertThat(comments).extracting(ApplicationComment::getText).contains("Not needed");
+
+        final List<Application> applicationsOfYear = applicationService.getApplicationsForACertainPeriodAndPerson(
+            longAgo.withDayOfYear(1), longAgo.withDayOfYear(1).plusYears(1).minusDays(1), person);
+        assertThat(applicationsOfYear).extracting(Application::getId)
+            .containsExactlyInAnyOrder(cancelledLongAgo.getId(), allowedLongAgo.getId());
+
+        final List<Application> applicationsOfCurrentYear = applicationService.getApplicationsForACertainPeriodAndPerson(
+            recently.minusDays(1), recently.plusDays(1), person);
+        assertThat(applicationsOfCurrentYear).extracting(Application::getId)
+            .containsExactly(cancelledRecently.getId());
+    }
+
+    @Test
+    public void ensureArchivesFinalSickNotesOfPastYearsAndReadsThemForHistoricalPeriods() {
+
+        final Person person = personService.save(createPerson("archive", "Marlene", "Muster", "muster@example.org"));
+        final LocalDate longAgo = LocalDate.now(UTC).minusYears(5);
+
+        final SickNote cancelledLongAgo = saveSickNote(person, longAgo, SickNoteStatus.CANCELLED);
+        sickNoteCommentService.create(cancelledLongAgo, CREATED, person, "Flu");
+        final SickNote activeLongAgo = saveSickNote(person, longAgo.plusDays(3), SickNoteStatus.ACTIVE);
+
+        archive();
+
+        final SickNote archived = sickNoteService.getById(cancelledLongAgo.getId()).orElseThrow();
+        assertThat(archived.getStatus()).isEqualTo(SickNoteStatus.CANCELLED);
+        assertThat(archived.isArchived()).isTrue();
+        assertThatThrownBy(() -> sickNoteService.save(archived)).isInstanceOf(IllegalStateException.class);
+        assertThat(sickNoteCommentService.getCommentsBySickNote(archived))
+            .extracting(SickNoteComment::getText).containsExactly("Flu");
+
+        assertThat(sickNoteService.getByPersonAndPeriod(person, longAgo.minusDays(1), longAgo.plusDays(10)))
+            .extracting(SickNote::getId)
+            .containsExactly(cancelledLongAgo.getId(), activeLongAgo.getId());
+    }
+
+    private void archive() {
+
+        // the records are moved with plain SQL, the persisted and cached entities must not be used afterwards
+        entityManager.flush();
+        sut.archive();
+        entityManager.clear();
+    }
+
+    private Application saveApplication(Person person, LocalDate date, ApplicationStatus status) {
+
+        final Application application = createApplication(person, vacationTypeService.getVacationTypes().get(0), date,
+            date, FULL);
+        application.setStatus(status);
+
+        return applicationDAO.save(application);
+    }
+
+    private SickNote saveSickNote(Person person, LocalDate startDate, SickNoteStatus status) {
+
+        final SickNote sickNote = createSickNote(person, startDate, startDate.plusDays(2), FULL);
+        sickNote.setSickNoteType(sickNoteTypeService.getSickNoteTypes().get(0));
+        sickNote.setStatus(status);
+        sickNoteService.save(sickNote);
+
+        return sickNote;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.mail.MailOutboxDispatcher;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.MailSettings;
 import org.synyx.urlaubsverwaltung.settings.Settings;
@@ -35,6 +36,8 @@ public class CalendarMailServiceIT {
 
     @Autowired
     private CalendarMailService sut;
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
 
     @Autowired
     private SettingsService settingsService;
@@ -60,6 +63,7 @@ public class CalendarMailServiceIT {
         when(absence.getEndDate()).thenReturn(ZonedDateTime.now(UTC));
 
         sut.sendCalendarSyncErrorNotification("Kalendername", absence, "Calendar sync failed");
+        mailOutboxDispatcher.dispatch();
 
         List<Message> inbox = Mailbox.get(getAdminMail());
         assertThat(inbox.size()).isOne();
@@ -89,6 +93,7 @@ public class CalendarMailServiceIT {
         when(absence.getEndDate()).thenReturn(ZonedDateTime.now(UTC));
 
         sut.sendCalendarUpdateErrorNotification("Kalendername", absence, "ID-123456", "event update failed");
+        mailOutboxDispatcher.dispatch();
 
         List<Message> inbox = Mailbox.get(getAdminMail());
         assertThat(inbox.size()).isOne();
@@ -111,6 +116,7 @@ public class CalendarMailServiceIT {
         activateMailSettings();
 
         sut.sendCalendarDeleteErrorNotification("Kalendername", "ID-123456", "event delete failed");
+        mailOutboxDispatcher.dispatch();
 
         List<Message> inbox = Mailbox.get(getAdminMail());
         assertThat(inbox.size()).isOne();
@@ -0,0 +1,164 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.junit.Test;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.SICKNOTE;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.VACATION;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+public class CalendarReconciliationPlanTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2020, 3, 2);
+    private static final AbsenceTimeConfiguration CONFIGURATION = new AbsenceTimeConfiguration(new CalendarSettings());
+    private static final Function<AbsenceMapping, Optional<OpenAbsence>> NOT_OPEN = mapping -> Optional.empty();
+
+    private final Person person = createPerson();
+
+    @Test
+    public void ensureAddsOpenAbsencesWithoutMapping() {
+
+        final OpenAbsence vacation = vacation(1, START_DATE);
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(vacation), List.of(),
+            List.of(), List.of(), NOT_OPEN, Set.of(), CONFIGURATION);
+
+        assertThat(plan.getMissing()).containsExactly(vacation);
+        assertThat(plan.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void ensureIsEmptyIfEventsShowTheirAbsences() {
+
+        final OpenAbsence vacation = vacation(1, START_DATE);
+        final OpenAbsence sickNote = new OpenAbsence(1, SICKNOTE, person, new Period(START_DATE, START_DATE,
+            DayLength.FULL));
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(vacation, sickNote),
+            List.of(new AbsenceMapping(1, VACATION, "event-1"), new AbsenceMapping(1, SICKNOTE, "event-2")),
+            List.of(event("event-1", vacation), event("event-2", sickNote)), List.of(), NOT_OPEN, Set.of(),
+            CONFIGURATION);
+
+        assertThat(plan.isEmpty()).isTrue();
+        assertThat(plan.getUnknown()).isEmpty();
+    }
+
+    @Test
+    public void ensureUpdatesEventsThatDoNotShowTheirAbsence() {
+
+        final OpenAbsence vacation = vacation(1, START_DATE);
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(vacation),
+            List.of(new AbsenceMapping(1, VACATION, "event-1")),
+            List.of(event("event-1", vacation(1, START_DATE.plusDays(1)))), List.of(), NOT_OPEN, Set.of(),
+            CONFIGURATION);
+
+        assertThat(plan.getChanged()).isEqualTo(Map.of("event-1", vacation));
+        assertThat(plan.getMissing()).isEmpty();
+        assertThat(plan.getOrphaned()).isEmpty();
+    }
+
+    @Test
+    public void ensureRestoresMappedEventsThatAreNotInTheCalendar() {
+
+        final OpenAbsence vacation = vacation(1, START_DATE);
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(vacation),
+            List.of(new AbsenceMapping(1, VACATION, "event-1")), List.of(), List.of(), NOT_OPEN, Set.of(),
+            CONFIGURATION);
+
+        assertThat(plan.getLost()).isEqualTo(Map.of("event-1", vacation));
+    }
+
+    @Test
+    public void ensureDeletesEventsOfAbsencesThatAreNotOpenAnymore() {
+
+        final AbsenceMapping mapping = new AbsenceMapping(5, VACATION, "event-5");
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(), List.of(),
+            List.of(event("event-5", vacation(5, START_DATE))), List.of(mapping), NOT_OPEN, Set.of(), CONFIGURATION);
+
+        assertThat(plan.getOrphaned()).isEqualTo(Map.of("event-5", List.of(mapping)));
+    }
+
+    @Test
+    public void ensureUpdatesEventsOfAbsencesThatHaveBeenMovedOutOfThePeriod() {
+
+        final OpenAbsence movedVacation = vacation(5, START_DATE.plusMonths(1));
+        final AbsenceMapping mapping = new AbsenceMapping(5, VACATION, "event-5");
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(), List.of(),
+            List.of(event("event-5", vacation(5, START_DATE))), List.of(mapping), m -> Optional.of(movedVacation),
+            Set.of(), CONFIGURATION);
+
+        assertThat(plan.getChanged()).isEqualTo(Map.of("event-5", movedVacation));
+        assertThat(plan.getOrphaned()).isEmpty();
+    }
+
+    @Test
+    public void ensureOnlyCountsEventsWithoutMapping() {
+
+        final CalendarEvent event = event("foreign-event", vacation(5, START_DATE));
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(), List.of(),
+            List.of(event), List.of(), NOT_OPEN, Set.of(), CONFIGURATION);
+
+        assertThat(plan.getUnknown()).containsExactly(event);
+        assertThat(plan.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void ensureSkipsAbsencesWithPendingJobs() {
+
+        final OpenAbsence vacation = vacation(1, START_DATE);
+        final AbsenceMapping cancelledMapping = new AbsenceMapping(5, VACATION, "event-5");
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(vacation), List.of(),
+            List.of(event("event-5", vacation(5, START_DATE))), List.of(cancelledMapping), NOT_OPEN,
+            Set.of("VACATION#1", "VACATION#5"), CONFIGURATION);
+
+        assertThat(plan.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void ensureKeepsEventsThatStillShowAnOpenAbsence() {
+
+        final OpenAbsence vacation = vacation(1, START_DATE);
+        final AbsenceMapping mapping = new AbsenceMapping(1, VACATION, "event-1");
+        final AbsenceMapping cancelledMapping = new AbsenceMapping(5, VACATION, "event-1");
+
+        final CalendarReconciliationPlan plan = CalendarReconciliationPlan.compute(List.of(), List.of(),
+            List.of(event("event-1", vacation)), List.of(mapping, cancelledMapping),
+            m -> m.getAbsenceId() == 1 ? Optional.of(vacation) : Optional.empty(), Set.of(), CONFIGURATION);
+
+        assertThat(plan.getOrphaned()).isEmpty();
+        assertThat(plan.isEmpty()).isTrue();
+    }
+
+    private OpenAbsence vacation(Integer id, LocalDate startDate) {
+        return new OpenAbsence(id, VACATION, person, new Period(startDate, startDate.plusDays(1), DayLength.FULL));
+    }
+
+    private static CalendarEvent event(String eventId, OpenAbsence openAbsence) {
+
+        final Absence absence = openAbsence.toAbsence(CONFIGURATION);
+
+        return new CalendarEvent(eventId, absence.getEventSubject(), absence.getStartDate(), absence.getEndDate(),
+            absence.isAllDay());
+    }
+}
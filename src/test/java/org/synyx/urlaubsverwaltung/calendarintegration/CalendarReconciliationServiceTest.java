@@ -0,0 +1,219 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.fake.FakeCalendarProvider;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.noop.NoopCalendarSyncProvider;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.OpenAbsenceFixture.START_DATE;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+public class CalendarReconciliationServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 3, 1);
+
+    private CalendarReconciliationService sut;
+
+    private ApplicationService applicationService;
+    private SickNoteService sickNoteService;
+    private AbsenceMappingService absenceMappingService;
+    private CalendarService calendarService;
+    private FakeCalendarProvider calendarProvider;
+    private CalendarReconciliationProperties calendarReconciliationProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private AbsenceTimeConfiguration absenceTimeConfiguration;
+
+    private Person person;
+    private OpenAbsenceFixture openAbsences;
+
+    @Before
+    public void setUp() {
+
+        applicationService = mock(ApplicationService.class);
+        sickNoteService = mock(SickNoteService.class);
+        absenceMappingService = mock(AbsenceMappingService.class);
+        calendarProvider = new FakeCalendarProvider();
+
+        final Settings settings = new Settings();
+        final SettingsService settingsService = mock(SettingsService.class);
+        when(settingsService.getSettings()).thenReturn(settings);
+        absenceTimeConfiguration = new AbsenceTimeConfiguration(settings.getCalendarSettings());
+
+        calendarService = mock(CalendarService.class);
+        when(calendarService.getCalendarProvider()).thenReturn(calendarProvider);
+
+        calendarReconciliationProperties = new CalendarReconciliationProperties();
+        calendarReconciliationProperties.setDaysInPast(0);
+        calendarReconciliationProperties.setDaysInFuture(20);
+        calendarReconciliationProperties.setWindowDays(14);
+        meterRegistry = new SimpleMeterRegistry();
+
+        person = createPerson();
+        openAbsences = new OpenAbsenceFixture(applicationService, sickNoteService, person);
+
+        final Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        sut = new CalendarReconciliationService(new OpenAbsenceService(applicationService, sickNoteService),
+            absenceMappingService, new CalendarSyncServiceImpl(settingsService, calendarService), calendarService,
+            new CalendarSyncQueue(mock(CalendarSyncJobDAO.class), clock), settingsService,
+            calendarReconciliationProperties, mock(PlatformTransactionManager.class), clock, meterRegistry);
+    }
+
+    @Test
+    public void ensureReconcilesThePeriodWindowByWindow() {
+
+        sut.reconcile();
+        sut.reconcile();
+        sut.reconcile();
+
+        verify(sickNoteService, times(2)).getByPeriod(TODAY, LocalDate.of(2020, 3, 14));
+        verify(sickNoteService).getByPeriod(LocalDate.of(2020, 3, 15), LocalDate.of(2020, 3, 21));
+    }
+
+    @Test
+    public void ensureAddsMissingEventsAndCreatesMappings() {
+
+        openAbsences.givenOpenApplications(openAbsences.application(1));
+
+        sut.reconcile();
+
+        assertThat(calendarProvider.getEvents()).containsOnlyKeys("event-1");
+        verify(absenceMappingService).create(1, VACATION, "event-1");
+        assertThat(drift("missing")).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureUpdatesChangedEvents() {
+
+        final String eventId = calendarProvider.add(absence(START_DATE.plusDays(3)), null).orElseThrow();
+        openAbsences.givenOpenApplications(openAbsences.application(1));
+        when(absenceMappingService.getAbsencesByIdsAndType(List.of(1), VACATION))
+            .thenReturn(List.of(new AbsenceMapping(1, VACATION, eventId)));
+
+        sut.reconcile();
+
+        assertThat(calendarProvider.getEvents().get(eventId).getStartDate().toLocalDate()).isEqualTo(START_DATE);
+        verify(absenceMappingService, never()).create(anyInt(), any(), any());
+        assertThat(drift("changed")).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureAddsLostEventsAgainAndReplacesTheirMapping() {
+
+        final AbsenceMapping lostMapping = new AbsenceMapping(1, VACATION, "deleted-event");
+        openAbsences.givenOpenApplications(openAbsences.application(1));
+        when(absenceMappingService.getAbsencesByIdsAndType(List.of(1), VACATION)).thenReturn(List.of(lostMapping));
+        when(absenceMappingService.getAbsenceByIdAndType(1, VACATION)).thenReturn(Optional.of(lostMapping));
+
+        sut.reconcile();
+
+        assertThat(calendarProvider.getEvents()).containsOnlyKeys("event-1");
+        verify(absenceMappingService).delete(lostMapping);
+        verify(absenceMappingService).create(1, VACATION, "event-1");
+        assertThat(drift("lost")).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureDeletesOrphanedEventsAndTheirMappings() {
+
+        final String eventId = calendarProvider.add(absence(START_DATE), null).orElseThrow();
+        final AbsenceMapping orphanedMapping = new AbsenceMapping(5, VACATION, eventId);
+        when(absenceMappingService.getAbsencesByEventIds(List.of(eventId))).thenReturn(List.of(orphanedMapping));
+
+        final Application cancelledApplication = openAbsences.application(5);
+        cancelledApplication.setStatus(ApplicationStatus.CANCELLED);
+        when(applicationService.getApplicationById(5)).thenReturn(Optional.of(cancelledApplication));
+
+        sut.reconcile();
+
+        assertThat(calendarProvider.getEvents()).isEmpty();
+        verify(absenceMappingService).delete(orphanedMapping);
+        assertThat(drift("orphaned")).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureKeepsEventsWithoutMapping() {
+
+        final String eventId = calendarProvider.add(absence(START_DATE), null).orElseThrow();
+
+        sut.reconcile();
+
+        assertThat(calendarProvider.getEvents()).containsOnlyKeys(eventId);
+        assertThat(drift("unknown")).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureOnlyCountsDifferencesIfRepairIsDisabled() {
+
+        calendarReconciliationProperties.setRepair(false);
+        openAbsences.givenOpenApplications(openAbsences.application(1));
+
+        sut.reconcile();
+
+        assertThat(calendarProvider.getEvents()).isEmpty();
+        verify(absenceMappingService, never()).create(anyInt(), any(), any());
+        assertThat(drift("missing")).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureCountsFailureIfEventsCouldNotBeRead() {
+
+        openAbsences.givenOpenApplications(openAbsences.application(1));
+        calendarProvider.failNextCalls(1);
+
+        sut.reconcile();
+
+        assertThat(calendarProvider.getEvents()).isEmpty();
+        assertThat(meterRegistry.get("uv.calendar.reconciliation.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureDoesNothingIfNoCalendarIsConfigured() {
+
+        when(calendarService.getCalendarProvider()).thenReturn(new NoopCalendarSyncProvider());
+
+        sut.reconcile();
+
+        verifyZeroInteractions(applicationService, sickNoteService, absenceMappingService);
+    }
+
+    private Absence absence(LocalDate startDate) {
+        return new Absence(person, new Period(startDate, startDate.plusDays(1), DayLength.FULL),
+            absenceTimeConfiguration);
+    }
+
+    private double drift(String type) {
+        return meterRegistry.get("uv.calendar.reconciliation.drift").tag("type", type).counter().count();
+    }
+}
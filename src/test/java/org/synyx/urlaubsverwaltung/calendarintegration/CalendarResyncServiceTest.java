@@ -0,0 +1,200 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
+import org.synyx.urlaubsverwaltung.absence.AbsenceType;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.fake.FakeCalendarProvider;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.noop.NoopCalendarSyncProvider;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.SICKNOTE;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.OpenAbsenceFixture.START_DATE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.UPDATE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncJobStatus.PENDING;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+public class CalendarResyncServiceTest {
+
+    private CalendarResyncService sut;
+
+    private ApplicationService applicationService;
+    private SickNoteService sickNoteService;
+    private AbsenceMappingService absenceMappingService;
+    private CalendarService calendarService;
+    private CalendarSyncJobDAO calendarSyncJobDAO;
+    private FakeCalendarProvider calendarProvider;
+    private CalendarResyncProperties calendarResyncProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    private Person person;
+    private OpenAbsenceFixture openAbsences;
+
+    @Before
+    public void setUp() {
+
+        applicationService = mock(ApplicationService.class);
+        sickNoteService = mock(SickNoteService.class);
+        absenceMappingService = mock(AbsenceMappingService.class);
+        calendarSyncJobDAO = mock(CalendarSyncJobDAO.class);
+        calendarProvider = new FakeCalendarProvider();
+
+        final SettingsService settingsService = mock(SettingsService.class);
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        calendarService = mock(CalendarService.class);
+        when(calendarService.getCalendarProvider()).thenReturn(calendarProvider);
+
+        calendarResyncProperties = new CalendarResyncProperties();
+        calendarResyncProperties.setBatchSize(2);
+        calendarResyncProperties.setPause(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+
+        person = createPerson();
+        openAbsences = new OpenAbsenceFixture(applicationService, sickNoteService, person);
+
+        sut = new CalendarResyncService(new OpenAbsenceService(applicationService, sickNoteService),
+            absenceMappingService, new CalendarSyncServiceImpl(settingsService, calendarService), calendarService,
+            new CalendarSyncQueue(calendarSyncJobDAO, Clock.systemUTC()), settingsService, calendarResyncProperties,
+            mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    public void ensureAddsOpenAbsencesWithoutEventAndCreatesMappings() {
+
+        openAbsences.givenOpenApplications(openAbsences.application(1), openAbsences.application(2), openAbsences.application(3));
+        openAbsences.givenOpenSickNotes(openAbsences.sickNote(4));
+
+        sut.resync();
+
+        assertThat(calendarProvider.getEvents()).containsOnlyKeys("event-1", "event-2", "event-3", "event-4");
+        verify(absenceMappingService).create(1, VACATION, "event-1");
+        verify(absenceMappingService).create(2, VACATION, "event-2");
+        verify(absenceMappingService).create(3, VACATION, "event-3");
+        verify(absenceMappingService).create(4, SICKNOTE, "event-4");
+        assertThat(meterRegistry.get("uv.calendar.resync.total").gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get("uv.calendar.resync.processed").gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get("uv.calendar.resync.events").tag("operation", "added").counter().count())
+            .isEqualTo(4);
+    }
+
+    @Test
+    public void ensureUpdatesEventsOfMappedAbsences() {
+
+        final String eventId = calendarProvider.add(mock(Absence.class), null).orElseThrow();
+        openAbsences.givenOpenApplications(openAbsences.application(1));
+        when(absenceMappingService.getAbsencesByIdsAndType(List.of(1), VACATION))
+            .thenReturn(List.of(new AbsenceMapping(1, VACATION, eventId)));
+
+        sut.resync();
+
+        final Absence absence = calendarProvider.getEvents().get(eventId);
+        assertThat(absence.getStartDate().toLocalDate()).isEqualTo(START_DATE);
+        verify(absenceMappingService, never()).create(anyInt(), any(), any());
+        assertThat(meterRegistry.get("uv.calendar.resync.events").tag("operation", "updated").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void ensureSkipsAbsencesWithPendingJobs() {
+
+        openAbsences.givenOpenApplications(openAbsences.application(1), openAbsences.application(2));
+        final CalendarSyncJob pendingJob = new CalendarSyncJob(1, VACATION, UPDATE, person, openAbsences.application(1).getPeriod(),
+            null);
+        when(calendarSyncJobDAO.findByStatus(PENDING)).thenReturn(List.of(pendingJob));
+
+        sut.resync();
+
+        assertThat(calendarProvider.getEvents()).hasSize(1);
+        verify(absenceMappingService, never()).create(eq(1), any(), any());
+        verify(absenceMappingService).create(2, VACATION, "event-1");
+    }
+
+    @Test
+    public void ensureCountsFailuresAndCreatesNoMappingForThem() {
+
+        openAbsences.givenOpenApplications(openAbsences.application(1), openAbsences.application(2));
+        calendarProvider.failNextCalls(1);
+
+        sut.resync();
+
+        verify(absenceMappingService, never()).create(eq(1), any(), any());
+        verify(absenceMappingService).create(2, VACATION, "event-1");
+        assertThat(meterRegistry.get("uv.calendar.resync.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureDeletesEventsOfAbsencesThatAreNotOpenAnymore() {
+
+        final String eventId = calendarProvider.add(mock(Absence.class), null).orElseThrow();
+        final AbsenceMapping orphanedMapping = mapping(10, 5, VACATION, eventId);
+        when(absenceMappingService.getAbsenceMappings(0, 2)).thenReturn(List.of(orphanedMapping));
+
+        final Application cancelledApplication = openAbsences.application(5);
+        cancelledApplication.setStatus(ApplicationStatus.CANCELLED);
+        when(applicationService.getApplicationById(5)).thenReturn(Optional.of(cancelledApplication));
+
+        sut.resync();
+
+        assertThat(calendarProvider.getEvents()).doesNotContainKey(eventId);
+        verify(absenceMappingService).delete(orphanedMapping);
+    }
+
+    @Test
+    public void ensureKeepsEventsOfAbsencesThatHaveBeenAppliedForInTheMeantime() {
+
+        final String eventId = calendarProvider.add(mock(Absence.class), null).orElseThrow();
+        final AbsenceMapping mapping = mapping(10, 5, VACATION, eventId);
+        when(absenceMappingService.getAbsenceMappings(0, 2)).thenReturn(List.of(mapping));
+        when(applicationService.getApplicationById(5)).thenReturn(Optional.of(openAbsences.application(5)));
+
+        sut.resync();
+
+        assertThat(calendarProvider.getEvents()).containsKey(eventId);
+        verify(absenceMappingService, never()).delete(any(AbsenceMapping.class));
+    }
+
+    @Test
+    public void ensureDoesNothingIfNoCalendarIsConfigured() {
+
+        when(calendarService.getCalendarProvider()).thenReturn(new NoopCalendarSyncProvider());
+
+        sut.resync();
+
+        verifyZeroInteractions(applicationService, sickNoteService, absenceMappingService);
+    }
+
+    private static AbsenceMapping mapping(Integer id, Integer absenceId, AbsenceType absenceType, String eventId) {
+
+        final AbsenceMapping mapping = new AbsenceMapping(absenceId, absenceType, eventId);
+        ReflectionTestUtils.setField(mapping, "id", id);
+
+        return mapping;
+    }
+}
@@ -0,0 +1,116 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.SICKNOTE;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.DELETE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.UPDATE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncJobStatus.PENDING;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CalendarSyncQueueTest {
+
+    private static final Instant NOW = Instant.parse("2020-03-01T10:00:00Z");
+
+    private CalendarSyncQueue sut;
+
+    @Mock
+    private CalendarSyncJobDAO calendarSyncJobDAO;
+
+    private final Person person = createPerson();
+    private final Period period = new Period(LocalDate.of(2020, 3, 2), LocalDate.of(2020, 3, 2), DayLength.MORNING);
+
+    @Before
+    public void setUp() {
+        sut = new CalendarSyncQueue(calendarSyncJobDAO, Clock.fixed(NOW, UTC));
+    }
+
+    @Test
+    public void ensureQueuesAddedAbsenceToBeSyncedNow() {
+
+        sut.addAbsence(42, SICKNOTE, person, period);
+
+        final CalendarSyncJob job = savedJob();
+        assertThat(job.getAbsenceId()).isEqualTo(42);
+        assertThat(job.getAbsenceType()).isEqualTo(SICKNOTE);
+        assertThat(job.getAction()).isEqualTo(ADD);
+        assertThat(job.getPerson()).isEqualTo(person);
+        assertThat(job.getPeriod().getStartDate()).isEqualTo(period.getStartDate());
+        assertThat(job.getPeriod().getEndDate()).isEqualTo(period.getEndDate());
+        assertThat(job.getPeriod().getDayLength()).isEqualTo(DayLength.MORNING);
+        assertThat(job.getStatus()).isEqualTo(PENDING);
+        assertThat(job.getCreatedAt()).isEqualTo(NOW);
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW);
+        assertThat(job.hasTarget()).isFalse();
+    }
+
+    @Test
+    public void ensureQueuesUpdatedAbsence() {
+
+        sut.updateAbsence(42, SICKNOTE, person, period);
+
+        assertThat(savedJob().getAction()).isEqualTo(UPDATE);
+    }
+
+    @Test
+    public void ensureQueuesMovedAbsenceAsUpdateWithTarget() {
+
+        sut.moveAbsence(42, SICKNOTE, 7, VACATION, person, period);
+
+        final CalendarSyncJob job = savedJob();
+        assertThat(job.getAction()).isEqualTo(UPDATE);
+        assertThat(job.getTargetAbsenceId()).isEqualTo(7);
+        assertThat(job.getTargetAbsenceType()).isEqualTo(VACATION);
+    }
+
+    @Test
+    public void ensureQueuesDeletedAbsenceWithoutPeriod() {
+
+        sut.deleteAbsence(42, VACATION);
+
+        final CalendarSyncJob job = savedJob();
+        assertThat(job.getAction()).isEqualTo(DELETE);
+        assertThat(job.getAbsenceType()).isEqualTo(VACATION);
+        assertThat(job.getPerson()).isNull();
+    }
+
+    @Test
+    public void ensureReturnsAbsencesWithPendingJobsIncludingTargets() {
+
+        final CalendarSyncJob moveJob = new CalendarSyncJob(42, SICKNOTE, UPDATE, person, period, NOW);
+        moveJob.setTarget(7, VACATION);
+        final CalendarSyncJob deleteJob = new CalendarSyncJob(3, VACATION, DELETE, NOW);
+        when(calendarSyncJobDAO.findByStatus(PENDING)).thenReturn(List.of(moveJob, deleteJob));
+
+        assertThat(sut.getAbsencesWithPendingJobs())
+            .containsExactlyInAnyOrder("SICKNOTE#42", "VACATION#7", "VACATION#3");
+    }
+
+    private CalendarSyncJob savedJob() {
+
+        final ArgumentCaptor<CalendarSyncJob> captor = ArgumentCaptor.forClass(CalendarSyncJob.class);
+        verify(calendarSyncJobDAO).save(captor.capture());
+
+        return captor.getValue();
+    }
+}
@@ -9,6 +9,10 @@ import org.synyx.urlaubsverwaltung.settings.ExchangeCalendarSettings;
 import org.synyx.urlaubsverwaltung.settings.Settings;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -87,6 +91,52 @@ public class CalendarSyncServiceImplTest {
     }
 
 
+    @Test
+    public void ensureAddsAbsencesToCalendarWithOneBatch() {
+
+        List<Absence> absences = List.of(mock(Absence.class), mock(Absence.class));
+
+        calendarSyncService.addAbsences(absences);
+
+        verify(calendarService.getCalendarProvider()).addAll(eq(absences), eq(settings.getCalendarSettings()));
+    }
+
+
+    @Test
+    public void ensureUpdatesAbsencesInCalendarWithOneBatch() {
+
+        Map<String, Absence> absencesByEventId = Map.of("event-1", mock(Absence.class));
+
+        calendarSyncService.updateAbsences(absencesByEventId);
+
+        verify(calendarService.getCalendarProvider())
+            .updateAll(eq(absencesByEventId), eq(settings.getCalendarSettings()));
+    }
+
+
+    @Test
+    public void ensureDeletesAbsencesInCalendarWithOneBatch() {
+
+        List<String> eventIds = List.of("event-1", "event-2");
+
+        calendarSyncService.deleteAbsences(eventIds);
+
+        verify(calendarService.getCalendarProvider()).deleteAll(eq(eventIds), eq(settings.getCalendarSettings()));
+    }
+
+
+    @Test
+    public void ensureReadsEventsOfCalendar() {
+
+        LocalDate from = LocalDate.of(2020, 3, 1);
+        LocalDate to = LocalDate.of(2020, 3, 31);
+
+        calendarSyncService.getEvents(from, to);
+
+        verify(calendarService.getCalendarProvider()).getEvents(from, to, settings.getCalendarSettings());
+    }
+
+
     @Test
     public void ensureChecksExchangeCalendarSettings() {
 
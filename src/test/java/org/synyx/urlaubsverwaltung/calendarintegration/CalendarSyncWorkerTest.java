@@ -0,0 +1,309 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
+import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.fake.FakeCalendarProvider;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.SICKNOTE;
+import static org.synyx.urlaubsverwaltung.absence.AbsenceType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.DELETE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncAction.UPDATE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncJobStatus.FAILED;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncJobStatus.PENDING;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+public class CalendarSyncWorkerTest {
+
+    private static final Instant NOW = Instant.parse("2020-03-01T10:00:00Z");
+
+    private CalendarSyncWorker sut;
+
+    private CalendarSyncJobDAO calendarSyncJobDAO;
+    private AbsenceMappingService absenceMappingService;
+    private CalendarMailService calendarMailService;
+    private FakeCalendarProvider calendarProvider;
+    private CalendarSyncProperties calendarSyncProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    private Person person;
+
+    @Before
+    public void setUp() {
+
+        calendarSyncJobDAO = mock(CalendarSyncJobDAO.class);
+        absenceMappingService = mock(AbsenceMappingService.class);
+        calendarMailService = mock(CalendarMailService.class);
+        calendarProvider = new FakeCalendarProvider();
+
+        calendarSyncProperties = new CalendarSyncProperties();
+        calendarSyncProperties.setWorkers(1);
+        calendarSyncProperties.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+
+        person = createPerson();
+
+        sut = worker();
+    }
+
+    @After
+    public void tearDown() {
+        sut.destroy();
+    }
+
+    @Test
+    public void ensureAddsAbsenceToCalendarAndCreatesMapping() {
+
+        final CalendarSyncJob job = job(1, 42, ADD);
+        givenDueJobs(job);
+
+        sut.dispatch();
+
+        assertThat(calendarProvider.getEvents()).containsOnlyKeys("event-1");
+        verify(absenceMappingService).create(42, SICKNOTE, "event-1");
+        verify(calendarSyncJobDAO).delete(job);
+        assertThat(meterRegistry.get("uv.calendar.sync.latency").tag("action", "add").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureUpdatesEventOfAbsence() {
+
+        final String eventId = givenEvent(42);
+        final CalendarSyncJob job = job(1, 42, UPDATE);
+        givenDueJobs(job);
+
+        sut.dispatch();
+
+        final Absence absence = calendarProvider.getEvents().get(eventId);
+        assertThat(absence.getStartDate().toLocalDate()).isEqualTo(LocalDate.of(2020, 3, 2));
+        verify(absenceMappingService, never()).delete(any(AbsenceMapping.class));
+        verify(calendarSyncJobDAO).delete(job);
+    }
+
+    @Test
+    public void ensureMovesEventToTargetAbsence() {
+
+        final String eventId = givenEvent(42);
+        final CalendarSyncJob job = job(1, 42, UPDATE);
+        job.setTarget(7, VACATION);
+        givenDueJobs(job);
+
+        sut.dispatch();
+
+        verify(absenceMappingService).delete(any(AbsenceMapping.class));
+        verify(absenceMappingService).create(7, VACATION, eventId);
+        verify(calendarSyncJobDAO).delete(job);
+    }
+
+    @Test
+    public void ensureDeletesEventAndMapping() {
+
+        final String eventId = givenEvent(42);
+        final CalendarSyncJob job = job(1, 42, DELETE);
+        givenDueJobs(job);
+
+        sut.dispatch();
+
+        assertThat(calendarProvider.getEvents()).doesNotContainKey(eventId);
+        verify(absenceMappingService).delete(any(AbsenceMapping.class));
+        verify(calendarSyncJobDAO).delete(job);
+    }
+
+    @Test
+    public void ensureIgnoresUpdateAndDeleteOfAbsenceWithoutEvent() {
+
+        final CalendarSyncJob update = job(1, 42, UPDATE);
+        final CalendarSyncJob delete = job(2, 42, DELETE);
+        givenDueJobs(update, delete);
+
+        sut.dispatch();
+
+        assertThat(calendarProvider.getEvents()).isEmpty();
+        verify(calendarSyncJobDAO).delete(update);
+        verify(calendarSyncJobDAO).delete(delete);
+    }
+
+    @Test
+    public void ensureRetriesFailedJobWithIncreasingDelay() {
+
+        calendarProvider.failNextCalls(1);
+        final CalendarSyncJob job = job(1, 42, ADD);
+        job.setAttempts(1);
+        givenDueJobs(job);
+
+        sut.dispatch();
+
+        assertThat(job.getStatus()).isEqualTo(PENDING);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getLastError()).isEqualTo("Calendar is not available");
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofMinutes(2)));
+        verify(calendarSyncJobDAO, never()).delete(job);
+        verify(absenceMappingService, never()).create(anyInt(), any(), anyString());
+        assertThat(meterRegistry.get("uv.calendar.sync.retries").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureGivesUpAndInformsAdministratorAfterMaxAttempts() {
+
+        calendarProvider.failNextCalls(1);
+        final CalendarSyncJob job = job(1, 42, ADD);
+        job.setAttempts(2);
+        givenDueJobs(job);
+
+        sut.dispatch();
+
+        assertThat(job.getStatus()).isEqualTo(FAILED);
+        assertThat(job.getAttempts()).isEqualTo(3);
+        verify(calendarMailService).sendCalendarSyncErrorNotification(eq(FakeCalendarProvider.CALENDAR_NAME),
+            any(Absence.class), anyString());
+        verify(calendarSyncJobDAO, never()).delete(job);
+        assertThat(meterRegistry.get("uv.calendar.sync.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureLaterJobsOfAbsenceWaitForFailedJob() {
+
+        calendarProvider.failNextCalls(1);
+        final CalendarSyncJob add = job(1, 42, ADD);
+        final CalendarSyncJob delete = job(2, 42, DELETE);
+        final CalendarSyncJob otherAbsence = job(3, 43, ADD);
+        givenDueJobs(add, delete, otherAbsence);
+
+        sut.dispatch();
+
+        verify(calendarSyncJobDAO, never()).findByIdAndStatus(2, PENDING);
+        verify(calendarSyncJobDAO).delete(otherAbsence);
+        assertThat(calendarProvider.getEvents()).hasSize(1);
+    }
+
+    @Test
+    public void ensureSkipsJobIfOlderJobOfAbsenceIsPending() {
+
+        final CalendarSyncJob job = job(2, 42, ADD);
+        givenDueJobs(job);
+        when(calendarSyncJobDAO.existsByAbsenceIdAndAbsenceTypeAndStatusAndIdLessThan(42, SICKNOTE, PENDING, 2))
+            .thenReturn(true);
+
+        sut.dispatch();
+
+        assertThat(calendarProvider.getEvents()).isEmpty();
+        verify(calendarSyncJobDAO, never()).delete(job);
+    }
+
+    @Test
+    public void ensureSkipsJobExecutedByAnotherInstance() {
+
+        final CalendarSyncJob job = job(1, 42, ADD);
+        when(calendarSyncJobDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING, NOW, PageRequest.of(0, 50)))
+            .thenReturn(List.of(job));
+        when(calendarSyncJobDAO.findByIdAndStatus(1, PENDING)).thenReturn(Optional.empty());
+
+        sut.dispatch();
+
+        assertThat(calendarProvider.getEvents()).isEmpty();
+    }
+
+    @Test
+    public void ensureExecutesJobsOfDifferentAbsencesConcurrently() {
+
+        sut.destroy();
+        calendarSyncProperties.setWorkers(2);
+        sut = worker();
+
+        final CalendarSyncJob first = job(1, 42, ADD);
+        final CalendarSyncJob second = job(2, 43, ADD);
+        givenDueJobs(first, second);
+
+        sut.dispatch();
+
+        assertThat(calendarProvider.getEvents()).hasSize(2);
+        verify(calendarSyncJobDAO).delete(first);
+        verify(calendarSyncJobDAO).delete(second);
+    }
+
+    @Test
+    public void ensureRetryDelayIsDoubledUpToMaximum() {
+
+        calendarSyncProperties.setRetryDelay(Duration.ofMinutes(1));
+        calendarSyncProperties.setMaxRetryDelay(Duration.ofMinutes(5));
+
+        assertThat(sut.getRetryDelay(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(sut.getRetryDelay(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(sut.getRetryDelay(3)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(sut.getRetryDelay(4)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(sut.getRetryDelay(20)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private CalendarSyncWorker worker() {
+
+        final SettingsService settingsService = mock(SettingsService.class);
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final CalendarService calendarService = mock(CalendarService.class);
+        when(calendarService.getCalendarProvider()).thenReturn(calendarProvider);
+
+        return new CalendarSyncWorker(calendarSyncJobDAO, new CalendarSyncServiceImpl(settingsService, calendarService),
+            absenceMappingService, settingsService, calendarMailService, calendarSyncProperties,
+            mock(PlatformTransactionManager.class), meterRegistry, Clock.fixed(NOW, UTC));
+    }
+
+    private CalendarSyncJob job(Integer id, Integer absenceId, CalendarSyncAction action) {
+
+        final Period period = new Period(LocalDate.of(2020, 3, 2), LocalDate.of(2020, 3, 3), DayLength.FULL);
+        final CalendarSyncJob job = action == DELETE
+            ? new CalendarSyncJob(absenceId, SICKNOTE, action, NOW.minusSeconds(60))
+            : new CalendarSyncJob(absenceId, SICKNOTE, action, person, period, NOW.minusSeconds(60));
+        ReflectionTestUtils.setField(job, "id", id);
+
+        return job;
+    }
+
+    private void givenDueJobs(CalendarSyncJob... jobs) {
+
+        when(calendarSyncJobDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING, NOW, PageRequest.of(0, 50)))
+            .thenReturn(List.of(jobs));
+
+        for (CalendarSyncJob job : jobs) {
+            when(calendarSyncJobDAO.findByIdAndStatus(job.getId(), PENDING)).thenReturn(Optional.of(job));
+        }
+    }
+
+    private String givenEvent(Integer absenceId) {
+
+        final String eventId = calendarProvider.add(mock(Absence.class), null).orElseThrow();
+        when(absenceMappingService.getAbsenceByIdAndType(absenceId, SICKNOTE))
+            .thenReturn(Optional.of(new AbsenceMapping(absenceId, SICKNOTE, eventId)));
+
+        return eventId;
+    }
+}
@@ -0,0 +1,69 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createApplication;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createSickNote;
+
+
+/**
+ * Creates the open applications for leave and sick notes of a person and returns them from the mocked services, so
+ * the {@link OpenAbsenceService} reads them for the whole calendar as well as for any period.
+ */
+class OpenAbsenceFixture {
+
+    static final LocalDate START_DATE = LocalDate.of(2020, 3, 2);
+
+    private final ApplicationService applicationService;
+    private final SickNoteService sickNoteService;
+    private final Person person;
+
+    OpenAbsenceFixture(ApplicationService applicationService, SickNoteService sickNoteService, Person person) {
+
+        this.applicationService = applicationService;
+        this.sickNoteService = sickNoteService;
+        this.person = person;
+    }
+
+    void givenOpenApplications(Application... applications) {
+
+        when(applicationService.getForStates(anyList())).thenReturn(List.of(applications));
+        when(applicationService.getApplicationsForACertainPeriodAndState(any(), any(), eq(ALLOWED)))
+            .thenReturn(List.of(applications));
+    }
+
+    void givenOpenSickNotes(SickNote... sickNotes) {
+
+        when(sickNoteService.getForStates(anyList())).thenReturn(List.of(sickNotes));
+        when(sickNoteService.getByPeriod(any(), any())).thenReturn(List.of(sickNotes));
+    }
+
+    Application application(Integer id) {
+
+        final Application application = createApplication(person, START_DATE, START_DATE.plusDays(1), DayLength.FULL);
+        application.setId(id);
+
+        return application;
+    }
+
+    SickNote sickNote(Integer id) {
+
+        final SickNote sickNote = createSickNote(person, START_DATE, START_DATE.plusDays(1), DayLength.FULL);
+        sickNote.setId(id);
+
+        return sickNote;
+    }
+}
@@ -0,0 +1,75 @@
+package org.synyx.urlaubsverwaltung.calendarintegration.providers;
+
+import org.junit.Test;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+public class CalendarEventTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2020, 3, 2);
+
+    private final AbsenceTimeConfiguration absenceTimeConfiguration =
+        new AbsenceTimeConfiguration(new CalendarSettings());
+
+    @Test
+    public void ensureMatchesTheAbsenceItShows() {
+
+        final Absence absence = absence(DayLength.FULL);
+
+        assertThat(event(absence, absence.getEventSubject()).matches(absence)).isTrue();
+    }
+
+    @Test
+    public void ensureDoesNotMatchAbsenceWithOtherSubject() {
+
+        final Absence absence = absence(DayLength.FULL);
+
+        assertThat(event(absence, "Someone else abwesend").matches(absence)).isFalse();
+    }
+
+    @Test
+    public void ensureComparesAllDayEventsByTheirDays() {
+
+        final Absence absence = absence(DayLength.FULL);
+        final ZoneId calendarZone = ZoneId.of("Europe/Berlin");
+
+        final CalendarEvent event = new CalendarEvent("event", absence.getEventSubject(),
+            START_DATE.atStartOfDay(calendarZone), START_DATE.plusDays(1).atStartOfDay(calendarZone), true);
+
+        assertThat(event.matches(absence)).isTrue();
+    }
+
+    @Test
+    public void ensureComparesOtherEventsByTheirInstants() {
+
+        final Absence absence = absence(DayLength.MORNING);
+        final ZoneId calendarZone = ZoneId.of("Europe/Berlin");
+
+        final CalendarEvent sameInstants = new CalendarEvent("event", absence.getEventSubject(),
+            absence.getStartDate().withZoneSameInstant(calendarZone),
+            absence.getEndDate().withZoneSameInstant(calendarZone), false);
+        final CalendarEvent sameLocalTimes = new CalendarEvent("event", absence.getEventSubject(),
+            absence.getStartDate().withZoneSameLocal(calendarZone),
+            absence.getEndDate().withZoneSameLocal(calendarZone), false);
+
+        assertThat(sameInstants.matches(absence)).isTrue();
+        assertThat(sameLocalTimes.matches(absence)).isFalse();
+    }
+
+    private Absence absence(DayLength dayLength) {
+        return new Absence(createPerson(), new Period(START_DATE, START_DATE, dayLength), absenceTimeConfiguration);
+    }
+
+    private static CalendarEvent event(Absence absence, String subject) {
+        return new CalendarEvent("event", subject, absence.getStartDate(), absence.getEndDate(), absence.isAllDay());
+    }
+}
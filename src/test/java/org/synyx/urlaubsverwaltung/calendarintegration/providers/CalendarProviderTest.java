@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.calendarintegration.providers;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.fake.FakeCalendarProvider;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+
+/**
+ * Unit test for the default batch operations of {@link CalendarProvider}.
+ */
+public class CalendarProviderTest {
+
+    private FakeCalendarProvider sut;
+
+    @Before
+    public void setUp() {
+        sut = new FakeCalendarProvider();
+    }
+
+    @Test
+    public void ensureAddsAllAbsencesAndRecordsFailures() {
+
+        final Absence failing = mock(Absence.class);
+        final Absence added = mock(Absence.class);
+        sut.failNextCalls(1);
+
+        final CalendarBatchResult<Absence> result = sut.addAll(List.of(failing, added), null);
+
+        assertThat(result.getFailure(failing)).isPresent();
+        assertThat(result.isSucceeded(failing)).isFalse();
+        assertThat(result.getEventId(added)).hasValue("event-1");
+        assertThat(sut.getEvents()).containsOnlyKeys("event-1");
+    }
+
+    @Test
+    public void ensureUpdatesAllEventsAndRecordsFailures() {
+
+        final String eventId = sut.add(mock(Absence.class), null).orElseThrow();
+        final Absence absence = mock(Absence.class);
+
+        final Map<String, Absence> absencesByEventId = new LinkedHashMap<>();
+        absencesByEventId.put(eventId, absence);
+        absencesByEventId.put("unknown", mock(Absence.class));
+
+        final CalendarBatchResult<String> result = sut.updateAll(absencesByEventId, null);
+
+        assertThat(result.getSucceeded()).containsOnlyKeys(eventId);
+        assertThat(result.getFailures()).containsOnlyKeys("unknown");
+        assertThat(sut.getEvents().get(eventId)).isSameAs(absence);
+    }
+
+    @Test
+    public void ensureDeletesAllEvents() {
+
+        final String first = sut.add(mock(Absence.class), null).orElseThrow();
+        final String second = sut.add(mock(Absence.class), null).orElseThrow();
+
+        final CalendarBatchResult<String> result = sut.deleteAll(List.of(first, second), null);
+
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.getSucceeded()).containsOnlyKeys(first, second);
+        assertThat(sut.getEvents()).isEmpty();
+    }
+}
@@ -1,10 +1,19 @@
 package org.synyx.urlaubsverwaltung.calendarintegration.providers.exchange;
 
+import microsoft.exchange.webservices.data.autodiscover.IAutodiscoverRedirectionUrl;
 import microsoft.exchange.webservices.data.core.ExchangeService;
 import microsoft.exchange.webservices.data.core.enumeration.misc.ExchangeVersion;
+import microsoft.exchange.webservices.data.core.enumeration.misc.error.ServiceError;
 import microsoft.exchange.webservices.data.core.enumeration.property.WellKnownFolderName;
+import microsoft.exchange.webservices.data.core.enumeration.service.DeleteMode;
+import microsoft.exchange.webservices.data.core.enumeration.service.SendCancellationsMode;
+import microsoft.exchange.webservices.data.core.enumeration.service.SendInvitationsMode;
+import microsoft.exchange.webservices.data.core.enumeration.service.ServiceResult;
+import microsoft.exchange.webservices.data.core.response.ServiceResponse;
+import microsoft.exchange.webservices.data.core.response.ServiceResponseCollection;
 import microsoft.exchange.webservices.data.core.service.folder.CalendarFolder;
 import microsoft.exchange.webservices.data.core.service.item.Appointment;
+import microsoft.exchange.webservices.data.credential.WebCredentials;
 import microsoft.exchange.webservices.data.property.complex.Attendee;
 import microsoft.exchange.webservices.data.property.complex.AttendeeCollection;
 import microsoft.exchange.webservices.data.property.complex.FolderId;
@@ -12,19 +21,25 @@ import microsoft.exchange.webservices.data.property.complex.ItemId;
 import microsoft.exchange.webservices.data.property.complex.time.TimeZoneDefinition;
 import microsoft.exchange.webservices.data.search.FindFoldersResults;
 import microsoft.exchange.webservices.data.search.FolderView;
+import microsoft.exchange.webservices.data.search.filter.SearchFilter;
 import org.junit.Test;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarMailService;
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarBatchResult;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
 import org.synyx.urlaubsverwaltung.settings.ExchangeCalendarSettings;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.junit.Assert.assertEquals;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,9 +49,7 @@ public class ExchangeCalendarProviderTest {
 
     @Test
     public void checkCalendarSyncSettingsNoExceptionForEmptyEmail() {
-        final CalendarMailService calendarMailService = mock(CalendarMailService.class);
-
-        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(calendarMailService);
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider();
 
         CalendarSettings calendarSettings = mock(CalendarSettings.class);
         ExchangeCalendarSettings exchangeCalSettings = mock(ExchangeCalendarSettings.class);
@@ -48,18 +61,30 @@ public class ExchangeCalendarProviderTest {
     }
 
     private CalendarSettings getMockedCalendarSettings() {
+        return getMockedCalendarSettings("secret", "");
+    }
+
+    private CalendarSettings getMockedCalendarSettings(String password, String calendarName) {
         CalendarSettings calendarSettings = mock(CalendarSettings.class);
         ExchangeCalendarSettings exchangeCalSettings = mock(ExchangeCalendarSettings.class);
         when(exchangeCalSettings.getTimeZoneId()).thenReturn("Europe/Berlin");
 
         when(calendarSettings.getExchangeCalendarSettings()).thenReturn(exchangeCalSettings);
         when(exchangeCalSettings.getEmail()).thenReturn("test@test.de");
-        when(exchangeCalSettings.getPassword()).thenReturn("secret");
-        when(exchangeCalSettings.getCalendar()).thenReturn("");
+        when(exchangeCalSettings.getPassword()).thenReturn(password);
+        when(exchangeCalSettings.getCalendar()).thenReturn(calendarName);
 
         return calendarSettings;
     }
 
+    private Absence getMockedAbsence() {
+        Absence absence = mock(Absence.class);
+        when(absence.getPerson()).thenReturn(new Person("username", "lastName", "firstName", "abc@de.f"));
+        when(absence.getStartDate()).thenReturn(ZonedDateTime.now(UTC));
+        when(absence.getEndDate()).thenReturn(ZonedDateTime.now(UTC));
+        return absence;
+    }
+
     private ExchangeService getMockedExchangeService() throws Exception {
 
         ExchangeService exchangeService = mock(ExchangeService.class);
@@ -73,13 +98,18 @@ public class ExchangeCalendarProviderTest {
 
         calendarRoot.getFolders().add(folder);
 
-        when(exchangeService.findFolders(eq(WellKnownFolderName.Calendar), any(FolderView.class))).thenReturn(calendarRoot);
+        when(exchangeService.findFolders(eq(WellKnownFolderName.Calendar), any(SearchFilter.class), any(FolderView.class)))
+            .thenReturn(calendarRoot);
         when(exchangeService.getRequestedServerVersion()).thenReturn(ExchangeVersion.Exchange2010_SP2);
 
         return exchangeService;
     }
 
     private Appointment getMockedAppointment() throws Exception {
+        return getMockedAppointment("item-id");
+    }
+
+    private Appointment getMockedAppointment(String id) throws Exception {
         Appointment appointment = mock(Appointment.class);
 
 
@@ -87,22 +117,41 @@ public class ExchangeCalendarProviderTest {
         attendeeCollection.add(new Attendee("smtpAddress"));
 
         when(appointment.getRequiredAttendees()).thenReturn(attendeeCollection);
-        when(appointment.getId()).thenReturn(new ItemId("item-id"));
+        when(appointment.getId()).thenReturn(new ItemId(id));
 
         return appointment;
     }
 
+    @SuppressWarnings("unchecked")
+    private ServiceResponseCollection<ServiceResponse> getMockedResponses(ServiceResponse... responses) {
+        ServiceResponseCollection<ServiceResponse> responseCollection = mock(ServiceResponseCollection.class);
+
+        when(responseCollection.getCount()).thenReturn(responses.length);
+        for (int i = 0; i < responses.length; i++) {
+            when(responseCollection.getResponseAtIndex(i)).thenReturn(responses[i]);
+        }
+
+        return responseCollection;
+    }
+
+    private ServiceResponse getMockedResponse(ServiceResult result, ServiceError error) {
+        ServiceResponse response = mock(ServiceResponse.class);
+        when(response.getResult()).thenReturn(result);
+        when(response.getErrorCode()).thenReturn(error);
+        when(response.getErrorMessage()).thenReturn(error.toString());
+        return response;
+    }
+
 
     @Test
     public void add() throws Exception {
-        CalendarMailService calendarMailService = mock(CalendarMailService.class);
         ExchangeFactory exchangeFactory = mock(ExchangeFactory.class);
 
         Appointment appointment = getMockedAppointment();
         when(exchangeFactory.getNewAppointment(any(ExchangeService.class))).thenReturn(appointment);
 
         ExchangeService exchangeService = getMockedExchangeService();
-        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, exchangeFactory, calendarMailService);
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, exchangeFactory);
 
         Absence absence = mock(Absence.class);
         when(absence.getPerson()).thenReturn(new Person("username", "lastName", "firstName", "abc@de.f"));
@@ -116,4 +165,165 @@ public class ExchangeCalendarProviderTest {
         verify(appointment, times(1)).setStartTimeZone(any(TimeZoneDefinition.class));
         verify(appointment, times(1)).setEndTimeZone(any(TimeZoneDefinition.class));
     }
+
+    @Test(expected = CalendarSyncException.class)
+    public void addThrowsIfAppointmentCouldNotBeSaved() throws Exception {
+        ExchangeFactory exchangeFactory = mock(ExchangeFactory.class);
+        when(exchangeFactory.getNewAppointment(any(ExchangeService.class)))
+            .thenThrow(new ExchangeServiceException("no connection"));
+
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(getMockedExchangeService(), exchangeFactory);
+
+        cut.add(mock(Absence.class), getMockedCalendarSettings());
+    }
+
+    @Test
+    public void ensureConnectsOnlyOnceWhileSettingsAreUnchanged() throws Exception {
+        ExchangeFactory exchangeFactory = mock(ExchangeFactory.class);
+        when(exchangeFactory.getNewAppointment(any(ExchangeService.class))).thenReturn(getMockedAppointment());
+
+        ExchangeService exchangeService = getMockedExchangeService();
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, exchangeFactory);
+
+        cut.add(getMockedAbsence(), getMockedCalendarSettings());
+        cut.add(getMockedAbsence(), getMockedCalendarSettings());
+        cut.delete("item-id", getMockedCalendarSettings());
+
+        verify(exchangeService, times(1)).setCredentials(any(WebCredentials.class));
+        verify(exchangeService, times(1)).autodiscoverUrl(eq("test@test.de"), any(IAutodiscoverRedirectionUrl.class));
+    }
+
+    @Test
+    public void ensureConnectsAgainIfSettingsChange() throws Exception {
+        ExchangeFactory exchangeFactory = mock(ExchangeFactory.class);
+        when(exchangeFactory.getNewAppointment(any(ExchangeService.class))).thenReturn(getMockedAppointment());
+
+        ExchangeService exchangeService = getMockedExchangeService();
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, exchangeFactory);
+
+        cut.add(getMockedAbsence(), getMockedCalendarSettings("secret", ""));
+        cut.add(getMockedAbsence(), getMockedCalendarSettings("changed", ""));
+
+        verify(exchangeService, times(2)).setCredentials(any(WebCredentials.class));
+    }
+
+    @Test
+    public void ensureConnectsAgainAfterFailedSync() throws Exception {
+        ExchangeFactory exchangeFactory = mock(ExchangeFactory.class);
+        when(exchangeFactory.getNewAppointment(any(ExchangeService.class)))
+            .thenThrow(new ExchangeServiceException("no connection"))
+            .thenReturn(getMockedAppointment());
+
+        ExchangeService exchangeService = getMockedExchangeService();
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, exchangeFactory);
+
+        try {
+            cut.add(getMockedAbsence(), getMockedCalendarSettings());
+        } catch (CalendarSyncException e) {
+            // retried below
+        }
+        assertEquals("item-id", cut.add(getMockedAbsence(), getMockedCalendarSettings()).orElse("bad-id"));
+
+        verify(exchangeService, times(2)).setCredentials(any(WebCredentials.class));
+    }
+
+    @Test
+    public void ensureLooksUpCalendarFolderOnlyOnce() throws Exception {
+        ExchangeFactory exchangeFactory = mock(ExchangeFactory.class);
+        Appointment appointment = getMockedAppointment();
+        when(exchangeFactory.getNewAppointment(any(ExchangeService.class))).thenReturn(appointment);
+
+        ExchangeService exchangeService = getMockedExchangeService();
+        FindFoldersResults calendars = new FindFoldersResults();
+        CalendarFolder folder = mock(CalendarFolder.class);
+        FolderId folderId = new FolderId("urlaub-id");
+        when(folder.getDisplayName()).thenReturn("Urlaub");
+        when(folder.getId()).thenReturn(folderId);
+        calendars.getFolders().add(folder);
+        when(exchangeService.findFolders(eq(WellKnownFolderName.Calendar), any(SearchFilter.class), any(FolderView.class)))
+            .thenReturn(calendars);
+
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, exchangeFactory);
+
+        cut.add(getMockedAbsence(), getMockedCalendarSettings("secret", "Urlaub"));
+        cut.add(getMockedAbsence(), getMockedCalendarSettings("secret", "Urlaub"));
+
+        verify(exchangeService, times(1))
+            .findFolders(eq(WellKnownFolderName.Calendar), any(SearchFilter.class), any(FolderView.class));
+        verify(appointment, times(2)).save(eq(folderId), any(SendInvitationsMode.class));
+    }
+
+    @Test
+    public void ensureDeletesAppointmentById() throws Exception {
+        ExchangeService exchangeService = getMockedExchangeService();
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, mock(ExchangeFactory.class));
+
+        cut.delete("item-id", getMockedCalendarSettings());
+
+        verify(exchangeService).deleteItem(any(ItemId.class), eq(DeleteMode.HardDelete), eq(SendCancellationsMode.SendToNone), isNull());
+    }
+
+    @Test
+    public void ensureAddsAppointmentsWithOneRequest() throws Exception {
+        ExchangeFactory exchangeFactory = mock(ExchangeFactory.class);
+        when(exchangeFactory.getNewAppointment(any(ExchangeService.class)))
+            .thenReturn(getMockedAppointment("item-1"), getMockedAppointment("item-2"));
+
+        ExchangeService exchangeService = getMockedExchangeService();
+        ServiceResponseCollection<ServiceResponse> responses = getMockedResponses(
+            getMockedResponse(ServiceResult.Success, ServiceError.NoError),
+            getMockedResponse(ServiceResult.Error, ServiceError.ErrorQuotaExceeded));
+        when(exchangeService.createItems(anyCollection(), any(FolderId.class), isNull(), eq(SendInvitationsMode.SendToNone)))
+            .thenReturn(responses);
+
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, exchangeFactory);
+
+        Absence added = getMockedAbsence();
+        Absence failed = getMockedAbsence();
+        CalendarBatchResult<Absence> result = cut.addAll(List.of(added, failed), getMockedCalendarSettings());
+
+        assertThat(result.getEventId(added)).hasValue("item-1");
+        assertThat(result.getFailures()).containsOnlyKeys(failed);
+        verify(exchangeService, times(1))
+            .createItems(anyCollection(), any(FolderId.class), isNull(), eq(SendInvitationsMode.SendToNone));
+    }
+
+    @Test
+    public void ensureFailsAllAppointmentsOfFailedBatchRequest() throws Exception {
+        ExchangeFactory exchangeFactory = mock(ExchangeFactory.class);
+        when(exchangeFactory.getNewAppointment(any(ExchangeService.class))).thenReturn(getMockedAppointment());
+
+        ExchangeService exchangeService = getMockedExchangeService();
+        when(exchangeService.createItems(anyCollection(), any(FolderId.class), isNull(), any(SendInvitationsMode.class)))
+            .thenThrow(new ExchangeServiceException("no connection"));
+
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, exchangeFactory);
+
+        CalendarBatchResult<Absence> result =
+            cut.addAll(List.of(getMockedAbsence(), getMockedAbsence()), getMockedCalendarSettings());
+
+        assertThat(result.getSucceeded()).isEmpty();
+        assertThat(result.getFailures()).hasSize(2);
+    }
+
+    @Test
+    public void ensureDeletesAppointmentsWithOneRequest() throws Exception {
+        ExchangeService exchangeService = getMockedExchangeService();
+        ServiceResponseCollection<ServiceResponse> responses = getMockedResponses(
+            getMockedResponse(ServiceResult.Success, ServiceError.NoError),
+            getMockedResponse(ServiceResult.Error, ServiceError.ErrorItemNotFound),
+            getMockedResponse(ServiceResult.Error, ServiceError.ErrorAccessDenied));
+        when(exchangeService.deleteItems(any(), eq(DeleteMode.HardDelete), eq(SendCancellationsMode.SendToNone), isNull()))
+            .thenReturn(responses);
+
+        ExchangeCalendarProvider cut = new ExchangeCalendarProvider(exchangeService, mock(ExchangeFactory.class));
+
+        CalendarBatchResult<String> result =
+            cut.deleteAll(List.of("item-1", "item-2", "item-3"), getMockedCalendarSettings());
+
+        assertThat(result.getSucceeded()).containsOnlyKeys("item-1", "item-2");
+        assertThat(result.getFailures()).containsOnlyKeys("item-3");
+        verify(exchangeService, times(1))
+            .deleteItems(any(), eq(DeleteMode.HardDelete), eq(SendCancellationsMode.SendToNone), isNull());
+    }
 }
@@ -0,0 +1,97 @@
+package org.synyx.urlaubsverwaltung.calendarintegration.providers.fake;
+
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncException;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarProvider;
+import org.synyx.urlaubsverwaltung.settings.CalendarSettings;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+
+
+/**
+ * Calendar provider keeping the events in memory. The next calls can be made to fail like an unavailable calendar.
+ */
+public class FakeCalendarProvider implements CalendarProvider {
+
+    public static final String CALENDAR_NAME = "fake";
+
+    private final Map<String, Absence> events = new LinkedHashMap<>();
+
+    private int nextEventId = 1;
+    private int failures;
+
+    /**
+     * The given number of the next calls fail with a {@link CalendarSyncException}.
+     */
+    public void failNextCalls(int failures) {
+        this.failures = failures;
+    }
+
+    public Map<String, Absence> getEvents() {
+        return events;
+    }
+
+    @Override
+    public synchronized Optional<String> add(Absence absence, CalendarSettings calendarSettings) {
+
+        failIfRequested();
+
+        final String eventId = "event-" + nextEventId++;
+        events.put(eventId, absence);
+
+        return Optional.of(eventId);
+    }
+
+    @Override
+    public synchronized void update(Absence absence, String eventId, CalendarSettings calendarSettings) {
+
+        failIfRequested();
+
+        if (!events.containsKey(eventId)) {
+            throw new CalendarSyncException(CALENDAR_NAME, "Unknown event " + eventId);
+        }
+
+        events.put(eventId, absence);
+    }
+
+    @Override
+    public synchronized void delete(String eventId, CalendarSettings calendarSettings) {
+
+        failIfRequested();
+
+        events.remove(eventId);
+    }
+
+    @Override
+    public synchronized List<CalendarEvent> getEvents(LocalDate from, LocalDate to, CalendarSettings calendarSettings) {
+
+        failIfRequested();
+
+        return events.entrySet().stream()
+            .filter(event -> !event.getValue().getStartDate().toLocalDate().isAfter(to))
+            .filter(event -> event.getValue().getEndDate().toLocalDate().isAfter(from))
+            .map(event -> new CalendarEvent(event.getKey(), event.getValue().getEventSubject(),
+                event.getValue().getStartDate(), event.getValue().getEndDate(), event.getValue().isAllDay()))
+            .collect(toList());
+    }
+
+    @Override
+    public void checkCalendarSyncSettings(CalendarSettings calendarSettings) {
+        // nothing to check
+    }
+
+    private void failIfRequested() {
+
+        if (failures > 0) {
+            failures--;
+            throw new CalendarSyncException(CALENDAR_NAME, "Calendar is not available");
+        }
+    }
+}
@@ -16,9 +16,9 @@ import org.junit.Assume;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarMailService;
 import org.synyx.urlaubsverwaltung.absence.Absence;
 import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarBatchResult;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.period.Period;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -32,6 +32,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static java.time.ZoneOffset.UTC;
@@ -51,7 +54,6 @@ public class GoogleCalendarSyncProviderServiceTest {
     private static String REFRESH_TOKEN;
 
     private SettingsService settingsService;
-    private CalendarMailService calendarMailService;
     private GoogleCalendarSyncProvider googleCalendarSyncProvider;
 
     @BeforeClass
@@ -76,8 +78,7 @@ public class GoogleCalendarSyncProviderServiceTest {
     @Before
     public void setUp() {
         settingsService = prepareSettingsServiceMock();
-        calendarMailService = mock(CalendarMailService.class);
-        googleCalendarSyncProvider = new GoogleCalendarSyncProvider(calendarMailService, settingsService);
+        googleCalendarSyncProvider = new GoogleCalendarSyncProvider(settingsService);
     }
 
     private static Credential createCredentialWithRefreshToken(
@@ -120,7 +121,7 @@ public class GoogleCalendarSyncProviderServiceTest {
 
     @Test
     public void init() {
-        googleCalendarSyncProvider = new GoogleCalendarSyncProvider(calendarMailService, settingsService);
+        googleCalendarSyncProvider = new GoogleCalendarSyncProvider(settingsService);
     }
 
     @Test
@@ -151,6 +152,34 @@ public class GoogleCalendarSyncProviderServiceTest {
         assertEquals(eventsAfterDelete, eventsBeforeAdd);
     }
 
+    @Test
+    public void addUpdateDeleteAbsencesWithBatchRequests() throws GeneralSecurityException, IOException {
+
+        CalendarSettings calendarSettings = settingsService.getSettings().getCalendarSettings();
+
+        Person person = new Person("testUser", "Hans", "Wurst", "testUser@mail.test");
+        Period period = new Period(LocalDate.now(UTC), LocalDate.now(UTC), DayLength.FULL);
+
+        AbsenceTimeConfiguration config = new AbsenceTimeConfiguration(mock(CalendarSettings.class));
+        Absence first = new Absence(person, period, config);
+        Absence second = new Absence(person, period, config);
+
+        int eventsBeforeAdd = getCalendarEventCount();
+        CalendarBatchResult<Absence> added = googleCalendarSyncProvider.addAll(List.of(first, second), calendarSettings);
+        int eventsAfterAdd = getCalendarEventCount();
+
+        List<String> eventIds = new ArrayList<>(added.getSucceeded().values());
+        CalendarBatchResult<String> updated = googleCalendarSyncProvider.updateAll(
+            Map.of(eventIds.get(0), new Absence(person, period, config)), calendarSettings);
+
+        CalendarBatchResult<String> deleted = googleCalendarSyncProvider.deleteAll(eventIds, calendarSettings);
+        int eventsAfterDelete = getCalendarEventCount();
+
+        assertTrue(!added.hasFailures() && !updated.hasFailures() && !deleted.hasFailures());
+        assertEquals(eventsBeforeAdd + 2, eventsAfterAdd);
+        assertEquals(eventsAfterDelete, eventsBeforeAdd);
+    }
+
     private SettingsService prepareSettingsServiceMock() {
         SettingsService settingsService = mock(SettingsService.class);
         Settings settings = new Settings();
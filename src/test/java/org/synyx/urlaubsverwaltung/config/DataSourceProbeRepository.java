@@ -0,0 +1,15 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+
+/**
+ * Reads the session variable that tells the connection pools of {@link ReplicaDataSourceIT} apart.
+ */
+interface DataSourceProbeRepository extends Repository<Person, Integer> {
+
+    @Query(value = "SELECT @uv_data_source", nativeQuery = true)
+    String currentDataSource();
+}
@@ -0,0 +1,75 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class HibernateCacheConfigurationTest {
+
+    @Test
+    public void ensureCachesAllEntitiesAndCollectionsByDefault() {
+
+        final Map<String, String> cacheSettings = HibernateCacheConfiguration.getCacheSettings(new HibernateCacheProperties());
+
+        assertThat(cacheSettings)
+            .containsEntry("hibernate.classcache.org.synyx.urlaubsverwaltung.person.Person", "read-write")
+            .containsEntry("hibernate.collectioncache.org.synyx.urlaubsverwaltung.person.Person.permissions", "read-write")
+            .containsEntry("hibernate.collectioncache.org.synyx.urlaubsverwaltung.person.Person.notifications", "read-write")
+            .containsEntry("hibernate.classcache.org.synyx.urlaubsverwaltung.department.Department", "read-write")
+            .containsEntry("hibernate.collectioncache.org.synyx.urlaubsverwaltung.department.Department.members", "read-write")
+            .containsEntry("hibernate.classcache.org.synyx.urlaubsverwaltung.workingtime.WorkingTime", "read-write")
+            .containsEntry("hibernate.classcache.org.synyx.urlaubsverwaltung.application.domain.VacationType", "read-write")
+            .containsEntry("hibernate.classcache.org.synyx.urlaubsverwaltung.sicknote.SickNoteType", "read-write")
+            .containsEntry("hibernate.classcache.org.synyx.urlaubsverwaltung.settings.Settings", "read-write");
+
+        assertThat(HibernateCacheConfiguration.getCacheConfigurations(new HibernateCacheProperties()))
+            .containsKeys("org.synyx.urlaubsverwaltung.person.Person",
+                "org.synyx.urlaubsverwaltung.person.Person.permissions",
+                HibernateCacheConfiguration.QUERY_RESULTS_REGION,
+                HibernateCacheConfiguration.UPDATE_TIMESTAMPS_REGION);
+    }
+
+    @Test
+    public void ensureDisabledEntityIsNotCached() {
+
+        final HibernateCacheProperties cacheProperties = new HibernateCacheProperties();
+        cacheProperties.getPerson().setEnabled(false);
+
+        assertThat(HibernateCacheConfiguration.getCacheSettings(cacheProperties))
+            .doesNotContainKeys("hibernate.classcache.org.synyx.urlaubsverwaltung.person.Person",
+                "hibernate.collectioncache.org.synyx.urlaubsverwaltung.person.Person.permissions")
+            .containsKey("hibernate.classcache.org.synyx.urlaubsverwaltung.department.Department");
+
+        assertThat(HibernateCacheConfiguration.getCacheConfigurations(cacheProperties))
+            .doesNotContainKeys("org.synyx.urlaubsverwaltung.person.Person",
+                "org.synyx.urlaubsverwaltung.person.Person.permissions");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void ensureDisablesSecondLevelCacheIfCacheIsDisabled() {
+
+        final HibernateCacheProperties cacheProperties = new HibernateCacheProperties();
+        cacheProperties.setEnabled(false);
+
+        final ObjectProvider<CacheManager> cacheManagerProvider = mock(ObjectProvider.class);
+
+        final HibernatePropertiesCustomizer customizer = new HibernateCacheConfiguration()
+            .hibernateCachePropertiesCustomizer(cacheProperties, cacheManagerProvider);
+
+        final Map<String, Object> hibernateProperties = new HashMap<>();
+        customizer.customize(hibernateProperties);
+
+        assertThat(hibernateProperties)
+            .containsEntry("hibernate.cache.use_second_level_cache", false)
+            .containsEntry("hibernate.cache.use_query_cache", false)
+            .doesNotContainKey("hibernate.classcache.org.synyx.urlaubsverwaltung.person.Person");
+    }
+}
@@ -0,0 +1,37 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class HikariMetricsPostProcessorTest {
+
+    private final HikariMetricsPostProcessor sut = new HikariMetricsPostProcessor(new SimpleMeterRegistry());
+
+    @Test
+    public void ensureSetsMicrometerMetricsTrackerFactory() {
+
+        final HikariDataSource dataSource = new HikariDataSource();
+
+        sut.postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getMetricsTrackerFactory()).isInstanceOf(MicrometerMetricsTrackerFactory.class);
+    }
+
+    @Test
+    public void ensureKeepsConfiguredMetricsTrackerFactory() {
+
+        final MetricsTrackerFactory metricsTrackerFactory = mock(MetricsTrackerFactory.class);
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        sut.postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getMetricsTrackerFactory()).isSameAs(metricsTrackerFactory);
+    }
+}
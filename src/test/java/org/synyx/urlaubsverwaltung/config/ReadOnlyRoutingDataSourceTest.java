@@ -0,0 +1,140 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReadOnlyRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2020-03-01T10:00:00Z");
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replica;
+
+    @Before
+    public void setUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @After
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    public void ensureReadOnlyTransactionUsesReplica() throws SQLException {
+
+        final Connection connection = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(connection);
+
+        final ReadOnlyRoutingDataSource sut = routingDataSource(Clock.fixed(NOW, UTC));
+
+        assertThat(sut.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    public void ensureReadWriteTransactionUsesPrimary() throws SQLException {
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        final Connection connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+
+        final ReadOnlyRoutingDataSource sut = routingDataSource(Clock.fixed(NOW, UTC));
+
+        assertThat(sut.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    public void ensureReadOnlyTransactionOfRepositoryUsesPrimary() throws SQLException {
+
+        TransactionSynchronizationManager.setCurrentTransactionName(
+            "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById");
+
+        final Connection connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+
+        final ReadOnlyRoutingDataSource sut = routingDataSource(Clock.fixed(NOW, UTC));
+
+        assertThat(sut.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    public void ensureFallsBackToPrimaryIfReplicaIsUnavailable() throws SQLException {
+
+        final Connection connection = mock(Connection.class);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(connection);
+
+        final ReadOnlyRoutingDataSource sut = routingDataSource(Clock.fixed(NOW, UTC));
+
+        assertThat(sut.getConnection()).isSameAs(connection);
+        assertThat(sut.getConnection()).isSameAs(connection);
+
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    public void ensureRetriesReplicaAfterRetryInterval() throws SQLException {
+
+        final Connection primaryConnection = mock(Connection.class);
+        final Connection replicaConnection = mock(Connection.class);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused")).thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        final MutableClock clock = new MutableClock();
+        final ReadOnlyRoutingDataSource sut = routingDataSource(clock);
+
+        assertThat(sut.getConnection()).isSameAs(primaryConnection);
+
+        clock.instant = NOW.plusSeconds(30);
+        assertThat(sut.getConnection()).isSameAs(replicaConnection);
+    }
+
+    private ReadOnlyRoutingDataSource routingDataSource(Clock clock) {
+        return new ReadOnlyRoutingDataSource(primary, replica, Duration.ofSeconds(30), clock);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = NOW;
+
+        @Override
+        public ZoneId getZone() {
+            return UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
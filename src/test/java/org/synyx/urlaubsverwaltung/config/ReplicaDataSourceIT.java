@@ -0,0 +1,80 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Uses the database of the tests as primary and as replica, the connections of each pool are marked with a session
+ * variable to tell them apart.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.connection-init-sql=SET @uv_data_source = 'primary'",
+    "uv.datasource.replica.url=${spring.datasource.url}",
+    "uv.datasource.replica.hikari.connection-init-sql=SET @uv_data_source = 'replica'"
+})
+public class ReplicaDataSourceIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSourceProbeRepository dataSourceProbeRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void ensureReadOnlyTransactionUsesReplica() {
+
+        transactionTemplate.setReadOnly(true);
+
+        assertThat(transactionTemplate.execute(status -> currentDataSource())).isEqualTo("replica");
+    }
+
+    @Test
+    public void ensureReadWriteTransactionUsesPrimary() {
+
+        assertThat(transactionTemplate.execute(status -> currentDataSource())).isEqualTo("primary");
+    }
+
+    @Test
+    public void ensureStatementWithoutTransactionUsesPrimary() {
+
+        assertThat(currentDataSource()).isEqualTo("primary");
+    }
+
+    @Test
+    public void ensureRepositoryReadWithoutServiceTransactionUsesPrimary() {
+
+        assertThat(dataSourceProbeRepository.currentDataSource()).isEqualTo("primary");
+    }
+
+    @Test
+    public void ensureRepositoryReadWithinReadOnlyServiceTransactionUsesReplica() {
+
+        transactionTemplate.setReadOnly(true);
+
+        assertThat(transactionTemplate.execute(status -> dataSourceProbeRepository.currentDataSource()))
+            .isEqualTo("replica");
+    }
+
+    private String currentDataSource() {
+        return jdbcTemplate.queryForObject("SELECT @uv_data_source", String.class);
+    }
+}
@@ -0,0 +1,43 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * The replica points to a port without database, so the read-only transactions have to fall back to the primary.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.connection-init-sql=SET @uv_data_source = 'primary'",
+    "uv.datasource.replica.url=jdbc:mariadb://localhost:1/urlaubsverwaltung"
+})
+public class ReplicaDataSourceUnavailableIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void ensureReadOnlyTransactionFallsBackToPrimary() {
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        assertThat(transactionTemplate.execute(status -> currentDataSource())).isEqualTo("primary");
+        assertThat(transactionTemplate.execute(status -> currentDataSource())).isEqualTo("primary");
+    }
+
+    private String currentDataSource() {
+        return jdbcTemplate.queryForObject("SELECT @uv_data_source", String.class);
+    }
+}
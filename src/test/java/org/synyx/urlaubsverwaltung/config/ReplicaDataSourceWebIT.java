@@ -0,0 +1,88 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import javax.persistence.EntityManager;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+/**
+ * Uses the database of the tests as primary and as replica like {@link ReplicaDataSourceIT}, but executes a read-only
+ * and a read-write transaction within one web request. The read-write transaction must not reuse the connection of the
+ * replica that was obtained by the read-only transaction before.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.connection-init-sql=SET @uv_data_source = 'primary'",
+    "uv.datasource.replica.url=${spring.datasource.url}",
+    "uv.datasource.replica.hikari.connection-init-sql=SET @uv_data_source = 'replica'"
+})
+public class ReplicaDataSourceWebIT {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Test
+    public void ensureWriteAfterReadWithinOneRequestUsesPrimary() throws Exception {
+
+        MockMvcBuilders.webAppContextSetup(context).build()
+            .perform(post(ReadThenWriteController.PATH))
+            .andExpect(status().isOk())
+            .andExpect(content().string("primary"));
+    }
+
+    @TestConfiguration
+    @Import(ReadThenWriteController.class)
+    static class ReadThenWriteConfiguration {
+    }
+
+    @RestController
+    static class ReadThenWriteController {
+
+        static final String PATH = "/test/replica/read-then-write";
+
+        private final PersonService personService;
+        private final EntityManager entityManager;
+        private final TransactionTemplate readOnlyTransactionTemplate;
+        private final TransactionTemplate transactionTemplate;
+
+        ReadThenWriteController(PersonService personService, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager) {
+
+            this.personService = personService;
+            this.entityManager = entityManager;
+            this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+            this.readOnlyTransactionTemplate.setReadOnly(true);
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+        }
+
+        /**
+         * Reads the persons within a read-only transaction and returns the data source of the read-write transaction
+         * afterwards.
+         */
+        @PostMapping(PATH)
+        public String readThenWrite() {
+
+            readOnlyTransactionTemplate.execute(status -> personService.getActivePersons());
+
+            return transactionTemplate.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT @uv_data_source").getSingleResult());
+        }
+    }
+}
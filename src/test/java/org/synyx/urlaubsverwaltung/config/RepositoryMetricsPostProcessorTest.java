@@ -0,0 +1,81 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.repository.Repository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.synyx.urlaubsverwaltung.config.RepositoryMetricsPostProcessor.METRIC_NAME;
+
+public class RepositoryMetricsPostProcessorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RepositoryMetricsPostProcessor sut;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+
+    @Test
+    public void ensureMeasuresInvocationsOfRepository() {
+
+        final NameRepository repository =
+            (NameRepository) sut.postProcessAfterInitialization(proxy(id -> Optional.of("name")), "nameRepository");
+
+        assertThat(repository.findById(1)).hasValue("name");
+        assertThat(repository.findById(2)).hasValue("name");
+
+        final Timer timer = meterRegistry.get(METRIC_NAME)
+            .tag("repository", "NameRepository")
+            .tag("method", "findById")
+            .tag("state", "SUCCESS")
+            .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void ensureMeasuresFailedInvocationsOfRepository() {
+
+        final NameRepository repository = (NameRepository) sut.postProcessAfterInitialization(proxy(id -> {
+            throw new IllegalStateException();
+        }), "nameRepository");
+
+        assertThatThrownBy(() -> repository.findById(1)).isInstanceOf(IllegalStateException.class);
+
+        final Timer timer = meterRegistry.get(METRIC_NAME)
+            .tag("state", "ERROR")
+            .tag("exception", "IllegalStateException")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void ensureIgnoresOtherBeans() {
+
+        final Object bean = new Object();
+
+        assertThat(sut.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    private static NameRepository proxy(NameRepository target) {
+
+        final ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setInterfaces(NameRepository.class);
+
+        return (NameRepository) proxyFactory.getProxy();
+    }
+
+    interface NameRepository extends Repository<String, Integer> {
+
+        Optional<String> findById(Integer id);
+    }
+}
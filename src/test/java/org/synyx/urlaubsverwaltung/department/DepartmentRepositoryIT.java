@@ -0,0 +1,62 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.HibernateStatisticsSupport.clearPersistenceContextAndGetStatistics;
+
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@Transactional
+public class DepartmentRepositoryIT {
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void ensureLoadsDepartmentsWithMembersInBatches() {
+
+        for (int i = 0; i < 5; i++) {
+            final Person member = personService.save(TestDataCreator.createPerson("member" + i));
+            final Person head = personService.save(TestDataCreator.createPerson("head" + i));
+            final Person authority = personService.save(TestDataCreator.createPerson("authority" + i));
+
+            final Department department = TestDataCreator.createDepartment("Department " + i);
+            department.setMembers(List.of(member, head, authority));
+            department.setDepartmentHeads(List.of(head));
+            department.setSecondStageAuthorities(List.of(authority));
+            departmentRepository.save(department);
+        }
+
+        final Statistics statistics = clearPersistenceContextAndGetStatistics(entityManager);
+
+        final List<Department> departments = departmentRepository.findAll();
+        departments.forEach(department -> department.getMembers().forEach(member -> {
+            assertThat(member.getPermissions()).isNotEmpty();
+            assertThat(member.getNotifications()).isNotEmpty();
+        }));
+
+        // the departments, their three person collections and the collections of the loaded persons in batches
+        assertThat(departments).hasSizeGreaterThanOrEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+    }
+}
@@ -3,9 +3,13 @@ package org.synyx.urlaubsverwaltung.department;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
@@ -18,14 +22,19 @@ import static java.time.ZoneOffset.UTC;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
 
 
 public class DepartmentServiceImplTest {
@@ -34,14 +43,16 @@ public class DepartmentServiceImplTest {
 
     private DepartmentRepository departmentRepository;
     private ApplicationService applicationService;
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Before
     public void setUp() {
 
         departmentRepository = mock(DepartmentRepository.class);
         applicationService = mock(ApplicationService.class);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
 
-        sut = new DepartmentServiceImpl(departmentRepository, applicationService);
+        sut = new DepartmentServiceImpl(departmentRepository, applicationService, applicationEventPublisher);
     }
 
 
@@ -53,6 +64,7 @@ public class DepartmentServiceImplTest {
         sut.create(department);
 
         verify(departmentRepository).save(eq(department));
+        verify(applicationEventPublisher).publishEvent(any(DepartmentChangedEvent.class));
     }
 
 
@@ -72,6 +84,7 @@ public class DepartmentServiceImplTest {
         sut.update(department);
 
         verify(departmentRepository).save(eq(department));
+        verify(applicationEventPublisher).publishEvent(any(DepartmentChangedEvent.class));
     }
 
 
@@ -139,6 +152,7 @@ public class DepartmentServiceImplTest {
 
         verify(departmentRepository).findById(eq(id));
         verify(departmentRepository).deleteById(eq(id));
+        verify(applicationEventPublisher).publishEvent(any(DepartmentChangedEvent.class));
     }
 
 
@@ -330,6 +344,34 @@ public class DepartmentServiceImplTest {
     }
 
 
+    @Test
+    public void ensurePagesWaitingAndAllowedApplicationsOfOtherDepartmentMembers() {
+
+        Person person = mock(Person.class);
+        LocalDate date = LocalDate.now(UTC);
+
+        Person admin1 = TestDataCreator.createPerson("admin1");
+        Person admin2 = TestDataCreator.createPerson("admin2");
+
+        Department admins = TestDataCreator.createDepartment("admins");
+        admins.setMembers(asList(admin1, admin2, person));
+
+        KeysetPageRequest pageRequest = KeysetPageRequest.first(10);
+        KeysetPage<Application> page = KeysetPage.empty();
+
+        when(departmentRepository.getAssignedDepartments(person)).thenReturn(singletonList(admins));
+        when(applicationService.getApplicationsForACertainPeriodAndPersonsAndStates(eq(date), eq(date), anyList(),
+            eq(List.of(ALLOWED, TEMPORARY_ALLOWED, WAITING)), eq(pageRequest))).thenReturn(page);
+
+        Assert.assertSame(page, sut.getApplicationsForLeaveOfMembersInDepartmentsOfPerson(person, date, date, pageRequest));
+
+        ArgumentCaptor<List<Person>> members = ArgumentCaptor.forClass(List.class);
+        verify(applicationService).getApplicationsForACertainPeriodAndPersonsAndStates(eq(date), eq(date),
+            members.capture(), any(), eq(pageRequest));
+        assertThat(members.getValue()).containsExactlyInAnyOrder(admin1, admin2);
+    }
+
+
     @Test
     public void ensureReturnsOnlyWaitingAndAllowedDepartmentApplicationsForLeave() {
 
@@ -0,0 +1,116 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_BOSS_DEPARTMENTS;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_OFFICE;
+import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
+import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createDepartment;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NotificationRecipientIndexTest {
+
+    private NotificationRecipientIndex sut;
+
+    @Mock
+    private PersonService personService;
+    @Mock
+    private DepartmentService departmentService;
+
+    @Before
+    public void setUp() {
+        sut = new NotificationRecipientIndex(personService, departmentService, mock(PlatformTransactionManager.class));
+    }
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void ensureReadsPersonsAndDepartmentsOnlyOnce() {
+
+        final Person office = createPerson("office", OFFICE);
+        when(personService.getPersonsWithNotificationType(NOTIFICATION_OFFICE)).thenReturn(singletonList(office));
+
+        assertThat(sut.getPersonsWithNotificationType(NOTIFICATION_OFFICE)).containsExactly(office);
+        assertThat(sut.getPersonsWithNotificationType(NOTIFICATION_OFFICE)).containsExactly(office);
+
+        verify(personService).getPersonsWithNotificationType(NOTIFICATION_OFFICE);
+        verify(departmentService).getAllDepartments();
+    }
+
+    @Test
+    public void ensureRebuildsIndexAfterChange() {
+
+        final Person office = createPerson("office", OFFICE);
+        final Person otherOffice = createPerson("otherOffice", OFFICE);
+        when(personService.getPersonsWithNotificationType(NOTIFICATION_OFFICE))
+            .thenReturn(singletonList(office))
+            .thenReturn(List.of(office, otherOffice));
+
+        assertThat(sut.getPersonsWithNotificationType(NOTIFICATION_OFFICE)).containsExactly(office);
+
+        sut.handleRecipientsChanged();
+
+        assertThat(sut.getPersonsWithNotificationType(NOTIFICATION_OFFICE)).containsExactly(office, otherOffice);
+        verify(personService, times(2)).getPersonsWithNotificationType(NOTIFICATION_OFFICE);
+    }
+
+    @Test
+    public void ensureDropsIndexAgainAfterTransactionOfChangeIsCompleted() {
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        sut.handleRecipientsChanged();
+        sut.getPersonsWithNotificationType(NOTIFICATION_OFFICE);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        sut.getPersonsWithNotificationType(NOTIFICATION_OFFICE);
+
+        verify(personService, times(2)).getPersonsWithNotificationType(NOTIFICATION_OFFICE);
+    }
+
+    @Test
+    public void ensureDepartmentBossesAreMembersOfADepartmentOfThePerson() {
+
+        final Person user = createPerson("user", USER);
+        final Person boss = createPerson("boss", BOSS);
+        final Person otherBoss = createPerson("otherBoss", BOSS);
+        when(personService.getPersonsWithNotificationType(NOTIFICATION_BOSS_DEPARTMENTS)).thenReturn(List.of(boss, otherBoss));
+
+        final Department department = createDepartment();
+        department.setMembers(List.of(user, boss));
+        final Department otherDepartment = createDepartment("Andere Abteilung");
+        otherDepartment.setMembers(List.of(otherBoss));
+        when(departmentService.getAllDepartments()).thenReturn(List.of(department, otherDepartment));
+
+        assertThat(sut.getDepartmentBosses(user)).containsExactly(boss);
+        assertThat(sut.getDepartmentBosses(otherBoss)).containsExactly(otherBoss);
+    }
+}
@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MailBuilderTest {
+
+    private MailBuilder sut;
+
+    @Mock
+    private Configuration freemarkerConfiguration;
+
+    @Before
+    public void setUp() {
+        sut = new MailBuilder(freemarkerConfiguration);
+    }
+
+    @Test
+    public void ensureParsesTemplateOncePerLocale() throws IOException {
+
+        when(freemarkerConfiguration.getTemplate("remind.ftl", Locale.GERMAN)).thenReturn(template("Hallo ${name}"));
+
+        assertThat(sut.buildMailBody("remind", Map.of("name", "Hans"), Locale.GERMAN)).isEqualTo("Hallo Hans");
+        assertThat(sut.buildMailBody("remind", Map.of("name", "Franz"), Locale.GERMAN)).isEqualTo("Hallo Franz");
+
+        verify(freemarkerConfiguration).getTemplate("remind.ftl", Locale.GERMAN);
+    }
+
+    @Test
+    public void ensureWrapsTemplateErrors() throws IOException {
+
+        when(freemarkerConfiguration.getTemplate("remind.ftl", Locale.GERMAN)).thenReturn(template("Hallo ${name}"));
+
+        assertThatThrownBy(() -> sut.buildMailBody("remind", Map.of(), Locale.GERMAN))
+            .isInstanceOf(MailBuilderException.class);
+    }
+
+    private static Template template(String source) throws IOException {
+
+        return new Template("remind", source, new Configuration(Configuration.VERSION_2_3_28));
+    }
+}
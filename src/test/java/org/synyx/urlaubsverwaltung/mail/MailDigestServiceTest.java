@@ -0,0 +1,106 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.MessageSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.DIGEST;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MailDigestServiceTest {
+
+    private static final Instant NOW = Instant.parse("2020-03-01T10:00:00Z");
+
+    private MailDigestService sut;
+
+    @Mock
+    private OutboxMailDAO outboxMailDAO;
+    @Mock
+    private MailOutbox mailOutbox;
+    @Mock
+    private MailBuilder mailBuilder;
+    @Mock
+    private MessageSource messageSource;
+
+    @Before
+    public void setUp() {
+        sut = new MailDigestService(outboxMailDAO, mailOutbox, mailBuilder, messageSource,
+            mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    public void ensureSendsOneDigestPerRecipient() {
+
+        final OutboxMail first = mail("hans@firma.test", "first subject", "first text");
+        final OutboxMail second = mail("hans@firma.test", "second subject", "second text");
+        final List<OutboxMail> mails = List.of(first, second);
+        when(outboxMailDAO.findByStatusOrderByRecipientAscIdAsc(DIGEST)).thenReturn(mails);
+
+        when(messageSource.getMessage(eq("subject.digest"), any(), eq(Locale.GERMAN))).thenReturn("digest subject");
+        when(mailBuilder.buildMailBody(eq("digest"), any(), eq(Locale.GERMAN))).thenReturn("digest text");
+
+        sut.sendDigests();
+
+        verify(mailOutbox).enqueue("no-reply@firma.test", List.of("hans@firma.test"), "digest subject", "digest text");
+        verify(outboxMailDAO).deleteAll(mails);
+
+        final ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(messageSource).getMessage(eq("subject.digest"), argsCaptor.capture(), eq(Locale.GERMAN));
+        assertThat(argsCaptor.getValue()).containsExactly(2);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Map<String, Object>> modelCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mailBuilder).buildMailBody(eq("digest"), modelCaptor.capture(), eq(Locale.GERMAN));
+        assertThat(modelCaptor.getValue().get("mails")).isEqualTo(List.of(
+            Map.of("subject", "first subject", "text", "first text"),
+            Map.of("subject", "second subject", "text", "second text")));
+    }
+
+    @Test
+    public void ensureSendsSingleCollectedMailAsItIs() {
+
+        final OutboxMail hans = mail("hans@firma.test", "subject hans", "text hans");
+        final OutboxMail franz = mail("franz@firma.test", "subject franz", "text franz");
+        when(outboxMailDAO.findByStatusOrderByRecipientAscIdAsc(DIGEST)).thenReturn(List.of(franz, hans));
+
+        sut.sendDigests();
+
+        verify(mailOutbox).enqueue("no-reply@firma.test", List.of("franz@firma.test"), "subject franz", "text franz");
+        verify(mailOutbox).enqueue("no-reply@firma.test", List.of("hans@firma.test"), "subject hans", "text hans");
+        verify(outboxMailDAO).deleteAll(List.of(franz));
+        verify(outboxMailDAO).deleteAll(List.of(hans));
+        verify(mailBuilder, never()).buildMailBody(any(), any(), any());
+    }
+
+    @Test
+    public void ensureSendsNothingWithoutCollectedMails() {
+
+        when(outboxMailDAO.findByStatusOrderByRecipientAscIdAsc(DIGEST)).thenReturn(List.of());
+
+        sut.sendDigests();
+
+        verifyZeroInteractions(mailOutbox, mailBuilder);
+    }
+
+    private static OutboxMail mail(String recipient, String subject, String text) {
+
+        return new OutboxMail("no-reply@firma.test", recipient, subject, text, "hash", DIGEST, NOW);
+    }
+}
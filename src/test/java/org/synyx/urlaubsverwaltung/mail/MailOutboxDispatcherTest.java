@@ -0,0 +1,174 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.mail.MessagingException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.FAILED;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.PENDING;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MailOutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2020-03-01T10:00:00Z");
+
+    private MailOutboxDispatcher sut;
+
+    @Mock
+    private OutboxMailDAO outboxMailDAO;
+    @Mock
+    private MailSender mailSender;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MailOutboxProperties outboxProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Before
+    public void setUp() {
+
+        outboxProperties = new MailOutboxProperties();
+        outboxProperties.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+
+        sut = new MailOutboxDispatcher(outboxMailDAO, mailSender, outboxProperties, transactionManager, meterRegistry,
+            Clock.fixed(NOW, UTC));
+    }
+
+    @Test
+    public void ensureSendsAndRemovesDueMails() {
+
+        final OutboxMail mail = mail();
+        when(outboxMailDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING, NOW, PageRequest.of(0, 50)))
+            .thenReturn(singletonList(mail));
+
+        sut.dispatch();
+
+        verify(mailSender).sendEmails(List.of(message("hans@firma.test")));
+        verify(outboxMailDAO).delete(mail);
+        assertThat(meterRegistry.get("uv.mail.outbox.delivery").timer().totalTime(MINUTES))
+            .isEqualTo(5.0);
+    }
+
+    @Test
+    public void ensureDispatchesBatchesUntilNoFullBatchIsLeft() {
+
+        outboxProperties.setBatchSize(1);
+        final OutboxMail first = mail();
+        final OutboxMail second = mail();
+        when(outboxMailDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING, NOW, PageRequest.of(0, 1)))
+            .thenReturn(singletonList(first), singletonList(second), emptyList());
+
+        sut.dispatch();
+
+        verify(outboxMailDAO).delete(first);
+        verify(outboxMailDAO).delete(second);
+    }
+
+    @Test
+    public void ensureRetriesMailThatCouldNotBeSent() {
+
+        final OutboxMail mail = mail();
+        when(outboxMailDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING, NOW, PageRequest.of(0, 50)))
+            .thenReturn(singletonList(mail));
+        when(mailSender.sendEmails(any())).thenThrow(new MailSendException("server unavailable"));
+
+        sut.dispatch();
+
+        verify(outboxMailDAO, never()).delete(mail);
+        assertThat(mail.getStatus()).isEqualTo(PENDING);
+        assertThat(mail.getAttempts()).isOne();
+        assertThat(mail.getLastError()).isEqualTo("server unavailable");
+        assertThat(mail.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofMinutes(1)));
+        assertThat(meterRegistry.get("uv.mail.outbox.retries").counter().count()).isOne();
+    }
+
+    @Test
+    public void ensureMarksMailAsFailedAfterMaxAttempts() {
+
+        final OutboxMail mail = mail();
+        mail.setAttempts(2);
+        when(outboxMailDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING, NOW, PageRequest.of(0, 50)))
+            .thenReturn(singletonList(mail));
+        when(mailSender.sendEmails(any()))
+            .thenReturn(Map.of(message("hans@firma.test"), new MailSendException("server unavailable")));
+
+        sut.dispatch();
+
+        assertThat(mail.getStatus()).isEqualTo(FAILED);
+        assertThat(mail.getAttempts()).isEqualTo(3);
+        assertThat(meterRegistry.get("uv.mail.outbox.failures").counter().count()).isOne();
+    }
+
+    @Test
+    public void ensureRetriesOnlyMailsThatCouldNotBeSent() {
+
+        final OutboxMail hans = mail("hans@firma.test");
+        final OutboxMail franz = mail("franz@firma.test");
+        when(outboxMailDAO.findByStatusAndNextAttemptAtLessThanEqualOrderById(PENDING, NOW, PageRequest.of(0, 50)))
+            .thenReturn(List.of(hans, franz));
+        when(mailSender.sendEmails(List.of(message("hans@firma.test"), message("franz@firma.test"))))
+            .thenReturn(Map.of(message("franz@firma.test"), new MessagingException("recipient rejected")));
+
+        sut.dispatch();
+
+        verify(outboxMailDAO).delete(hans);
+        verify(outboxMailDAO, never()).delete(franz);
+        assertThat(franz.getAttempts()).isOne();
+        assertThat(franz.getLastError()).isEqualTo("recipient rejected");
+    }
+
+    @Test
+    public void ensureRetryDelayDoublesUpToMaximum() {
+
+        outboxProperties.setRetryDelay(Duration.ofMinutes(1));
+        outboxProperties.setMaxRetryDelay(Duration.ofMinutes(10));
+
+        assertThat(sut.getRetryDelay(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(sut.getRetryDelay(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(sut.getRetryDelay(4)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(sut.getRetryDelay(5)).isEqualTo(Duration.ofMinutes(10));
+        assertThat(sut.getRetryDelay(100)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    private static OutboxMail mail() {
+        return mail("hans@firma.test");
+    }
+
+    private static OutboxMail mail(String recipient) {
+        return new OutboxMail("no-reply@firma.test", recipient, "subject", "text", "hash",
+            NOW.minus(Duration.ofMinutes(5)));
+    }
+
+    private static SimpleMailMessage message(String recipient) {
+        final SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("no-reply@firma.test");
+        message.setTo(recipient);
+        message.setSubject("subject");
+        message.setText("text");
+        return message;
+    }
+}
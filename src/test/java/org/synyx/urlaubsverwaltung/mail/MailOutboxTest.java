@@ -0,0 +1,108 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.DIGEST;
+import static org.synyx.urlaubsverwaltung.mail.OutboxMailStatus.PENDING;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MailOutboxTest {
+
+    private static final Instant NOW = Instant.parse("2020-03-01T10:00:00Z");
+
+    private MailOutbox sut;
+
+    @Mock
+    private OutboxMailDAO outboxMailDAO;
+
+    @Before
+    public void setUp() {
+        sut = new MailOutbox(outboxMailDAO, Clock.fixed(NOW, UTC));
+    }
+
+    @Test
+    public void ensureQueuesOneMailPerRecipient() {
+
+        sut.enqueue("no-reply@firma.test", List.of("hans@firma.test", "franz@firma.test", "hans@firma.test"), "subject", "text");
+
+        final ArgumentCaptor<OutboxMail> captor = ArgumentCaptor.forClass(OutboxMail.class);
+        verify(outboxMailDAO, times(2)).save(captor.capture());
+
+        final List<OutboxMail> mails = captor.getAllValues();
+        assertThat(mails).extracting(OutboxMail::getRecipient).containsExactly("hans@firma.test", "franz@firma.test");
+        assertThat(mails).allSatisfy(mail -> {
+            assertThat(mail.getSender()).isEqualTo("no-reply@firma.test");
+            assertThat(mail.getSubject()).isEqualTo("subject");
+            assertThat(mail.getText()).isEqualTo("text");
+            assertThat(mail.getStatus()).isEqualTo(PENDING);
+            assertThat(mail.getCreatedAt()).isEqualTo(NOW);
+            assertThat(mail.getNextAttemptAt()).isEqualTo(NOW);
+        });
+        assertThat(mails.get(0).getContentHash()).isEqualTo(mails.get(1).getContentHash());
+    }
+
+    @Test
+    public void ensureDoesNotQueueMailThatIsStillPendingForRecipient() {
+
+        when(outboxMailDAO.existsByRecipientAndContentHashAndStatus(eq("hans@firma.test"), anyString(), eq(PENDING)))
+            .thenReturn(true);
+
+        sut.enqueue("no-reply@firma.test", List.of("hans@firma.test", "franz@firma.test"), "subject", "text");
+
+        final ArgumentCaptor<OutboxMail> captor = ArgumentCaptor.forClass(OutboxMail.class);
+        verify(outboxMailDAO).save(captor.capture());
+        assertThat(captor.getValue().getRecipient()).isEqualTo("franz@firma.test");
+    }
+
+    @Test
+    public void ensureDoesNotQueueMailWithoutRecipients() {
+
+        sut.enqueue("no-reply@firma.test", emptyList(), "subject", "text");
+
+        verifyZeroInteractions(outboxMailDAO);
+    }
+
+    @Test
+    public void ensureContentHashDiffersForDifferentText() {
+
+        sut.enqueue("no-reply@firma.test", List.of("hans@firma.test"), "subject", "text");
+        sut.enqueue("no-reply@firma.test", List.of("hans@firma.test"), "subject", "other text");
+
+        final ArgumentCaptor<OutboxMail> captor = ArgumentCaptor.forClass(OutboxMail.class);
+        verify(outboxMailDAO, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues().get(0).getContentHash())
+            .isNotEqualTo(captor.getAllValues().get(1).getContentHash());
+    }
+
+    @Test
+    public void ensureCollectsMailForDigest() {
+
+        when(outboxMailDAO.existsByRecipientAndContentHashAndStatus(eq("hans@firma.test"), anyString(), eq(DIGEST)))
+            .thenReturn(true);
+
+        sut.collectForDigest("no-reply@firma.test", List.of("hans@firma.test", "franz@firma.test"), "subject", "text");
+
+        final ArgumentCaptor<OutboxMail> captor = ArgumentCaptor.forClass(OutboxMail.class);
+        verify(outboxMailDAO).save(captor.capture());
+        assertThat(captor.getValue().getRecipient()).isEqualTo("franz@firma.test");
+        assertThat(captor.getValue().getStatus()).isEqualTo(DIGEST);
+    }
+}
@@ -16,8 +16,11 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_BOSS_ALL;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.OVERTIME_NOTIFICATION_OFFICE;
 
 
@@ -31,12 +34,14 @@ public class MailServiceImplTest {
     @Mock
     private MailBuilder mailBuilder;
     @Mock
-    private MailSender mailSender;
+    private MailOutbox mailOutbox;
     @Mock
     private MailOptionProvider mailOptionProvider;
     @Mock
     private RecipientService recipientService;
 
+    private MailDigestProperties digestProperties;
+
     @Before
     public void setUp() {
 
@@ -44,7 +49,10 @@ public class MailServiceImplTest {
         when(mailBuilder.buildMailBody(any(), any(), any())).thenReturn("emailBody");
         when(mailOptionProvider.getSender()).thenReturn("no-reply@firma.test");
 
-        sut = new MailServiceImpl(messageSource, mailBuilder, mailSender, mailOptionProvider, recipientService);
+        digestProperties = new MailDigestProperties();
+
+        sut = new MailServiceImpl(messageSource, mailBuilder, mailOutbox, mailOptionProvider, recipientService,
+            digestProperties);
     }
 
     @Test
@@ -65,7 +73,7 @@ public class MailServiceImplTest {
 
         sut.sendMailTo(OVERTIME_NOTIFICATION_OFFICE, subjectMessageKey, templateName, model);
 
-        verify(mailSender).sendEmail(eq("no-reply@firma.test"), eq(recipients), eq("subject"), eq("emailBody"));
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(recipients), eq("subject"), eq("emailBody"));
     }
 
     @Test
@@ -82,7 +90,7 @@ public class MailServiceImplTest {
 
         sut.sendMailTo(hans, subjectMessageKey, templateName, new HashMap<>());
 
-        verify(mailSender).sendEmail(eq("no-reply@firma.test"), eq(recipients), eq("subject"), eq("emailBody"));
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(recipients), eq("subject"), eq("emailBody"));
     }
 
     @Test
@@ -105,10 +113,89 @@ public class MailServiceImplTest {
 
         sut.sendMailToEach(persons, subjectMessageKey, templateName, new HashMap<>());
 
-        verify(mailSender).sendEmail(eq("no-reply@firma.test"), eq(singletonList(hansMail)), eq("subject"), eq("emailBody"));
-        verify(mailSender).sendEmail(eq("no-reply@firma.test"), eq(singletonList(franzMail)), eq("subject"), eq("emailBody"));
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(singletonList(hansMail)), eq("subject"), eq("emailBody"));
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(singletonList(franzMail)), eq("subject"), eq("emailBody"));
+    }
+
+    @Test
+    public void sendMailToWithNotificationCollectsMailForDigest() {
+
+        digestProperties.setEnabled(true);
+        digestProperties.setNotifications(singletonList(OVERTIME_NOTIFICATION_OFFICE));
+
+        final List<Person> persons = singletonList(new Person());
+        when(recipientService.getRecipientsWithNotificationType(OVERTIME_NOTIFICATION_OFFICE)).thenReturn(persons);
+
+        final List<String> recipients = singletonList("email@firma.test");
+        when(recipientService.getMailAddresses(persons)).thenReturn(recipients);
+
+        sut.sendMailTo(OVERTIME_NOTIFICATION_OFFICE, "subject.overtime.created", "overtime_office", new HashMap<>());
+
+        verify(mailOutbox).collectForDigest(eq("no-reply@firma.test"), eq(recipients), eq("subject"), eq("emailBody"));
+        verify(mailOutbox, never()).enqueue(any(), any(), any(), any());
     }
 
+    @Test
+    public void sendMailToWithNotificationIsSentImmediatelyIfDigestIsDisabled() {
+
+        digestProperties.setNotifications(singletonList(OVERTIME_NOTIFICATION_OFFICE));
+
+        final List<Person> persons = singletonList(new Person());
+        when(recipientService.getRecipientsWithNotificationType(OVERTIME_NOTIFICATION_OFFICE)).thenReturn(persons);
+
+        final List<String> recipients = singletonList("email@firma.test");
+        when(recipientService.getMailAddresses(persons)).thenReturn(recipients);
+
+        sut.sendMailTo(OVERTIME_NOTIFICATION_OFFICE, "subject.overtime.created", "overtime_office", new HashMap<>());
+
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(recipients), eq("subject"), eq("emailBody"));
+        verify(mailOutbox, never()).collectForDigest(any(), any(), any(), any());
+    }
+
+    @Test
+    public void sendMailToEachPersonIsSentImmediatelyEvenIfDigestIsEnabledForPerson() {
+
+        digestProperties.setEnabled(true);
+        digestProperties.setNotifications(singletonList(NOTIFICATION_BOSS_ALL));
+
+        final Person boss = new Person();
+        boss.setNotifications(singletonList(NOTIFICATION_BOSS_ALL));
+        final List<String> recipientBoss = singletonList("boss@firma.test");
+        when(recipientService.getMailAddresses(boss)).thenReturn(recipientBoss);
+
+        final Person head = new Person();
+        head.setNotifications(singletonList(NOTIFICATION_DEPARTMENT_HEAD));
+        final List<String> recipientHead = singletonList("head@firma.test");
+        when(recipientService.getMailAddresses(head)).thenReturn(recipientHead);
+
+        sut.sendMailToEach(asList(boss, head), "subject.application.applied.boss", "new_applications", new HashMap<>());
+
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(recipientBoss), eq("subject"), eq("emailBody"));
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(recipientHead), eq("subject"), eq("emailBody"));
+        verify(mailOutbox, never()).collectForDigest(any(), any(), any(), any());
+    }
+
+    @Test
+    public void sendDigestibleMailToEachCollectsMailsOfPersonsWithDigestNotification() {
+
+        digestProperties.setEnabled(true);
+        digestProperties.setNotifications(singletonList(NOTIFICATION_BOSS_ALL));
+
+        final Person boss = new Person();
+        boss.setNotifications(singletonList(NOTIFICATION_BOSS_ALL));
+        final List<String> recipientBoss = singletonList("boss@firma.test");
+        when(recipientService.getMailAddresses(boss)).thenReturn(recipientBoss);
+
+        final Person head = new Person();
+        head.setNotifications(singletonList(NOTIFICATION_DEPARTMENT_HEAD));
+        final List<String> recipientHead = singletonList("head@firma.test");
+        when(recipientService.getMailAddresses(head)).thenReturn(recipientHead);
+
+        sut.sendDigestibleMailToEach(asList(boss, head), "subject.application.applied.boss", "new_applications", new HashMap<>());
+
+        verify(mailOutbox).collectForDigest(eq("no-reply@firma.test"), eq(recipientBoss), eq("subject"), eq("emailBody"));
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(recipientHead), eq("subject"), eq("emailBody"));
+    }
 
     @Test
     public void sendTechnicalMail() {
@@ -120,6 +207,6 @@ public class MailServiceImplTest {
 
         sut.sendTechnicalMail(subjectMessageKey, templateName, new HashMap<>());
 
-        verify(mailSender).sendEmail(eq("no-reply@firma.test"), eq(singletonList(to)), eq("subject"), eq("emailBody"));
+        verify(mailOutbox).enqueue(eq("no-reply@firma.test"), eq(singletonList(to)), eq("subject"), eq("emailBody"));
     }
 }
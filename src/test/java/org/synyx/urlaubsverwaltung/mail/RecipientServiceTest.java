@@ -5,9 +5,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.synyx.urlaubsverwaltung.department.NotificationRecipientIndex;
 import org.synyx.urlaubsverwaltung.person.MailNotification;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.person.PersonService;
 
 import java.util.List;
 
@@ -23,12 +23,12 @@ public class RecipientServiceTest {
     private RecipientService sut;
 
     @Mock
-    private PersonService personService;
+    private NotificationRecipientIndex recipientIndex;
 
     @Before
     public void setUp() {
 
-        sut = new RecipientService(personService);
+        sut = new RecipientService(recipientIndex);
     }
 
 
@@ -39,7 +39,7 @@ public class RecipientServiceTest {
         final List<Person> persons = singletonList(person);
 
         final MailNotification notification = NOTIFICATION_BOSS_ALL;
-        when(personService.getPersonsWithNotificationType(notification)).thenReturn(persons);
+        when(recipientIndex.getPersonsWithNotificationType(notification)).thenReturn(persons);
 
         final List<Person> recipients = sut.getRecipientsWithNotificationType(notification);
 
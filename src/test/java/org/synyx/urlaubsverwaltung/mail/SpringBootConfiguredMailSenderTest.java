@@ -3,13 +3,19 @@ package org.synyx.urlaubsverwaltung.mail;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 
+import javax.mail.MessagingException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -49,4 +55,55 @@ public class SpringBootConfiguredMailSenderTest {
         verifyZeroInteractions(javaMailSender);
     }
 
+    @Test
+    public void sendEmailsThroughOneConnection() {
+
+        final SimpleMailMessage first = message("hans@dampf.com");
+        final SimpleMailMessage second = message("franz@dampf.com");
+
+        final Map<SimpleMailMessage, Exception> failedMails = sut.sendEmails(List.of(first, second));
+
+        assertThat(failedMails).isEmpty();
+        verify(javaMailSender).send(first, second);
+    }
+
+    @Test
+    public void sendEmailsReportsFailedMails() {
+
+        final SimpleMailMessage first = message("hans@dampf.com");
+        final SimpleMailMessage second = message("franz@dampf.com");
+
+        final MessagingException rejected = new MessagingException("recipient rejected");
+        final Map<Object, Exception> failedMessages = Map.of(second, rejected);
+        doThrow(new MailSendException(failedMessages)).when(javaMailSender).send(first, second);
+
+        final Map<SimpleMailMessage, Exception> failedMails = sut.sendEmails(List.of(first, second));
+
+        assertThat(failedMails).containsOnly(Map.entry(second, rejected));
+    }
+
+    @Test
+    public void sendEmailsReportsAllMailsAsFailedIfConnectionFailed() {
+
+        final SimpleMailMessage first = message("hans@dampf.com");
+        final SimpleMailMessage second = message("franz@dampf.com");
+
+        final MailAuthenticationException exception = new MailAuthenticationException("wrong password");
+        doThrow(exception).when(javaMailSender).send(first, second);
+
+        final Map<SimpleMailMessage, Exception> failedMails = sut.sendEmails(List.of(first, second));
+
+        assertThat(failedMails).containsOnly(Map.entry(first, exception), Map.entry(second, exception));
+    }
+
+    private static SimpleMailMessage message(String recipient) {
+
+        final SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("lala@lala.com");
+        message.setTo(recipient);
+        message.setSubject("subject");
+        message.setText("text");
+
+        return message;
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.mail.MailOutboxDispatcher;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.settings.MailSettings;
@@ -36,6 +37,8 @@ public class OvertimeMailServiceIT {
 
     @Autowired
     private OvertimeMailService sut;
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
 
     @Autowired
     private SettingsService settingsService;
@@ -64,6 +67,7 @@ public class OvertimeMailServiceIT {
         personService.save(office);
 
         sut.sendOvertimeNotification(overtimeRecord, overtimeComment);
+        mailOutboxDispatcher.dispatch();
 
         // was email sent to office?
         List<Message> inboxOffice = Mailbox.get(office.getEmail());
@@ -12,6 +12,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -376,4 +378,25 @@ public class OvertimeServiceImplTest {
         Assert.assertNotNull("Should not be null", leftOvertime);
         Assert.assertEquals("Wrong left overtime", BigDecimal.ZERO, leftOvertime);
     }
+
+
+    @Test
+    public void ensureLeftOvertimeForPersonsIsTheDifferenceBetweenGroupedTotalOvertimeAndOvertimeReduction() throws IllegalAccessException {
+
+        Person person = TestDataCreator.createPerson(1, "muster");
+        Person personWithoutOvertime = TestDataCreator.createPerson(2, "dampf");
+        List<Person> persons = Arrays.asList(person, personWithoutOvertime);
+
+        OvertimeHoursOfPerson overtimeHours = mock(OvertimeHoursOfPerson.class);
+        when(overtimeHours.getPersonId()).thenReturn(1);
+        when(overtimeHours.getHours()).thenReturn(BigDecimal.TEN);
+        when(overtimeDAO.calculateTotalHoursForPersons(persons)).thenReturn(Collections.singletonList(overtimeHours));
+        when(applicationService.getTotalOvertimeReductionOfPersons(persons))
+            .thenReturn(Collections.singletonMap(person, BigDecimal.ONE));
+
+        Map<Person, BigDecimal> leftOvertime = sut.getLeftOvertimeForPersons(persons);
+
+        Assert.assertEquals("Wrong left overtime", new BigDecimal("9"), leftOvertime.get(person));
+        Assert.assertEquals("Wrong left overtime", BigDecimal.ZERO, leftOvertime.get(personWithoutOvertime));
+    }
 }
@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.overview.calendar;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.web.servlet.ResultActions;
@@ -13,6 +14,9 @@ import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -20,12 +24,15 @@ import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -106,7 +113,71 @@ public class VacationApiControllerTest {
             .andExpect(jsonPath("$.response.vacations", hasSize(2)))
             .andExpect(jsonPath("$.response.vacations[0].from", is("2016-05-19")))
             .andExpect(jsonPath("$.response.vacations[0].to", is("2016-05-20")))
-            .andExpect(jsonPath("$.response.vacations[0].person").exists());
+            .andExpect(jsonPath("$.response.vacations[0].person").exists())
+            .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    public void ensureReturnsPageOfAllowedVacationsWithCursorOfNextPage() throws Exception {
+
+        final Application vacation1 = TestDataCreator.createApplication(TestDataCreator.createPerson("foo"),
+            LocalDate.of(2016, 4, 5), LocalDate.of(2016, 4, 10), DayLength.FULL);
+        vacation1.setId(1);
+
+        final Application vacation2 = TestDataCreator.createApplication(TestDataCreator.createPerson("bar"),
+            LocalDate.of(2016, 5, 19), LocalDate.of(2016, 5, 20), DayLength.FULL);
+        vacation2.setId(2);
+
+        when(applicationService.getApplicationsForACertainPeriodAndState(eq(LocalDate.of(2016, 1, 1)),
+            eq(LocalDate.of(2016, 12, 31)), eq(ALLOWED), any(KeysetPageRequest.class)))
+            .thenAnswer(invocation -> KeysetPage.of(List.of(vacation1, vacation2), invocation.getArgument(3),
+                application -> KeysetCursor.of(application.getStartDate(), application.getId())));
+
+        perform(get("/api/vacations").param("from", "2016-01-01").param("to", "2016-12-31").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.vacations", hasSize(1)))
+            .andExpect(jsonPath("$.response.vacations[0].from", is("2016-04-05")))
+            .andExpect(jsonPath("$.next", is(KeysetCursor.of(LocalDate.of(2016, 4, 5), 1).encode())));
+    }
+
+    @Test
+    public void ensureReturnsPageOfAllowedVacationsAfterCursor() throws Exception {
+
+        final KeysetCursor cursor = KeysetCursor.of(LocalDate.of(2016, 4, 5), 1);
+        when(applicationService.getApplicationsForACertainPeriodAndState(any(LocalDate.class), any(LocalDate.class),
+            any(ApplicationStatus.class), any(KeysetPageRequest.class))).thenReturn(KeysetPage.empty());
+
+        perform(get("/api/vacations").param("from", "2016-01-01").param("to", "2016-12-31")
+            .param("cursor", cursor.encode()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.vacations", hasSize(0)))
+            .andExpect(jsonPath("$.next").doesNotExist());
+
+        final ArgumentCaptor<KeysetPageRequest> pageRequest = ArgumentCaptor.forClass(KeysetPageRequest.class);
+        verify(applicationService).getApplicationsForACertainPeriodAndState(eq(LocalDate.of(2016, 1, 1)),
+            eq(LocalDate.of(2016, 12, 31)), eq(ALLOWED), pageRequest.capture());
+        assertThat(pageRequest.getValue().getAfter()).hasValue(cursor);
+        assertThat(pageRequest.getValue().getSize()).isEqualTo(KeysetPageRequest.DEFAULT_SIZE);
+    }
+
+    @Test
+    public void ensureBadRequestForLimitAboveMaximum() throws Exception {
+
+        perform(get("/api/vacations")
+            .param("from", "2016-01-01")
+            .param("to", "2016-12-31")
+            .param("limit", String.valueOf(KeysetPageRequest.MAX_SIZE + 1)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void ensureBadRequestForInvalidCursor() throws Exception {
+
+        perform(get("/api/vacations")
+            .param("from", "2016-01-01")
+            .param("to", "2016-12-31")
+            .param("cursor", "foo"))
+            .andExpect(status().isBadRequest());
     }
 
     @Test
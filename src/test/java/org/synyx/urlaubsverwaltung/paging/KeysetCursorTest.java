@@ -0,0 +1,70 @@
+package org.synyx.urlaubsverwaltung.paging;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+public class KeysetCursorTest {
+
+    @Test
+    public void ensureDecodesEncodedCursor() {
+
+        final KeysetCursor cursor = KeysetCursor.of("Müller|Lüdenscheidt", 42);
+
+        final KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.getKey()).isEqualTo("Müller|Lüdenscheidt");
+        assertThat(decoded.getId()).isEqualTo(42);
+    }
+
+    @Test
+    public void ensureEncodedCursorIsUrlSafe() {
+
+        assertThat(KeysetCursor.of("???>>>", 1).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    public void ensureDecodesDateKey() {
+
+        final KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(LocalDate.of(2020, 2, 29), 1).encode());
+
+        assertThat(cursor.getDateKey()).isEqualTo(LocalDate.of(2020, 2, 29));
+    }
+
+    @Test
+    public void ensureMissingKeyIsEmptyKey() {
+
+        assertThat(KeysetCursor.of((String) null, 1).getKey()).isEmpty();
+    }
+
+    @Test
+    public void ensureOrderIsKeyThenId() {
+
+        final KeysetCursor first = KeysetCursor.of(LocalDate.of(2019, 12, 31), 3);
+        final KeysetCursor second = KeysetCursor.of(LocalDate.of(2020, 1, 1), 2);
+        final KeysetCursor third = KeysetCursor.of(LocalDate.of(2020, 1, 1), 10);
+
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+    }
+
+    @Test
+    public void ensureThrowsIfCursorIsInvalid() {
+
+        assertThatThrownBy(() -> KeysetCursor.decode("foo")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void ensureThrowsIfKeyIsNoDate() {
+
+        final KeysetCursor cursor = KeysetCursor.of("Müller", 1);
+
+        assertThatThrownBy(cursor::getDateKey).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package org.synyx.urlaubsverwaltung.paging;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+public class KeysetPageRequestTest {
+
+    @Test
+    public void ensureIsNotPagedWithoutLimitAndCursor() {
+
+        assertThat(KeysetPageRequest.of(null, null)).isEmpty();
+    }
+
+    @Test
+    public void ensureFirstPageWithLimit() {
+
+        final Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.of(null, 20);
+
+        assertThat(pageRequest).hasValueSatisfying(request -> {
+            assertThat(request.getAfter()).isEmpty();
+            assertThat(request.getSize()).isEqualTo(20);
+            assertThat(request.toPageable().getPageSize()).isEqualTo(21);
+        });
+    }
+
+    @Test
+    public void ensureDefaultSizeForCursorWithoutLimit() {
+
+        final KeysetCursor cursor = KeysetCursor.of("Müller", 1);
+
+        final Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.of(cursor.encode(), null);
+
+        assertThat(pageRequest).hasValueSatisfying(request -> {
+            assertThat(request.getAfter()).hasValue(cursor);
+            assertThat(request.getSize()).isEqualTo(KeysetPageRequest.DEFAULT_SIZE);
+        });
+    }
+
+    @Test
+    public void ensureThrowsIfLimitIsOutOfRange() {
+
+        assertThatThrownBy(() -> KeysetPageRequest.of(null, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetPageRequest.of(null, KeysetPageRequest.MAX_SIZE + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package org.synyx.urlaubsverwaltung.paging;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class KeysetPageTest {
+
+    private static final Function<String, KeysetCursor> CURSOR = name -> KeysetCursor.of(name, name.length());
+
+    @Test
+    public void ensureHasNoNextPageIfAllRowsFit() {
+
+        final KeysetPage<String> page = KeysetPage.of(List.of("a", "b"), KeysetPageRequest.first(2), CURSOR);
+
+        assertThat(page.getContent()).containsExactly("a", "b");
+        assertThat(page.getNext()).isEmpty();
+    }
+
+    @Test
+    public void ensureCursorOfNextPageIsLastElementOfPage() {
+
+        final KeysetPage<String> page = KeysetPage.of(List.of("a", "b", "c"), KeysetPageRequest.first(2), CURSOR);
+
+        assertThat(page.getContent()).containsExactly("a", "b");
+        assertThat(page.getNext()).hasValue(CURSOR.apply("b"));
+    }
+
+    @Test
+    public void ensurePagesCompleteListInCursorOrder() {
+
+        final List<String> names = List.of("d", "b", "e", "a", "c");
+
+        final KeysetPage<String> first = KeysetPage.fromList(names, KeysetPageRequest.first(2), CURSOR);
+        assertThat(first.getContent()).containsExactly("a", "b");
+
+        final KeysetPage<String> second = KeysetPage.fromList(names,
+            KeysetPageRequest.after(first.getNext().orElseThrow(), 2), CURSOR);
+        assertThat(second.getContent()).containsExactly("c", "d");
+
+        final KeysetPage<String> last = KeysetPage.fromList(names,
+            KeysetPageRequest.after(second.getNext().orElseThrow(), 2), CURSOR);
+        assertThat(last.getContent()).containsExactly("e");
+        assertThat(last.getNext()).isEmpty();
+    }
+
+    @Test
+    public void ensureMapsContentAndKeepsCursor() {
+
+        final KeysetPage<Integer> page = KeysetPage.of(List.of("a", "bb", "ccc"), KeysetPageRequest.first(2), CURSOR)
+            .map(String::length);
+
+        assertThat(page.getContent()).containsExactly(1, 2);
+        assertThat(page.getNext()).hasValue(CURSOR.apply("bb"));
+    }
+}
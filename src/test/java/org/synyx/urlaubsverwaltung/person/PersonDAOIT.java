@@ -0,0 +1,109 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.HibernateStatisticsSupport.clearPersistenceContextAndGetStatistics;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_BOSS_ALL;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_USER;
+import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@Transactional
+public class PersonDAOIT {
+
+    @Autowired
+    private PersonDAO personDAO;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void ensureFindsActiveAndInactivePersonsOrderedByName() {
+
+        final Person shane = personDAO.save(TestDataCreator.createPerson("shane", USER));
+        final Person carl = personDAO.save(TestDataCreator.createPerson("carl", USER, BOSS));
+        final Person rick = personDAO.save(TestDataCreator.createPerson("rick", USER, INACTIVE));
+
+        assertThat(personDAO.findByPermissionsNotContainingOrderByName(INACTIVE))
+            .containsSubsequence(carl, shane)
+            .doesNotContain(rick);
+        assertThat(personDAO.findByPermissionsContainingOrderByName(INACTIVE))
+            .contains(rick)
+            .doesNotContain(carl, shane);
+    }
+
+
+    @Test
+    public void ensureFindsActivePersonsByRoleAndNotification() {
+
+        final Person boss = TestDataCreator.createPerson("boss", USER, BOSS);
+        boss.setNotifications(List.of(NOTIFICATION_USER, NOTIFICATION_BOSS_ALL));
+        personDAO.save(boss);
+
+        final Person inactiveBoss = TestDataCreator.createPerson("inactiveBoss", USER, BOSS, INACTIVE);
+        inactiveBoss.setNotifications(List.of(NOTIFICATION_USER, NOTIFICATION_BOSS_ALL));
+        personDAO.save(inactiveBoss);
+
+        final Person user = personDAO.save(TestDataCreator.createPerson("user", USER));
+
+        assertThat(personDAO.findByPermissionsContainingAndPermissionsNotContainingOrderByName(BOSS, INACTIVE))
+            .contains(boss)
+            .doesNotContain(inactiveBoss, user);
+        assertThat(personDAO.findByNotificationsContainingAndPermissionsNotContainingOrderByName(NOTIFICATION_BOSS_ALL, INACTIVE))
+            .contains(boss)
+            .doesNotContain(inactiveBoss, user);
+    }
+
+
+    @Test
+    public void ensurePagesActivePersonsOrderedByLastNameAndId() {
+
+        final Person first = personDAO.save(TestDataCreator.createPerson("zz-first", "Zed", "Zzzy", "first@example.org"));
+        final Person second = personDAO.save(TestDataCreator.createPerson("zz-second", "Zoe", "Zzzy", "second@example.org"));
+        final Person inactive = TestDataCreator.createPerson("zz-inactive", "Zack", "Zzzy", "inactive@example.org");
+        inactive.setPermissions(List.of(USER, INACTIVE));
+        personDAO.save(inactive);
+
+        final List<Person> page = personDAO.findByPermissionsNotContainingAfterOrderByLastNameAndId(INACTIVE, "Zzzy",
+            first.getId(), PageRequest.of(0, 10));
+
+        assertThat(page).containsExactly(second);
+    }
+
+
+    @Test
+    public void ensureLoadsPersonsWithPermissionsAndNotificationsInBatches() {
+
+        for (int i = 0; i < 10; i++) {
+            personDAO.save(TestDataCreator.createPerson("batch" + i));
+        }
+
+        final Statistics statistics = clearPersistenceContextAndGetStatistics(entityManager);
+
+        final List<Person> persons = personDAO.findAll();
+        persons.forEach(person -> {
+            assertThat(person.getPermissions()).isNotEmpty();
+            assertThat(person.getNotifications()).isNotEmpty();
+        });
+
+        // one statement for the persons and one per collection instead of two statements per person
+        assertThat(persons).hasSizeGreaterThanOrEqualTo(10);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
@@ -8,11 +8,15 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.synyx.urlaubsverwaltung.account.service.AccountInteractionService;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
 
 import java.util.Collection;
@@ -28,8 +32,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_BOSS_ALL;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_USER;
@@ -59,7 +64,7 @@ public class PersonServiceImplTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
-    private ArgumentCaptor<PersonDisabledEvent> personDisabledEventArgumentCaptor = ArgumentCaptor.forClass(PersonDisabledEvent.class);
+    private ArgumentCaptor<ApplicationEvent> eventArgumentCaptor = ArgumentCaptor.forClass(ApplicationEvent.class);
 
     @Before
     public void setUp() {
@@ -199,195 +204,87 @@ public class PersonServiceImplTest {
 
 
     @Test
-    public void ensureGetActivePersonsReturnsOnlyPersonsThatHaveNotInactiveRole() {
+    public void ensureGetActivePersonsReturnsPersonsWithoutInactiveRole() {
 
-        Person inactive = createPerson("inactive");
-        inactive.setPermissions(singletonList(Role.INACTIVE));
+        final List<Person> activePersons = asList(createPerson("carl"), createPerson("rick"));
+        when(personDAO.findByPermissionsNotContainingOrderByName(INACTIVE)).thenReturn(activePersons);
 
-        Person user = createPerson("user");
-        user.setPermissions(singletonList(USER));
-
-        Person boss = createPerson("boss");
-        boss.setPermissions(asList(USER, BOSS));
-
-        Person office = createPerson("office");
-        office.setPermissions(asList(USER, BOSS, OFFICE));
-
-        List<Person> allPersons = asList(inactive, user, boss, office);
-
-        when(personDAO.findAll()).thenReturn(allPersons);
-
-        List<Person> activePersons = sut.getActivePersons();
-
-        Assert.assertEquals("Wrong number of persons", 3, activePersons.size());
-
-        Assert.assertTrue("Missing person", activePersons.contains(user));
-        Assert.assertTrue("Missing person", activePersons.contains(boss));
-        Assert.assertTrue("Missing person", activePersons.contains(office));
+        assertThat(sut.getActivePersons()).isEqualTo(activePersons);
     }
 
-
     @Test
-    public void ensureGetInactivePersonsReturnsOnlyPersonsThatHaveInactiveRole() {
-
-        Person inactive = createPerson("inactive");
-        inactive.setPermissions(singletonList(Role.INACTIVE));
-
-        Person user = createPerson("user");
-        user.setPermissions(singletonList(USER));
-
-        Person boss = createPerson("boss");
-        boss.setPermissions(asList(USER, BOSS));
-
-        Person office = createPerson("office");
-        office.setPermissions(asList(USER, BOSS, OFFICE));
-
-        List<Person> allPersons = asList(inactive, user, boss, office);
-
-        when(personDAO.findAll()).thenReturn(allPersons);
-
-        List<Person> inactivePersons = sut.getInactivePersons();
-
-        Assert.assertEquals("Wrong number of persons", 1, inactivePersons.size());
-
-        Assert.assertTrue("Missing person", inactivePersons.contains(inactive));
+    public void ensureGetActivePersonsPageContinuesAfterCursor() {
+
+        final Person rick = createPerson("rick");
+        rick.setLastName("Grimes");
+        rick.setId(2);
+        final Person negan = createPerson("negan");
+        negan.setLastName("Smith");
+        negan.setId(3);
+
+        final KeysetPageRequest pageRequest = KeysetPageRequest.after(KeysetCursor.of("Dixon", 1), 1);
+        when(personDAO.findByPermissionsNotContainingAfterOrderByLastNameAndId(INACTIVE, "Dixon", 1,
+            pageRequest.toPageable())).thenReturn(asList(rick, negan));
+
+        final KeysetPage<Person> page = sut.getActivePersons(pageRequest);
+        assertThat(page.getContent()).containsExactly(rick);
+        assertThat(page.getNext()).contains(KeysetCursor.of("Grimes", 2));
     }
 
-
     @Test
-    public void ensureGetPersonsByRoleReturnsOnlyPersonsWithTheGivenRole() {
-
-        Person user = createPerson("user");
-        user.setPermissions(singletonList(USER));
-
-        Person boss = createPerson("boss");
-        boss.setPermissions(asList(USER, BOSS));
+    public void ensureGetInactivePersonsPageStartsWithFirstPerson() {
 
-        Person office = createPerson("office");
-        office.setPermissions(asList(USER, BOSS, OFFICE));
+        final List<Person> inactivePersons = singletonList(createPerson("inactive", INACTIVE));
+        final KeysetPageRequest pageRequest = KeysetPageRequest.first(10);
+        when(personDAO.findByPermissionsContainingOrderByLastNameAndId(INACTIVE, pageRequest.toPageable()))
+            .thenReturn(inactivePersons);
 
-        List<Person> allPersons = asList(user, boss, office);
-
-        when(personDAO.findAll()).thenReturn(allPersons);
-
-        List<Person> filteredList = sut.getActivePersonsByRole(BOSS);
-
-        Assert.assertEquals("Wrong number of persons", 2, filteredList.size());
-
-        Assert.assertTrue("Missing person", filteredList.contains(boss));
-        Assert.assertTrue("Missing person", filteredList.contains(office));
+        final KeysetPage<Person> page = sut.getInactivePersons(pageRequest);
+        assertThat(page.getContent()).isEqualTo(inactivePersons);
+        assertThat(page.getNext()).isEmpty();
     }
 
-
     @Test
-    public void ensureGetPersonsByNotificationTypeReturnsOnlyPersonsWithTheGivenNotificationType() {
+    public void ensureGetActivePersonSummariesReturnsSummariesWithoutInactiveRole() {
 
-        Person user = createPerson("user");
-        user.setPermissions(singletonList(USER));
-        user.setNotifications(singletonList(NOTIFICATION_USER));
+        final List<PersonSummary> activePersons = singletonList(new PersonSummary(1, "Carl", "Grimes", "carl@example.org"));
+        when(personDAO.findSummariesByPermissionsNotContainingOrderByName(INACTIVE)).thenReturn(activePersons);
 
-        Person boss = createPerson("boss");
-        boss.setPermissions(asList(USER, BOSS));
-        boss.setNotifications(asList(NOTIFICATION_USER, NOTIFICATION_BOSS_ALL));
-
-        Person office = createPerson("office");
-        office.setPermissions(asList(USER, BOSS, OFFICE));
-        office.setNotifications(asList(NOTIFICATION_USER, NOTIFICATION_BOSS_ALL,
-            MailNotification.NOTIFICATION_OFFICE));
-
-        List<Person> allPersons = asList(user, boss, office);
-
-        when(personDAO.findAll()).thenReturn(allPersons);
-
-        List<Person> filteredList = sut.getPersonsWithNotificationType(NOTIFICATION_BOSS_ALL);
-
-        Assert.assertEquals("Wrong number of persons", 2, filteredList.size());
-
-        Assert.assertTrue("Missing person", filteredList.contains(boss));
-        Assert.assertTrue("Missing person", filteredList.contains(office));
+        assertThat(sut.getActivePersonSummaries()).isEqualTo(activePersons);
     }
 
 
     @Test
-    public void ensureGetActivePersonsReturnSortedList() {
-
-        Person shane = createPerson("shane");
-        Person carl = createPerson("carl");
-        Person rick = createPerson("rick");
+    public void ensureGetInactivePersonsReturnsPersonsWithInactiveRole() {
 
-        List<Person> unsortedPersons = asList(shane, carl, rick);
+        final List<Person> inactivePersons = singletonList(createPerson("inactive", INACTIVE));
+        when(personDAO.findByPermissionsContainingOrderByName(INACTIVE)).thenReturn(inactivePersons);
 
-        when(personDAO.findAll()).thenReturn(unsortedPersons);
-
-        List<Person> sortedList = sut.getActivePersons();
-
-        Assert.assertEquals("Wrong number of persons", 3, sortedList.size());
-        Assert.assertEquals("Wrong first person", carl, sortedList.get(0));
-        Assert.assertEquals("Wrong second person", rick, sortedList.get(1));
-        Assert.assertEquals("Wrong third person", shane, sortedList.get(2));
+        assertThat(sut.getInactivePersons()).isEqualTo(inactivePersons);
     }
 
 
     @Test
-    public void ensureGetInactivePersonsReturnSortedList() {
-
-        Person shane = createPerson("shane");
-        Person carl = createPerson("carl");
-        Person rick = createPerson("rick");
+    public void ensureGetPersonsByRoleReturnsActivePersonsWithTheGivenRole() {
 
-        List<Person> unsortedPersons = asList(shane, carl, rick);
-        unsortedPersons.forEach(person -> person.setPermissions(singletonList(Role.INACTIVE)));
+        final List<Person> bosses = asList(createPerson("boss", USER, BOSS), createPerson("office", USER, BOSS, OFFICE));
+        when(personDAO.findByPermissionsContainingAndPermissionsNotContainingOrderByName(BOSS, INACTIVE)).thenReturn(bosses);
 
-        when(personDAO.findAll()).thenReturn(unsortedPersons);
-
-        List<Person> sortedList = sut.getInactivePersons();
-
-        Assert.assertEquals("Wrong number of persons", 3, sortedList.size());
-        Assert.assertEquals("Wrong first person", carl, sortedList.get(0));
-        Assert.assertEquals("Wrong second person", rick, sortedList.get(1));
-        Assert.assertEquals("Wrong third person", shane, sortedList.get(2));
+        assertThat(sut.getActivePersonsByRole(BOSS)).isEqualTo(bosses);
     }
 
 
     @Test
-    public void ensureGetPersonsByRoleReturnSortedList() {
-
-        Person shane = createPerson("shane");
-        Person carl = createPerson("carl");
-        Person rick = createPerson("rick");
+    public void ensureGetPersonsByNotificationTypeReturnsActivePersonsWithTheGivenNotificationType() {
 
-        List<Person> unsortedPersons = asList(shane, carl, rick);
-        unsortedPersons.forEach(person -> person.setPermissions(singletonList(USER)));
-
-        when(personDAO.findAll()).thenReturn(unsortedPersons);
-
-        List<Person> sortedList = sut.getActivePersonsByRole(USER);
-
-        Assert.assertEquals("Wrong number of persons", 3, sortedList.size());
-        Assert.assertEquals("Wrong first person", carl, sortedList.get(0));
-        Assert.assertEquals("Wrong second person", rick, sortedList.get(1));
-        Assert.assertEquals("Wrong third person", shane, sortedList.get(2));
-    }
-
-
-    @Test
-    public void ensureGetPersonsByNotificationTypeReturnSortedList() {
-
-        Person shane = createPerson("shane");
-        Person carl = createPerson("carl");
-        Person rick = createPerson("rick");
-
-        List<Person> unsortedPersons = asList(shane, carl, rick);
-        unsortedPersons.forEach(person -> person.setNotifications(singletonList(NOTIFICATION_USER)));
-
-        when(personDAO.findAll()).thenReturn(unsortedPersons);
+        final Person boss = createPerson("boss", USER, BOSS);
+        boss.setNotifications(asList(NOTIFICATION_USER, NOTIFICATION_BOSS_ALL));
 
-        List<Person> sortedList = sut.getPersonsWithNotificationType(NOTIFICATION_USER);
+        final List<Person> persons = singletonList(boss);
+        when(personDAO.findByNotificationsContainingAndPermissionsNotContainingOrderByName(NOTIFICATION_BOSS_ALL, INACTIVE))
+            .thenReturn(persons);
 
-        Assert.assertEquals("Wrong number of persons", 3, sortedList.size());
-        Assert.assertEquals("Wrong first person", carl, sortedList.get(0));
-        Assert.assertEquals("Wrong second person", rick, sortedList.get(1));
-        Assert.assertEquals("Wrong third person", shane, sortedList.get(2));
+        assertThat(sut.getPersonsWithNotificationType(NOTIFICATION_BOSS_ALL)).isEqualTo(persons);
     }
 
     @Test(expected = IllegalStateException.class)
@@ -423,7 +320,7 @@ public class PersonServiceImplTest {
     @Test
     public void ensureCanAppointPersonAsOfficeUser() {
 
-        when(personDAO.findAll()).thenReturn(emptyList());
+        when(personDAO.findByPermissionsContainingAndPermissionsNotContainingOrderByName(OFFICE, INACTIVE)).thenReturn(emptyList());
         when(personDAO.save(any())).then(returnsFirstArg());
 
         final Person person = createPerson();
@@ -442,7 +339,8 @@ public class PersonServiceImplTest {
 
         Person officePerson = new Person();
         officePerson.setPermissions(singletonList(OFFICE));
-        when(personDAO.findAll()).thenReturn(singletonList(officePerson));
+        when(personDAO.findByPermissionsContainingAndPermissionsNotContainingOrderByName(OFFICE, INACTIVE))
+            .thenReturn(singletonList(officePerson));
 
         final Person person = createPerson();
         person.setPermissions(singletonList(USER));
@@ -465,9 +363,12 @@ public class PersonServiceImplTest {
 
         final Person savedInactivePerson = sut.save(inactivePerson);
 
-        verify(applicationEventPublisher).publishEvent(personDisabledEventArgumentCaptor.capture());
+        verify(applicationEventPublisher, times(2)).publishEvent(eventArgumentCaptor.capture());
+
+        final PersonSavedEvent actualPersonSavedEvent = (PersonSavedEvent) eventArgumentCaptor.getAllValues().get(0);
+        assertThat(actualPersonSavedEvent.getPerson()).isEqualTo(savedInactivePerson);
 
-        final PersonDisabledEvent actualPersonDisabledEvent = personDisabledEventArgumentCaptor.getValue();
+        final PersonDisabledEvent actualPersonDisabledEvent = (PersonDisabledEvent) eventArgumentCaptor.getAllValues().get(1);
         assertThat(actualPersonDisabledEvent.getPersonId()).isEqualTo(savedInactivePerson.getId());
     }
 
@@ -481,6 +382,7 @@ public class PersonServiceImplTest {
 
         sut.save(activePerson);
 
-        verifyZeroInteractions(applicationEventPublisher);
+        verify(applicationEventPublisher).publishEvent(any(PersonSavedEvent.class));
+        verify(applicationEventPublisher, never()).publishEvent(any(PersonDisabledEvent.class));
     }
 }
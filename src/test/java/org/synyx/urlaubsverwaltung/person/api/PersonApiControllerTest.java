@@ -7,6 +7,7 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.synyx.urlaubsverwaltung.api.ApiExceptionHandlerControllerAdvice;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.PersonSummary;
 import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
 
 import java.util.Arrays;
@@ -39,12 +40,10 @@ public class PersonApiControllerTest {
     @Test
     public void ensureReturnsAllActivePersons() throws Exception {
 
-        Person person1 = TestDataCreator.createPerson("foo");
-        person1.setId(1);
-        Person person2 = TestDataCreator.createPerson("bar");
-        person2.setId(2);
+        PersonSummary person1 = new PersonSummary(1, "Foo", "Foo", "foo@test.de");
+        PersonSummary person2 = new PersonSummary(2, "Bar", "Bar", "bar@test.de");
 
-        when(personServiceMock.getActivePersons()).thenReturn(Arrays.asList(person1, person2));
+        when(personServiceMock.getActivePersonSummaries()).thenReturn(Arrays.asList(person1, person2));
 
         perform(get("/api/persons"))
             .andExpect(status().isOk())
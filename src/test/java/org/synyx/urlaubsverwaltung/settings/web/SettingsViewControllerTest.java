@@ -9,6 +9,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.validation.Errors;
 import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarEvent;
 import org.synyx.urlaubsverwaltung.calendarintegration.providers.CalendarProvider;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
@@ -17,6 +18,7 @@ import org.synyx.urlaubsverwaltung.settings.FederalState;
 import org.synyx.urlaubsverwaltung.settings.Settings;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.TimeZone;
@@ -278,6 +280,11 @@ public class SettingsViewControllerTest {
             throw new UnsupportedOperationException("This is just a mock to have some named CalenderProvider impl.");
         }
 
+        @Override
+        public List<CalendarEvent> getEvents(LocalDate from, LocalDate to, CalendarSettings calendarSettings) {
+            throw new UnsupportedOperationException("This is just a mock to have some named CalenderProvider impl.");
+        }
+
         @Override
         public void checkCalendarSyncSettings(CalendarSettings calendarSettings) {
             throw new UnsupportedOperationException("This is just a mock to have some named CalenderProvider impl.");
@@ -301,6 +308,11 @@ public class SettingsViewControllerTest {
             throw new UnsupportedOperationException("This is just a mock to have some named CalenderProvider impl.");
         }
 
+        @Override
+        public List<CalendarEvent> getEvents(LocalDate from, LocalDate to, CalendarSettings calendarSettings) {
+            throw new UnsupportedOperationException("This is just a mock to have some named CalenderProvider impl.");
+        }
+
         @Override
         public void checkCalendarSyncSettings(CalendarSettings calendarSettings) {
             throw new UnsupportedOperationException("This is just a mock to have some named CalenderProvider impl.");
@@ -8,11 +8,15 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.synyx.urlaubsverwaltung.paging.KeysetCursor;
+import org.synyx.urlaubsverwaltung.paging.KeysetPage;
+import org.synyx.urlaubsverwaltung.paging.KeysetPageRequest;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
-import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteCategory;
 import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
-import org.synyx.urlaubsverwaltung.sicknote.SickNoteType;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteSummary;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCalculator;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
 
 import java.math.BigDecimal;
@@ -28,11 +32,15 @@ import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -43,7 +51,6 @@ import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standal
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.sicknote.SickNoteCategory.SICK_NOTE;
 import static org.synyx.urlaubsverwaltung.sicknote.SickNoteCategory.SICK_NOTE_CHILD;
-import static org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus.ACTIVE;
 
 @RunWith(MockitoJUnitRunner.class)
 public class SickDaysOverviewViewControllerTest {
@@ -75,47 +82,33 @@ public class SickDaysOverviewViewControllerTest {
     public void periodsSickNotesWithDateRange() throws Exception {
 
         final Person person = new Person();
+        person.setId(1);
         final List<Person> persons = singletonList(person);
         when(personService.getActivePersons()).thenReturn(persons);
 
+        final SickNoteSummary childSickNote = sickNoteSummary(SICK_NOTE_CHILD,
+            parse("01.02.2019", ofPattern("dd.MM.yyyy")), parse("01.03.2019", ofPattern("dd.MM.yyyy")),
+            parse("10.02.2019", ofPattern("dd.MM.yyyy")), parse("15.02.2019", ofPattern("dd.MM.yyyy")));
+        final SickNoteSummary sickNote = sickNoteSummary(SICK_NOTE,
+            parse("01.04.2019", ofPattern("dd.MM.yyyy")), parse("01.05.2019", ofPattern("dd.MM.yyyy")),
+            parse("10.04.2019", ofPattern("dd.MM.yyyy")), parse("20.04.2019", ofPattern("dd.MM.yyyy")));
 
-        final SickNoteType childSickType = new SickNoteType();
-        childSickType.setCategory(SICK_NOTE_CHILD);
-        final SickNote childSickNote = new SickNote();
-        childSickNote.setStartDate(parse("01.02.2019", ofPattern("dd.MM.yyyy")));
-        childSickNote.setEndDate(parse("01.03.2019", ofPattern("dd.MM.yyyy")));
-        childSickNote.setDayLength(FULL);
-        childSickNote.setStatus(ACTIVE);
-        childSickNote.setSickNoteType(childSickType);
-        childSickNote.setPerson(person);
-        childSickNote.setAubStartDate(parse("10.02.2019", ofPattern("dd.MM.yyyy")));
-        childSickNote.setAubEndDate(parse("15.02.2019", ofPattern("dd.MM.yyyy")));
-        when(calendarService.getWorkDays(childSickNote.getDayLength(), childSickNote.getStartDate(), childSickNote.getEndDate(), person))
+        final WorkDaysCalculator workDaysCalculator = mock(WorkDaysCalculator.class);
+        when(calendarService.getWorkDaysCalculator(singleton(1))).thenReturn(workDaysCalculator);
+        when(workDaysCalculator.getWorkDays(FULL, childSickNote.getStartDate(), childSickNote.getEndDate(), 1))
             .thenReturn(ONE);
-        when(calendarService.getWorkDays(childSickNote.getDayLength(), childSickNote.getAubStartDate(), childSickNote.getAubEndDate(), person))
+        when(workDaysCalculator.getWorkDays(FULL, childSickNote.getAubStartDate(), childSickNote.getAubEndDate(), 1))
             .thenReturn(BigDecimal.valueOf(5L));
-
-        final SickNoteType sickType = new SickNoteType();
-        sickType.setCategory(SICK_NOTE);
-        final SickNote sickNote = new SickNote();
-        sickNote.setStartDate(parse("01.04.2019", ofPattern("dd.MM.yyyy")));
-        sickNote.setEndDate(parse("01.05.2019", ofPattern("dd.MM.yyyy")));
-        sickNote.setDayLength(FULL);
-        sickNote.setStatus(ACTIVE);
-        sickNote.setSickNoteType(sickType);
-        sickNote.setPerson(person);
-        sickNote.setAubStartDate(parse("10.04.2019", ofPattern("dd.MM.yyyy")));
-        sickNote.setAubEndDate(parse("20.04.2019", ofPattern("dd.MM.yyyy")));
-        when(calendarService.getWorkDays(sickNote.getDayLength(), sickNote.getStartDate(), sickNote.getEndDate(), person))
+        when(workDaysCalculator.getWorkDays(FULL, sickNote.getStartDate(), sickNote.getEndDate(), 1))
             .thenReturn(TEN);
-        when(calendarService.getWorkDays(sickNote.getDayLength(), sickNote.getAubStartDate(), sickNote.getAubEndDate(), person))
+        when(workDaysCalculator.getWorkDays(FULL, sickNote.getAubStartDate(), sickNote.getAubEndDate(), 1))
             .thenReturn(BigDecimal.valueOf(15L));
 
         final String requestStartDateString = "05.01.2019";
         final String requestEndDateString = "28.12.2019";
         final LocalDate requestStartDate = parse(requestStartDateString, ofPattern("dd.MM.yyyy"));
         final LocalDate requestEndDate = parse(requestEndDateString, ofPattern("dd.MM.yyyy"));
-        when(sickNoteService.getByPeriod(requestStartDate, requestEndDate)).thenReturn(asList(sickNote, childSickNote));
+        when(sickNoteService.getActiveSickNoteSummaries(requestStartDate, requestEndDate)).thenReturn(asList(sickNote, childSickNote));
 
         final ResultActions resultActions = perform(get("/web/sicknote")
             .param("from", requestStartDateString)
@@ -149,6 +142,46 @@ public class SickDaysOverviewViewControllerTest {
         resultActions.andExpect(view().name("sicknote/sick_notes"));
     }
 
+    @Test
+    public void periodsSickNotesPagedByPersons() throws Exception {
+
+        final Person baker = new Person("baker", "Baker", "Bob", "baker@example.org");
+        baker.setId(1);
+        final Person adams = new Person("adams", "Adams", "Amy", "adams@example.org");
+        adams.setId(2);
+        final KeysetPageRequest pageRequest = KeysetPageRequest.first(1);
+        when(personService.getActivePersons(any(KeysetPageRequest.class))).thenReturn(KeysetPage.of(asList(adams, baker),
+            pageRequest, person -> KeysetCursor.of(person.getLastName(), person.getId())));
+
+        final ResultActions resultActions = perform(get("/web/sicknote")
+            .param("from", "01.01.2019")
+            .param("to", "31.12.2019")
+            .param("limit", "1"));
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(model().attribute("persons", singletonList(adams)));
+        resultActions.andExpect(model().attribute("limit", 1));
+        resultActions.andExpect(model().attribute("nextCursor", KeysetCursor.of("Adams", 2).encode()));
+
+        verify(sickNoteService).getActiveSickNoteSummaries(singletonList(adams), LocalDate.of(2019, 1, 1),
+            LocalDate.of(2019, 12, 31));
+    }
+
+    private static SickNoteSummary sickNoteSummary(SickNoteCategory category, LocalDate startDate, LocalDate endDate,
+                                                   LocalDate aubStartDate, LocalDate aubEndDate) {
+
+        final SickNoteSummary sickNoteSummary = mock(SickNoteSummary.class);
+        when(sickNoteSummary.getPersonId()).thenReturn(1);
+        when(sickNoteSummary.getCategory()).thenReturn(category);
+        when(sickNoteSummary.getStartDate()).thenReturn(startDate);
+        when(sickNoteSummary.getEndDate()).thenReturn(endDate);
+        when(sickNoteSummary.getDayLength()).thenReturn(FULL);
+        when(sickNoteSummary.getAubStartDate()).thenReturn(aubStartDate);
+        when(sickNoteSummary.getAubEndDate()).thenReturn(aubEndDate);
+        when(sickNoteSummary.isAubPresent()).thenReturn(true);
+
+        return sickNoteSummary;
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut).build().perform(builder);
     }
@@ -5,6 +5,10 @@ import org.junit.Test;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -21,14 +25,16 @@ public class SickNoteCommentServiceImplTest {
     private SickNoteCommentService sickNoteCommentService;
 
     private SickNoteCommentDAO commentDAO;
+    private ArchivedSickNoteCommentDAO archivedCommentDAO;
 
     @Before
     public void setUp() {
 
         commentDAO = mock(SickNoteCommentDAO.class);
         when(commentDAO.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        archivedCommentDAO = mock(ArchivedSickNoteCommentDAO.class);
 
-        sickNoteCommentService = new SickNoteCommentServiceImpl(commentDAO);
+        sickNoteCommentService = new SickNoteCommentServiceImpl(commentDAO, archivedCommentDAO);
     }
 
 
@@ -74,4 +80,21 @@ public class SickNoteCommentServiceImplTest {
 
         verify(commentDAO).save(eq(sickNoteComment));
     }
+
+
+    @Test
+    public void ensureReadsCommentsOfArchivedSickNoteFromArchive() {
+
+        final SickNote sickNote = TestDataCreator.createSickNote(TestDataCreator.createPerson("person"));
+        sickNote.setId(42);
+
+        final SickNoteComment comment = new SickNoteComment(LocalDate.of(2015, 3, 1));
+        final ArchivedSickNoteComment archivedComment = mock(ArchivedSickNoteComment.class);
+        when(archivedComment.toSickNoteComment(sickNote)).thenReturn(comment);
+
+        when(commentDAO.getCommentsBySickNote(sickNote)).thenReturn(emptyList());
+        when(archivedCommentDAO.findBySickNoteIdOrderById(42)).thenReturn(List.of(archivedComment));
+
+        assertThat(sickNoteCommentService.getCommentsBySickNote(sickNote)).containsExactly(comment);
+    }
 }
@@ -5,30 +5,22 @@ import org.junit.Test;
 import org.synyx.urlaubsverwaltung.application.domain.Application;
 import org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.application.service.ApplicationInteractionService;
-import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncService;
-import org.synyx.urlaubsverwaltung.absence.Absence;
-import org.synyx.urlaubsverwaltung.absence.AbsenceMapping;
-import org.synyx.urlaubsverwaltung.absence.AbsenceMappingService;
+import org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncQueue;
 import org.synyx.urlaubsverwaltung.absence.AbsenceType;
 import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.Period;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.settings.Settings;
-import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 
 /**
@@ -41,13 +33,10 @@ public class SickNoteInteractionServiceImplTest {
     private SickNoteService sickNoteService;
     private SickNoteCommentService commentService;
     private ApplicationInteractionService applicationInteractionService;
-    private CalendarSyncService calendarSyncService;
-    private AbsenceMappingService absenceMappingService;
-    private SettingsService settingsService;
+    private CalendarSyncQueue calendarSyncQueue;
 
     private SickNote sickNote;
     private Person person;
-    private AbsenceMapping absenceMapping;
 
     @Before
     public void setUp() {
@@ -55,18 +44,10 @@ public class SickNoteInteractionServiceImplTest {
         sickNoteService = mock(SickNoteService.class);
         commentService = mock(SickNoteCommentService.class);
         applicationInteractionService = mock(ApplicationInteractionService.class);
-        calendarSyncService = mock(CalendarSyncService.class);
-        absenceMappingService = mock(AbsenceMappingService.class);
-        settingsService = mock(SettingsService.class);
-
-        when(calendarSyncService.addAbsence(any(Absence.class))).thenReturn(Optional.of("42"));
-        absenceMapping = new AbsenceMapping(1, AbsenceType.VACATION, "42");
-        when(absenceMappingService.getAbsenceByIdAndType(anyInt(), eq(AbsenceType.SICKNOTE)))
-            .thenReturn(Optional.of(absenceMapping));
-        when(settingsService.getSettings()).thenReturn(new Settings());
+        calendarSyncQueue = mock(CalendarSyncQueue.class);
 
         sickNoteInteractionService = new SickNoteInteractionServiceImpl(sickNoteService, commentService,
-            applicationInteractionService, calendarSyncService, absenceMappingService, settingsService);
+            applicationInteractionService, calendarSyncQueue);
 
         sickNote = new SickNote();
         sickNote.setId(42);
@@ -109,9 +90,8 @@ public class SickNoteInteractionServiceImplTest {
 
         sickNoteInteractionService.create(sickNote, person);
 
-        verify(calendarSyncService).addAbsence(any(Absence.class));
-        verify(absenceMappingService)
-            .create(eq(sickNote.getId()), eq(AbsenceType.SICKNOTE), anyString());
+        verify(calendarSyncQueue).addAbsence(eq(sickNote.getId()), eq(AbsenceType.SICKNOTE), eq(sickNote.getPerson()),
+            any(Period.class));
     }
 
 
@@ -144,8 +124,8 @@ public class SickNoteInteractionServiceImplTest {
 
         sickNoteInteractionService.update(sickNote, person);
 
-        verify(calendarSyncService).update(any(Absence.class), anyString());
-        verify(absenceMappingService).getAbsenceByIdAndType(anyInt(), eq(AbsenceType.SICKNOTE));
+        verify(calendarSyncQueue).updateAbsence(eq(sickNote.getId()), eq(AbsenceType.SICKNOTE),
+            eq(sickNote.getPerson()), any(Period.class));
     }
 
 
@@ -168,9 +148,7 @@ public class SickNoteInteractionServiceImplTest {
 
         sickNoteInteractionService.cancel(sickNote, person);
 
-        verify(absenceMappingService).getAbsenceByIdAndType(anyInt(), eq(AbsenceType.SICKNOTE));
-        verify(calendarSyncService).deleteAbsence(anyString());
-        verify(absenceMappingService).delete(any(AbsenceMapping.class));
+        verify(calendarSyncQueue).deleteAbsence(sickNote.getId(), AbsenceType.SICKNOTE);
     }
 
 
@@ -213,9 +191,7 @@ public class SickNoteInteractionServiceImplTest {
 
         sickNoteInteractionService.convert(sickNote, applicationForLeave, person);
 
-        verify(absenceMappingService).getAbsenceByIdAndType(anyInt(), eq(AbsenceType.SICKNOTE));
-        verify(calendarSyncService).update(any(Absence.class), anyString());
-        verify(absenceMappingService).delete(eq(absenceMapping));
-        verify(absenceMappingService).create(isNull(), eq(AbsenceType.VACATION), anyString());
+        verify(calendarSyncQueue).moveAbsence(eq(sickNote.getId()), eq(AbsenceType.SICKNOTE), isNull(),
+            eq(AbsenceType.VACATION), eq(person), any(Period.class));
     }
 }
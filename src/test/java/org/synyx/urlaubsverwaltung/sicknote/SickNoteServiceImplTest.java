@@ -5,6 +5,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.synyx.urlaubsverwaltung.archive.ArchiveService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.AbsenceSettings;
 import org.synyx.urlaubsverwaltung.settings.Settings;
@@ -17,9 +19,12 @@ import java.util.Optional;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus.ACTIVE;
 
@@ -31,18 +36,37 @@ public class SickNoteServiceImplTest {
     @Mock
     private SickNoteDAO sickNoteDAO;
     @Mock
+    private ArchivedSickNoteDAO archivedSickNoteDAO;
+    @Mock
+    private ArchiveService archiveService;
+    @Mock
     private SettingsService settingsService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Before
     public void setUp() {
-        sut = new SickNoteServiceImpl(sickNoteDAO, settingsService);
+        sut = new SickNoteServiceImpl(sickNoteDAO, archivedSickNoteDAO, archiveService, settingsService,
+            applicationEventPublisher);
     }
 
     @Test
     public void save() {
         final SickNote sickNote = new SickNote();
+        when(sickNoteDAO.save(sickNote)).thenReturn(sickNote);
+
         sut.save(sickNote);
         verify(sickNoteDAO).save(sickNote);
+        verify(applicationEventPublisher).publishEvent(any(SickNoteSavedEvent.class));
+    }
+
+    @Test
+    public void saveRefusesArchivedSickNote() {
+        final SickNote sickNote = new SickNote();
+        sickNote.setArchived(true);
+
+        assertThatThrownBy(() -> sut.save(sickNote)).isInstanceOf(IllegalStateException.class);
+        verifyZeroInteractions(sickNoteDAO, applicationEventPublisher);
     }
 
     @Test
@@ -54,6 +78,17 @@ public class SickNoteServiceImplTest {
         assertThat(actualSickNote).isEqualTo(sickNote);
     }
 
+    @Test
+    public void getByIdReadsArchiveIfSickNoteIsNotFound() {
+        final SickNote sickNote = new SickNote();
+        final ArchivedSickNote archivedSickNote = mock(ArchivedSickNote.class);
+        when(archivedSickNote.toSickNote()).thenReturn(sickNote);
+        when(sickNoteDAO.findById(1)).thenReturn(Optional.empty());
+        when(archivedSickNoteDAO.findById(1)).thenReturn(Optional.of(archivedSickNote));
+
+        assertThat(sut.getById(1)).hasValue(sickNote);
+    }
+
     @Test
     public void findByPeriod() {
         final LocalDate from = LocalDate.of(2015, 1, 1);
@@ -66,20 +101,59 @@ public class SickNoteServiceImplTest {
     }
 
     @Test
-    public void getAllActiveByYear() {
+    public void findByPeriodAddsArchivedSickNotesOrderedByStartDate() {
+        final LocalDate from = LocalDate.of(2015, 1, 1);
+        final LocalDate to = LocalDate.of(2015, 12, 31);
+
         final SickNote sickNote = new SickNote();
-        when(sickNoteDAO.findAllActiveByYear(2017)).thenReturn(singletonList(sickNote));
+        sickNote.setStartDate(LocalDate.of(2015, 5, 1));
+        final SickNote archived = new SickNote();
+        archived.setStartDate(LocalDate.of(2015, 2, 1));
+        final ArchivedSickNote archivedSickNote = mock(ArchivedSickNote.class);
+        when(archivedSickNote.toSickNote()).thenReturn(archived);
 
-        final List<SickNote> sickNotes = sut.getAllActiveByYear(2017);
-        assertThat(sickNotes).contains(sickNote);
+        when(archiveService.isArchivedPeriod(from)).thenReturn(true);
+        when(sickNoteDAO.findByPeriod(from, to)).thenReturn(singletonList(sickNote));
+        when(archivedSickNoteDAO.findByPeriod(from, to)).thenReturn(singletonList(archivedSickNote));
+
+        assertThat(sut.getByPeriod(from, to)).containsExactly(archived, sickNote);
+    }
+
+    @Test
+    public void getActiveSickNotePeriods() {
+        final LocalDate from = LocalDate.of(2017, 1, 1);
+        final LocalDate to = LocalDate.of(2017, 12, 31);
+
+        final SickNotePeriod sickNotePeriod = mock(SickNotePeriod.class);
+        when(sickNoteDAO.findActiveSickNotePeriods(from, to)).thenReturn(singletonList(sickNotePeriod));
+
+        final List<SickNotePeriod> sickNotePeriods = sut.getActiveSickNotePeriods(from, to);
+        assertThat(sickNotePeriods).containsExactly(sickNotePeriod);
     }
 
     @Test
-    public void getNumberOfPersonsWithMinimumOneSickNote() {
-        when(sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(2017)).thenReturn(5L);
+    public void getActiveSickNotePeriodsForPerson() {
+        final LocalDate from = LocalDate.of(2017, 1, 1);
+        final LocalDate to = LocalDate.of(2017, 12, 31);
+        final Person person = new Person();
+
+        final SickNotePeriod sickNotePeriod = mock(SickNotePeriod.class);
+        when(sickNoteDAO.findActiveSickNotePeriodsByPerson(person, from, to)).thenReturn(singletonList(sickNotePeriod));
+
+        final List<SickNotePeriod> sickNotePeriods = sut.getActiveSickNotePeriods(person, from, to);
+        assertThat(sickNotePeriods).containsExactly(sickNotePeriod);
+    }
+
+    @Test
+    public void getActiveSickNoteSummaries() {
+        final LocalDate from = LocalDate.of(2017, 1, 1);
+        final LocalDate to = LocalDate.of(2017, 12, 31);
+
+        final SickNoteSummary sickNoteSummary = mock(SickNoteSummary.class);
+        when(sickNoteDAO.findActiveSickNoteSummaries(from, to)).thenReturn(singletonList(sickNoteSummary));
 
-        final Long numberOfPersonsWithMinimumOneSickNote = sut.getNumberOfPersonsWithMinimumOneSickNote(2017);
-        assertThat(numberOfPersonsWithMinimumOneSickNote).isSameAs(5L);
+        final List<SickNoteSummary> sickNoteSummaries = sut.getActiveSickNoteSummaries(from, to);
+        assertThat(sickNoteSummaries).containsExactly(sickNoteSummary);
     }
 
     @Test
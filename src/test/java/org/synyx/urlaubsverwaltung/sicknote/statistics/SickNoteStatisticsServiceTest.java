@@ -0,0 +1,107 @@
+package org.synyx.urlaubsverwaltung.sicknote.statistics;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.synyx.urlaubsverwaltung.sicknote.SickNotePeriod;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.statistics.aggregation.SickDaysAggregate;
+import org.synyx.urlaubsverwaltung.statistics.aggregation.StatisticsAggregationService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCalculator;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static java.time.Month.OCTOBER;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SickNoteStatisticsServiceTest {
+
+    private SickNoteStatisticsService sut;
+
+    @Mock
+    private SickNoteService sickNoteService;
+    @Mock
+    private WorkDaysService calendarService;
+    @Mock
+    private StatisticsAggregationService statisticsAggregationService;
+
+    @Before
+    public void setUp() {
+        sut = new SickNoteStatisticsService(sickNoteService, calendarService, statisticsAggregationService);
+    }
+
+    @Test
+    public void ensureCalculatesSickDaysOfActiveSickNotesWithinTheYear() {
+
+        final LocalDate firstDayOfYear = LocalDate.of(2013, JANUARY, 1);
+        final LocalDate lastDayOfYear = LocalDate.of(2013, DECEMBER, 31);
+
+        final SickNotePeriod first = sickNotePeriod(1, LocalDate.of(2013, OCTOBER, 7), LocalDate.of(2013, OCTOBER, 11));
+        final SickNotePeriod second = sickNotePeriod(1, LocalDate.of(2013, DECEMBER, 18), LocalDate.of(2014, JANUARY, 3));
+        final SickNotePeriod third = sickNotePeriod(2, LocalDate.of(2012, DECEMBER, 31), LocalDate.of(2013, JANUARY, 2));
+        when(sickNoteService.getActiveSickNotePeriods(firstDayOfYear, lastDayOfYear)).thenReturn(asList(first, second, third));
+
+        final WorkDaysCalculator workDaysCalculator = mock(WorkDaysCalculator.class);
+        when(calendarService.getWorkDaysCalculator(new HashSet<>(asList(1, 2)))).thenReturn(workDaysCalculator);
+        when(workDaysCalculator.getWorkDays(FULL, LocalDate.of(2013, OCTOBER, 7), LocalDate.of(2013, OCTOBER, 11), 1))
+            .thenReturn(new BigDecimal("5"));
+        when(workDaysCalculator.getWorkDays(FULL, LocalDate.of(2013, DECEMBER, 18), lastDayOfYear, 1))
+            .thenReturn(new BigDecimal("9"));
+        when(workDaysCalculator.getWorkDays(FULL, firstDayOfYear, LocalDate.of(2013, JANUARY, 2), 2))
+            .thenReturn(new BigDecimal("1"));
+
+        final SickNoteStatistics statistics = sut.createStatistics(2013);
+
+        assertThat(statistics.getYear()).isEqualTo(2013);
+        assertThat(statistics.getTotalNumberOfSickNotes()).isEqualTo(3);
+        assertThat(statistics.getTotalNumberOfSickDays()).isEqualByComparingTo(new BigDecimal("15"));
+        assertThat(statistics.getNumberOfPersonsWithMinimumOneSickNote()).isEqualTo(2L);
+    }
+
+    @Test
+    public void ensureStatisticsOfAggregatedYearAreCreatedFromAggregates() {
+
+        final SickDaysAggregate first = mock(SickDaysAggregate.class);
+        when(first.getNumberOfSickNotes()).thenReturn(2);
+        when(first.getTotalSickDays()).thenReturn(BigDecimal.valueOf(7));
+
+        final SickDaysAggregate second = mock(SickDaysAggregate.class);
+        when(second.getNumberOfSickNotes()).thenReturn(1);
+        when(second.getTotalSickDays()).thenReturn(BigDecimal.valueOf(3));
+
+        when(statisticsAggregationService.isAggregated(2020)).thenReturn(true);
+        when(statisticsAggregationService.getSickDaysAggregates(2020)).thenReturn(asList(first, second));
+
+        final SickNoteStatistics statistics = sut.createStatistics(2020);
+
+        assertThat(statistics.getYear()).isEqualTo(2020);
+        assertThat(statistics.getTotalNumberOfSickNotes()).isEqualTo(3);
+        assertThat(statistics.getTotalNumberOfSickDays()).isEqualByComparingTo(BigDecimal.TEN);
+        assertThat(statistics.getNumberOfPersonsWithMinimumOneSickNote()).isEqualTo(2L);
+        verifyZeroInteractions(sickNoteService, calendarService);
+    }
+
+    private static SickNotePeriod sickNotePeriod(Integer personId, LocalDate startDate, LocalDate endDate) {
+
+        final SickNotePeriod sickNotePeriod = mock(SickNotePeriod.class);
+        when(sickNotePeriod.getPersonId()).thenReturn(personId);
+        when(sickNotePeriod.getStartDate()).thenReturn(startDate);
+        when(sickNotePeriod.getEndDate()).thenReturn(endDate);
+        when(sickNotePeriod.getDayLength()).thenReturn(FULL);
+
+        return sickNotePeriod;
+    }
+}
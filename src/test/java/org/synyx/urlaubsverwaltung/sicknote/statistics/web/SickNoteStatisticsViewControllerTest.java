@@ -7,10 +7,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
-import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.sicknote.statistics.SickNoteStatistics;
 import org.synyx.urlaubsverwaltung.sicknote.statistics.SickNoteStatisticsService;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
+
+import java.math.BigDecimal;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -26,10 +26,6 @@ public class SickNoteStatisticsViewControllerTest {
 
     @Mock
     private SickNoteStatisticsService statisticsService;
-    @Mock
-    private SickNoteService sickNoteService;
-    @Mock
-    private WorkDaysService calendarService;
 
     @Before
     public void setUp() {
@@ -40,7 +36,7 @@ public class SickNoteStatisticsViewControllerTest {
     public void sickNoteStatistics() throws Exception {
 
         final int year = 2017;
-        final SickNoteStatistics sickNoteStatistics = new SickNoteStatistics(year, sickNoteService, calendarService);
+        final SickNoteStatistics sickNoteStatistics = new SickNoteStatistics(year, 2, BigDecimal.TEN, 1L);
         when(statisticsService.createStatistics(year)).thenReturn(sickNoteStatistics);
 
         final ResultActions resultActions = perform(get("/web/sicknote/statistics")
@@ -0,0 +1,71 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsSavedEvent;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSavedEvent;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatisticsAggregationListenerTest {
+
+    private StatisticsAggregationListener sut;
+
+    @Mock
+    private StatisticsAggregationService statisticsAggregationService;
+
+    @Before
+    public void setUp() {
+        sut = new StatisticsAggregationListener(statisticsAggregationService);
+    }
+
+    @Test
+    public void ensureUpdatesAggregatesOfPersonFromValidFromOfSavedWorkingTime() {
+
+        final Person person = createPerson();
+        final LocalDate validFrom = LocalDate.of(2020, 6, 1);
+
+        sut.handleWorkingTimeSavedEvent(new WorkingTimeSavedEvent(this, workingTime(person, validFrom)));
+
+        verify(statisticsAggregationService).updateAggregatesFrom(person, validFrom);
+    }
+
+    @Test
+    public void ensureFailingUpdateAfterSavedWorkingTimeIsNotPropagated() {
+
+        final Person person = createPerson();
+        final LocalDate validFrom = LocalDate.of(2020, 6, 1);
+
+        doThrow(new IllegalStateException()).when(statisticsAggregationService).updateAggregatesFrom(person, validFrom);
+
+        sut.handleWorkingTimeSavedEvent(new WorkingTimeSavedEvent(this, workingTime(person, validFrom)));
+    }
+
+    @Test
+    public void ensureInvalidatesAggregatesAfterSettingsHaveBeenSaved() {
+
+        sut.handleSettingsSavedEvent(new SettingsSavedEvent(this, new Settings()));
+
+        verify(statisticsAggregationService).invalidateAggregates();
+    }
+
+    private static WorkingTime workingTime(Person person, LocalDate validFrom) {
+
+        final WorkingTime workingTime = new WorkingTime();
+        workingTime.setPerson(person);
+        workingTime.setValidFrom(validFrom);
+
+        return workingTime;
+    }
+}
@@ -0,0 +1,242 @@
+package org.synyx.urlaubsverwaltung.statistics.aggregation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.synyx.urlaubsverwaltung.application.domain.Application;
+import org.synyx.urlaubsverwaltung.application.domain.VacationCategory;
+import org.synyx.urlaubsverwaltung.application.domain.VacationType;
+import org.synyx.urlaubsverwaltung.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.period.NowService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteCategory;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.sicknote.SickNoteType;
+import org.synyx.urlaubsverwaltung.statistics.StatisticsProperties;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.domain.ApplicationStatus.WAITING;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createApplication;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createPerson;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createSickNote;
+import static org.synyx.urlaubsverwaltung.testdatacreator.TestDataCreator.createVacationType;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatisticsAggregationServiceTest {
+
+    private StatisticsAggregationService sut;
+
+    @Mock
+    private VacationDaysAggregateDAO vacationDaysAggregateDAO;
+    @Mock
+    private SickDaysAggregateDAO sickDaysAggregateDAO;
+    @Mock
+    private AggregatedYearDAO aggregatedYearDAO;
+    @Mock
+    private ApplicationService applicationService;
+    @Mock
+    private SickNoteService sickNoteService;
+    @Mock
+    private WorkDaysService calendarService;
+    @Mock
+    private NowService nowService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StatisticsProperties statisticsProperties;
+
+    @Before
+    public void setUp() {
+
+        statisticsProperties = new StatisticsProperties();
+        statisticsProperties.getAggregation().setEnabled(true);
+
+        sut = new StatisticsAggregationService(vacationDaysAggregateDAO, sickDaysAggregateDAO, aggregatedYearDAO,
+            applicationService, sickNoteService, calendarService, nowService, statisticsProperties, transactionManager);
+    }
+
+    @Test
+    public void ensureAggregatesVacationDaysPerPersonAndVacationTypeWithinTheYear() {
+
+        mockCalendarDaysAsWorkDays();
+
+        final Person person = createPerson();
+        final VacationType holiday = createVacationType(VacationCategory.HOLIDAY);
+
+        final Application allowedOverTurnOfTheYear = createApplication(person, holiday,
+            LocalDate.of(2019, 12, 30), LocalDate.of(2020, 1, 3), DayLength.FULL);
+        allowedOverTurnOfTheYear.setStatus(ALLOWED);
+
+        final Application waitingOverApril = createApplication(person, holiday,
+            LocalDate.of(2020, 3, 30), LocalDate.of(2020, 4, 2), DayLength.FULL);
+        waitingOverApril.setStatus(WAITING);
+
+        final Application temporaryAllowed = createApplication(person, holiday,
+            LocalDate.of(2020, 5, 4), LocalDate.of(2020, 5, 5), DayLength.FULL);
+        temporaryAllowed.setStatus(TEMPORARY_ALLOWED);
+
+        final List<VacationDaysAggregate> aggregates = sut.aggregateVacationDays(2020,
+            asList(allowedOverTurnOfTheYear, waitingOverApril, temporaryAllowed));
+
+        assertThat(aggregates).hasSize(1);
+
+        final VacationDaysAggregate aggregate = aggregates.get(0);
+        assertThat(aggregate.getPerson()).isSameAs(person);
+        assertThat(aggregate.getYear()).isEqualTo(2020);
+        assertThat(aggregate.getVacationType()).isSameAs(holiday);
+        assertThat(aggregate.getAllowedDays()).isEqualByComparingTo(BigDecimal.valueOf(3));
+        assertThat(aggregate.getWaitingDays()).isEqualByComparingTo(BigDecimal.valueOf(6));
+        assertThat(aggregate.getUsedDaysBeforeApril()).isEqualByComparingTo(BigDecimal.valueOf(5));
+        assertThat(aggregate.getUsedDaysAfterApril()).isEqualByComparingTo(BigDecimal.valueOf(2));
+    }
+
+    @Test
+    public void ensureAggregatesSickDaysOfActiveSickNotesPerPerson() {
+
+        mockCalendarDaysAsWorkDays();
+
+        final Person person = createPerson();
+
+        final SickNote sickNote = createSickNote(person, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 5), DayLength.FULL);
+        sickNote.setAubStartDate(LocalDate.of(2020, 1, 2));
+        sickNote.setAubEndDate(LocalDate.of(2020, 1, 3));
+
+        final SickNote childSickNote = createSickNote(person, LocalDate.of(2020, 2, 1), LocalDate.of(2020, 2, 2), DayLength.FULL);
+        final SickNoteType childSickNoteType = new SickNoteType();
+        childSickNoteType.setCategory(SickNoteCategory.SICK_NOTE_CHILD);
+        childSickNote.setSickNoteType(childSickNoteType);
+
+        final SickNote convertedSickNote = createSickNote(person, LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 2), DayLength.FULL);
+        convertedSickNote.setStatus(SickNoteStatus.CONVERTED_TO_VACATION);
+
+        final List<SickDaysAggregate> aggregates = sut.aggregateSickDays(2020,
+            asList(sickNote, childSickNote, convertedSickNote));
+
+        assertThat(aggregates).hasSize(1);
+
+        final SickDaysAggregate aggregate = aggregates.get(0);
+        assertThat(aggregate.getNumberOfSickNotes()).isEqualTo(2);
+        assertThat(aggregate.getSickDays()).isEqualByComparingTo(BigDecimal.valueOf(5));
+        assertThat(aggregate.getSickDaysWithAub()).isEqualByComparingTo(BigDecimal.valueOf(2));
+        assertThat(aggregate.getChildSickDays()).isEqualByComparingTo(BigDecimal.valueOf(2));
+        assertThat(aggregate.getChildSickDaysWithAub()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(aggregate.getTotalSickDays()).isEqualByComparingTo(BigDecimal.valueOf(7));
+    }
+
+    @Test
+    public void ensureRebuildReplacesAggregatesOfYearAndMarksYearAsAggregated() {
+
+        sut.rebuildAggregates(2020);
+
+        verify(vacationDaysAggregateDAO).deleteByYear(2020);
+        verify(sickDaysAggregateDAO).deleteByYear(2020);
+        verify(aggregatedYearDAO).save(any(AggregatedYear.class));
+    }
+
+    @Test
+    public void ensureUpdateSkipsYearsThatAreNotAggregated() {
+
+        when(aggregatedYearDAO.existsById(anyInt())).thenReturn(false);
+
+        sut.updateAggregates(createPerson(), LocalDate.of(2020, 12, 30), LocalDate.of(2021, 1, 2));
+
+        verifyZeroInteractions(applicationService, sickNoteService, vacationDaysAggregateDAO, sickDaysAggregateDAO);
+    }
+
+    @Test
+    public void ensureUpdateRecomputesYearTheAbsenceWasMovedOutOf() {
+
+        final Person person = createPerson();
+
+        when(aggregatedYearDAO.existsById(anyInt())).thenReturn(true);
+        when(aggregatedYearDAO.count()).thenReturn(2L);
+        when(vacationDaysAggregateDAO.findYearsByPerson(person)).thenReturn(singletonList(2020));
+        when(sickDaysAggregateDAO.findYearsByPerson(person)).thenReturn(singletonList(2020));
+
+        // absence moved from december 2020 to january 2021
+        sut.updateAggregates(person, LocalDate.of(2021, 1, 4), LocalDate.of(2021, 1, 5));
+
+        verify(vacationDaysAggregateDAO).deleteByYearAndPerson(2020, person);
+        verify(sickDaysAggregateDAO).deleteByYearAndPerson(2020, person);
+        verify(vacationDaysAggregateDAO).deleteByYearAndPerson(2021, person);
+        verify(sickDaysAggregateDAO).deleteByYearAndPerson(2021, person);
+        verify(applicationService).getApplicationsForACertainPeriodAndPerson(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), person);
+        verify(applicationService).getApplicationsForACertainPeriodAndPerson(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31), person);
+    }
+
+    @Test
+    public void ensureUpdateFromRecomputesAggregatedYearsFromYearOfValidFrom() {
+
+        final Person person = createPerson();
+
+        when(aggregatedYearDAO.findByYearGreaterThanEqual(2020))
+            .thenReturn(asList(new AggregatedYear(2021, null), new AggregatedYear(2020, null)));
+
+        sut.updateAggregatesFrom(person, LocalDate.of(2020, 6, 1));
+
+        verify(vacationDaysAggregateDAO).deleteByYearAndPerson(2020, person);
+        verify(sickDaysAggregateDAO).deleteByYearAndPerson(2020, person);
+        verify(vacationDaysAggregateDAO).deleteByYearAndPerson(2021, person);
+        verify(sickDaysAggregateDAO).deleteByYearAndPerson(2021, person);
+        verify(applicationService).getApplicationsForACertainPeriodAndPerson(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), person);
+        verify(applicationService).getApplicationsForACertainPeriodAndPerson(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31), person);
+    }
+
+    @Test
+    public void ensureUpdateFromDoesNothingIfAggregationIsDisabled() {
+
+        statisticsProperties.getAggregation().setEnabled(false);
+
+        sut.updateAggregatesFrom(createPerson(), LocalDate.of(2020, 6, 1));
+
+        verifyZeroInteractions(aggregatedYearDAO, applicationService, sickNoteService, vacationDaysAggregateDAO,
+            sickDaysAggregateDAO);
+    }
+
+    @Test
+    public void ensureInvalidateMarksAllYearsAsNotAggregated() {
+
+        sut.invalidateAggregates();
+
+        verify(aggregatedYearDAO).deleteAll();
+    }
+
+    @Test
+    public void ensureYearIsNotAggregatedIfAggregationIsDisabled() {
+
+        statisticsProperties.getAggregation().setEnabled(false);
+
+        assertThat(sut.isAggregated(2020)).isFalse();
+        verifyZeroInteractions(aggregatedYearDAO);
+    }
+
+    private void mockCalendarDaysAsWorkDays() {
+        when(calendarService.getWorkDays(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class)))
+            .thenAnswer(invocation -> {
+                final LocalDate startDate = invocation.getArgument(1);
+                final LocalDate endDate = invocation.getArgument(2);
+                return BigDecimal.valueOf(DAYS.between(startDate, endDate) + 1);
+            });
+    }
+}
@@ -23,7 +23,10 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkDaysService;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -243,4 +246,62 @@ public class ApplicationForLeaveStatisticsBuilderTest {
         verify(overtimeService).getLeftOvertimeForPerson(person);
         verify(vacationDaysService).calculateTotalLeftVacationDays(account);
     }
+
+    @Test
+    public void ensureBuildsStatisticsForAllPersonsWithConstantNumberOfQueries() {
+
+        LocalDate from = LocalDate.of(2015, 1, 1);
+        LocalDate to = LocalDate.of(2015, 6, 30);
+
+        Person person = new Person();
+        Person personWithoutAccount = new Person();
+        List<Person> persons = Arrays.asList(person, personWithoutAccount);
+
+        Account account = new Account();
+        account.setPerson(person);
+        when(accountService.getHolidaysAccounts(2015, persons)).thenReturn(Collections.singletonList(account));
+
+        Application holidayAllowed = TestDataCreator.anyFullDayApplication(person);
+        holidayAllowed.setVacationType(vacationTypes.get(0));
+        holidayAllowed.setStartDate(LocalDate.of(2015, 3, 2));
+        holidayAllowed.setEndDate(LocalDate.of(2015, 3, 3));
+        holidayAllowed.setStatus(ALLOWED);
+
+        Application holidayWaitingAfterPeriod = TestDataCreator.anyFullDayApplication(person);
+        holidayWaitingAfterPeriod.setVacationType(vacationTypes.get(0));
+        holidayWaitingAfterPeriod.setStartDate(LocalDate.of(2015, 10, 5));
+        holidayWaitingAfterPeriod.setEndDate(LocalDate.of(2015, 10, 5));
+        holidayWaitingAfterPeriod.setStatus(WAITING);
+
+        List<Application> applicationsOfYear = Arrays.asList(holidayAllowed, holidayWaitingAfterPeriod);
+        when(applicationService.getApplicationsForACertainPeriodAndPersons(LocalDate.of(2015, 1, 1), LocalDate.of(2015, 12, 31), persons))
+            .thenReturn(applicationsOfYear);
+        when(vacationDaysService.calculateTotalLeftVacationDays(account, applicationsOfYear)).thenReturn(new BigDecimal("8.5"));
+
+        Map<Person, BigDecimal> leftOvertime = new HashMap<>();
+        leftOvertime.put(person, new BigDecimal("6.5"));
+        leftOvertime.put(personWithoutAccount, BigDecimal.ONE);
+        when(overtimeService.getLeftOvertimeForPersons(persons)).thenReturn(leftOvertime);
+
+        when(calendarService.getWorkDays(DayLength.FULL, LocalDate.of(2015, 3, 2), LocalDate.of(2015, 3, 3), person))
+            .thenReturn(new BigDecimal("2"));
+
+        List<ApplicationForLeaveStatistics> statistics = sut.buildAll(persons, from, to);
+        assertThat(statistics).hasSize(2);
+
+        ApplicationForLeaveStatistics statisticsOfPerson = statistics.get(0);
+        assertThat(statisticsOfPerson.getPerson()).isSameAs(person);
+        assertThat(statisticsOfPerson.getTotalAllowedVacationDays()).isEqualTo(new BigDecimal("2"));
+        assertThat(statisticsOfPerson.getTotalWaitingVacationDays()).isEqualTo(BigDecimal.ZERO);
+        assertThat(statisticsOfPerson.getLeftVacationDays()).isEqualTo(new BigDecimal("8.5"));
+        assertThat(statisticsOfPerson.getLeftOvertime()).isEqualTo(new BigDecimal("6.5"));
+
+        ApplicationForLeaveStatistics statisticsOfPersonWithoutAccount = statistics.get(1);
+        assertThat(statisticsOfPersonWithoutAccount.getPerson()).isSameAs(personWithoutAccount);
+        assertThat(statisticsOfPersonWithoutAccount.getTotalAllowedVacationDays()).isEqualTo(BigDecimal.ZERO);
+        assertThat(statisticsOfPersonWithoutAccount.getLeftVacationDays()).isEqualTo(BigDecimal.ZERO);
+        assertThat(statisticsOfPersonWithoutAccount.getLeftOvertime()).isEqualTo(BigDecimal.ONE);
+
+        verify(vacationTypeService).getVacationTypes();
+    }
 }
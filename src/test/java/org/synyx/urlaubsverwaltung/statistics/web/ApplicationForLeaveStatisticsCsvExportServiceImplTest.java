@@ -67,7 +67,7 @@ public class ApplicationForLeaveStatisticsCsvExportServiceImplTest {
 
         mockMessageSource("applications.statistics.total");
 
-        sut.writeStatistics(period, statistics, csvWriter);
+        sut.writeStatistics(period, statistics.stream(), csvWriter);
 
         verify(csvWriter, times(1))
             .writeNext(new String[]{"{absence.period}: 01.01.2018 - 31.12.2018"});
@@ -113,7 +113,7 @@ public class ApplicationForLeaveStatisticsCsvExportServiceImplTest {
 
         mockMessageSource("applications.statistics.total");
 
-        sut.writeStatistics(period, statistics, csvWriter);
+        sut.writeStatistics(period, statistics.stream(), csvWriter);
 
         verify(csvWriter, times(1))
             .writeNext(new String[]{"{absence.period}: 01.01.2019 - 31.12.2019"});
@@ -1,22 +1,43 @@
 package org.synyx.urlaubsverwaltung.statistics.web;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.statistics.ApplicationForLeaveStatistics;
 import org.synyx.urlaubsverwaltung.statistics.ApplicationForLeaveStatisticsBuilder;
+import org.synyx.urlaubsverwaltung.statistics.StatisticsProperties;
+import org.synyx.urlaubsverwaltung.statistics.aggregation.StatisticsAggregationService;
+import org.synyx.urlaubsverwaltung.statistics.aggregation.VacationDaysAggregate;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
@@ -32,10 +53,24 @@ public class ApplicationForLeaveStatisticsServiceImplTest {
     private DepartmentService departmentService;
     @Mock
     private ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder;
+    @Mock
+    private StatisticsAggregationService statisticsAggregationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
 
     @Before
     public void setUp() {
-        sut = new ApplicationForLeaveStatisticsServiceImpl(personService, departmentService, applicationForLeaveStatisticsBuilder);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ApplicationForLeaveStatisticsServiceImpl(personService, departmentService,
+            applicationForLeaveStatisticsBuilder, statisticsAggregationService, new StatisticsProperties(),
+            transactionManager, meterRegistry);
+    }
+
+    @After
+    public void tearDown() {
+        sut.destroy();
     }
 
     @Test
@@ -50,6 +85,10 @@ public class ApplicationForLeaveStatisticsServiceImplTest {
         Person departmentMember = new Person();
         when(departmentService.getManagedMembersOfDepartmentHead(person)).thenReturn(singletonList(departmentMember));
 
+        ApplicationForLeaveStatistics departmentMemberStatistics = mock(ApplicationForLeaveStatistics.class);
+        when(applicationForLeaveStatisticsBuilder.buildAll(singletonList(departmentMember), filterPeriod.getStartDate(), filterPeriod.getEndDate()))
+            .thenReturn(singletonList(departmentMemberStatistics));
+
         List<ApplicationForLeaveStatistics> statistics = sut.getStatistics(filterPeriod);
         assertThat(statistics).hasSize(1);
     }
@@ -66,7 +105,136 @@ public class ApplicationForLeaveStatisticsServiceImplTest {
         Person anyPerson = new Person();
         when(personService.getActivePersons()).thenReturn(singletonList(anyPerson));
 
+        ApplicationForLeaveStatistics anyPersonStatistics = mock(ApplicationForLeaveStatistics.class);
+        when(applicationForLeaveStatisticsBuilder.buildAll(singletonList(anyPerson), filterPeriod.getStartDate(), filterPeriod.getEndDate()))
+            .thenReturn(singletonList(anyPersonStatistics));
+
         List<ApplicationForLeaveStatistics> statistics = sut.getStatistics(filterPeriod);
         assertThat(statistics).hasSize(1);
     }
+
+    @Test
+    public void getStatisticsOfAggregatedYearUsesAggregates() {
+
+        FilterPeriod filterPeriod = new FilterPeriod(ofNullable("01.01.2018"), ofNullable("31.12.2018"));
+
+        Person person = new Person();
+        person.setPermissions(singletonList(BOSS));
+        when(personService.getSignedInUser()).thenReturn(person);
+
+        Person anyPerson = new Person();
+        when(personService.getActivePersons()).thenReturn(singletonList(anyPerson));
+
+        List<VacationDaysAggregate> aggregates = singletonList(new VacationDaysAggregate(anyPerson, 2018, null));
+        when(statisticsAggregationService.isAggregated(2018)).thenReturn(true);
+        when(statisticsAggregationService.getVacationDaysAggregates(2018, singletonList(anyPerson))).thenReturn(aggregates);
+
+        ApplicationForLeaveStatistics anyPersonStatistics = mock(ApplicationForLeaveStatistics.class);
+        when(applicationForLeaveStatisticsBuilder.buildAllFromAggregates(singletonList(anyPerson), 2018, aggregates))
+            .thenReturn(singletonList(anyPersonStatistics));
+
+        List<ApplicationForLeaveStatistics> statistics = sut.getStatistics(filterPeriod);
+        assertThat(statistics).containsExactly(anyPersonStatistics);
+        verify(applicationForLeaveStatisticsBuilder, never()).buildAll(anyList(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    public void getStatisticsOfPartOfAggregatedYearIsComputed() {
+
+        FilterPeriod filterPeriod = new FilterPeriod(ofNullable("01.02.2018"), ofNullable("31.12.2018"));
+
+        Person person = new Person();
+        person.setPermissions(singletonList(BOSS));
+        when(personService.getSignedInUser()).thenReturn(person);
+
+        Person anyPerson = new Person();
+        when(personService.getActivePersons()).thenReturn(singletonList(anyPerson));
+
+        ApplicationForLeaveStatistics anyPersonStatistics = mock(ApplicationForLeaveStatistics.class);
+        when(applicationForLeaveStatisticsBuilder.buildAll(singletonList(anyPerson), filterPeriod.getStartDate(), filterPeriod.getEndDate()))
+            .thenReturn(singletonList(anyPersonStatistics));
+
+        List<ApplicationForLeaveStatistics> statistics = sut.getStatistics(filterPeriod);
+        assertThat(statistics).containsExactly(anyPersonStatistics);
+        verify(statisticsAggregationService, never()).isAggregated(anyInt());
+    }
+
+    @Test
+    public void getStatisticsInParallelKeepsOrderOfPersons() {
+
+        StatisticsProperties statisticsProperties = new StatisticsProperties();
+        statisticsProperties.setParallelism(2);
+        sut.destroy();
+        sut = new ApplicationForLeaveStatisticsServiceImpl(personService, departmentService,
+            applicationForLeaveStatisticsBuilder, statisticsAggregationService, statisticsProperties,
+            transactionManager, meterRegistry);
+
+        FilterPeriod filterPeriod = new FilterPeriod(ofNullable("01.01.2018"), ofNullable("31.12.2018"));
+
+        Person person = new Person();
+        person.setPermissions(singletonList(BOSS));
+        when(personService.getSignedInUser()).thenReturn(person);
+
+        Person first = new Person("first", "Muster", "First", "first@example.org");
+        Person second = new Person("second", "Muster", "Second", "second@example.org");
+        Person third = new Person("third", "Muster", "Third", "third@example.org");
+        when(personService.getActivePersons()).thenReturn(asList(first, second, third));
+
+        ApplicationForLeaveStatistics firstStatistics = mock(ApplicationForLeaveStatistics.class);
+        ApplicationForLeaveStatistics secondStatistics = mock(ApplicationForLeaveStatistics.class);
+        ApplicationForLeaveStatistics thirdStatistics = mock(ApplicationForLeaveStatistics.class);
+        when(applicationForLeaveStatisticsBuilder.buildAll(anyList(), any(LocalDate.class), any(LocalDate.class)))
+            .thenAnswer(invocation -> {
+                List<Person> partition = invocation.getArgument(0);
+                return partition.stream()
+                    .map(statisticsPerson -> {
+                        if (statisticsPerson == first) {
+                            return firstStatistics;
+                        }
+                        return statisticsPerson == second ? secondStatistics : thirdStatistics;
+                    })
+                    .collect(toList());
+            });
+
+        List<ApplicationForLeaveStatistics> statistics = sut.getStatistics(filterPeriod);
+        assertThat(statistics).containsExactly(firstStatistics, secondStatistics, thirdStatistics);
+        assertThat(meterRegistry.get("uv.statistics.application.computation").tag("mode", "parallel").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void getStatisticsInParallelCancelsPartitionsAfterTimeout() throws InterruptedException {
+
+        StatisticsProperties statisticsProperties = new StatisticsProperties();
+        statisticsProperties.setParallelism(2);
+        statisticsProperties.setParallelTimeout(Duration.ofMillis(100));
+        sut.destroy();
+        sut = new ApplicationForLeaveStatisticsServiceImpl(personService, departmentService,
+            applicationForLeaveStatisticsBuilder, statisticsAggregationService, statisticsProperties,
+            transactionManager, meterRegistry);
+
+        FilterPeriod filterPeriod = new FilterPeriod(ofNullable("01.01.2018"), ofNullable("31.12.2018"));
+
+        Person person = new Person();
+        person.setPermissions(singletonList(BOSS));
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(personService.getActivePersons()).thenReturn(asList(new Person(), new Person()));
+
+        CountDownLatch cancelledPartitions = new CountDownLatch(2);
+        when(applicationForLeaveStatisticsBuilder.buildAll(anyList(), any(LocalDate.class), any(LocalDate.class)))
+            .thenAnswer(invocation -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    cancelledPartitions.countDown();
+                    throw e;
+                }
+                return List.of();
+            });
+
+        assertThatThrownBy(() -> sut.getStatistics(filterPeriod))
+            .isInstanceOf(IllegalStateException.class)
+            .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(cancelledPartitions.await(5, SECONDS)).isTrue();
+    }
 }
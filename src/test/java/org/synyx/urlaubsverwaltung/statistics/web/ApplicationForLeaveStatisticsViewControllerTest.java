@@ -6,6 +6,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.application.domain.VacationType;
@@ -16,17 +17,21 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
@@ -102,13 +107,15 @@ public class ApplicationForLeaveStatisticsViewControllerTest {
     }
 
     @Test
-    public void downloadCSVAddsErrorToModelAndShowsFormIfPeriodNotTheSameYear() throws Exception {
+    public void downloadCSVRedirectsToStatisticsIfPeriodNotTheSameYear() throws Exception {
 
         perform(get("/web/application/statistics/download")
             .param("from", "01.01.2000")
             .param("to", "01.01.2019"))
-            .andExpect(model().attribute("errors", "INVALID_PERIOD"))
-            .andExpect(view().name("application/app_statistics"));
+            .andExpect(status().isFound())
+            .andExpect(header().string("Location", "/web/application/statistics?from=01.01.2000&to=01.01.2019"));
+
+        verifyZeroInteractions(applicationForLeaveStatisticsService);
     }
 
     @Test
@@ -131,31 +138,34 @@ public class ApplicationForLeaveStatisticsViewControllerTest {
 
         final FilterPeriod period = new FilterPeriod(Optional.ofNullable(startDate), Optional.ofNullable(endDate));
 
-        final List<ApplicationForLeaveStatistics> statistics = Collections.emptyList();
-        when(applicationForLeaveStatisticsService.getStatistics(refEq(period))).thenReturn(statistics);
+        final Stream<ApplicationForLeaveStatistics> statistics = Stream.empty();
+        when(applicationForLeaveStatisticsService.streamStatistics(refEq(period))).thenReturn(statistics);
 
-        perform(get("/web/application/statistics/download")
+        final MvcResult result = perform(get("/web/application/statistics/download")
             .param("from", period.getStartDateAsString())
-            .param("to", period.getEndDateAsString()));
+            .param("to", period.getEndDateAsString()))
+            .andReturn();
+        result.getAsyncResult();
 
         verify(applicationForLeaveStatisticsCsvExportService).writeStatistics(refEq(period), eq(statistics), any(CSVWriter.class));
     }
 
     @Test
-    public void downloadCSVSetsModelAndView() throws Exception {
+    public void downloadCSVStreamsStatisticsAsCsv() throws Exception {
 
         final String startDate = "01.01.2019";
         final String endDate = "01.08.2019";
 
         final FilterPeriod period = new FilterPeriod(Optional.ofNullable(startDate), Optional.ofNullable(endDate));
 
-        when(applicationForLeaveStatisticsService.getStatistics(refEq(period))).thenReturn(Collections.emptyList());
+        when(applicationForLeaveStatisticsService.streamStatistics(refEq(period))).thenReturn(Stream.empty());
 
         perform(get("/web/application/statistics/download")
             .param("from", startDate)
             .param("to", endDate))
-            .andExpect(model().attribute("period", samePropertyValuesAs(period)))
-            .andExpect(view().name("application/app_statistics"));
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"));
     }
 
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
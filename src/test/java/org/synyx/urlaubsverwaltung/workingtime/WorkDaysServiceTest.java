@@ -331,4 +331,49 @@ public class WorkDaysServiceTest {
 
         assertEquals(new BigDecimal("0.0"), workDays);
     }
+
+
+    @Test
+    public void ensureWorkDaysCalculatorCalculatesSameWorkDaysAsSinglePeriodCalculation() throws IllegalAccessException {
+
+        Person personWithId = TestDataCreator.createPerson(42, "muster");
+
+        WorkingTime oldWorkingTime = TestDataCreator.createWorkingTime();
+        oldWorkingTime.setPerson(personWithId);
+        oldWorkingTime.setValidFrom(LocalDate.of(2010, Month.JANUARY, 1));
+        oldWorkingTime.setWorkingDays(Arrays.asList(1, 2, 3), DayLength.FULL);
+
+        WorkingTime currentWorkingTime = TestDataCreator.createWorkingTime();
+        currentWorkingTime.setPerson(personWithId);
+        currentWorkingTime.setValidFrom(LocalDate.of(2013, Month.JANUARY, 1));
+
+        when(workingTimeService.getByPersonIds(Arrays.asList(42)))
+            .thenReturn(Arrays.asList(oldWorkingTime, currentWorkingTime));
+        when(workingTimeService.getByPersonAndValidityDateEqualsOrMinorDate(eq(personWithId), any(LocalDate.class)))
+            .thenReturn(Optional.of(currentWorkingTime));
+
+        WorkDaysCalculator calculator = instance.getWorkDaysCalculator(Arrays.asList(42));
+
+        LocalDate from = LocalDate.of(2013, Month.DECEMBER, 16);
+        LocalDate to = LocalDate.of(2014, Month.JANUARY, 3);
+
+        assertEquals(instance.getWorkDays(DayLength.FULL, from, to, personWithId),
+            calculator.getWorkDays(DayLength.FULL, from, to, 42));
+        assertEquals(instance.getWorkDays(DayLength.MORNING, from, to, personWithId),
+            calculator.getWorkDays(DayLength.MORNING, from, to, 42));
+
+        // the old working time with three working days a week is valid before 2013
+        assertEquals(new BigDecimal("3.0"),
+            calculator.getWorkDays(DayLength.FULL, LocalDate.of(2012, Month.JULY, 2), LocalDate.of(2012, Month.JULY, 8), 42));
+    }
+
+
+    @Test(expected = NoValidWorkingTimeException.class)
+    public void ensureWorkDaysCalculatorThrowsIfNoWorkingTimeIsValid() {
+
+        when(workingTimeService.getByPersonIds(Arrays.asList(42))).thenReturn(Arrays.asList());
+
+        instance.getWorkDaysCalculator(Arrays.asList(42))
+            .getWorkDays(DayLength.FULL, LocalDate.of(2013, Month.DECEMBER, 16), LocalDate.of(2013, Month.DECEMBER, 20), 42);
+    }
 }
@@ -7,6 +7,7 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.FederalState;
 import org.synyx.urlaubsverwaltung.settings.Settings;
@@ -46,6 +47,9 @@ public class WorkingTimeServiceTest {
     @Mock
     private Clock clock;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private WorkingTimeService workingTimeService;
 
     @Before
@@ -56,7 +60,8 @@ public class WorkingTimeServiceTest {
 
         when(workingTimeProperties.getDefaultWorkingDays()).thenReturn(List.of(1, 2, 3, 4, 5));
 
-        workingTimeService = new WorkingTimeService(workingTimeProperties, workingTimeDAOMock, settingsServiceMock, clock);
+        workingTimeService = new WorkingTimeService(workingTimeProperties, workingTimeDAOMock, settingsServiceMock, clock,
+            applicationEventPublisher);
     }
 
     @Test
@@ -190,4 +195,21 @@ public class WorkingTimeServiceTest {
 
         Assert.assertFalse("Federal state should be missing", workingTime.getFederalStateOverride().isPresent());
     }
+
+
+    @Test
+    public void ensurePublishesEventAfterWorkingTimeHasBeenSaved() {
+
+        ArgumentCaptor<WorkingTimeSavedEvent> eventArgumentCaptor = ArgumentCaptor.forClass(WorkingTimeSavedEvent.class);
+
+        Person person = TestDataCreator.createPerson();
+
+        workingTimeService.touch(Arrays.asList(1, 2), Optional.empty(), LOCAL_DATE, person);
+
+        verify(applicationEventPublisher).publishEvent(eventArgumentCaptor.capture());
+
+        WorkingTime workingTime = eventArgumentCaptor.getValue().getWorkingTime();
+        assertThat(workingTime.getPerson()).isSameAs(person);
+        assertThat(workingTime.getValidFrom()).isEqualTo(LOCAL_DATE);
+    }
 }